@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -12,6 +12,7 @@ import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.broker.UniqueFitableId;
 import modelengine.fitframework.broker.client.filter.loadbalance.EmptyFilter;
+import modelengine.fitframework.broker.client.filter.loadbalance.LeastLatencyFilter;
 import modelengine.fitframework.broker.client.filter.loadbalance.RoundRobinFilter;
 import modelengine.fitframework.conf.runtime.CommunicationProtocol;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
@@ -237,5 +238,14 @@ public interface Invoker {
         static Filter roundRobin() {
             return RoundRobinFilter.INSTANCE;
         }
+
+        /**
+         * 获取一个根据调用地址的实际表现选择地址的负载均衡过滤器。
+         *
+         * @return 表示根据调用地址的实际表现选择地址的负载均衡过滤器的实例的 {@link Filter}。
+         */
+        static Filter leastLatency() {
+            return LeastLatencyFilter.INSTANCE;
+        }
     }
 }
@@ -0,0 +1,208 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 根据调用地址的实际表现选择地址的负载均衡策略。
+ * <p>对每个服务实现的每个调用地址记录以下统计信息：</p>
+ * <ul>
+ *     <li>调用耗时的指数加权移动平均值；</li>
+ *     <li>正在进行中的调用数量；</li>
+ *     <li>近期调用失败率的指数加权移动平均值。</li>
+ * </ul>
+ * <p>每次选择时随机挑选两个地址，选择其中代价较低的一个（Power of Two Choices）。代价由平均耗时、进行中的调用数量和失败率
+ * 共同决定。失败率过高的地址会在一段时间内被摘除，新出现或者刚恢复的地址的代价会在预热时间内逐渐降低到正常水平。</p>
+ * <p>统计信息需要由调用方通过 {@link #onStart(FitableMetadata, Target)} 和
+ * {@link #onComplete(FitableMetadata, Target, long, boolean)} 上报。只有经过该策略选择的服务实现和地址才会记录统计信息，
+ * 其余上报直接忽略。每次选择时，不在候选地址中的地址的统计信息会被清理，因此不再可用的地址不会一直占用内存。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+public class LeastLatencyFilter extends ChampionFilter {
+    /** {@link LeastLatencyFilter} 的预置实例。 */
+    public static final LeastLatencyFilter INSTANCE = new LeastLatencyFilter();
+
+    private static final double DECAY = 0.2;
+    private static final double ERROR_PENALTY = 10;
+    private static final int MIN_EJECTION_SAMPLES = 5;
+    private static final double EJECTION_ERROR_RATE = 0.5;
+    private static final long EJECTION_DURATION = TimeUnit.SECONDS.toNanos(30);
+    private static final long SLOW_START_DURATION = TimeUnit.SECONDS.toNanos(10);
+    private static final double MIN_SLOW_START_WEIGHT = 0.1;
+
+    private final Map<UniqueFitableId, Map<String, Statistics>> fitableStatistics = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final Random random;
+
+    /**
+     * 隐藏默认构造方法，如需使用，请直接使用 {@link #INSTANCE 预置实例}。
+     */
+    private LeastLatencyFilter() {
+        this(System::nanoTime, null);
+    }
+
+    /**
+     * 使用指定的时钟和随机数生成器初始化 {@link LeastLatencyFilter} 的新实例。
+     *
+     * @param clock 表示以纳秒为单位的时钟的 {@link LongSupplier}。
+     * @param random 表示随机数生成器的 {@link Random}，为 {@code null} 时使用 {@link ThreadLocalRandom}。
+     */
+    LeastLatencyFilter(LongSupplier clock, Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    protected Optional<Target> select(FitableMetadata fitable, String localWorkerId, List<Target> toFilterTargets) {
+        int size = toFilterTargets.size();
+        if (size == 1) {
+            return Optional.of(toFilterTargets.get(0));
+        }
+        int first = this.nextInt(size);
+        int second = this.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        Map<String, Statistics> targetStatistics =
+                this.fitableStatistics.computeIfAbsent(fitable.toUniqueId(), id -> new ConcurrentHashMap<>());
+        if (targetStatistics.size() > size) {
+            evict(targetStatistics, toFilterTargets);
+        }
+        long now = this.clock.getAsLong();
+        Statistics firstStatistics = getStatistics(targetStatistics, toFilterTargets.get(first), now);
+        Statistics secondStatistics = getStatistics(targetStatistics, toFilterTargets.get(second), now);
+        double firstCost = firstStatistics.cost(now, secondStatistics.latency());
+        double secondCost = secondStatistics.cost(now, firstStatistics.latency());
+        return Optional.of(toFilterTargets.get(secondCost < firstCost ? second : first));
+    }
+
+    /**
+     * 上报一次调用开始。
+     *
+     * @param fitable 表示被调用的服务实现的元数据的 {@link FitableMetadata}。
+     * @param target 表示被调用的地址的 {@link Target}。
+     */
+    public void onStart(FitableMetadata fitable, Target target) {
+        Statistics statistics = this.findStatistics(fitable, target);
+        if (statistics != null) {
+            statistics.inFlight.incrementAndGet();
+        }
+    }
+
+    /**
+     * 上报一次调用结束。
+     * <p>每次调用 {@link #onStart(FitableMetadata, Target)} 之后都必须调用一次该方法。</p>
+     *
+     * @param fitable 表示被调用的服务实现的元数据的 {@link FitableMetadata}。
+     * @param target 表示被调用的地址的 {@link Target}。
+     * @param latency 表示调用耗时的 {@code long}，单位为纳秒。
+     * @param isSuccess 表示调用是否成功的 {@code boolean}。
+     */
+    public void onComplete(FitableMetadata fitable, Target target, long latency, boolean isSuccess) {
+        Statistics statistics = this.findStatistics(fitable, target);
+        if (statistics != null) {
+            // 调用开始之后地址可能被清理后重新创建，此时进行中的调用数量不能减为负数。
+            statistics.inFlight.updateAndGet(inFlight -> Math.max(inFlight - 1, 0));
+            statistics.record(latency, isSuccess, this.clock.getAsLong());
+        }
+    }
+
+    private int nextInt(int bound) {
+        return this.random == null ? ThreadLocalRandom.current().nextInt(bound) : this.random.nextInt(bound);
+    }
+
+    private Statistics findStatistics(FitableMetadata fitable, Target target) {
+        Map<String, Statistics> targetStatistics = this.fitableStatistics.get(fitable.toUniqueId());
+        return targetStatistics == null ? null : targetStatistics.get(ObjectUtils.nullIf(target.workerId(), ""));
+    }
+
+    private static void evict(Map<String, Statistics> targetStatistics, List<Target> targets) {
+        Set<String> workerIds = new HashSet<>(targets.size());
+        for (Target target : targets) {
+            workerIds.add(ObjectUtils.nullIf(target.workerId(), ""));
+        }
+        targetStatistics.keySet().retainAll(workerIds);
+    }
+
+    private static Statistics getStatistics(Map<String, Statistics> targetStatistics, Target target, long now) {
+        String key = ObjectUtils.nullIf(target.workerId(), "");
+        return targetStatistics.computeIfAbsent(key, targetKey -> new Statistics(now));
+    }
+
+    /**
+     * 表示一个调用地址的统计信息。
+     */
+    private static final class Statistics {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile long warmUpStart;
+        private volatile long ejectedUntil;
+        private volatile double latency;
+        private volatile double errorRate;
+        private int samples;
+
+        private Statistics(long now) {
+            this.warmUpStart = now;
+            this.ejectedUntil = now;
+        }
+
+        private double latency() {
+            return this.latency;
+        }
+
+        private synchronized void record(long latency, boolean isSuccess, long now) {
+            if (this.samples == 0) {
+                this.latency = latency;
+            } else {
+                this.latency += DECAY * (latency - this.latency);
+            }
+            this.errorRate += DECAY * ((isSuccess ? 0 : 1) - this.errorRate);
+            this.samples++;
+            if (this.samples >= MIN_EJECTION_SAMPLES && this.errorRate > EJECTION_ERROR_RATE) {
+                // 摘除后重新开始统计失败率，恢复时与新地址一样经过预热。
+                this.ejectedUntil = now + EJECTION_DURATION;
+                this.warmUpStart = this.ejectedUntil;
+                this.errorRate = 0;
+                this.samples = 0;
+            }
+        }
+
+        /**
+         * 计算选择该地址的代价。
+         *
+         * @param now 表示当前时间的 {@code long}，单位为纳秒。
+         * @param peerLatency 表示另一个候选地址的平均耗时的 {@code double}，当该地址还没有耗时样本时使用。
+         * @return 表示选择该地址的代价的 {@code double}，值越小越优先。
+         */
+        private double cost(long now, double peerLatency) {
+            if (now - this.ejectedUntil < 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double currentLatency = this.latency > 0 ? this.latency : peerLatency;
+            double cost = (currentLatency + 1) * (this.inFlight.get() + 1) * (1 + this.errorRate * ERROR_PENALTY);
+            double weight = (double) (now - this.warmUpStart) / SLOW_START_DURATION;
+            return cost / Math.min(1, Math.max(MIN_SLOW_START_WEIGHT, weight));
+        }
+    }
+}
@@ -6,8 +6,9 @@
 
 package modelengine.fitframework.serialization;
 
+import modelengine.fitframework.io.PooledByteArrayOutputStream;
+
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -50,8 +51,9 @@ public interface ByteSerializer<T> {
      * @throws SerializationException 当序列化过程发生异常时。
      */
     static <T> byte[] serialize2Bytes(ByteSerializer<T> serializer, T value) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            serializer.serialize(value, out);
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
+            // 序列化器可能会关闭传入的输出流，缓冲区只能在读取结果后由当前方法释放。
+            serializer.serialize(value, out.unclosable());
             return out.toByteArray();
         } catch (IOException e) {
             throw new SerializationException("Fail to serialize object with serializer: " + e.getMessage(), e);
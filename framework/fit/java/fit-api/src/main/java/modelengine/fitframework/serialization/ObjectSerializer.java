@@ -6,8 +6,9 @@
 
 package modelengine.fitframework.serialization;
 
+import modelengine.fitframework.io.PooledByteArrayOutputStream;
+
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -82,11 +83,10 @@ public interface ObjectSerializer {
      * @throws SerializationException 当序列化过程发生异常时。
      */
     default <T> byte[] serialize(T object, Charset charset) throws SerializationException {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            this.serialize(object, charset, out);
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
+            // 序列化器可能会关闭传入的输出流，缓冲区只能在读取结果后由当前方法释放。
+            this.serialize(object, charset, out.unclosable());
             return out.toByteArray();
-        } catch (IOException e) {
-            throw new SerializationException("Failed to serialize object to bytes.", e);
         }
     }
 
@@ -0,0 +1,141 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.GenericableMetadata;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.UniqueFitableId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link LeastLatencyFilter} 的单元测试。
+ * <p>使用模拟的时钟和耗时不同的模拟地址，每次选择后立即上报该地址的模拟耗时。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("验证根据调用地址的实际表现选择地址的负载均衡的过滤器")
+public class LeastLatencyFilterTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final AtomicLong clock = new AtomicLong();
+    private LeastLatencyFilter filter;
+    private FitableMetadata fitable;
+
+    @BeforeEach
+    void setup() {
+        this.filter = new LeastLatencyFilter(this.clock::get, new Random(0));
+        this.fitable = mock(FitableMetadata.class);
+        GenericableMetadata genericable = mock(GenericableMetadata.class);
+        when(this.fitable.genericable()).thenReturn(genericable);
+        when(genericable.id()).thenReturn("gid");
+        when(this.fitable.id()).thenReturn("fid");
+        when(this.fitable.toUniqueId()).thenReturn(UniqueFitableId.create("gid", "1.0.0", "fid", "1.0.0"));
+    }
+
+    private static Target target(String workerId) {
+        return Target.custom().workerId(workerId).host(workerId).build();
+    }
+
+    private Map<String, Integer> simulate(List<Target> targets, Map<String, Long> latencies, String failedWorkerId,
+            int times) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < times; i++) {
+            List<Target> selected = this.filter.filter(this.fitable, "local", targets, null);
+            assertThat(selected).hasSize(1);
+            Target target = selected.get(0);
+            counts.merge(target.workerId(), 1, Integer::sum);
+            this.filter.onStart(this.fitable, target);
+            long latency = latencies.getOrDefault(target.workerId(), FAST);
+            this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+            this.filter.onComplete(this.fitable, target, latency, !target.workerId().equals(failedWorkerId));
+        }
+        return counts;
+    }
+
+    @Test
+    @DisplayName("当存在一个耗时明显更长的地址时，该地址只分到很少的调用")
+    void shouldAvoidSlowTarget() {
+        List<Target> targets = Arrays.asList(target("w1"), target("w2"), target("w3"), target("slow"));
+        this.simulate(targets, Map.of("slow", SLOW), null, 100);
+        this.clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Map<String, Integer> counts = this.simulate(targets, Map.of("slow", SLOW), null, 2000);
+        assertThat(counts.getOrDefault("slow", 0)).isLessThan(2000 / 20);
+        assertThat(counts.get("w1")).isGreaterThan(2000 / 5);
+    }
+
+    @Test
+    @DisplayName("当地址持续调用失败时，该地址被摘除一段时间")
+    void shouldEjectFailingTarget() {
+        List<Target> targets = Arrays.asList(target("w1"), target("w2"), target("failed"));
+        this.simulate(targets, Map.of(), "failed", 200);
+        Map<String, Integer> counts = this.simulate(targets, Map.of(), "failed", 1000);
+        assertThat(counts.getOrDefault("failed", 0)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("当出现新的地址时，该地址的调用比例在预热时间内逐渐增加")
+    void shouldWarmUpNewTarget() {
+        List<Target> targets = Arrays.asList(target("w1"), target("w2"));
+        this.simulate(targets, Map.of(), null, 3000);
+        List<Target> scaled = Arrays.asList(target("w1"), target("w2"), target("new"));
+        int warming = this.simulate(scaled, Map.of(), null, 300).getOrDefault("new", 0);
+        this.clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        int warmed = this.simulate(scaled, Map.of(), null, 300).getOrDefault("new", 0);
+        assertThat(warming).isLessThan(warmed);
+        assertThat(warmed).isGreaterThan(300 / 5);
+    }
+
+    @Test
+    @DisplayName("当只有一个地址时，直接返回该地址")
+    void shouldReturnOnlyTarget() {
+        List<Target> targets = Arrays.asList(target("w1"));
+        assertThat(this.filter.filter(this.fitable, "local", targets, null)).containsExactly(targets.get(0));
+    }
+
+    @Test
+    @DisplayName("当服务实现没有经过该策略选择时，不记录统计信息")
+    void shouldIgnoreReportsWhenNotSelected() {
+        Target target = target("w1");
+        for (int i = 0; i < 10; i++) {
+            this.filter.onStart(this.fitable, target);
+            this.filter.onComplete(this.fitable, target, SLOW, false);
+        }
+        List<Target> targets = Arrays.asList(target, target("w2"));
+        Map<String, Integer> counts = this.simulate(targets, Map.of(), null, 200);
+        assertThat(counts.get("w1")).isGreaterThan(200 / 5);
+    }
+
+    @Test
+    @DisplayName("当地址不再出现在候选地址中时，清理该地址的统计信息")
+    void shouldEvictRemovedTarget() {
+        List<Target> targets = Arrays.asList(target("w1"), target("w2"), target("failed"));
+        this.simulate(targets, Map.of(), "failed", 200);
+        this.simulate(Arrays.asList(target("w1"), target("w2")), Map.of(), null, 10);
+        this.simulate(targets, Map.of(), null, 10);
+        this.clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Map<String, Integer> counts = this.simulate(targets, Map.of(), null, 300);
+        assertThat(counts.getOrDefault("failed", 0)).isGreaterThan(300 / 5);
+    }
+}
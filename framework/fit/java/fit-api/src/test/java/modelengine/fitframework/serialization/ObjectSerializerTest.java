@@ -57,6 +57,26 @@ class ObjectSerializerTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("提供关闭输出流的 ObjectSerializer 类按照编码序列化时，返回正常信息")
+    void givenClosingObjectSerializerWhenSerializeByCharsetThenReturnValue() {
+        ObjectSerializerImpl serializer = new ObjectSerializerImpl() {
+            @Override
+            public <T> void serialize(T object, Charset charset, OutputStream out, Map<String, Object> context)
+                    throws SerializationException {
+                try (OutputStream closing = out) {
+                    super.serialize(object, charset, closing, context);
+                } catch (IOException e) {
+                    throw new SerializationException("Failed to close output stream.", e);
+                }
+            }
+        };
+        Integer expected = 123;
+        byte[] serialize = serializer.serialize(expected, StandardCharsets.UTF_8);
+        Object actual = serializer.deserialize(serialize, StandardCharsets.UTF_8, Integer.class);
+        assertThat(actual).isEqualTo(expected);
+    }
+
     private static class ObjectSerializerImpl implements ObjectSerializer {
         @Override
         public <T> void serialize(T object, Charset charset, OutputStream out, Map<String, Object> context)
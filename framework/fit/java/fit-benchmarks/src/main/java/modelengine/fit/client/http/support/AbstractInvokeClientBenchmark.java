@@ -0,0 +1,180 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.http.support;
+
+import modelengine.fit.client.Address;
+import modelengine.fit.client.Request;
+import modelengine.fit.client.RequestContext;
+import modelengine.fit.http.client.HttpClassicClient;
+import modelengine.fit.http.client.HttpClassicClientFactory;
+import modelengine.fit.http.client.okhttp.OkHttpClassicClientFactory;
+import modelengine.fit.http.protocol.Protocol;
+import modelengine.fit.security.Decryptor;
+import modelengine.fit.serialization.json.jackson.JacksonObjectSerializer;
+import modelengine.fitframework.benchmark.FixedBeanContainer;
+import modelengine.fitframework.broker.CommunicationType;
+import modelengine.fitframework.conf.runtime.SerializationFormat;
+import modelengine.fitframework.conf.runtime.DefaultWorker;
+import modelengine.fitframework.conf.runtime.support.DefaultClientSecure;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.serialization.RequestMetadata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * {@link AbstractInvokeClient} 为每次远程调用构建 Http 客户端的基准测试。
+ * <p>客户端开启了加密的 TLS 配置，密码通过 AES-GCM 解密。{@link #buildHttpClient()} 是当前每次调用的开销，
+ * {@link #decryptPasswords()} 是原先每次调用还需要额外执行的两次解密。Http 客户端工厂直接返回同一个客户端，
+ * 不计入工厂内部的缓存查找，因此结果只包含 TLS 配置的获取和工厂配置的构建。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbstractInvokeClientBenchmark {
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_LENGTH = 128;
+
+    private AbstractInvokeClient invokeClient;
+
+    private Decryptor decryptor;
+
+    private Request request;
+
+    private String keyStorePassword;
+
+    private String trustStorePassword;
+
+    /**
+     * 表示始终返回同一个客户端的 Http 客户端工厂。
+     */
+    private static class FixedClientFactory implements HttpClassicClientFactory {
+        private final HttpClassicClient client;
+
+        FixedClientFactory(HttpClassicClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public HttpClassicClient create() {
+            return this.client;
+        }
+
+        @Override
+        public HttpClassicClient create(Config config) {
+            return this.client;
+        }
+    }
+
+    /**
+     * 准备开启加密 TLS 配置的调用客户端和请求。
+     *
+     * @throws GeneralSecurityException 当生成密钥或者加密密码失败时。
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws GeneralSecurityException {
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(256);
+        SecretKey key = keyGenerator.generateKey();
+        this.decryptor = encrypted -> decrypt(key, encrypted);
+        this.keyStorePassword = encrypt(key, "key-store-password");
+        this.trustStorePassword = encrypt(key, "trust-store-password");
+        DefaultClientSecure secure = new DefaultClientSecure();
+        secure.setEncrypted(true);
+        secure.setKeyStoreFile("client.jks");
+        secure.setKeyStorePassword(this.keyStorePassword);
+        secure.setTrustStoreFile("trust.jks");
+        secure.setTrustStorePassword(this.trustStorePassword);
+        DefaultClientConfig clientConfig = new DefaultClientConfig();
+        clientConfig.setSecure(secure);
+
+        HttpClassicClient client = new OkHttpClassicClientFactory(Map.of("json",
+                new JacksonObjectSerializer(null, null, null, false)), (object, propertyPath) -> null, 1).create();
+        BeanContainer container = new FixedBeanContainer(new FixedClientFactory(client), this.decryptor);
+        this.invokeClient = new SyncInvokeClient(container, new DefaultWorker(), clientConfig);
+        this.request = Request.custom()
+                .protocol(Protocol.HTTPS.protocol())
+                .address(Address.create("localhost", 8443))
+                .metadata(RequestMetadata.custom().dataFormat(SerializationFormat.JSON.code()).build())
+                .data(new Object[0])
+                .context(RequestContext.create(3000, TimeUnit.MILLISECONDS, CommunicationType.SYNC,
+                        Collections.emptyMap()))
+                .build();
+    }
+
+    private static String encrypt(SecretKey key, String plain) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        new SecureRandom().nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+        byte[] encrypted = cipher.doFinal(plain.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder()
+                .encodeToString(ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array());
+    }
+
+    private static String decrypt(SecretKey key, String encrypted) {
+        byte[] bytes = Base64.getDecoder().decode(encrypted);
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, bytes, 0, GCM_IV_LENGTH));
+            return new String(cipher.doFinal(bytes, GCM_IV_LENGTH, bytes.length - GCM_IV_LENGTH),
+                    StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 为一次远程调用构建 Http 客户端。
+     *
+     * @return 构建的 Http 客户端
+     */
+    @Benchmark
+    public HttpClassicClient buildHttpClient() {
+        return this.invokeClient.buildHttpClient(this.request);
+    }
+
+    /**
+     * 解密 TLS 配置中的两个密码。
+     *
+     * @return 解密后的密码的总长度
+     */
+    @Benchmark
+    public int decryptPasswords() {
+        return this.decryptor.decrypt(this.keyStorePassword).length()
+                + this.decryptor.decrypt(this.trustStorePassword).length();
+    }
+}
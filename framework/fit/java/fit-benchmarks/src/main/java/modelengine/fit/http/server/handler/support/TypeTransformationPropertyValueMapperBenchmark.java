@@ -0,0 +1,170 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.handler.support;
+
+import modelengine.fit.http.HttpResource;
+import modelengine.fit.http.Serializers;
+import modelengine.fit.http.protocol.Address;
+import modelengine.fit.http.protocol.ConfigurableMessageHeaders;
+import modelengine.fit.http.protocol.HttpRequestMethod;
+import modelengine.fit.http.protocol.HttpVersion;
+import modelengine.fit.http.protocol.MessageHeaders;
+import modelengine.fit.http.protocol.QueryCollection;
+import modelengine.fit.http.protocol.ReadableMessageBody;
+import modelengine.fit.http.protocol.RequestLine;
+import modelengine.fit.http.protocol.ServerRequest;
+import modelengine.fit.http.protocol.support.ServerRequestBody;
+import modelengine.fit.http.server.HttpClassicServerRequest;
+import modelengine.fit.http.server.handler.PropertyValueMapper;
+import modelengine.fit.serialization.json.jackson.JacksonObjectSerializer;
+import modelengine.fitframework.value.ValueFetcher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TypeTransformationPropertyValueMapper} 转换 Http 处理器参数的基准测试。
+ * <p>{@link #direct()} 中获取到的数据已经是目标类型，直接返回；{@link #serializer()} 中目标类型不同，
+ * 需要经过 Json 序列化再反序列化，即所有参数原先都要经过的转换方式。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeTransformationPropertyValueMapperBenchmark {
+    private HttpClassicServerRequest request;
+
+    private TypeTransformationPropertyValueMapper directMapper;
+
+    private TypeTransformationPropertyValueMapper serializerMapper;
+
+    /**
+     * 表示没有消息头和消息体的服务端 Http 请求。
+     */
+    private static class EmptyServerRequest implements ServerRequest {
+        private final RequestLine startLine =
+                RequestLine.create(HttpVersion.HTTP_1_1, HttpRequestMethod.GET, "/", QueryCollection.create());
+        private final MessageHeaders headers = ConfigurableMessageHeaders.create();
+        private final ReadableMessageBody body = new ServerRequestBody(this);
+
+        @Override
+        public RequestLine startLine() {
+            return this.startLine;
+        }
+
+        @Override
+        public MessageHeaders headers() {
+            return this.headers;
+        }
+
+        @Override
+        public ReadableMessageBody body() {
+            return this.body;
+        }
+
+        @Override
+        public Address localAddress() {
+            return null;
+        }
+
+        @Override
+        public Address remoteAddress() {
+            return null;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public int readBody() {
+            return -1;
+        }
+
+        @Override
+        public int readBody(byte[] bytes, int off, int len) {
+            return -1;
+        }
+
+        @Override
+        public InputStream getBodyInputStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    /**
+     * 准备携带 Json 序列化器的请求和两个参数映射器。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Serializers serializers =
+                Serializers.create(Map.of("json", new JacksonObjectSerializer(null, null, null, false)));
+        HttpResource httpResource = new HttpResource() {
+            @Override
+            public Serializers serializers() {
+                return serializers;
+            }
+
+            @Override
+            public ValueFetcher valueFetcher() {
+                return (object, propertyPath) -> null;
+            }
+        };
+        this.request = HttpClassicServerRequest.create(httpResource, new EmptyServerRequest());
+        PropertyValueMapper source = (request, response, context) -> 42;
+        this.directMapper = new TypeTransformationPropertyValueMapper(source, int.class);
+        this.serializerMapper = new TypeTransformationPropertyValueMapper(source, long.class);
+    }
+
+    /**
+     * 转换已经是目标类型的参数。
+     *
+     * @return 转换后的参数
+     */
+    @Benchmark
+    public Object direct() {
+        return this.directMapper.map(this.request, null, null);
+    }
+
+    /**
+     * 通过 Json 序列化转换参数。
+     *
+     * @return 转换后的参数
+     */
+    @Benchmark
+    public Object serializer() {
+        return this.serializerMapper.map(this.request, null, null);
+    }
+}
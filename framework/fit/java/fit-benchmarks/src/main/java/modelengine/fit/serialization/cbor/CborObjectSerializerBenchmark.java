@@ -0,0 +1,253 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.cbor;
+
+import modelengine.fitframework.util.ObjectUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CBOR 直接在对象与字节之间编解码的基准测试。
+ * <p>{@link #encode()} 和 {@link #decode()} 是 {@link CborObjectSerializer} 当前的方式，直接遍历对象或者直接解码成目标类型。
+ * {@link #encodeViaJavaObject()} 和 {@link #decodeViaJavaObject()} 是原先的方式，编码前先将对象转换为映射和列表，
+ * 解码时先解码成映射和列表再转换为目标类型。被编解码的对象包含字符串、数字、嵌套对象的列表和映射。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CborObjectSerializerBenchmark {
+    private static final int ITEM_COUNT = 20;
+
+    private CborEncoder encoder;
+
+    private CborDecoder decoder;
+
+    private Order order;
+
+    private byte[] bytes;
+
+    /**
+     * 表示被编解码的订单。
+     */
+    public static class Order {
+        private String id;
+        private long amount;
+        private List<Item> items;
+        private Map<String, String> tags;
+
+        /**
+         * 获取订单的唯一标识。
+         *
+         * @return 表示订单唯一标识的 {@link String}。
+         */
+        public String getId() {
+            return this.id;
+        }
+
+        /**
+         * 设置订单的唯一标识。
+         *
+         * @param id 表示订单唯一标识的 {@link String}。
+         */
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        /**
+         * 获取订单的金额。
+         *
+         * @return 表示订单金额的 {@code long}。
+         */
+        public long getAmount() {
+            return this.amount;
+        }
+
+        /**
+         * 设置订单的金额。
+         *
+         * @param amount 表示订单金额的 {@code long}。
+         */
+        public void setAmount(long amount) {
+            this.amount = amount;
+        }
+
+        /**
+         * 获取订单的商品列表。
+         *
+         * @return 表示商品列表的 {@link List}{@code <}{@link Item}{@code >}。
+         */
+        public List<Item> getItems() {
+            return this.items;
+        }
+
+        /**
+         * 设置订单的商品列表。
+         *
+         * @param items 表示商品列表的 {@link List}{@code <}{@link Item}{@code >}。
+         */
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+
+        /**
+         * 获取订单的标签。
+         *
+         * @return 表示订单标签的 {@link Map}{@code <}{@link String}{@code , }{@link String}{@code >}。
+         */
+        public Map<String, String> getTags() {
+            return this.tags;
+        }
+
+        /**
+         * 设置订单的标签。
+         *
+         * @param tags 表示订单标签的 {@link Map}{@code <}{@link String}{@code , }{@link String}{@code >}。
+         */
+        public void setTags(Map<String, String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    /**
+     * 表示订单中的商品。
+     */
+    public static class Item {
+        private String name;
+        private int quantity;
+
+        /**
+         * 获取商品的名字。
+         *
+         * @return 表示商品名字的 {@link String}。
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * 设置商品的名字。
+         *
+         * @param name 表示商品名字的 {@link String}。
+         */
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 获取商品的数量。
+         *
+         * @return 表示商品数量的 {@code int}。
+         */
+        public int getQuantity() {
+            return this.quantity;
+        }
+
+        /**
+         * 设置商品的数量。
+         *
+         * @param quantity 表示商品数量的 {@code int}。
+         */
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+
+    /**
+     * 准备编解码器、被编码的对象和被解码的字节。
+     *
+     * @throws IOException 当编码失败时。
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.encoder = new CborEncoder();
+        this.decoder = new CborDecoder();
+        List<Item> items = new ArrayList<>(ITEM_COUNT);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Item item = new Item();
+            item.setName("item-" + i);
+            item.setQuantity(i + 1);
+            items.add(item);
+        }
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("channel", "online");
+        tags.put("region", "cn-east");
+        this.order = new Order();
+        this.order.setId("order-0001");
+        this.order.setAmount(1_000_000L);
+        this.order.setItems(items);
+        this.order.setTags(tags);
+        this.bytes = this.encoder.encode(this.order);
+    }
+
+    /**
+     * 直接编码对象。
+     *
+     * @return 编码后的字节
+     * @throws IOException 当编码失败时。
+     */
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return this.encoder.encode(this.order);
+    }
+
+    /**
+     * 将对象转换为映射和列表后编码。
+     *
+     * @return 编码后的字节
+     * @throws IOException 当编码失败时。
+     */
+    @Benchmark
+    public byte[] encodeViaJavaObject() throws IOException {
+        return this.encoder.encode(ObjectUtils.toJavaObject(this.order));
+    }
+
+    /**
+     * 直接解码成目标类型。
+     *
+     * @return 解码后的对象
+     * @throws IOException 当解码失败时。
+     */
+    @Benchmark
+    public Order decode() throws IOException {
+        return this.decoder.decode(new ByteArrayInputStream(this.bytes), Order.class);
+    }
+
+    /**
+     * 解码成映射和列表后转换为目标类型。
+     *
+     * @return 解码后的对象
+     * @throws IOException 当解码失败时。
+     */
+    @Benchmark
+    public Order decodeViaJavaObject() throws IOException {
+        return ObjectUtils.toCustomObject(this.decoder.decode(this.bytes), Order.class);
+    }
+}
@@ -0,0 +1,208 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.benchmark;
+
+import static modelengine.fitframework.util.ObjectUtils.cast;
+
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.ioc.BeanMetadata;
+import modelengine.fitframework.ioc.BeanNotFoundException;
+import modelengine.fitframework.ioc.BeanRegistry;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.TypeUtils;
+import modelengine.fitframework.util.support.AbstractDisposable;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 表示只包含固定 Bean 的容器，用于在基准测试中代替完整的 Bean 容器。
+ * <p>容器只支持按照类型获取 Bean，不支持按照名字获取，也不提供插件和注册中心。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+public class FixedBeanContainer extends AbstractDisposable implements BeanContainer {
+    private final List<BeanFactory> factories;
+    private final Beans beans = new FixedBeans();
+
+    /**
+     * 使用指定的 Bean 初始化 {@link FixedBeanContainer} 的新实例。
+     *
+     * @param beans 表示容器中所有 Bean 的 {@link Object}{@code []}。
+     */
+    public FixedBeanContainer(Object... beans) {
+        this.factories = Collections.unmodifiableList(Stream.of(beans)
+                .map(FixedBeanFactory::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Nonnull
+    @Override
+    public String name() {
+        return "benchmark";
+    }
+
+    @Nonnull
+    @Override
+    public Plugin plugin() {
+        throw new UnsupportedOperationException("The fixed bean container does not belong to any plugin.");
+    }
+
+    @Nonnull
+    @Override
+    public BeanRegistry registry() {
+        throw new UnsupportedOperationException("The fixed bean container does not support registration.");
+    }
+
+    @Override
+    public Optional<BeanFactory> factory(String name) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<BeanFactory> factory(Type type) {
+        return this.lookup(type);
+    }
+
+    @Override
+    public List<BeanFactory> factories(Type type) {
+        return this.all(type);
+    }
+
+    @Override
+    public List<BeanFactory> factories() {
+        return this.factories;
+    }
+
+    @Override
+    public Optional<BeanFactory> lookup(String name) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<BeanFactory> lookup(Type type) {
+        Class<?> clazz = TypeUtils.toClass(type);
+        return this.factories.stream().filter(factory -> clazz.isInstance(factory.get())).findFirst();
+    }
+
+    @Override
+    public List<BeanFactory> all(Type type) {
+        Class<?> clazz = TypeUtils.toClass(type);
+        return this.factories.stream().filter(factory -> clazz.isInstance(factory.get())).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<BeanFactory> all() {
+        return this.factories;
+    }
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public Beans beans() {
+        return this.beans;
+    }
+
+    @Override
+    public void destroySingleton(String beanName) {}
+
+    @Override
+    public void removeBean(String beanName) {}
+
+    /**
+     * 表示直接返回指定 Bean 的 {@link BeanFactory}。
+     */
+    private static class FixedBeanFactory extends AbstractDisposable implements BeanFactory {
+        private final Object bean;
+
+        FixedBeanFactory(Object bean) {
+            this.bean = bean;
+        }
+
+        @Override
+        public BeanMetadata metadata() {
+            throw new UnsupportedOperationException("The fixed bean factory does not have any metadata.");
+        }
+
+        @Override
+        public <T> T get(Object... arguments) {
+            return cast(this.bean);
+        }
+    }
+
+    /**
+     * 表示按照类型从容器中获取 Bean 的 {@link Beans}。
+     */
+    private class FixedBeans implements Beans {
+        @Override
+        public <T> T get(Class<T> beanClass, Object... initialArguments) {
+            return this.get((Type) beanClass, initialArguments);
+        }
+
+        @Override
+        public <T> T get(Type beanType, Object... initialArguments) {
+            return cast(FixedBeanContainer.this.lookup(beanType)
+                    .map(factory -> factory.get(initialArguments))
+                    .orElseThrow(() -> new BeanNotFoundException(StringUtils.format(
+                            "Required bean not found. [bean={0}]",
+                            beanType.getTypeName()))));
+        }
+
+        @Override
+        public <T> T get(String beanName, Object... initialArguments) {
+            throw new UnsupportedOperationException("The fixed bean container does not support bean names.");
+        }
+
+        @Override
+        public <T> T lookup(Class<T> beanClass, Object... initialArguments) {
+            return this.get(beanClass, initialArguments);
+        }
+
+        @Override
+        public <T> T lookup(Type beanType, Object... initialArguments) {
+            return this.get(beanType, initialArguments);
+        }
+
+        @Override
+        public <T> T lookup(String beanName, Object... initialArguments) {
+            throw new UnsupportedOperationException("The fixed bean container does not support bean names.");
+        }
+
+        @Override
+        public <T> Map<String, T> list(Class<T> beanClass) {
+            throw new UnsupportedOperationException("The fixed bean container does not support bean names.");
+        }
+
+        @Override
+        public <T> Map<String, T> list(Type beanType) {
+            throw new UnsupportedOperationException("The fixed bean container does not support bean names.");
+        }
+
+        @Override
+        public <T> Map<String, T> all(Class<T> beanClass) {
+            throw new UnsupportedOperationException("The fixed bean container does not support bean names.");
+        }
+
+        @Override
+        public <T> Map<String, T> all(Type beanType) {
+            throw new UnsupportedOperationException("The fixed bean container does not support bean names.");
+        }
+    }
+}
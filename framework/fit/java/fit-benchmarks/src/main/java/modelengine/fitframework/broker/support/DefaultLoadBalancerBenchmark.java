@@ -0,0 +1,189 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import modelengine.fit.client.Client;
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fitframework.benchmark.FixedBeanContainer;
+import modelengine.fitframework.broker.Endpoint;
+import modelengine.fitframework.broker.Format;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.SerializationService;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.TargetLocator;
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.ioc.BeanContainer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DefaultLoadBalancer} 选择调用地址的基准测试。
+ * <p>{@link #balance()} 在地址列表的版本没有变化时复用缓存的候选地址列表，{@link #balanceWithoutCache()}
+ * 在每次调用前清空缓存，与原先每次调用都重新执行环境和通信协议过滤的方式一致。容器、地址定位服务和序列化服务都使用固定返回值的
+ * 实现。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultLoadBalancerBenchmark {
+    private static final Object[] NO_ARGS = new Object[0];
+
+    @Param({"10", "1000"})
+    private int targetCount;
+
+    private DefaultLoadBalancer loadBalancer;
+
+    private DefaultFitable fitable;
+
+    private InvocationContext context;
+
+    /**
+     * 表示被调用的服务接口。
+     */
+    public interface EchoService {
+        /**
+         * 返回指定的值。
+         *
+         * @param value 表示指定值的 {@link String}。
+         * @return 表示返回值的 {@link String}。
+         */
+        String echo(String value);
+    }
+
+    /**
+     * 表示返回固定地址列表且版本不变的地址定位服务。
+     */
+    private static class FixedTargetLocator implements TargetLocator {
+        private final List<Target> targets;
+
+        FixedTargetLocator(List<Target> targets) {
+            this.targets = targets;
+        }
+
+        @Override
+        public List<Target> lookup(UniqueFitableId id) {
+            return this.targets;
+        }
+
+        @Override
+        public long version() {
+            return 1;
+        }
+
+        @Override
+        public Target local() {
+            return null;
+        }
+    }
+
+    /**
+     * 表示只支持一种序列化格式的序列化服务。
+     */
+    private static class FixedSerializationService implements SerializationService {
+        private final List<Integer> formats = Collections.singletonList(1);
+
+        @Override
+        public Optional<MessageSerializer> get(int format) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Integer> getSupportedFormats(Method genericableMethod) {
+            return this.formats;
+        }
+    }
+
+    /**
+     * 准备负载均衡器、服务实现、地址列表和调用上下文。
+     *
+     * @throws NoSuchMethodException 当服务接口的方法不存在时。
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        Client client = new Client() {
+            @Override
+            public Response requestResponse(Request request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Set<String> getSupportedProtocols() {
+                return Collections.singleton("http");
+            }
+        };
+        BeanContainer container = new FixedBeanContainer(client);
+        List<Target> targets = new ArrayList<>(this.targetCount);
+        for (int i = 0; i < this.targetCount; i++) {
+            targets.add(Target.custom()
+                    .workerId("worker-" + i)
+                    .host("127.0.0.1")
+                    .environment("env")
+                    .endpoints(Collections.singletonList(Endpoint.custom().protocol("http", 2).port(8080).build()))
+                    .formats(Collections.singletonList(Format.custom().name("json").code(1).build()))
+                    .build());
+        }
+        this.loadBalancer = new DefaultLoadBalancer(container,
+                new FixedSerializationService(),
+                new FixedTargetLocator(Collections.unmodifiableList(targets)));
+        this.fitable = new DefaultFitable(null, null, null, "echo-fitable", "1.0.0");
+        DefaultGenericable genericable = new DefaultGenericable(null, "echo-genericable", "1.0.0");
+        genericable.method(EchoService.class.getDeclaredMethod("echo", String.class));
+        this.fitable.genericable(genericable);
+        this.context = InvocationContext.custom()
+                .localWorkerId("local")
+                .environmentPrioritySequence(Collections.singletonList("env"))
+                .build();
+    }
+
+    /**
+     * 在地址列表没有变化时选择调用地址。
+     *
+     * @return 选择的调用地址列表
+     */
+    @Benchmark
+    public List<Target> balance() {
+        return this.loadBalancer.balance(this.fitable, this.context, NO_ARGS);
+    }
+
+    /**
+     * 清空缓存后选择调用地址。
+     *
+     * @return 选择的调用地址列表
+     */
+    @Benchmark
+    public List<Target> balanceWithoutCache() {
+        this.loadBalancer.onPluginStopped(null);
+        return this.loadBalancer.balance(this.fitable, this.context, NO_ARGS);
+    }
+}
@@ -0,0 +1,120 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanMetadata;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.ReflectionUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LocalFitableExecutor} 调用本地服务实现的基准测试。
+ * <p>{@link #execute()} 包含执行器每次调用的全部开销：参数校验、切换上下文类加载器以及通过反射调用服务实现。
+ * {@link #reflect()} 只通过反射调用同一个方法，是执行器调用开销的下限。插件的类加载器通过 JDK 动态代理获取。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalFitableExecutorBenchmark {
+    private LocalFitableExecutor executor;
+
+    private Service target;
+
+    private Method method;
+
+    private Object[] args;
+
+    /**
+     * 表示被调用的服务实现。
+     */
+    public static class Service {
+        /**
+         * 模拟服务实现，根据参数计算结果。
+         *
+         * @param name 表示名字的 {@link String}。
+         * @param count 表示次数的 {@code int}。
+         * @return 表示计算结果的 {@code int}。
+         */
+        public int handle(String name, int count) {
+            return name.length() + count;
+        }
+    }
+
+    /**
+     * 准备执行器、服务实现和参数。
+     *
+     * @throws NoSuchMethodException 当服务实现的方法不存在时。
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        ClassLoader classLoader = LocalFitableExecutorBenchmark.class.getClassLoader();
+        Plugin plugin = proxy(Plugin.class, "pluginClassLoader", classLoader);
+        BeanContainer container = proxy(BeanContainer.class, "plugin", plugin);
+        BeanMetadata metadata = proxy(BeanMetadata.class, "container", container);
+        this.target = new Service();
+        this.method = Service.class.getMethod("handle", String.class, int.class);
+        this.executor = new LocalFitableExecutor(UniqueFitableId.create("g", "1.0.0", "f", "1.0.0"),
+                false,
+                metadata,
+                () -> this.target,
+                this.method);
+        this.args = new Object[] {"fit", 18};
+    }
+
+    private static <T> T proxy(Class<T> type, String methodName, Object value) {
+        return ObjectUtils.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, m, a) -> {
+            if (m.getName().equals(methodName)) {
+                return value;
+            }
+            throw new UnsupportedOperationException(m.getName());
+        }));
+    }
+
+    /**
+     * 通过执行器调用服务实现。
+     *
+     * @return 服务实现的返回值
+     */
+    @Benchmark
+    public Object execute() {
+        return this.executor.execute(this.args);
+    }
+
+    /**
+     * 通过反射直接调用服务实现。
+     *
+     * @return 服务实现的返回值
+     */
+    @Benchmark
+    public Object reflect() {
+        return ReflectionUtils.invoke(this.target, this.method, this.args);
+    }
+}
@@ -0,0 +1,242 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import modelengine.fit.client.Client;
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
+import modelengine.fit.client.http.HttpClient;
+import modelengine.fit.client.http.support.DefaultClientConfig;
+import modelengine.fit.http.client.okhttp.OkHttpClassicClientFactory;
+import modelengine.fit.http.header.HttpHeaderKey;
+import modelengine.fit.http.protocol.MessageHeaderNames;
+import modelengine.fit.http.protocol.MimeType;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.cbor.CborMessageSerializer;
+import modelengine.fit.serialization.cbor.CborObjectSerializer;
+import modelengine.fit.serialization.json.jackson.JacksonObjectSerializer;
+import modelengine.fitframework.benchmark.FixedBeanContainer;
+import modelengine.fitframework.broker.CommunicationType;
+import modelengine.fitframework.broker.Endpoint;
+import modelengine.fitframework.broker.Format;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.conf.Config;
+import modelengine.fitframework.conf.runtime.DefaultMatata;
+import modelengine.fitframework.conf.runtime.DefaultRegistry;
+import modelengine.fitframework.conf.runtime.DefaultWorker;
+import modelengine.fitframework.conf.runtime.SerializationFormat;
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.serialization.ResponseMetadata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RemoteFitableExecutor} 发起远程调用的基准测试。
+ * <p>远程执行器通过真实的 Http 客户端（OkHttp）和 CBOR 序列化，调用监听在本机回环地址上的 Http 服务端。服务端使用 JDK
+ * 自带的 Http 服务器，将请求中的参数原样返回，因此结果包含远程执行器、客户端、序列化以及回环网络的全部开销，但不包含 FIT
+ * 服务端的处理开销。{@link #execute()} 复用缓存的客户端，{@link #executeWithoutClientCache()} 在每次调用前清空客户端缓存，
+ * 与原先每次调用都在容器中查找客户端的方式一致。容器中除了支持调用协议的客户端外，还有若干支持其他协议的客户端。
+ * 完整的调用链路需要更长的预热时间才能稳定。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 4)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RemoteFitableExecutorBenchmark {
+    private static final int OTHER_CLIENT_COUNT = 4;
+    private static final Type[] ARGUMENT_TYPES = new Type[] {String.class};
+
+    private HttpServer server;
+
+    private RemoteClientCache clients;
+
+    private RemoteFitableExecutor executor;
+
+    private DefaultFitable fitable;
+
+    private Target target;
+
+    private InvocationContext context;
+
+    private Object[] args;
+
+    /**
+     * 表示远程调用的服务接口。
+     */
+    public interface EchoService {
+        /**
+         * 返回指定的值。
+         *
+         * @param value 表示指定值的 {@link String}。
+         * @return 表示返回值的 {@link String}。
+         */
+        String echo(String value);
+    }
+
+    /**
+     * 表示支持指定协议但不会被调用的客户端。
+     */
+    private static class UnusedClient implements Client {
+        private final Set<String> protocols;
+
+        UnusedClient(String protocol) {
+            this.protocols = Collections.singleton(protocol);
+        }
+
+        @Override
+        public Response requestResponse(Request request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<String> getSupportedProtocols() {
+            return this.protocols;
+        }
+    }
+
+    /**
+     * 启动本机回环地址上的 Http 服务端，并准备远程执行器、调用目标和调用上下文。
+     *
+     * @throws IOException 当 Http 服务端启动失败时。
+     * @throws NoSuchMethodException 当服务接口的方法不存在时。
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, NoSuchMethodException {
+        MessageSerializer messageSerializer =
+                new CborMessageSerializer(new CborObjectSerializer(), Config.fromReadonlyMap("benchmark", Map.of()));
+        // JDK 的 Http 服务器默认开启 Nagle 算法，分别写出的响应头和响应体会与客户端的延迟确认叠加，每次调用额外等待约 40 毫秒。
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", exchange -> echo(exchange, messageSerializer));
+        this.server.start();
+
+        OkHttpClassicClientFactory clientFactory = new OkHttpClassicClientFactory(Map.of("json",
+                new JacksonObjectSerializer(null, null, null, false)), (object, propertyPath) -> null, 16);
+        DefaultWorker worker = new DefaultWorker();
+        worker.setId("local");
+        worker.setInstanceId("local-instance");
+        HttpClient httpClient = new HttpClient(new FixedBeanContainer(clientFactory, messageSerializer),
+                worker,
+                new DefaultClientConfig());
+        List<Object> beans = new ArrayList<>();
+        for (int i = 0; i < OTHER_CLIENT_COUNT; i++) {
+            beans.add(new UnusedClient("other-" + i));
+        }
+        beans.add(httpClient);
+        DefaultMatata matata = new DefaultMatata();
+        matata.setRegistry(new DefaultRegistry());
+        beans.add(matata);
+        FixedBeanContainer container = new FixedBeanContainer(beans.toArray());
+        this.clients = new RemoteClientCache(container);
+        this.executor = new RemoteFitableExecutor(container, this.clients);
+
+        this.fitable = new DefaultFitable(null, null, null, "echo-fitable", "1.0.0");
+        DefaultGenericable genericable = new DefaultGenericable(null, "echo-genericable", "1.0.0");
+        genericable.method(EchoService.class.getDeclaredMethod("echo", String.class));
+        this.fitable.genericable(genericable);
+        this.target = Target.custom()
+                .workerId("worker")
+                .host(InetAddress.getLoopbackAddress().getHostAddress())
+                .environment("env")
+                .endpoints(Collections.singletonList(Endpoint.custom()
+                        .protocol("http", 2)
+                        .port(this.server.getAddress().getPort())
+                        .build()))
+                .formats(Collections.singletonList(Format.custom()
+                        .name("cbor")
+                        .code(SerializationFormat.CBOR.code())
+                        .build()))
+                .extensions(Map.of())
+                .build();
+        this.context = InvocationContext.custom()
+                .timeout(3000)
+                .timeoutUnit(TimeUnit.MILLISECONDS)
+                .communicationType(CommunicationType.SYNC)
+                .build();
+        this.args = new Object[] {"hello"};
+        Validation.equals(this.execute(), "hello", "The remote echo result mismatch.");
+    }
+
+    private static void echo(HttpExchange exchange, MessageSerializer messageSerializer) throws IOException {
+        try {
+            Object[] arguments = messageSerializer.deserializeRequest(ARGUMENT_TYPES, exchange.getRequestBody());
+            byte[] body = messageSerializer.serializeResponse(String.class, arguments[0]);
+            exchange.getResponseHeaders().set(HttpHeaderKey.FIT_CODE.value(), String.valueOf(ResponseMetadata.CODE_OK));
+            exchange.getResponseHeaders()
+                    .set(HttpHeaderKey.FIT_DATA_FORMAT.value(), String.valueOf(SerializationFormat.CBOR.code()));
+            exchange.getResponseHeaders()
+                    .set(MessageHeaderNames.CONTENT_TYPE, MimeType.APPLICATION_OCTET_STREAM.value());
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * 停止 Http 服务端。
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.server.stop(0);
+    }
+
+    /**
+     * 使用缓存的客户端发起远程调用。
+     *
+     * @return 远程调用的返回值
+     */
+    @Benchmark
+    public Object execute() {
+        return this.executor.execute(this.fitable, this.target, this.context, this.args);
+    }
+
+    /**
+     * 清空客户端缓存后发起远程调用。
+     *
+     * @return 远程调用的返回值
+     */
+    @Benchmark
+    public Object executeWithoutClientCache() {
+        this.clients.clear();
+        return this.executor.execute(this.fitable, this.target, this.context, this.args);
+    }
+}
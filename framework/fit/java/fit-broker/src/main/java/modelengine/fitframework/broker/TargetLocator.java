@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -25,6 +25,18 @@ public interface TargetLocator {
      */
     List<Target> lookup(UniqueFitableId id);
 
+    /**
+     * 获取地址列表的版本。
+     * <p>版本没有变化时，{@link #lookup(UniqueFitableId)} 对同一个服务实现返回的地址列表也不会变化，调用方可以据此缓存根据地址列表
+     * 计算的结果，而不需要每次都获取并比较地址列表。返回负数表示不支持版本，此时调用方只能通过地址列表的实例判断地址列表是否变化，
+     * 因此地址列表发生变化时必须返回新的列表实例。</p>
+     *
+     * @return 表示地址列表的版本的 {@code long}，负数表示不支持版本。
+     */
+    default long version() {
+        return -1;
+    }
+
     /**
      * 获取本地提供服务的地址列表。
      *
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -63,15 +63,20 @@ public class DefaultFitable implements ConfigurableFitable {
 
     DefaultFitable(BeanContainer container, LoadBalancer loadBalancer, TargetLocator targetLocator, String id,
             String version) {
+        this(container, loadBalancer, targetLocator, new RemoteClientCache(container), id, version);
+    }
+
+    DefaultFitable(BeanContainer container, LoadBalancer loadBalancer, TargetLocator targetLocator,
+            RemoteClientCache remoteClients, String id, String version) {
         this.container = container;
         this.loadBalancer = loadBalancer;
         this.targetLocator = targetLocator;
         this.localExecutorFactoryLoader = new LazyLoader<>(() -> this.container.factory(LocalExecutorFactory.class)
                 .map(BeanFactory::<LocalExecutorFactory>get)
                 .orElseThrow(() -> new IllegalStateException("No LocalExecutorFactory.")));
-        this.remoteExecutor = new RemoteFitableExecutor(container);
+        this.remoteExecutor = new RemoteFitableExecutor(container, remoteClients);
         this.multicastExecutor = new MulticastFitableExecutor(this.container, this.remoteExecutor);
-        this.genericRemoteExecutor = new GenericRemoteFitableExecutor(container);
+        this.genericRemoteExecutor = new GenericRemoteFitableExecutor(container, remoteClients);
 
         this.id = notBlank(id, "The fitable id cannot be blank.");
         this.version = notBlank(version, "The fitable version cannot be blank.");
@@ -15,17 +15,22 @@ import modelengine.fitframework.broker.LoadBalancer;
 import modelengine.fitframework.broker.TargetLocator;
 import modelengine.fitframework.broker.UniqueFitableId;
 import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
 
 /**
  * 表示 {@link FitableFactory} 的默认实现。
+ * <p>所有创建的服务实现共享按照通信协议缓存的远程调用客户端，插件启动或者停止时清空该缓存。</p>
  *
  * @author 季聿阶
  * @since 2023-03-24
  */
-public class DefaultFitableFactory implements FitableFactory {
+public class DefaultFitableFactory implements FitableFactory, PluginStartedObserver, PluginStoppedObserver {
     private final BeanContainer container;
     private final LoadBalancer loadBalancer;
     private final TargetLocator targetLocator;
+    private final RemoteClientCache remoteClients;
 
     /**
      * 使用指定的容器、负载均衡器和目标定位器初始化 {@link DefaultFitableFactory} 的新实例。
@@ -40,11 +45,17 @@ public class DefaultFitableFactory implements FitableFactory {
         this.container = notNull(container, "The bean container cannot be null.");
         this.loadBalancer = notNull(loadBalancer, "The load balancer cannot be null.");
         this.targetLocator = notNull(targetLocator, "The target locator cannot be null.");
+        this.remoteClients = new RemoteClientCache(container);
     }
 
     @Override
     public ConfigurableFitable create(String id, String version) {
-        return new DefaultFitable(this.container, this.loadBalancer, this.targetLocator, id, version);
+        return new DefaultFitable(this.container,
+                this.loadBalancer,
+                this.targetLocator,
+                this.remoteClients,
+                id,
+                version);
     }
 
     @Override
@@ -62,4 +73,14 @@ public class DefaultFitableFactory implements FitableFactory {
                 .degradationFitableId(fitable.degradationFitableId())
                 .genericable(fitable.genericable());
     }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        this.remoteClients.clear();
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        this.remoteClients.clear();
+    }
 }
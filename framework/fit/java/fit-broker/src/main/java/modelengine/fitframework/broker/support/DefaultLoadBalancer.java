@@ -10,6 +10,7 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.client.Client;
 import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.GenericableMethod;
 import modelengine.fitframework.broker.InvocationContext;
 import modelengine.fitframework.broker.LoadBalancer;
 import modelengine.fitframework.broker.SerializationService;
@@ -21,30 +22,47 @@ import modelengine.fitframework.broker.client.TargetNotFoundException;
 import modelengine.fitframework.broker.client.filter.loadbalance.EnvironmentFilter;
 import modelengine.fitframework.broker.client.filter.loadbalance.FirstMatchedEnvironmentFilter;
 import modelengine.fitframework.broker.client.filter.loadbalance.ProtocolAndFormatSupportedFilter;
+import modelengine.fitframework.conf.runtime.CommunicationProtocol;
+import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
+import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * 表示 {@link LoadBalancer} 的默认实现。
+ * <p>环境和通信协议的过滤结果只取决于地址列表和调用配置，因此按照服务实现和调用配置缓存过滤后的候选地址列表，直到
+ * {@link TargetLocator#version() 地址列表的版本}发生变化为止。地址定位服务不支持版本时，只有返回的地址列表实例发生变化才重新过滤。
+ * 调用上下文中指定的负载均衡过滤器每次调用都会在候选地址列表上执行。</p>
+ * <p>缓存的数量超过上限时清空缓存，插件启动或停止时也会清空缓存，避免缓存键中的方法一直引用已经卸载的插件的类。</p>
  *
  * @author 季聿阶
  * @since 2023-03-28
  */
-public class DefaultLoadBalancer implements LoadBalancer {
+public class DefaultLoadBalancer implements LoadBalancer, PluginStartedObserver, PluginStoppedObserver {
     private static final Logger log = Logger.get(DefaultLoadBalancer.class);
+    private static final int MAX_CACHE_SIZE = 1024;
 
     private final BeanContainer container;
     private final LazyLoader<List<Client>> clientsLoader;
     private final SerializationService serializationService;
     private final TargetLocator targetLocator;
+    private final Map<CandidateKey, Candidates> candidatesCache = new ConcurrentHashMap<>();
+    private final Map<UniqueFitableId, WorkerIds> workerIdsCache = new ConcurrentHashMap<>();
 
     /**
      * 使用指定的容器、序列化服务和地址定位服务初始化 {@link DefaultLoadBalancer} 的新实例。
@@ -65,10 +83,58 @@ public class DefaultLoadBalancer implements LoadBalancer {
 
     @Override
     public List<Target> balance(Fitable fitable, InvocationContext context, Object[] args) {
+        List<Target> candidates = this.getCandidateTargets(fitable, context);
+        return this.filterCandidateTargets(context.loadBalanceFilter(), fitable, context, candidates);
+    }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        this.clearCaches();
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        this.clearCaches();
+    }
+
+    private void clearCaches() {
+        this.candidatesCache.clear();
+        this.workerIdsCache.clear();
+    }
+
+    private static <K, V> void cache(Map<K, V> cache, K key, V value) {
+        if (cache.size() >= MAX_CACHE_SIZE && !cache.containsKey(key)) {
+            cache.clear();
+        }
+        cache.put(key, value);
+    }
+
+    private List<Target> getCandidateTargets(Fitable fitable, InvocationContext context) {
+        UniqueFitableId id = fitable.toUniqueId();
+        long version = this.targetLocator.version();
+        CandidateKey key = new CandidateKey(id, genericableMethod(fitable), context);
+        Candidates cached = this.candidatesCache.get(key);
+        if (cached != null && cached.source.isOf(version)) {
+            return cached.targets;
+        }
+        List<Target> targets = this.getTargets(id);
+        if (cached != null && cached.source.isOf(targets)) {
+            cache(this.candidatesCache, key, new Candidates(new Source(version, targets), cached.targets));
+            return cached.targets;
+        }
         Invoker.Filter filter = Invoker.Filter.combine(this.getFirstMatchedEnvironmentFilter(fitable, context),
-                this.getProtocolAndFormatSupportedFilter(context),
-                context.loadBalanceFilter());
-        return this.filterCandidateTargets(filter, fitable, context, this.getTargets(fitable.toUniqueId()));
+                this.getProtocolAndFormatSupportedFilter(context));
+        List<Target> candidates = Collections.unmodifiableList(filter.filter(fitable,
+                context.localWorkerId(),
+                targets,
+                context.filterExtensions()));
+        cache(this.candidatesCache, key, new Candidates(new Source(version, targets), candidates));
+        return candidates;
+    }
+
+    private static Method genericableMethod(Fitable fitable) {
+        GenericableMethod method = fitable.genericable().method();
+        return method == null ? null : method.method();
     }
 
     private Invoker.Filter getFirstMatchedEnvironmentFilter(Fitable fitable, InvocationContext context) {
@@ -94,8 +160,9 @@ public class DefaultLoadBalancer implements LoadBalancer {
 
     private List<Target> filterCandidateTargets(Invoker.Filter filter, Fitable fitable, InvocationContext context,
             List<Target> toFilterTargets) {
-        List<Target> filteredTargets =
-                filter.filter(fitable, context.localWorkerId(), toFilterTargets, context.filterExtensions());
+        List<Target> filteredTargets = filter == null
+                ? toFilterTargets
+                : filter.filter(fitable, context.localWorkerId(), toFilterTargets, context.filterExtensions());
         filteredTargets = this.filterWithOtherFitables(context, filteredTargets);
         if (CollectionUtils.isEmpty(filteredTargets)) {
             String message = StringUtils.format("No matched fitable targets left after loadbalance. [id={0}]",
@@ -110,17 +177,133 @@ public class DefaultLoadBalancer implements LoadBalancer {
     private List<Target> filterWithOtherFitables(InvocationContext context, List<Target> targets) {
         List<Target> intersection = targets;
         for (UniqueFitableId id : context.loadBalanceWith()) {
-            intersection = this.intersect(intersection, this.getTargets(id));
+            intersection = this.intersect(intersection, id);
         }
         return intersection;
     }
 
-    private List<Target> intersect(List<Target> targets, List<Target> toFilterTargets) {
-        Set<String> workerIds = toFilterTargets.stream().map(Target::workerId).collect(Collectors.toSet());
-        return targets.stream().filter(target -> workerIds.contains(target.workerId())).collect(Collectors.toList());
+    private List<Target> intersect(List<Target> targets, UniqueFitableId id) {
+        Set<String> ids = this.getWorkerIds(id);
+        return targets.stream().filter(target -> ids.contains(target.workerId())).collect(Collectors.toList());
+    }
+
+    private Set<String> getWorkerIds(UniqueFitableId id) {
+        long version = this.targetLocator.version();
+        WorkerIds cached = this.workerIdsCache.get(id);
+        if (cached != null && cached.source.isOf(version)) {
+            return cached.ids;
+        }
+        List<Target> toFilterTargets = this.getTargets(id);
+        if (cached != null && cached.source.isOf(toFilterTargets)) {
+            cache(this.workerIdsCache, id, new WorkerIds(new Source(version, toFilterTargets), cached.ids));
+            return cached.ids;
+        }
+        Set<String> ids = toFilterTargets.stream().map(Target::workerId).collect(Collectors.toSet());
+        cache(this.workerIdsCache, id, new WorkerIds(new Source(version, toFilterTargets), ids));
+        return ids;
     }
 
     private List<Target> getTargets(UniqueFitableId id) {
         return this.targetLocator.lookup(id);
     }
+
+    /**
+     * 表示候选地址列表的缓存键，由服务实现和影响环境及通信协议过滤结果的调用配置组成。
+     */
+    private static final class CandidateKey {
+        private final UniqueFitableId id;
+        private final Method method;
+        private final String localWorkerId;
+        private final String specifiedEnvironment;
+        private final List<String> environmentPrioritySequence;
+        private final CommunicationProtocol protocol;
+        private final SerializationFormat format;
+        private final int hash;
+
+        private CandidateKey(UniqueFitableId id, Method method, InvocationContext context) {
+            this.id = id;
+            this.method = method;
+            this.localWorkerId = context.localWorkerId();
+            this.specifiedEnvironment = context.specifiedEnvironment();
+            this.environmentPrioritySequence = context.environmentPrioritySequence();
+            this.protocol = context.protocol();
+            this.format = context.format();
+            this.hash = Objects.hash(this.id,
+                    this.method,
+                    this.localWorkerId,
+                    this.specifiedEnvironment,
+                    this.environmentPrioritySequence,
+                    this.protocol,
+                    this.format);
+        }
+
+        @Override
+        public boolean equals(Object another) {
+            if (this == another) {
+                return true;
+            }
+            if (!(another instanceof CandidateKey)) {
+                return false;
+            }
+            CandidateKey that = (CandidateKey) another;
+            return this.hash == that.hash && Objects.equals(this.id, that.id) && this.method == that.method
+                    && Objects.equals(this.localWorkerId, that.localWorkerId)
+                    && Objects.equals(this.specifiedEnvironment, that.specifiedEnvironment)
+                    && Objects.equals(this.environmentPrioritySequence, that.environmentPrioritySequence)
+                    && this.protocol == that.protocol && this.format == that.format;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * 表示缓存的结果所依据的地址列表。
+     * <p>地址定位服务支持版本时通过版本判断地址列表是否变化，否则通过地址列表的实例判断。</p>
+     */
+    private static final class Source {
+        private final long version;
+        private final List<Target> targets;
+
+        private Source(long version, List<Target> targets) {
+            this.version = version;
+            this.targets = targets;
+        }
+
+        private boolean isOf(long version) {
+            return this.version >= 0 && this.version == version;
+        }
+
+        private boolean isOf(List<Target> targets) {
+            return this.targets == targets;
+        }
+    }
+
+    /**
+     * 表示缓存的候选地址列表。
+     */
+    private static final class Candidates {
+        private final Source source;
+        private final List<Target> targets;
+
+        private Candidates(Source source, List<Target> targets) {
+            this.source = source;
+            this.targets = targets;
+        }
+    }
+
+    /**
+     * 表示缓存的地址列表中的进程唯一标识集合。
+     */
+    private static final class WorkerIds {
+        private final Source source;
+        private final Set<String> ids;
+
+        private WorkerIds(Source source, Set<String> ids) {
+            this.source = source;
+            this.ids = ids;
+        }
+    }
 }
@@ -23,6 +23,9 @@ import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
@@ -32,17 +35,19 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * {@link TargetLocator} 的默认实现。
+ * <p>地址列表取决于注册中心缓存的服务地址信息和当前已经启动的插件，因此地址列表的版本由插件变化的次数和注册中心的版本组成。</p>
  *
  * @author 梁济时
  * @author 张越
  * @author 季聿阶
  * @since 2020-09-02
  */
-public class DefaultTargetLocator implements TargetLocator {
+public class DefaultTargetLocator implements TargetLocator, PluginStartedObserver, PluginStoppedObserver {
     private static final Logger log = Logger.get(DefaultTargetLocator.class);
 
     private final BeanContainer container;
@@ -50,6 +55,7 @@ public class DefaultTargetLocator implements TargetLocator {
 
     private final WorkerConfig worker;
     private final List<MatataConfig.Registry.AvailableService> registryServices;
+    private final AtomicLong pluginVersion = new AtomicLong();
 
     /**
      * 使用指定的容器、工作进程配置和可直接调用服务列表初始化 {@link DefaultTargetLocator} 的新实例。
@@ -82,6 +88,29 @@ public class DefaultTargetLocator implements TargetLocator {
         return this.getFitableTargets(id);
     }
 
+    @Override
+    public long version() {
+        long registryVersion = this.container.lookup(Registry.class)
+                .map(BeanFactory::<Registry>get)
+                .map(Registry::version)
+                .orElse(0L);
+        if (registryVersion < 0) {
+            return -1;
+        }
+        // 插件变化次数放在高位，注册中心的版本放在低位，插件变化后注册中心被替换导致其版本重新计数时，版本也不会重复。
+        return (this.pluginVersion.get() << 32) + registryVersion;
+    }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        this.pluginVersion.incrementAndGet();
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        this.pluginVersion.incrementAndGet();
+    }
+
     private boolean isRegistryFitable(UniqueFitableId id) {
         return this.registryServices.stream().anyMatch(service -> Objects.equals(service.toUniqueId(), id));
     }
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -25,8 +25,8 @@ public class GenericRemoteFitableExecutor extends RemoteFitableExecutor {
     private static final Format DEFAULT =
             Format.custom().name(SerializationFormat.JSON.name()).code(SerializationFormat.JSON.code()).build();
 
-    GenericRemoteFitableExecutor(BeanContainer container) {
-        super(container);
+    GenericRemoteFitableExecutor(BeanContainer container, RemoteClientCache clients) {
+        super(container, clients);
     }
 
     @Override
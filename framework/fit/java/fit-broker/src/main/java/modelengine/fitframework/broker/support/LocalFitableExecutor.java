@@ -26,8 +26,9 @@ import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -36,6 +37,7 @@ import java.util.stream.Stream;
 
 /**
  * 表示本地调用的执行器。
+ * <p>参数校验所需的类型信息在创建执行器时预先准备好，别名在第一次获取时解析并缓存，调用时不再重复解析方法的参数和注解。</p>
  *
  * @author 季聿阶
  * @since 2023-03-24
@@ -46,6 +48,10 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
     private final BeanMetadata metadata;
     private final LazyLoader<Object> targetLoader;
     private final Method method;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] argumentTypes;
+    private final List<String> parameterTypeNames;
+    private final LazyLoader<Set<String>> aliasesLoader;
 
     /**
      * 使用指定的标识、微服务标志、元数据、实现所在 Bean 的提供者和方法初始化 {@link LocalFitableExecutor} 的新实例。
@@ -64,6 +70,12 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
         this.metadata = notNull(metadata, "The bean metadata cannot be null.");
         this.targetLoader = new LazyLoader<>(notNull(targetSupplier, "The target supplier cannot be null."));
         this.method = notNull(method, "The method cannot be null.");
+        this.parameterTypes = method.getParameterTypes();
+        this.argumentTypes = Stream.of(this.parameterTypes)
+                .map(ReflectionUtils::ignorePrimitiveClass)
+                .toArray(Class<?>[]::new);
+        this.parameterTypeNames = Stream.of(this.parameterTypes).map(Class::getName).collect(Collectors.toList());
+        this.aliasesLoader = new LazyLoader<>(this::resolveAliases);
     }
 
     @Override
@@ -73,6 +85,10 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
 
     @Override
     public Set<String> aliases() {
+        return this.aliasesLoader.get();
+    }
+
+    private Set<String> resolveAliases() {
         Set<String> originAliases = new HashSet<>(this.metadata.aliases());
         if (!StringUtils.startsWithIgnoreCase(this.metadata.name(), BeanFactoryResolver.DEFAULT_BEAN_NAME_PREFIX)) {
             originAliases.add(this.metadata.name());
@@ -83,7 +99,7 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
             Alias[] aliases = annotations.getAnnotationsByType(Alias.class);
             Stream.of(aliases).filter(Objects::nonNull).map(Alias::value).forEach(originAliases::add);
         }
-        return originAliases;
+        return Collections.unmodifiableSet(originAliases);
     }
 
     @Override
@@ -110,8 +126,7 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
             Thread.currentThread().setContextClassLoader(this.metadata.container().plugin().pluginClassLoader());
             result = ReflectionUtils.invoke(this.targetLoader.get(), this.method, args);
         } catch (MethodInvocationException e) {
-            Throwable cause = e.getCause();
-            throw FitException.wrap(cause, this.id.genericableId(), this.id.fitableId());
+            throw FitException.wrap(e.getCause(), this.id.genericableId(), this.id.fitableId());
         } catch (Throwable e) {
             throw FitException.wrap(e, this.id.genericableId(), this.id.fitableId());
         } finally {
@@ -130,19 +145,18 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
     }
 
     private void validateParams(Object[] args) {
-        Parameter[] parameters = this.method.getParameters();
         int actualArgLen = args == null ? 0 : args.length;
-        int expectedArgLen = parameters.length;
+        int expectedArgLen = this.parameterTypes.length;
         Validation.equals(actualArgLen,
                 expectedArgLen,
                 "Argument number mismatch. [argumentTypes={0}]",
-                Stream.of(parameters).map(Parameter::getType).map(Class::getName).collect(Collectors.toList()));
+                this.parameterTypeNames);
         for (int i = 0; i < actualArgLen; i++) {
             Object actualArg = args[i];
             if (actualArg == null) {
                 continue;
             }
-            Class<?> expected = ReflectionUtils.ignorePrimitiveClass(parameters[i].getType());
+            Class<?> expected = this.argumentTypes[i];
             Class<?> actual = actualArg.getClass();
             if (expected.isAssignableFrom(actual)) {
                 continue;
@@ -150,8 +164,8 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
             throw new IllegalArgumentException(StringUtils.format(
                     "Argument[{0}] mismatch. [expectedArgumentType={1}, actualArgumentType={2}]",
                     i,
-                    parameters[i].getType().getName(),
+                    this.parameterTypes[i].getName(),
                     actualArg.getClass().getName()));
         }
     }
-}
\ No newline at end of file
+}
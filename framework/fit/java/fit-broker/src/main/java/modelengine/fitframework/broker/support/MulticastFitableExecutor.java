@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -15,15 +15,33 @@ import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.TaskDecorator;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
  * 表示 {@link FitableExecutor} 的多播调用实现。
+ * <p>当存在多个目标地址时，本地目标地址和第一个目标地址在当前线程中调用，以保留当前线程中的上下文（例如事务），
+ * 其余远程目标地址同时提交到有界的线程池中调用，因此整体耗时取决于最慢的目标地址，而不是所有目标地址耗时之和。线程池的队列已满时，或者等待结果时目标地址尚未开始调用，该目标地址在当前线程中调用，
+ * 因此即使当前线程就是线程池中的线程也不会互相等待。每个目标地址从开始调用起单独计算调用上下文中的超时时间，未设置超时时间时一直等待到调用结束，
+ * 超时或者调用失败的目标地址的结果将被忽略，其余结果按照目标地址的顺序进行聚合。</p>
+ * <p>提交到线程池中的目标地址使用当前线程的上下文类加载器调用，并依次经过容器中所有 {@link TaskDecorator} 的装饰。装饰器在当前线程中
+ * 被调用，可以在装饰时获取当前线程中的上下文（例如调用链路的追踪信息），并在线程池的线程中恢复。</p>
  *
  * @author 季聿阶
  * @since 2023-03-28
@@ -31,13 +49,26 @@ import java.util.Objects;
 public class MulticastFitableExecutor implements FitableExecutor {
     private static final Logger log = Logger.get(MulticastFitableExecutor.class);
 
+    /** 多播调用的目标大多为远程调用，线程的大部分时间在等待网络响应，因此线程数量为可用核心数的数倍。 */
+    private static final int MULTICAST_POOL_SIZE = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+    private static final int MULTICAST_QUEUE_CAPACITY = MULTICAST_POOL_SIZE * 8;
+    private static final LazyLoader<ThreadPoolExecutor> MULTICAST_POOL =
+            new LazyLoader<>(MulticastFitableExecutor::createMulticastPool);
+
     private final BeanContainer container;
     private final FitableExecutor remoteFitableExecutor;
     private final LazyLoader<LocalExecutorFactory> localExecutorFactoryLoader;
+    private final LazyLoader<ThreadPoolExecutor> poolLoader;
 
     MulticastFitableExecutor(BeanContainer container, FitableExecutor remoteFitableExecutor) {
+        this(container, remoteFitableExecutor, MULTICAST_POOL);
+    }
+
+    MulticastFitableExecutor(BeanContainer container, FitableExecutor remoteFitableExecutor,
+            LazyLoader<ThreadPoolExecutor> poolLoader) {
         this.container = container;
         this.remoteFitableExecutor = remoteFitableExecutor;
+        this.poolLoader = poolLoader;
         this.localExecutorFactoryLoader = new LazyLoader<>(() -> this.container.factory(LocalExecutorFactory.class)
                 .map(BeanFactory::<LocalExecutorFactory>get)
                 .orElseThrow(() -> new IllegalStateException("No LocalExecutorFactory.")));
@@ -45,15 +76,106 @@ public class MulticastFitableExecutor implements FitableExecutor {
 
     @Override
     public Object execute(Fitable fitable, List<Target> targets, InvocationContext context, Object[] args) {
-        return targets.stream().map(target -> {
-            try {
-                return this.execute(fitable, target, context, args);
-            } catch (Throwable e) {
-                log.warn("Failed to execute fitable executor while multicast, return null instead. [id={}]",
-                        fitable.toUniqueId());
-                return null;
+        if (targets.size() <= 1) {
+            return targets.stream()
+                    .map(target -> this.executeQuietly(fitable, target, context, args))
+                    .filter(Objects::nonNull)
+                    .reduce(context.accumulator())
+                    .orElse(null);
+        }
+        List<TaskDecorator> decorators = this.container.all(TaskDecorator.class)
+                .stream()
+                .map(BeanFactory::<TaskDecorator>get)
+                .collect(Collectors.toList());
+        List<MulticastTask> tasks = new ArrayList<>(targets.size());
+        List<MulticastTask> inlineTasks = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            Target target = targets.get(i);
+            MulticastTask task = new MulticastTask(() -> this.executeQuietly(fitable, target, context, args));
+            tasks.add(task);
+            if (i == 0 || this.isLocal(target, context)) {
+                inlineTasks.add(task);
+            } else {
+                this.submit(task, decorators);
             }
-        }).filter(Objects::nonNull).reduce(context.accumulator()).orElse(null);
+        }
+        inlineTasks.forEach(MulticastTask::run);
+        long timeout = context.timeout() > 0 ? context.timeoutUnit().toNanos(context.timeout()) : 0L;
+        List<Object> results = new ArrayList<>(targets.size());
+        for (MulticastTask task : tasks) {
+            results.add(this.await(fitable, task, timeout));
+        }
+        return results.stream().filter(Objects::nonNull).reduce(context.accumulator()).orElse(null);
+    }
+
+    private void submit(MulticastTask task, List<TaskDecorator> decorators) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Task decorated = Task.builder().runnable(() -> runWithClassLoader(task, classLoader)).build();
+        for (TaskDecorator decorator : decorators) {
+            decorated = decorator.decorate(decorated);
+        }
+        try {
+            this.poolLoader.get().execute(Task.builder(decorated).buildDisposable());
+        } catch (RejectedExecutionException e) {
+            // 队列已满时不再排队，等待结果时在当前线程中调用。
+            log.debug("The multicast pool is full, execute the target in the caller thread.");
+        }
+    }
+
+    private static void runWithClassLoader(Runnable runnable, ClassLoader classLoader) {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            runnable.run();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private Object await(Fitable fitable, MulticastTask task, long timeout) {
+        // 尚未开始调用的目标地址在当前线程中调用，已经开始调用时该方法直接返回。
+        task.run();
+        try {
+            if (timeout <= 0) {
+                return task.get();
+            }
+            return task.get(Math.max(task.startNanos() + timeout - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            log.warn("Timeout to execute fitable executor while multicast, return null instead. [id={}]",
+                    fitable.toUniqueId());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(true);
+            return null;
+        } catch (ExecutionException | CancellationException e) {
+            log.warn("Failed to execute fitable executor while multicast, return null instead. [id={}]",
+                    fitable.toUniqueId());
+            return null;
+        }
+    }
+
+    private Object executeQuietly(Fitable fitable, Target target, InvocationContext context, Object[] args) {
+        try {
+            return this.execute(fitable, target, context, args);
+        } catch (Throwable e) {
+            log.warn("Failed to execute fitable executor while multicast, return null instead. [id={}]",
+                    fitable.toUniqueId());
+            return null;
+        }
+    }
+
+    private static ThreadPoolExecutor createMulticastPool() {
+        return ThreadPoolExecutor.custom()
+                .threadPoolName("multicast-fitable")
+                .isDaemonThread(true)
+                .corePoolSize(MULTICAST_POOL_SIZE)
+                .maximumPoolSize(MULTICAST_POOL_SIZE)
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(MULTICAST_QUEUE_CAPACITY)
+                .build();
     }
 
     private Object execute(Fitable fitable, Target target, InvocationContext context, Object[] args) {
@@ -71,4 +193,28 @@ public class MulticastFitableExecutor implements FitableExecutor {
     private boolean isLocal(Target target, InvocationContext context) {
         return Objects.equals(target.workerId(), context.localWorkerId());
     }
+
+    /**
+     * 表示调用一个目标地址的任务，线程池和等待结果的线程中只有一个会真正调用，并记录开始调用的时间。
+     */
+    private static final class MulticastTask extends FutureTask<Object> {
+        private volatile long startNanos;
+
+        private MulticastTask(Callable<Object> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            if (this.startNanos == 0L && !this.isDone()) {
+                this.startNanos = System.nanoTime();
+            }
+            super.run();
+        }
+
+        private long startNanos() {
+            long start = this.startNanos;
+            return start == 0L ? System.nanoTime() : start;
+        }
+    }
 }
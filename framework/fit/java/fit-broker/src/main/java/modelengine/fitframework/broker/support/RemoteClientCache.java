@@ -0,0 +1,65 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import modelengine.fit.client.Client;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表示按照通信协议缓存的远程调用客户端。
+ * <p>客户端由插件提供，因此在插件启动或者停止时需要调用 {@link #clear()} 清空缓存，下一次调用时重新从容器中查找。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+final class RemoteClientCache {
+    private final BeanContainer container;
+    private final Map<String, Client> clients = new ConcurrentHashMap<>();
+
+    /**
+     * 使用指定的容器初始化 {@link RemoteClientCache} 的新实例。
+     *
+     * @param container 表示查找客户端的容器的 {@link BeanContainer}。
+     */
+    RemoteClientCache(BeanContainer container) {
+        this.container = container;
+    }
+
+    /**
+     * 获取支持指定通信协议的客户端。
+     *
+     * @param protocol 表示通信协议的 {@link String}。
+     * @return 表示支持指定通信协议的客户端的 {@link Client}。
+     * @throws IllegalStateException 当容器中没有支持指定通信协议的客户端时。
+     */
+    Client get(String protocol) {
+        return this.clients.computeIfAbsent(protocol, this::requireClient);
+    }
+
+    /**
+     * 清空缓存的客户端。
+     */
+    void clear() {
+        this.clients.clear();
+    }
+
+    private Client requireClient(String protocol) {
+        return this.container.all(Client.class)
+                .stream()
+                .map(BeanFactory::<Client>get)
+                .filter(client -> client.getSupportedProtocols().contains(protocol))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "No supported client at localhost. [protocol={0}]",
+                        protocol)));
+    }
+}
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -22,8 +22,10 @@ import modelengine.fitframework.broker.FitExceptionCreator;
 import modelengine.fitframework.broker.Fitable;
 import modelengine.fitframework.broker.FitableExecutor;
 import modelengine.fitframework.broker.Format;
+import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.InvocationContext;
 import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.client.filter.loadbalance.LeastLatencyFilter;
 import modelengine.fitframework.conf.runtime.MatataConfig;
 import modelengine.fitframework.exception.FitException;
 import modelengine.fitframework.ioc.BeanContainer;
@@ -40,8 +42,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.time.Instant;
-import java.util.Collections;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -56,6 +56,9 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
     private static final Logger log = Logger.get(RemoteFitableExecutor.class);
 
     private final BeanContainer container;
+    private final RemoteClientCache clients;
+    private final LeastLatencyFilter latencyStatistics;
+    private volatile InvocationPlan plan;
     private final LazyLoader<FitExceptionCreator> exceptionCreatorLoader = new LazyLoader<>(this::getExceptionCreator);
     private final LazyLoader<RegisterAuthService> requireRegisterAuthService =
             new LazyLoader<>(this::requireRegisterAuthService);
@@ -63,7 +66,17 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
     private final LazyLoader<Boolean> isAccessEnable = new LazyLoader<>(this::isAccessEnable);
 
     RemoteFitableExecutor(BeanContainer container) {
+        this(container, new RemoteClientCache(container));
+    }
+
+    RemoteFitableExecutor(BeanContainer container, RemoteClientCache clients) {
+        this(container, clients, LeastLatencyFilter.INSTANCE);
+    }
+
+    RemoteFitableExecutor(BeanContainer container, RemoteClientCache clients, LeastLatencyFilter latencyStatistics) {
         this.container = container;
+        this.clients = clients;
+        this.latencyStatistics = latencyStatistics;
     }
 
     @Override
@@ -71,15 +84,15 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         this.validateTarget(fitable, target);
         log.debug("Prepare to invoke remote fitable. [id={}, target={}]", fitable.toUniqueId(), target);
         Format format = this.chooseFormat(target);
-        RequestMetadata requestMetadataBytes = this.getRequestMetadataBytes(format, fitable);
-        Method method = fitable.genericable().method().method();
-        Response response = this.requestResponse(target, context, requestMetadataBytes, args, method);
+        InvocationPlan invocationPlan = this.getInvocationPlan(fitable);
+        RequestMetadata requestMetadataBytes = this.getRequestMetadataBytes(format, fitable, invocationPlan);
+        Response response = this.requestResponse(fitable, target, context, requestMetadataBytes, args, invocationPlan);
         if (this.isTokenValid(response.metadata())) {
             this.requireRegisterAuthService.get().refreshToken(Instant.now());
             requestMetadataBytes = requestMetadataBytes.copy()
                     .accessToken(this.requireRegisterAuthService.get().getToken().getAccessToken().getToken())
                     .build();
-            response = this.requestResponse(target, context, requestMetadataBytes, args, method);
+            response = this.requestResponse(fitable, target, context, requestMetadataBytes, args, invocationPlan);
         }
         if (this.isSuccess(response.metadata())) {
             log.debug("Invoke remote fitable successfully. [id={}, target={}]", fitable.toUniqueId(), target);
@@ -126,6 +139,10 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
      * @return 表示请求元数据的 {@link RequestMetadata}。
      */
     protected RequestMetadata getRequestMetadataBytes(Format format, Fitable fitable) {
+        return this.getRequestMetadataBytes(format, fitable, this.getInvocationPlan(fitable));
+    }
+
+    private RequestMetadata getRequestMetadataBytes(Format format, Fitable fitable, InvocationPlan invocationPlan) {
         String token =
                 this.isAccessEnable.get() && this.requireMatataGenericables.get().contains(fitable.genericable().id())
                         ? this.requireRegisterAuthService.get().getToken().getAccessToken().getToken()
@@ -133,27 +150,28 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         return RequestMetadata.custom()
                 .dataFormat(valueFormat(format.code()))
                 .genericableId(fitable.genericable().id())
-                .genericableVersion(Version.builder(fitable.genericable().version()).build())
+                .genericableVersion(invocationPlan.genericableVersion)
                 .fitableId(fitable.id())
-                .fitableVersion(Version.builder(fitable.version()).build())
+                .fitableVersion(invocationPlan.fitableVersion)
                 .tagValues(this.getTlvFromSerializers())
                 .accessToken(token)
                 .build();
     }
 
-    private static byte valueFormat(int format) {
-        return (byte) (format & 0xFF);
+    private InvocationPlan getInvocationPlan(Fitable fitable) {
+        Genericable genericable = fitable.genericable();
+        InvocationPlan current = this.plan;
+        if (current != null && current.genericable == genericable
+                && current.method == genericable.method().method()) {
+            return current;
+        }
+        current = new InvocationPlan(this, fitable);
+        this.plan = current;
+        return current;
     }
 
-    private Client requireClient(String protocol) {
-        return this.container.all(Client.class)
-                .stream()
-                .map(BeanFactory::<Client>get)
-                .filter(client -> client.getSupportedProtocols().contains(protocol))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
-                        "No supported client at localhost. [protocol={0}]",
-                        protocol)));
+    private static byte valueFormat(int format) {
+        return (byte) (format & 0xFF);
     }
 
     private RegisterAuthService requireRegisterAuthService() {
@@ -192,10 +210,8 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
     }
 
     private TagLengthValues getTlvFromSerializers() {
-        Map<Integer, byte[]> tlvMaps = Collections.emptyMap();
-        TagLengthValues result = TagLengthValues.create();
-        result.putTags(tlvMaps);
-        return result;
+        // 客户端会向扩展字段中写入进程信息，因此每次调用都需要使用新的扩展字段。
+        return TagLengthValues.create();
     }
 
     private boolean isSuccess(ResponseMetadata responseMetadata) {
@@ -206,25 +222,35 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         return responseMetadata.code() == AuthenticationException.CODE;
     }
 
-    private Response requestResponse(Target target, InvocationContext context, RequestMetadata metadata, Object[] args,
-            Method method) {
+    private Response requestResponse(Fitable fitable, Target target, InvocationContext context,
+            RequestMetadata metadata, Object[] args, InvocationPlan invocationPlan) {
         Endpoint endpoint = target.endpoints().iterator().next();
         Address address = Address.create(target.host(), endpoint.port());
         RequestContext requestContext = RequestContext.create(context.timeout(),
                 context.timeoutUnit(),
                 context.communicationType(),
                 target.extensions());
-        Type[] argumentTypes = this.getGenericParameterTypes(method, args);
         Request request = Request.custom()
                 .protocol(endpoint.protocol())
                 .address(address)
                 .metadata(metadata)
-                .dataTypes(argumentTypes)
+                .dataTypes(invocationPlan.getParameterTypes(this, args))
                 .data(args)
-                .returnType(this.getGenericReturnType(method))
+                .returnType(invocationPlan.returnType)
                 .context(requestContext)
                 .build();
-        return this.requireClient(endpoint.protocol()).requestResponse(request);
+        Client client = this.clients.get(endpoint.protocol());
+        // 只有通信失败才计入地址的失败率，服务实现返回的业务异常不代表地址不健康。
+        this.latencyStatistics.onStart(fitable, target);
+        long start = System.nanoTime();
+        boolean isSuccess = false;
+        try {
+            Response response = client.requestResponse(request);
+            isSuccess = true;
+            return response;
+        } finally {
+            this.latencyStatistics.onComplete(fitable, target, System.nanoTime() - start, isSuccess);
+        }
     }
 
     /**
@@ -247,4 +273,39 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
     protected Type getGenericReturnType(Method method) {
         return method.getGenericReturnType();
     }
-}
\ No newline at end of file
+
+    /**
+     * 表示服务实现的远程调用计划。
+     * <p>缓存每次调用时都相同的信息，包括版本号、参数类型和返回值类型，避免每次调用时重复解析和反射。</p>
+     */
+    private static final class InvocationPlan {
+        private final Genericable genericable;
+        private final Method method;
+        private final Version genericableVersion;
+        private final Version fitableVersion;
+        private final Type[] parameterTypes;
+        private final Type returnType;
+
+        private InvocationPlan(RemoteFitableExecutor executor, Fitable fitable) {
+            this.genericable = fitable.genericable();
+            this.method = this.genericable.method().method();
+            this.genericableVersion = Version.builder(this.genericable.version()).build();
+            this.fitableVersion = Version.builder(fitable.version()).build();
+            if (this.method == null) {
+                this.parameterTypes = null;
+                this.returnType = null;
+            } else {
+                this.parameterTypes =
+                        executor.getGenericParameterTypes(this.method, new Object[this.method.getParameterCount()]);
+                this.returnType = executor.getGenericReturnType(this.method);
+            }
+        }
+
+        private Type[] getParameterTypes(RemoteFitableExecutor executor, Object[] args) {
+            if (this.parameterTypes != null && args != null && args.length == this.parameterTypes.length) {
+                return this.parameterTypes;
+            }
+            return executor.getGenericParameterTypes(this.method, args);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.client.Client;
+import modelengine.fitframework.broker.Endpoint;
+import modelengine.fitframework.broker.Format;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.SerializationService;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.TargetLocator;
+import modelengine.fitframework.broker.client.Invoker;
+import modelengine.fitframework.broker.client.TargetNotFoundException;
+import modelengine.fitframework.conf.runtime.CommunicationProtocol;
+import modelengine.fitframework.conf.runtime.SerializationFormat;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.plugin.Plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 表示 {@link DefaultLoadBalancer} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 DefaultLoadBalancer 类")
+class DefaultLoadBalancerTest {
+    private static final int TARGET_NUM = 1000;
+
+    private SerializationService serializationService;
+    private TargetLocator targetLocator;
+    private DefaultLoadBalancer loadBalancer;
+    private DefaultFitable fitable;
+    private InvocationContext context;
+
+    /**
+     * 表示测试使用的服务接口。
+     */
+    interface EchoService {
+        String echo(String value);
+    }
+
+    @BeforeEach
+    void setup() throws NoSuchMethodException {
+        Client client = mock(Client.class);
+        when(client.getSupportedProtocols()).thenReturn(Collections.singleton("http"));
+        BeanFactory clientFactory = mock(BeanFactory.class);
+        when(clientFactory.get()).thenReturn(client);
+        BeanContainer container = mock(BeanContainer.class);
+        when(container.all(Client.class)).thenReturn(Collections.singletonList(clientFactory));
+        this.serializationService = mock(SerializationService.class);
+        when(this.serializationService.getSupportedFormats(any())).thenReturn(Collections.singletonList(1));
+        this.targetLocator = mock(TargetLocator.class);
+        this.loadBalancer = new DefaultLoadBalancer(container, this.serializationService, this.targetLocator);
+        this.fitable = new DefaultFitable(null, null, null, "f", "1.0.0");
+        DefaultGenericable genericable = new DefaultGenericable(null, "g", "1.0.0");
+        genericable.method(EchoService.class.getDeclaredMethod("echo", String.class));
+        this.fitable.genericable(genericable);
+        this.context = mock(InvocationContext.class);
+        when(this.context.localWorkerId()).thenReturn("local");
+        when(this.context.environmentPrioritySequence()).thenReturn(Collections.singletonList("env"));
+        when(this.context.protocol()).thenReturn(CommunicationProtocol.UNKNOWN);
+        when(this.context.format()).thenReturn(SerializationFormat.UNKNOWN);
+        when(this.context.loadBalanceFilter()).thenReturn(Invoker.Filter.empty());
+        when(this.context.loadBalanceWith()).thenReturn(Collections.emptyList());
+        when(this.context.filterExtensions()).thenReturn(Collections.emptyMap());
+    }
+
+    private static List<Target> targets(String prefix, int num) {
+        List<Target> targets = new ArrayList<>(num);
+        for (int i = 0; i < num; i++) {
+            targets.add(Target.custom()
+                    .workerId(prefix + i)
+                    .host("127.0.0.1")
+                    .environment("env")
+                    .endpoints(Collections.singletonList(Endpoint.custom().protocol("http", 2).port(8080).build()))
+                    .formats(Collections.singletonList(Format.custom().name("json").code(1).build()))
+                    .build());
+        }
+        return targets;
+    }
+
+    @Test
+    @DisplayName("当地址列表的版本没有变化时，只执行一次环境和通信协议的过滤")
+    void shouldFilterOnceWhenVersionUnchanged() {
+        when(this.targetLocator.version()).thenReturn(1L);
+        when(this.targetLocator.lookup(any())).thenAnswer(invocation -> targets("w", TARGET_NUM));
+        for (int i = 0; i < TARGET_NUM; i++) {
+            assertThat(this.loadBalancer.balance(this.fitable, this.context, new Object[0])).hasSize(TARGET_NUM);
+        }
+        verify(this.targetLocator, times(1)).lookup(any());
+        verify(this.serializationService, times(TARGET_NUM)).getSupportedFormats(any());
+    }
+
+    @Test
+    @DisplayName("当地址列表的版本发生变化时，重新过滤地址")
+    void shouldRefilterWhenVersionChanged() {
+        when(this.targetLocator.version()).thenReturn(1L, 1L, 2L);
+        when(this.targetLocator.lookup(any())).thenReturn(targets("w", 2), targets("n", 3));
+        assertThat(this.loadBalancer.balance(this.fitable, this.context, new Object[0])).hasSize(2);
+        assertThat(this.loadBalancer.balance(this.fitable, this.context, new Object[0])).hasSize(2);
+        verify(this.serializationService, times(2)).getSupportedFormats(any());
+        List<Target> actual = this.loadBalancer.balance(this.fitable, this.context, new Object[0]);
+        assertThat(actual).extracting(Target::workerId).containsExactly("n0", "n1", "n2");
+        verify(this.serializationService, times(5)).getSupportedFormats(any());
+    }
+
+    @Test
+    @DisplayName("当地址定位服务不支持版本时，只有地址列表实例发生变化才重新过滤地址")
+    void shouldRefilterWhenTargetsInstanceChanged() {
+        List<Target> targets = targets("w", 2);
+        when(this.targetLocator.version()).thenReturn(-1L);
+        when(this.targetLocator.lookup(any())).thenReturn(targets, targets, targets("w", 2));
+        assertThat(this.loadBalancer.balance(this.fitable, this.context, new Object[0])).hasSize(2);
+        assertThat(this.loadBalancer.balance(this.fitable, this.context, new Object[0])).hasSize(2);
+        verify(this.serializationService, times(2)).getSupportedFormats(any());
+        assertThat(this.loadBalancer.balance(this.fitable, this.context, new Object[0])).hasSize(2);
+        verify(this.serializationService, times(4)).getSupportedFormats(any());
+    }
+
+    @Test
+    @DisplayName("当插件发生变化时，清空缓存的候选地址列表")
+    void shouldRefilterWhenPluginChanged() {
+        when(this.targetLocator.version()).thenReturn(1L);
+        when(this.targetLocator.lookup(any())).thenAnswer(invocation -> targets("w", 2));
+        assertThat(this.loadBalancer.balance(this.fitable, this.context, new Object[0])).hasSize(2);
+        this.loadBalancer.onPluginStopped(mock(Plugin.class));
+        assertThat(this.loadBalancer.balance(this.fitable, this.context, new Object[0])).hasSize(2);
+        verify(this.serializationService, times(4)).getSupportedFormats(any());
+    }
+
+    @Test
+    @DisplayName("当调用配置发生变化时，重新过滤地址")
+    void shouldRefilterWhenConfigChanged() {
+        when(this.targetLocator.lookup(any())).thenAnswer(invocation -> targets("w", 2));
+        assertThat(this.loadBalancer.balance(this.fitable, this.context, new Object[0])).hasSize(2);
+        when(this.context.format()).thenReturn(SerializationFormat.CBOR);
+        assertThatThrownBy(() -> this.loadBalancer.balance(this.fitable, this.context, new Object[0])).isInstanceOf(
+                TargetNotFoundException.class);
+    }
+}
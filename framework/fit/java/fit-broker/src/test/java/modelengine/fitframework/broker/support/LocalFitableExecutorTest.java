@@ -0,0 +1,148 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.ioc.BeanMetadata;
+import modelengine.fitframework.ioc.annotation.AnnotationMetadata;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 表示 {@link LocalFitableExecutor} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 LocalFitableExecutor 类")
+class LocalFitableExecutorTest {
+    private static final UniqueFitableId ID = UniqueFitableId.create("g", "1.0.0", "f", "1.0.0");
+
+    private BeanMetadata metadata;
+
+    /**
+     * 表示测试使用的服务实现。
+     */
+    static class Service {
+        int add(int first, long second) {
+            return (int) (first + second);
+        }
+
+        String join(String separator, String... values) {
+            return String.join(separator, values);
+        }
+
+        static String upper(String value) {
+            return value.toUpperCase();
+        }
+
+        void fail(String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        this.metadata = mock(BeanMetadata.class, RETURNS_DEEP_STUBS);
+        when(this.metadata.container().plugin().pluginClassLoader()).thenReturn(this.getClass().getClassLoader());
+    }
+
+    private LocalFitableExecutor executor(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        Method method = Service.class.getDeclaredMethod(name, parameterTypes);
+        return new LocalFitableExecutor(ID, false, this.metadata, Service::new, method);
+    }
+
+    @Test
+    @DisplayName("当参数为基本类型时，自动拆箱并返回包装类型的结果")
+    void shouldUnboxPrimitiveArguments() throws NoSuchMethodException {
+        LocalFitableExecutor executor = this.executor("add", int.class, long.class);
+        assertThat(executor.execute(new Object[] {1, 2L})).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("当基本类型参数为 null 时，抛出包装了参数异常的 FitException")
+    void shouldThrowWhenPrimitiveArgumentIsNull() throws NoSuchMethodException {
+        LocalFitableExecutor executor = this.executor("add", int.class, long.class);
+        assertThatThrownBy(() -> executor.execute(new Object[] {1, null})).isInstanceOf(FitException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("当参数类型不匹配时，直接抛出参数异常")
+    void shouldThrowWhenArgumentTypeMismatch() throws NoSuchMethodException {
+        LocalFitableExecutor executor = this.executor("add", int.class, long.class);
+        assertThatThrownBy(() -> executor.execute(new Object[] {1, "2"})).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Argument[1] mismatch.");
+        assertThatThrownBy(() -> executor.execute(new Object[] {1})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("当方法为可变参数方法时，可变参数以数组的形式传递")
+    void shouldPassArrayToVarargs() throws NoSuchMethodException {
+        LocalFitableExecutor executor = this.executor("join", String.class, String[].class);
+        assertThat(executor.execute(new Object[] {",", new String[] {"a", "b"}})).isEqualTo("a,b");
+        assertThat(executor.execute(new Object[] {",", new String[0]})).isEqualTo("");
+    }
+
+    @Test
+    @DisplayName("当方法为静态方法时，正常调用")
+    void shouldInvokeStaticMethod() throws NoSuchMethodException {
+        LocalFitableExecutor executor = this.executor("upper", String.class);
+        assertThat(executor.execute(new Object[] {"fit"})).isEqualTo("FIT");
+    }
+
+    @Test
+    @DisplayName("当方法抛出异常时，抛出直接包装了原始异常的 FitException")
+    void shouldUnwrapExceptionThrownByMethod() throws NoSuchMethodException {
+        LocalFitableExecutor executor = this.executor("fail", String.class);
+        assertThatThrownBy(() -> executor.execute(new Object[] {"boom"})).isInstanceOf(FitException.class)
+                .hasMessage("boom")
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("当获取实现所在的 Bean 失败时，抛出包装了原始异常的 FitException")
+    void shouldWrapExceptionThrownByTargetLoader() throws NoSuchMethodException {
+        Method method = Service.class.getDeclaredMethod("upper", String.class);
+        LocalFitableExecutor executor = new LocalFitableExecutor(ID, false, this.metadata, () -> {
+            throw new IllegalStateException("no bean");
+        }, method);
+        assertThatThrownBy(() -> executor.execute(new Object[] {"fit"})).isInstanceOf(FitException.class)
+                .hasMessage("no bean")
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("当多次获取别名时，只解析一次注解")
+    void shouldResolveAliasesOnce() throws NoSuchMethodException {
+        AnnotationMetadata annotations = mock(AnnotationMetadata.class);
+        when(this.metadata.container().runtime().resolverOfAnnotations().resolve(any())).thenReturn(annotations);
+        when(this.metadata.aliases()).thenReturn(Collections.singleton("alias"));
+        when(this.metadata.name()).thenReturn("service");
+        LocalFitableExecutor executor = this.executor("upper", String.class);
+        Set<String> aliases = executor.aliases();
+        assertThat(aliases).containsExactlyInAnyOrder("alias", "service");
+        assertThat(executor.aliases()).isSameAs(aliases);
+        verify(annotations, times(1)).isAnnotationPresent(any());
+    }
+}
@@ -0,0 +1,231 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.FitableExecutor;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.LocalExecutor;
+import modelengine.fitframework.broker.LocalExecutorFactory;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.TaskDecorator;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.util.LazyLoader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示 {@link MulticastFitableExecutor} 的单元测试。
+ * <p>远程调用通过按照目标地址休眠指定时间的执行器模拟。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 MulticastFitableExecutor 类")
+class MulticastFitableExecutorTest {
+    private static final long DELAY = 300L;
+
+    private Fitable fitable;
+    private InvocationContext context;
+
+    @BeforeEach
+    void setup() {
+        this.fitable = mock(Fitable.class);
+        when(this.fitable.toUniqueId()).thenReturn(UniqueFitableId.create("g", "1.0.0", "f", "1.0.0"));
+        this.context = mock(InvocationContext.class);
+        when(this.context.localWorkerId()).thenReturn("local");
+        when(this.context.timeout()).thenReturn(3000L);
+        when(this.context.timeoutUnit()).thenReturn(TimeUnit.MILLISECONDS);
+        when(this.context.accumulator()).thenReturn((first, second) -> first + "," + second);
+    }
+
+    private static List<Target> targets(String... workerIds) {
+        return Arrays.stream(workerIds).map(workerId -> Target.custom().workerId(workerId).build()).toList();
+    }
+
+    private static FitableExecutor remote(Map<String, Long> delays) {
+        return (fitable, targets, context, args) -> {
+            String workerId = targets.get(0).workerId();
+            try {
+                Thread.sleep(delays.getOrDefault(workerId, DELAY));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (workerId.startsWith("failed")) {
+                throw new IllegalStateException("Remote failure.");
+            }
+            return workerId;
+        };
+    }
+
+    @Test
+    @DisplayName("当存在多个目标地址时，总耗时接近最慢的目标地址而不是所有目标地址之和")
+    void shouldExecuteTargetsInParallel() {
+        MulticastFitableExecutor executor = new MulticastFitableExecutor(mock(BeanContainer.class), remote(Map.of()));
+        long start = System.nanoTime();
+        Object result = executor.execute(this.fitable, targets("w1", "w2", "w3", "w4"), this.context, new Object[0]);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(result).isEqualTo("w1,w2,w3,w4");
+        assertThat(elapsed).isLessThan(DELAY * 3);
+    }
+
+    @Test
+    @DisplayName("当部分目标地址调用失败时，忽略失败的结果")
+    void shouldSkipFailedTargets() {
+        MulticastFitableExecutor executor = new MulticastFitableExecutor(mock(BeanContainer.class), remote(Map.of()));
+        Object result = executor.execute(this.fitable, targets("w1", "failed", "w3"), this.context, new Object[0]);
+        assertThat(result).isEqualTo("w1,w3");
+    }
+
+    @Test
+    @DisplayName("当部分目标地址调用超时时，在超时时间内返回其余结果")
+    void shouldReturnWithinTimeoutWhenTargetIsSlow() {
+        when(this.context.timeout()).thenReturn(DELAY * 2);
+        MulticastFitableExecutor executor =
+                new MulticastFitableExecutor(mock(BeanContainer.class), remote(Map.of("slow", DELAY * 20)));
+        long start = System.nanoTime();
+        Object result = executor.execute(this.fitable, targets("w1", "slow", "w3"), this.context, new Object[0]);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(result).isEqualTo("w1,w3");
+        assertThat(elapsed).isLessThan(DELAY * 10);
+    }
+
+    @Test
+    @DisplayName("当线程池已满时，在当前线程中调用其余目标地址")
+    void shouldExecuteInCallerThreadWhenPoolIsFull() throws Exception {
+        ThreadPoolExecutor pool = singleThreadPool();
+        try {
+            MulticastFitableExecutor executor = new MulticastFitableExecutor(mock(BeanContainer.class),
+                    remote(Map.of()),
+                    new LazyLoader<>(() -> pool));
+            Object result =
+                    executor.execute(this.fitable, targets("w1", "w2", "w3", "w4", "w5"), this.context, new Object[0]);
+            assertThat(result).isEqualTo("w1,w2,w3,w4,w5");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("当在线程池的线程中多播调用时，排队的目标地址在当前线程中调用而不会互相等待")
+    void shouldNotWaitForQueuedTargetsInPoolThread() throws Exception {
+        ThreadPoolExecutor pool = singleThreadPool();
+        try {
+            MulticastFitableExecutor executor = new MulticastFitableExecutor(mock(BeanContainer.class),
+                    remote(Map.of()),
+                    new LazyLoader<>(() -> pool));
+            Future<?> future = pool.submit(Task.builder()
+                    .callable(() -> executor.execute(this.fitable, targets("w1", "w2"), this.context, new Object[0]))
+                    .buildDisposable());
+            assertThat(future.get(DELAY * 5, TimeUnit.MILLISECONDS)).isEqualTo("w1,w2");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("当存在本地目标地址时，本地目标地址在当前线程中调用，保留当前线程中的上下文")
+    void shouldExecuteLocalTargetsInCallerThread() {
+        ThreadLocal<String> transaction = new ThreadLocal<>();
+        LocalExecutor localExecutor = mock(LocalExecutor.class);
+        when(localExecutor.execute(any())).thenAnswer(invocation -> "local:" + transaction.get());
+        LocalExecutorFactory localExecutorFactory = mock(LocalExecutorFactory.class);
+        when(localExecutorFactory.get(any())).thenReturn(Optional.of(localExecutor));
+        BeanFactory beanFactory = mock(BeanFactory.class);
+        when(beanFactory.get()).thenReturn(localExecutorFactory);
+        BeanContainer container = mock(BeanContainer.class);
+        when(container.factory(LocalExecutorFactory.class)).thenReturn(Optional.of(beanFactory));
+        MulticastFitableExecutor executor = new MulticastFitableExecutor(container, remote(Map.of()));
+        transaction.set("tx");
+        try {
+            Object result = executor.execute(this.fitable, targets("w1", "local"), this.context, new Object[0]);
+            assertThat(result).isEqualTo("w1,local:tx");
+        } finally {
+            transaction.remove();
+        }
+    }
+
+    @Test
+    @DisplayName("当未设置超时时间时，一直等待到目标地址调用结束")
+    void shouldWaitUntilDoneWhenTimeoutIsNotSet() {
+        when(this.context.timeout()).thenReturn(0L);
+        MulticastFitableExecutor executor =
+                new MulticastFitableExecutor(mock(BeanContainer.class), remote(Map.of("slow", DELAY * 12)));
+        Object result = executor.execute(this.fitable, targets("w1", "slow"), this.context, new Object[0]);
+        assertThat(result).isEqualTo("w1,slow");
+    }
+
+    @Test
+    @DisplayName("当目标地址提交到线程池中调用时，传递当前线程的上下文类加载器和任务装饰器获取的上下文")
+    void shouldPropagateCallerContextToPooledTargets() {
+        ThreadLocal<String> trace = new ThreadLocal<>();
+        TaskDecorator decorator = task -> {
+            String captured = trace.get();
+            return Task.builder().runnable(() -> {
+                trace.set(captured);
+                try {
+                    task.call();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    trace.remove();
+                }
+            }).build();
+        };
+        BeanFactory beanFactory = mock(BeanFactory.class);
+        when(beanFactory.get()).thenReturn(decorator);
+        BeanContainer container = mock(BeanContainer.class);
+        when(container.all(TaskDecorator.class)).thenReturn(List.of(beanFactory));
+        ClassLoader classLoader = new URLClassLoader(new URL[0], this.getClass().getClassLoader());
+        FitableExecutor remote = (fitable, targets, context, args) -> targets.get(0).workerId() + ":" + trace.get()
+                + ":" + (Thread.currentThread().getContextClassLoader() == classLoader);
+        MulticastFitableExecutor executor = new MulticastFitableExecutor(container, remote);
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        trace.set("trace");
+        try {
+            Object result = executor.execute(this.fitable, targets("w1", "w2", "w3"), this.context, new Object[0]);
+            assertThat(result).isEqualTo("w1:trace:true,w2:trace:true,w3:trace:true");
+        } finally {
+            trace.remove();
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static ThreadPoolExecutor singleThreadPool() {
+        return ThreadPoolExecutor.custom()
+                .threadPoolName("multicast-test")
+                .isDaemonThread(true)
+                .corePoolSize(1)
+                .maximumPoolSize(1)
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(1)
+                .build();
+    }
+}
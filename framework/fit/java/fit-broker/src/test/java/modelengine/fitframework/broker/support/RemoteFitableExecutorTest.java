@@ -1,18 +1,33 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
 
 package modelengine.fitframework.broker.support;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import modelengine.fit.client.Client;
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
 import modelengine.fit.service.RegisterAuthService;
 import modelengine.fit.service.entity.ClientTokenInfo;
 import modelengine.fit.service.entity.TokenInfo;
+import modelengine.fitframework.broker.CommunicationType;
+import modelengine.fitframework.broker.Endpoint;
 import modelengine.fitframework.broker.Format;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.client.filter.loadbalance.LeastLatencyFilter;
 import modelengine.fitframework.conf.runtime.DefaultAvailableService;
 import modelengine.fitframework.conf.runtime.DefaultMatata;
 import modelengine.fitframework.conf.runtime.DefaultRegistry;
@@ -21,17 +36,20 @@ import modelengine.fitframework.conf.runtime.MatataConfig;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link RemoteFitableExecutor} 的测试类。
@@ -41,8 +59,16 @@ import java.util.List;
  */
 @DisplayName("测试 RemoteFitableExecutor")
 public class RemoteFitableExecutorTest {
+    private BeanContainer container;
     private RemoteFitableExecutor remoteFitableExecutor;
 
+    /**
+     * 表示远程调用测试使用的服务接口。
+     */
+    interface EchoService {
+        Object echo(String value);
+    }
+
     @BeforeEach
     void setUp() {
         DefaultSecureAccess mockSecureAccess = new DefaultSecureAccess();
@@ -60,6 +86,7 @@ public class RemoteFitableExecutorTest {
         mockMatata.setRegistry(mockRegistry);
         RegisterAuthService mockService = mock(RegisterAuthService.class);
         BeanContainer container = mock(BeanContainer.class);
+        this.container = container;
         remoteFitableExecutor = new RemoteFitableExecutor(container);
         BeanFactory matataConfigFactory = mock(BeanFactory.class);
         BeanFactory registerFactory = mock(BeanFactory.class);
@@ -84,4 +111,81 @@ public class RemoteFitableExecutorTest {
         Assertions.assertEquals("mockAccessToken", requestMetadata.accessToken());
         Assertions.assertEquals("testGenericableId", requestMetadata.genericableId());
     }
+
+    @Test
+    @DisplayName("多次远程调用时只查找一次客户端，清空缓存后重新查找")
+    void shouldLookupClientOnceUntilCacheCleared() throws NoSuchMethodException {
+        Client client = mock(Client.class);
+        when(client.getSupportedProtocols()).thenReturn(Collections.singleton("http"));
+        ResponseMetadata responseMetadata = mock(ResponseMetadata.class);
+        when(responseMetadata.code()).thenReturn(ResponseMetadata.CODE_OK);
+        when(client.requestResponse(any())).thenReturn(Response.create(responseMetadata, "ok"));
+        BeanFactory clientFactory = mock(BeanFactory.class);
+        when(clientFactory.get()).thenReturn(client);
+        when(this.container.all(Client.class)).thenReturn(Collections.singletonList(clientFactory));
+        RemoteClientCache clients = new RemoteClientCache(this.container);
+        RemoteFitableExecutor executor = new RemoteFitableExecutor(this.container, clients);
+        DefaultFitable fitable = new DefaultFitable(null, null, null, "1", "1.0.0");
+        DefaultGenericable genericable = new DefaultGenericable(null, "remoteGenericableId", "1.0.0");
+        genericable.method(EchoService.class.getDeclaredMethod("echo", String.class));
+        fitable.genericable(genericable);
+        Format format = Format.custom().name("json").code(1).build();
+        Target target = Target.custom()
+                .workerId("worker")
+                .host("127.0.0.1")
+                .environment("env")
+                .endpoints(Collections.singletonList(Endpoint.custom().protocol("http", 2).port(8080).build()))
+                .formats(Collections.singletonList(format))
+                .extensions(Collections.emptyMap())
+                .build();
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.timeout()).thenReturn(1000L);
+        when(context.timeoutUnit()).thenReturn(TimeUnit.MILLISECONDS);
+        when(context.communicationType()).thenReturn(CommunicationType.SYNC);
+        for (int i = 0; i < 10; i++) {
+            assertThat(executor.execute(fitable, target, context, new Object[] {"hello"})).isEqualTo("ok");
+        }
+        verify(this.container, times(1)).all(Client.class);
+        ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        verify(client, times(10)).requestResponse(captor.capture());
+        assertThat(captor.getValue().dataTypes()).containsExactly(String.class);
+        assertThat(captor.getValue().returnType()).isEqualTo(Object.class);
+        clients.clear();
+        executor.execute(fitable, target, context, new Object[] {"hello"});
+        verify(this.container, times(2)).all(Client.class);
+    }
+
+    @Test
+    @DisplayName("远程调用失败时，向负载均衡统计上报失败的调用结果")
+    void shouldReportFailureToLatencyStatistics() throws NoSuchMethodException {
+        Client client = mock(Client.class);
+        when(client.getSupportedProtocols()).thenReturn(Collections.singleton("http"));
+        when(client.requestResponse(any())).thenThrow(new IllegalStateException("Connection refused."));
+        BeanFactory clientFactory = mock(BeanFactory.class);
+        when(clientFactory.get()).thenReturn(client);
+        when(this.container.all(Client.class)).thenReturn(Collections.singletonList(clientFactory));
+        LeastLatencyFilter latencyStatistics = mock(LeastLatencyFilter.class);
+        RemoteFitableExecutor executor =
+                new RemoteFitableExecutor(this.container, new RemoteClientCache(this.container), latencyStatistics);
+        DefaultFitable fitable = new DefaultFitable(null, null, null, "1", "1.0.0");
+        DefaultGenericable genericable = new DefaultGenericable(null, "remoteGenericableId", "1.0.0");
+        genericable.method(EchoService.class.getDeclaredMethod("echo", String.class));
+        fitable.genericable(genericable);
+        Target target = Target.custom()
+                .workerId("worker")
+                .host("127.0.0.1")
+                .environment("env")
+                .endpoints(Collections.singletonList(Endpoint.custom().protocol("http", 2).port(8080).build()))
+                .formats(Collections.singletonList(Format.custom().name("json").code(1).build()))
+                .extensions(Collections.emptyMap())
+                .build();
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.timeout()).thenReturn(1000L);
+        when(context.timeoutUnit()).thenReturn(TimeUnit.MILLISECONDS);
+        when(context.communicationType()).thenReturn(CommunicationType.SYNC);
+        assertThatThrownBy(() -> executor.execute(fitable, target, context, new Object[] {"hello"})).isInstanceOf(
+                IllegalStateException.class);
+        verify(latencyStatistics).onStart(fitable, target);
+        verify(latencyStatistics).onComplete(eq(fitable), eq(target), anyLong(), eq(false));
+    }
 }
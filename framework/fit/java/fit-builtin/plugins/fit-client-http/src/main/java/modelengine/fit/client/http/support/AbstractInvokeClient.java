@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -26,14 +26,15 @@ import modelengine.fit.serialization.util.MessageSerializerUtils;
 import modelengine.fitframework.conf.runtime.ClientConfig;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.io.PooledByteArrayOutputStream;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.util.StringUtils;
 
-import java.io.ByteArrayInputStream;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 
 /**
  * 表示 {@link InvokeClient} 的抽象实现类。
@@ -48,6 +49,7 @@ public abstract class AbstractInvokeClient implements InvokeClient {
     private final HttpClassicClientFactory factory;
     private final WorkerConfig workerConfig;
     private final ClientConfig clientConfig;
+    private volatile SecureSettings secureSettings;
 
     protected AbstractInvokeClient(BeanContainer container, WorkerConfig workerConfig, ClientConfig clientConfig) {
         this.container = notNull(container, "The bean container cannot be null.");
@@ -80,49 +82,65 @@ public abstract class AbstractInvokeClient implements InvokeClient {
 
     /**
      * 构建 Http 客户端。
+     * <p>安全配置中的密码仅在首次构建或者安全配置发生变化时解密一次，Http 客户端由 {@link HttpClassicClientFactory} 根据配置
+     * 缓存。</p>
      *
      * @param request 表示 Http 请求的 {@link Request}。
      * @return 表示构建出来的 Http 客户端的 {@link HttpClassicClient}。
      */
     protected HttpClassicClient buildHttpClient(Request request) {
-        Optional<ClientConfig.Secure> secureInfo = this.clientConfig.secure();
-        Map<String, Object> config = new HashMap<>();
-        if (secureInfo.isPresent()) {
-            ClientConfig.Secure secure = secureInfo.get();
-            boolean isEncrypted = secure.encrypted();
-            String trustStorePassword = secure.trustStorePassword().orElse(StringUtils.EMPTY);
-            String keyStorePassword = secure.keyStorePassword().orElse(StringUtils.EMPTY);
-            if (isEncrypted) {
-                Decryptor decryptor =
-                        notNull(this.container.beans().lookup(Decryptor.class), "The Decryptor cannot be null.");
-                if (StringUtils.isNotBlank(trustStorePassword)) {
-                    trustStorePassword = decryptor.decrypt(trustStorePassword);
-                }
-                if (StringUtils.isNotBlank(keyStorePassword)) {
-                    keyStorePassword = decryptor.decrypt(keyStorePassword);
-                }
-            }
-            secure.keyStoreFile()
-                    .ifPresent(keyStore -> config.put(HttpsConstants.CLIENT_SECURE_KEY_STORE_FILE, keyStore));
-            secure.trustStoreFile()
-                    .ifPresent(trustStore -> config.put(HttpsConstants.CLIENT_SECURE_TRUST_STORE_FILE, trustStore));
-            secure.secureProtocol()
-                    .ifPresent(protocol -> config.put(HttpsConstants.CLIENT_SECURE_SECURITY_PROTOCOL, protocol));
-            config.put(HttpsConstants.CLIENT_SECURE_IGNORE_TRUST, String.valueOf(secure.ignoreTrust()));
-            config.put(HttpsConstants.CLIENT_SECURE_IGNORE_HOSTNAME, String.valueOf(secure.ignoreHostName()));
-            config.put(HttpsConstants.CLIENT_SECURE_KEY_STORE_PASSWORD, keyStorePassword);
-            config.put(HttpsConstants.CLIENT_SECURE_TRUST_STORE_PASSWORD, trustStorePassword);
-            config.put(HttpsConstants.CLIENT_SECURE_STRONG_RANDOM, String.valueOf(secure.secureRandomEnabled()));
-        }
+        SecureSettings settings = this.getSecureSettings();
         int timeout = this.getTimeout(request);
         return this.factory.create(HttpClassicClientFactory.Config.builder()
                 .connectTimeout(timeout)
                 .connectionRequestTimeout(timeout)
                 .socketTimeout(timeout)
-                .custom(config)
+                .custom(settings.config)
                 .build());
     }
 
+    private SecureSettings getSecureSettings() {
+        ClientConfig.Secure secure = this.clientConfig.secure().orElse(null);
+        SecureSettings settings = this.secureSettings;
+        if (settings != null && settings.matches(secure)) {
+            return settings;
+        }
+        settings = new SecureSettings(secure, this.buildSecureConfig(secure));
+        this.secureSettings = settings;
+        return settings;
+    }
+
+    private Map<String, Object> buildSecureConfig(ClientConfig.Secure secure) {
+        Map<String, Object> config = new HashMap<>();
+        if (secure == null) {
+            return config;
+        }
+        boolean isEncrypted = secure.encrypted();
+        String trustStorePassword = secure.trustStorePassword().orElse(StringUtils.EMPTY);
+        String keyStorePassword = secure.keyStorePassword().orElse(StringUtils.EMPTY);
+        if (isEncrypted) {
+            Decryptor decryptor =
+                    notNull(this.container.beans().lookup(Decryptor.class), "The Decryptor cannot be null.");
+            if (StringUtils.isNotBlank(trustStorePassword)) {
+                trustStorePassword = decryptor.decrypt(trustStorePassword);
+            }
+            if (StringUtils.isNotBlank(keyStorePassword)) {
+                keyStorePassword = decryptor.decrypt(keyStorePassword);
+            }
+        }
+        secure.keyStoreFile().ifPresent(keyStore -> config.put(HttpsConstants.CLIENT_SECURE_KEY_STORE_FILE, keyStore));
+        secure.trustStoreFile()
+                .ifPresent(trustStore -> config.put(HttpsConstants.CLIENT_SECURE_TRUST_STORE_FILE, trustStore));
+        secure.secureProtocol()
+                .ifPresent(protocol -> config.put(HttpsConstants.CLIENT_SECURE_SECURITY_PROTOCOL, protocol));
+        config.put(HttpsConstants.CLIENT_SECURE_IGNORE_TRUST, String.valueOf(secure.ignoreTrust()));
+        config.put(HttpsConstants.CLIENT_SECURE_IGNORE_HOSTNAME, String.valueOf(secure.ignoreHostName()));
+        config.put(HttpsConstants.CLIENT_SECURE_KEY_STORE_PASSWORD, keyStorePassword);
+        config.put(HttpsConstants.CLIENT_SECURE_TRUST_STORE_PASSWORD, trustStorePassword);
+        config.put(HttpsConstants.CLIENT_SECURE_STRONG_RANDOM, String.valueOf(secure.secureRandomEnabled()));
+        return Collections.unmodifiableMap(config);
+    }
+
     /**
      * 获取超时时间。
      * <p>单位为毫秒。</p>
@@ -167,8 +185,61 @@ public abstract class AbstractInvokeClient implements InvokeClient {
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                         "MessageSerializer required but not found. [format={0}]",
                         format)));
-        byte[] bytes = messageSerializer.serializeRequest(request.dataTypes(), request.data());
-        clientRequest.headers().add(MessageHeaderNames.CONTENT_LENGTH, Integer.toString(bytes.length));
-        return Entity.createBinaryEntity(clientRequest, new ByteArrayInputStream(bytes));
+        PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire();
+        try {
+            messageSerializer.serializeRequest(request.dataTypes(), request.data(), out);
+        } catch (RuntimeException e) {
+            out.close();
+            throw e;
+        }
+        clientRequest.headers().add(MessageHeaderNames.CONTENT_LENGTH, Integer.toString(out.size()));
+        // 消息体直接读取序列化使用的缓冲区，请求发送完成后释放缓冲区。
+        return Entity.createBinaryEntity(clientRequest, out.toInputStream());
+    }
+
+    /**
+     * 表示解密后的安全配置。
+     * <p>保存安全配置的原始值，用于判断安全配置是否发生变化。安全配置变化后，整个对象被替换。</p>
+     */
+    private static final class SecureSettings {
+        private final boolean isPresent;
+        private final boolean isEncrypted;
+        private final boolean isTrustIgnored;
+        private final boolean isHostNameIgnored;
+        private final boolean isSecureRandomEnabled;
+        private final String keyStoreFile;
+        private final String trustStoreFile;
+        private final String keyStorePassword;
+        private final String trustStorePassword;
+        private final String secureProtocol;
+        private final Map<String, Object> config;
+
+        private SecureSettings(ClientConfig.Secure secure, Map<String, Object> config) {
+            this.isPresent = secure != null;
+            this.isEncrypted = this.isPresent && secure.encrypted();
+            this.isTrustIgnored = this.isPresent && secure.ignoreTrust();
+            this.isHostNameIgnored = this.isPresent && secure.ignoreHostName();
+            this.isSecureRandomEnabled = this.isPresent && secure.secureRandomEnabled();
+            this.keyStoreFile = this.isPresent ? secure.keyStoreFile().orElse(null) : null;
+            this.trustStoreFile = this.isPresent ? secure.trustStoreFile().orElse(null) : null;
+            this.keyStorePassword = this.isPresent ? secure.keyStorePassword().orElse(null) : null;
+            this.trustStorePassword = this.isPresent ? secure.trustStorePassword().orElse(null) : null;
+            this.secureProtocol = this.isPresent ? secure.secureProtocol().orElse(null) : null;
+            this.config = config;
+        }
+
+        private boolean matches(ClientConfig.Secure secure) {
+            if (secure == null) {
+                return !this.isPresent;
+            }
+            return this.isPresent && this.isEncrypted == secure.encrypted()
+                    && this.isTrustIgnored == secure.ignoreTrust() && this.isHostNameIgnored == secure.ignoreHostName()
+                    && this.isSecureRandomEnabled == secure.secureRandomEnabled()
+                    && Objects.equals(this.keyStoreFile, secure.keyStoreFile().orElse(null))
+                    && Objects.equals(this.trustStoreFile, secure.trustStoreFile().orElse(null))
+                    && Objects.equals(this.keyStorePassword, secure.keyStorePassword().orElse(null))
+                    && Objects.equals(this.trustStorePassword, secure.trustStorePassword().orElse(null))
+                    && Objects.equals(this.secureProtocol, secure.secureProtocol().orElse(null));
+        }
     }
 }
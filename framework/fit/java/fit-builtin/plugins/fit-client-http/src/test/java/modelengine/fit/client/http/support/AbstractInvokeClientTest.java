@@ -0,0 +1,123 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.http.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.client.Request;
+import modelengine.fit.client.RequestContext;
+import modelengine.fit.client.http.HttpsConstants;
+import modelengine.fit.http.client.HttpClassicClient;
+import modelengine.fit.http.client.HttpClassicClientFactory;
+import modelengine.fit.security.Decryptor;
+import modelengine.fitframework.conf.runtime.ClientConfig;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示 {@link AbstractInvokeClient} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 AbstractInvokeClient 类")
+class AbstractInvokeClientTest {
+    private final HttpClassicClientFactory factory = mock(HttpClassicClientFactory.class);
+    private final Decryptor decryptor = mock(Decryptor.class);
+    private final ClientConfig.Secure secure = mock(ClientConfig.Secure.class);
+
+    private AbstractInvokeClient invokeClient;
+
+    @BeforeEach
+    void setup() {
+        BeanFactory beanFactory = mock(BeanFactory.class);
+        when(beanFactory.<HttpClassicClientFactory>get()).thenReturn(this.factory);
+        BeanContainer.Beans beans = mock(BeanContainer.Beans.class);
+        when(beans.lookup(Decryptor.class)).thenReturn(this.decryptor);
+        BeanContainer container = mock(BeanContainer.class);
+        when(container.all(HttpClassicClientFactory.class)).thenReturn(Collections.singletonList(beanFactory));
+        when(container.beans()).thenReturn(beans);
+        when(this.factory.create(any(HttpClassicClientFactory.Config.class))).thenAnswer(invocation -> mock(
+                HttpClassicClient.class));
+        when(this.decryptor.decrypt(anyString())).thenAnswer(invocation -> "plain-" + invocation.getArgument(0));
+        when(this.secure.encrypted()).thenReturn(true);
+        when(this.secure.keyStorePassword()).thenReturn(Optional.of("key"));
+        when(this.secure.trustStorePassword()).thenReturn(Optional.of("trust"));
+        ClientConfig clientConfig = mock(ClientConfig.class);
+        when(clientConfig.secure()).thenReturn(Optional.of(this.secure));
+        this.invokeClient = new SyncInvokeClient(container, mock(WorkerConfig.class), clientConfig);
+    }
+
+    private static Request request(long timeout) {
+        RequestContext context = mock(RequestContext.class);
+        when(context.timeout()).thenReturn(timeout);
+        when(context.timeoutUnit()).thenReturn(TimeUnit.MILLISECONDS);
+        Request request = mock(Request.class);
+        when(request.context()).thenReturn(context);
+        return request;
+    }
+
+    @Test
+    @DisplayName("当重复构建相同超时时间的 Http 客户端时，使用相同的配置且只解密一次密码")
+    void shouldUseSameConfigAndDecryptOnce() {
+        for (int i = 0; i < 100; i++) {
+            this.invokeClient.buildHttpClient(request(1000));
+        }
+        verify(this.decryptor, times(2)).decrypt(anyString());
+        ArgumentCaptor<HttpClassicClientFactory.Config> captor =
+                ArgumentCaptor.forClass(HttpClassicClientFactory.Config.class);
+        verify(this.factory, times(100)).create(captor.capture());
+        assertThat(captor.getAllValues()).allMatch(config -> config.equals(captor.getValue()));
+        assertThat(captor.getValue().custom()).containsEntry(HttpsConstants.CLIENT_SECURE_KEY_STORE_PASSWORD,
+                "plain-key").containsEntry(HttpsConstants.CLIENT_SECURE_TRUST_STORE_PASSWORD, "plain-trust");
+    }
+
+    @Test
+    @DisplayName("当超时时间不同时，使用不同的配置且不再重复解密")
+    void shouldBuildConfigPerTimeoutWithoutDecryptingAgain() {
+        this.invokeClient.buildHttpClient(request(1000));
+        this.invokeClient.buildHttpClient(request(2000));
+        ArgumentCaptor<HttpClassicClientFactory.Config> captor =
+                ArgumentCaptor.forClass(HttpClassicClientFactory.Config.class);
+        verify(this.factory, times(2)).create(captor.capture());
+        assertThat(captor.getAllValues()).extracting(HttpClassicClientFactory.Config::socketTimeout)
+                .containsExactly(1000, 2000);
+        verify(this.decryptor, times(2)).decrypt(anyString());
+    }
+
+    @Test
+    @DisplayName("当安全配置发生变化时，重新解密密码并使用新的配置")
+    void shouldDecryptAgainWhenSecureConfigChanged() {
+        this.invokeClient.buildHttpClient(request(1000));
+        when(this.secure.keyStorePassword()).thenReturn(Optional.of("new-key"));
+        this.invokeClient.buildHttpClient(request(1000));
+        this.invokeClient.buildHttpClient(request(1000));
+        verify(this.decryptor).decrypt("new-key");
+        verify(this.decryptor, times(4)).decrypt(anyString());
+        ArgumentCaptor<HttpClassicClientFactory.Config> captor =
+                ArgumentCaptor.forClass(HttpClassicClientFactory.Config.class);
+        verify(this.factory, times(3)).create(captor.capture());
+        assertThat(captor.getValue().custom()).containsEntry(HttpsConstants.CLIENT_SECURE_KEY_STORE_PASSWORD,
+                "plain-new-key");
+    }
+}
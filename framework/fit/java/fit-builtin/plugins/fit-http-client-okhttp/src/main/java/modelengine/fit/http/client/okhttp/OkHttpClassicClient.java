@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -12,6 +12,7 @@ import modelengine.fit.http.Serializers;
 import modelengine.fit.http.client.HttpClassicClient;
 import modelengine.fit.http.client.HttpClassicClientRequest;
 import modelengine.fit.http.client.HttpClassicClientResponse;
+import modelengine.fit.http.client.okhttp.websocket.OkHttpWebSocketConfig;
 import modelengine.fit.http.client.okhttp.websocket.OkHttpWebSocketSession;
 import modelengine.fit.http.client.support.AbstractHttpClassicClient;
 import modelengine.fit.http.client.support.DefaultHttpClassicClientRequest;
@@ -32,17 +33,33 @@ import java.lang.reflect.Type;
  */
 public class OkHttpClassicClient extends AbstractHttpClassicClient {
     private final OkHttpClient okHttpClient;
+    private final OkHttpWebSocketConfig webSocketConfig;
 
     /**
      * 创建 {@link HttpClassicClient} 的 OkHttp 实现对象。
+     * <p>WebSocket 会话与 Http 请求共享同一个 OkHttp 客户端，并使用默认的发送限制。</p>
      *
      * @param serializers 表示序列化器集合的 {@link Serializers}。
      * @param valueFetcher 表示值的获取工具的 {@link ValueFetcher}。
      * @param okHttpClient 表示底层使用的 OkHttp 客户端的 {@link OkHttpClient}。
      */
     public OkHttpClassicClient(Serializers serializers, ValueFetcher valueFetcher, OkHttpClient okHttpClient) {
+        this(serializers, valueFetcher, okHttpClient, OkHttpWebSocketConfig.of(okHttpClient));
+    }
+
+    /**
+     * 创建 {@link HttpClassicClient} 的 OkHttp 实现对象。
+     *
+     * @param serializers 表示序列化器集合的 {@link Serializers}。
+     * @param valueFetcher 表示值的获取工具的 {@link ValueFetcher}。
+     * @param okHttpClient 表示底层使用的 OkHttp 客户端的 {@link OkHttpClient}。
+     * @param webSocketConfig 表示 WebSocket 会话的配置的 {@link OkHttpWebSocketConfig}。
+     */
+    public OkHttpClassicClient(Serializers serializers, ValueFetcher valueFetcher, OkHttpClient okHttpClient,
+            OkHttpWebSocketConfig webSocketConfig) {
         super(serializers, valueFetcher);
         this.okHttpClient = notNull(okHttpClient, "The okhttp client cannot be null.");
+        this.webSocketConfig = notNull(webSocketConfig, "The websocket config cannot be null.");
     }
 
     @Override
@@ -53,7 +70,7 @@ public class OkHttpClassicClient extends AbstractHttpClassicClient {
 
     @Override
     public Session createWebSocketSession(String url, WebSocketClassicListener listener) {
-        return new OkHttpWebSocketSession(this, url, listener);
+        return new OkHttpWebSocketSession(this, url, listener, this.webSocketConfig);
     }
 
     @Override
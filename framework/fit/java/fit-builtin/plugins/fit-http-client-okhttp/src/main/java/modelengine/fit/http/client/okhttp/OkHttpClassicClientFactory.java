@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -7,6 +7,7 @@
 package modelengine.fit.http.client.okhttp;
 
 import static modelengine.fit.http.client.okhttp.OkHttpClientBuilderFactory.getOkHttpClientBuilder;
+import static modelengine.fitframework.inspection.Validation.lessThanOrEquals;
 import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.getIfNull;
 
@@ -16,7 +17,9 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import modelengine.fit.http.Serializers;
 import modelengine.fit.http.client.HttpClassicClient;
 import modelengine.fit.http.client.HttpClassicClientFactory;
+import modelengine.fit.http.client.okhttp.websocket.OkHttpWebSocketConfig;
 import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Fit;
 import modelengine.fitframework.annotation.Order;
 import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.serialization.ObjectSerializer;
@@ -24,6 +27,7 @@ import modelengine.fitframework.value.ValueFetcher;
 import okhttp3.OkHttpClient;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 表示 {@link HttpClassicClientFactory} 的 OkHttp 实现。
@@ -37,12 +41,58 @@ public class OkHttpClassicClientFactory implements HttpClassicClientFactory {
     private final Serializers serializers;
     private final ValueFetcher valueFetcher;
     private final Cache<Config, OkHttpClient> okHttpClientCache;
+    private final Cache<Config, OkHttpWebSocketConfig> webSocketConfigCache;
+    private final long webSocketPingInterval;
+    private final long webSocketMaxQueueSize;
+    private final long webSocketSendTimeout;
 
+    /**
+     * 使用默认的 WebSocket 配置创建 {@link HttpClassicClientFactory} 的 OkHttp 实现对象。
+     *
+     * @param serializers 表示序列化器集合的 {@link Map}{@code <}{@link String}{@code , }{@link ObjectSerializer}{@code >}。
+     * @param valueFetcher 表示值的获取工具的 {@link ValueFetcher}。
+     * @param cacheSize 表示缓存的 OkHttp 客户端的最大数量的 {@code long}。
+     */
     public OkHttpClassicClientFactory(Map<String, ObjectSerializer> serializers, ValueFetcher valueFetcher,
-            @Value("${okhttp.config-client.cache.max-size}") long cacheSize) {
+            long cacheSize) {
+        this(serializers,
+                valueFetcher,
+                cacheSize,
+                0,
+                OkHttpWebSocketConfig.DEFAULT_MAX_QUEUE_SIZE,
+                OkHttpWebSocketConfig.DEFAULT_SEND_TIMEOUT);
+    }
+
+    /**
+     * 创建 {@link HttpClassicClientFactory} 的 OkHttp 实现对象。
+     *
+     * @param serializers 表示序列化器集合的 {@link Map}{@code <}{@link String}{@code , }{@link ObjectSerializer}{@code >}。
+     * @param valueFetcher 表示值的获取工具的 {@link ValueFetcher}。
+     * @param cacheSize 表示缓存的 OkHttp 客户端的最大数量的 {@code long}。
+     * @param webSocketPingInterval 表示 WebSocket 心跳间隔的 {@code long}，单位为毫秒，{@code 0} 表示不发送心跳。
+     * @param webSocketMaxQueueSize 表示 WebSocket 待发送消息队列的最大字节数的 {@code long}，不能超过
+     * {@link OkHttpWebSocketConfig#DEFAULT_MAX_QUEUE_SIZE}。
+     * @param webSocketSendTimeout 表示 WebSocket 等待待发送消息队列排空的超时时间的 {@code long}，单位为毫秒。
+     */
+    @Fit
+    public OkHttpClassicClientFactory(Map<String, ObjectSerializer> serializers, ValueFetcher valueFetcher,
+            @Value("${okhttp.config-client.cache.max-size}") long cacheSize,
+            @Value("${okhttp.websocket.ping-interval}") long webSocketPingInterval,
+            @Value("${okhttp.websocket.max-queue-size}") long webSocketMaxQueueSize,
+            @Value("${okhttp.websocket.send-timeout}") long webSocketSendTimeout) {
         this.serializers = Serializers.create(serializers);
         this.valueFetcher = notNull(valueFetcher, "The value fetcher cannot be null.");
         this.okHttpClientCache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        this.webSocketConfigCache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        this.webSocketPingInterval = webSocketPingInterval;
+        // 在启动时校验，避免首次创建 WebSocket 会话时才发现配置错误。
+        this.webSocketMaxQueueSize = lessThanOrEquals(webSocketMaxQueueSize,
+                OkHttpWebSocketConfig.DEFAULT_MAX_QUEUE_SIZE,
+                "The websocket max queue size cannot be greater than the okhttp limit. "
+                        + "[okhttp.websocket.max-queue-size={0}, limit={1}]",
+                webSocketMaxQueueSize,
+                OkHttpWebSocketConfig.DEFAULT_MAX_QUEUE_SIZE);
+        this.webSocketSendTimeout = webSocketSendTimeout;
     }
 
     @Override
@@ -55,6 +105,18 @@ public class OkHttpClassicClientFactory implements HttpClassicClientFactory {
         Config actualConfig = getIfNull(config, () -> HttpClassicClientFactory.Config.builder().build());
         OkHttpClient okHttpClient =
                 this.okHttpClientCache.get(actualConfig, tempConfig -> getOkHttpClientBuilder(tempConfig).build());
-        return new OkHttpClassicClient(this.serializers, this.valueFetcher, okHttpClient);
+        OkHttpWebSocketConfig webSocketConfig = this.webSocketConfigCache.get(actualConfig,
+                tempConfig -> new OkHttpWebSocketConfig(this.buildWebSocketClient(okHttpClient),
+                        this.webSocketMaxQueueSize,
+                        this.webSocketSendTimeout));
+        return new OkHttpClassicClient(this.serializers, this.valueFetcher, okHttpClient, webSocketConfig);
+    }
+
+    private OkHttpClient buildWebSocketClient(OkHttpClient okHttpClient) {
+        if (this.webSocketPingInterval <= 0) {
+            return okHttpClient;
+        }
+        // 通过 newBuilder 派生的客户端与原客户端共享连接池和调度器。
+        return okHttpClient.newBuilder().pingInterval(this.webSocketPingInterval, TimeUnit.MILLISECONDS).build();
     }
 }
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -18,15 +18,20 @@ import modelengine.fit.http.protocol.RequestLine;
 import modelengine.fit.http.protocol.WritableMessageBody;
 import modelengine.fit.http.protocol.support.ClientRequestBody;
 import modelengine.fitframework.model.MultiValueMap;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 {@link ClientRequest} 的使用 OkHttp 实现。
@@ -43,6 +48,7 @@ public class OkHttpClientRequest implements ClientRequest {
     private final OkHttpClient okHttpClient;
     private final okhttp3.Request.Builder requestBuilder;
     private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private boolean isBodyWritten;
 
     /**
      * 表示 {@link OkHttpClientRequest} 类的构造方法。
@@ -86,18 +92,27 @@ public class OkHttpClientRequest implements ClientRequest {
     public void writeBody(int b) throws IOException {
         this.checkIfClosed();
         this.stream.write(b);
-        this.updateRequestBody();
+        this.isBodyWritten = true;
     }
 
     @Override
     public void writeBody(byte[] bytes, int off, int len) throws IOException {
         this.checkIfClosed();
         this.stream.write(bytes, off, len);
-        this.updateRequestBody();
+        this.isBodyWritten = true;
     }
 
-    private void updateRequestBody() {
-        this.requestBuilder.method(this.method.name(), RequestBody.create(this.stream.toByteArray(), null));
+    /**
+     * 构建 OkHttp 的请求。
+     * <p>消息体在发送前只设置一次，直接从已写入的内容输出，避免每次写入消息体都复制一次已写入的全部内容。</p>
+     *
+     * @return 表示 OkHttp 请求的 {@link Request}。
+     */
+    private Request buildRequest() {
+        if (this.isBodyWritten) {
+            this.requestBuilder.method(this.method.name(), new BufferedRequestBody(this.stream));
+        }
+        return this.requestBuilder.build();
     }
 
     @Override
@@ -106,7 +121,52 @@ public class OkHttpClientRequest implements ClientRequest {
     @Override
     public ClientResponse readResponse() throws IOException {
         this.checkIfClosed();
-        Response response = this.okHttpClient.newCall(this.requestBuilder.build()).execute();
+        Response response = this.okHttpClient.newCall(this.buildRequest()).execute();
+        return toClientResponse(response);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>通过 OkHttp 的 {@link Call#enqueue(Callback)} 发送请求，响应在 OkHttp 的调度线程中通知。取消返回的
+     * {@link CompletableFuture} 会取消对应的请求。</p>
+     */
+    @Override
+    public CompletableFuture<ClientResponse> readResponseAsync() {
+        try {
+            this.checkIfClosed();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+        Call call = this.okHttpClient.newCall(this.buildRequest());
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException cause) {
+                future.completeExceptionally(cause);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try {
+                    if (!future.complete(toClientResponse(response))) {
+                        // 请求已经被取消，没有人会再读取响应。
+                        response.close();
+                    }
+                } catch (RuntimeException e) {
+                    response.close();
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        future.whenComplete((response, cause) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    private static ClientResponse toClientResponse(Response response) {
         notNull(response.body(), () -> new IllegalStateException("The response body cannot be null."));
         return ClientResponse.create(response.code(),
                 response.message(),
@@ -137,4 +197,30 @@ public class OkHttpClientRequest implements ClientRequest {
         this.isClosed = true;
         this.body.close();
     }
+
+    /**
+     * 表示直接输出已写入内容的 {@link RequestBody}，可以重复输出以支持 OkHttp 的重试。
+     */
+    private static class BufferedRequestBody extends RequestBody {
+        private final ByteArrayOutputStream stream;
+
+        BufferedRequestBody(ByteArrayOutputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return null;
+        }
+
+        @Override
+        public long contentLength() {
+            return this.stream.size();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            this.stream.writeTo(sink.outputStream());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp.websocket;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
+import static modelengine.fitframework.inspection.Validation.lessThanOrEquals;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * 表示 OkHttp 的 WebSocket 会话的配置。
+ * <p>同一个配置下的所有会话共享同一个 {@link OkHttpClient}，即共享连接池、调度器以及心跳间隔等设置。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+public class OkHttpWebSocketConfig {
+    /**
+     * 表示默认的待发送消息队列的最大字节数，与 OkHttp 允许的上限一致。
+     * <p>OkHttp 的待发送队列超过该值时会直接关闭连接，因此配置的最大字节数不能超过该值。</p>
+     */
+    public static final long DEFAULT_MAX_QUEUE_SIZE = 16L * 1024 * 1024;
+
+    /** 表示默认的等待待发送消息队列排空的超时时间，单位为毫秒。 */
+    public static final long DEFAULT_SEND_TIMEOUT = 30_000L;
+
+    private final OkHttpClient okHttpClient;
+    private final long maxQueueSize;
+    private final long sendTimeout;
+
+    /**
+     * 使用共享的 OkHttp 客户端、待发送消息队列的最大字节数和发送的超时时间创建 WebSocket 会话的配置。
+     *
+     * @param okHttpClient 表示所有会话共享的 OkHttp 客户端的 {@link OkHttpClient}。
+     * @param maxQueueSize 表示待发送消息队列的最大字节数的 {@code long}。
+     * @param sendTimeout 表示等待待发送消息队列排空的超时时间的 {@code long}，单位为毫秒。
+     * @throws IllegalArgumentException 当 {@code okHttpClient} 为 {@code null}、{@code maxQueueSize} 不是正数或者超过
+     * {@link #DEFAULT_MAX_QUEUE_SIZE}、{@code sendTimeout} 为负数时。
+     */
+    public OkHttpWebSocketConfig(OkHttpClient okHttpClient, long maxQueueSize, long sendTimeout) {
+        this.okHttpClient = notNull(okHttpClient, "The okhttp client cannot be null.");
+        greaterThan(maxQueueSize, 0, "The max queue size must be positive. [maxQueueSize={0}]", maxQueueSize);
+        this.maxQueueSize = lessThanOrEquals(maxQueueSize,
+                DEFAULT_MAX_QUEUE_SIZE,
+                "The max queue size cannot be greater than the okhttp limit. [maxQueueSize={0}, limit={1}]",
+                maxQueueSize,
+                DEFAULT_MAX_QUEUE_SIZE);
+        this.sendTimeout = greaterThanOrEquals(sendTimeout, 0, "The send timeout cannot be negative. [sendTimeout={0}]",
+                sendTimeout);
+    }
+
+    /**
+     * 使用共享的 OkHttp 客户端和默认的限制创建 WebSocket 会话的配置。
+     *
+     * @param okHttpClient 表示所有会话共享的 OkHttp 客户端的 {@link OkHttpClient}。
+     * @return 表示创建的 WebSocket 会话的配置的 {@link OkHttpWebSocketConfig}。
+     */
+    public static OkHttpWebSocketConfig of(OkHttpClient okHttpClient) {
+        return new OkHttpWebSocketConfig(okHttpClient, DEFAULT_MAX_QUEUE_SIZE, DEFAULT_SEND_TIMEOUT);
+    }
+
+    /**
+     * 获取所有会话共享的 OkHttp 客户端。
+     *
+     * @return 表示所有会话共享的 OkHttp 客户端的 {@link OkHttpClient}。
+     */
+    public OkHttpClient okHttpClient() {
+        return this.okHttpClient;
+    }
+
+    /**
+     * 获取待发送消息队列的最大字节数。
+     * <p>当待发送的数据超过该值时，发送方需要等待队列排空，以此对发送方施加背压。</p>
+     *
+     * @return 表示待发送消息队列的最大字节数的 {@code long}。
+     */
+    public long maxQueueSize() {
+        return this.maxQueueSize;
+    }
+
+    /**
+     * 获取等待待发送消息队列排空的超时时间。
+     *
+     * @return 表示等待待发送消息队列排空的超时时间的 {@code long}，单位为毫秒。
+     */
+    public long sendTimeout() {
+        return this.sendTimeout;
+    }
+}
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -15,37 +15,71 @@ import modelengine.fit.http.websocket.Session;
 import modelengine.fit.http.websocket.client.WebSocketClassicListener;
 import modelengine.fit.http.websocket.client.support.EmptyWebSocketListener;
 import modelengine.fit.http.websocket.support.AbstractSession;
+import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.StringUtils;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
 import okio.ByteString;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * 表示 {@link Session} 的 OkHttp 的实现。
+ * <p>会话使用 {@link OkHttpWebSocketConfig} 中共享的 OkHttp 客户端建立连接，不再为每个会话单独创建连接池和调度器。
+ * 当待发送消息队列超过限制时，发送方在条件上等待队列排空，直到超时。单条消息超过限制时直接拒绝发送。</p>
+ * <p>OkHttp 不提供待发送队列排空的回调，因此收到消息和连接终止时唤醒发送方，同时发送方每隔一段时间重新检查队列。</p>
  *
  * @author 季聿阶
  * @since 2024-04-29
  */
 public class OkHttpWebSocketSession extends AbstractSession {
+    private static final long QUEUE_RECHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final LazyLoader<OkHttpWebSocketConfig> DEFAULT_CONFIG =
+            new LazyLoader<>(() -> OkHttpWebSocketConfig.of(new OkHttpClient()));
+
     private HttpClassicClientResponse<Object> response;
     private final WebSocket webSocket;
+    private final long maxQueueSize;
+    private final long sendTimeout;
+    private final ReentrantLock queueLock = new ReentrantLock();
+    private final Condition queueChanged = this.queueLock.newCondition();
+    private volatile boolean isTerminated;
 
     /**
      * 通过 Http 的资源、访问 WebSocket 的地址和 WebSocket 的监听器来初始化 {@link OkHttpWebSocketSession} 的新实例。
+     * <p>会话使用进程内共享的默认 OkHttp 客户端和默认的限制。</p>
      *
      * @param httpResource 表示 Http 的资源的 {@link HttpResource}。
      * @param url 表示访问 WebSocket 的地址的 {@link String}。
      * @param listener 表示 WebSocket 的监听器的 {@link WebSocketClassicListener}。
      */
     public OkHttpWebSocketSession(HttpResource httpResource, String url, WebSocketClassicListener listener) {
-        OkHttpClient okHttpClient = new OkHttpClient();
+        this(httpResource, url, listener, DEFAULT_CONFIG.get());
+    }
+
+    /**
+     * 通过 Http 的资源、访问 WebSocket 的地址、WebSocket 的监听器和会话的配置来初始化 {@link OkHttpWebSocketSession} 的新实例。
+     *
+     * @param httpResource 表示 Http 的资源的 {@link HttpResource}。
+     * @param url 表示访问 WebSocket 的地址的 {@link String}。
+     * @param listener 表示 WebSocket 的监听器的 {@link WebSocketClassicListener}。
+     * @param config 表示 WebSocket 会话的配置的 {@link OkHttpWebSocketConfig}。
+     */
+    public OkHttpWebSocketSession(HttpResource httpResource, String url, WebSocketClassicListener listener,
+            OkHttpWebSocketConfig config) {
+        notNull(config, "The websocket config cannot be null.");
+        this.maxQueueSize = config.maxQueueSize();
+        this.sendTimeout = config.sendTimeout();
         Request request = new Request.Builder().url(url).build();
         WebSocketListener actualListener =
                 new WebSocketListenerAdapter(notNull(httpResource, "The http resource cannot be null."),
                         getIfNull(listener, EmptyWebSocketListener::new),
                         this);
-        this.webSocket = okHttpClient.newWebSocket(request, actualListener);
+        this.webSocket = config.okHttpClient().newWebSocket(request, actualListener);
     }
 
     /**
@@ -63,16 +97,80 @@ public class OkHttpWebSocketSession extends AbstractSession {
         return this.response;
     }
 
+    /**
+     * 标记会话的连接已经终止。
+     * <p>连接终止后，待发送消息队列不会再排空，发送方无需继续等待。</p>
+     */
+    void terminate() {
+        this.isTerminated = true;
+        this.signalQueue();
+    }
+
+    /**
+     * 唤醒等待待发送消息队列的发送方，使其重新检查队列。
+     */
+    void signalQueue() {
+        this.queueLock.lock();
+        try {
+            this.queueChanged.signalAll();
+        } finally {
+            this.queueLock.unlock();
+        }
+    }
+
     @Override
     public void send(String text) {
+        // 一个字符编码后最多占用 3 个字节，只有估算的大小超过限制时才计算准确的字节数。
+        if (this.webSocket.queueSize() + (long) text.length() * 3 > this.maxQueueSize) {
+            this.awaitQueue(ByteString.encodeUtf8(text).size());
+        }
         this.webSocket.send(text);
     }
 
     @Override
     public void send(byte[] bytes) {
+        this.awaitQueue(bytes.length);
         this.webSocket.send(ByteString.of(bytes));
     }
 
+    private void awaitQueue(long size) {
+        if (size > this.maxQueueSize) {
+            throw new IllegalArgumentException(StringUtils.format(
+                    "The websocket message is too large. [size={0}, maxQueueSize={1}]",
+                    size,
+                    this.maxQueueSize));
+        }
+        long queueSize = this.webSocket.queueSize();
+        if (this.isQueueAvailable(queueSize, size)) {
+            return;
+        }
+        long remaining = TimeUnit.MILLISECONDS.toNanos(this.sendTimeout);
+        this.queueLock.lock();
+        try {
+            while (!this.isQueueAvailable(queueSize, size)) {
+                if (remaining <= 0) {
+                    throw new IllegalStateException(StringUtils.format(
+                            "Timeout to wait for websocket send queue. [queueSize={0}, size={1}, maxQueueSize={2}]",
+                            queueSize,
+                            size,
+                            this.maxQueueSize));
+                }
+                long waitNanos = Math.min(remaining, QUEUE_RECHECK_INTERVAL_NANOS);
+                remaining -= waitNanos - this.queueChanged.awaitNanos(waitNanos);
+                queueSize = this.webSocket.queueSize();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for websocket send queue.", e);
+        } finally {
+            this.queueLock.unlock();
+        }
+    }
+
+    private boolean isQueueAvailable(long queueSize, long size) {
+        return this.isTerminated || queueSize + size <= this.maxQueueSize;
+    }
+
     @Override
     protected void close0(int code, String reason) {
         this.webSocket.close(code, reason);
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -38,7 +38,9 @@ public class WebSocketListenerAdapter extends WebSocketListener {
     }
 
     @Override
-    public void onClosed(@Nonnull WebSocket webSocket, int code, @Nonnull String reason) {}
+    public void onClosed(@Nonnull WebSocket webSocket, int code, @Nonnull String reason) {
+        this.session.terminate();
+    }
 
     @Override
     public void onClosing(@Nonnull WebSocket webSocket, int code, @Nonnull String reason) {
@@ -48,16 +50,19 @@ public class WebSocketListenerAdapter extends WebSocketListener {
 
     @Override
     public void onFailure(@Nonnull WebSocket webSocket, @Nonnull Throwable cause, @Nullable Response response) {
+        this.session.terminate();
         this.listener.onError(this.session, cause);
     }
 
     @Override
     public void onMessage(@Nonnull WebSocket webSocket, @Nonnull String text) {
+        this.session.signalQueue();
         this.listener.onMessage(this.session, text);
     }
 
     @Override
     public void onMessage(@Nonnull WebSocket webSocket, @Nonnull ByteString bytes) {
+        this.session.signalQueue();
         this.listener.onMessage(this.session, bytes.toByteArray());
     }
 
@@ -0,0 +1,104 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import modelengine.fit.http.protocol.ClientResponse;
+import modelengine.fit.http.protocol.HttpRequestMethod;
+import okhttp3.OkHttpClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 表示 {@link OkHttpClientRequest} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 OkHttpClientRequest")
+class OkHttpClientRequestTest {
+    private static final int CHUNK_SIZE = 512;
+    private static final int CHUNKS = 2048;
+
+    private HttpServer server;
+    private OkHttpClient okHttpClient;
+    private String url;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/echo", this::echo);
+        this.server.start();
+        this.url = "http://127.0.0.1:" + this.server.getAddress().getPort() + "/echo";
+        this.okHttpClient = new OkHttpClient();
+    }
+
+    @AfterEach
+    void teardown() {
+        this.server.stop(0);
+        this.okHttpClient.dispatcher().executorService().shutdown();
+        this.okHttpClient.connectionPool().evictAll();
+    }
+
+    private void echo(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        String length = exchange.getRequestHeaders().getFirst("Content-Length");
+        byte[] response = (exchange.getRequestMethod() + ":" + length + ":" + Arrays.hashCode(body))
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private static String read(ClientResponse response) throws IOException {
+        try (InputStream in = response.getBodyInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("分多次写入的消息体在发送时作为一个完整的消息体发送")
+    void shouldSendBodyWrittenInChunks() throws IOException {
+        byte[] payload = new byte[CHUNK_SIZE * CHUNKS];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) i;
+        }
+        OkHttpClientRequest request = new OkHttpClientRequest(HttpRequestMethod.POST, this.url, this.okHttpClient);
+        request.writeStartLineAndHeaders();
+        request.writeBody(payload[0]);
+        request.writeBody(payload, 1, CHUNK_SIZE - 1);
+        for (int i = 1; i < CHUNKS; i++) {
+            request.writeBody(payload, i * CHUNK_SIZE, CHUNK_SIZE);
+        }
+        ClientResponse response = request.readResponse();
+        assertThat(read(response)).isEqualTo("POST:" + payload.length + ":" + Arrays.hashCode(payload));
+    }
+
+    @Test
+    @DisplayName("没有写入消息体时不发送消息体")
+    void shouldSendNoBodyWhenNothingWritten() throws IOException {
+        OkHttpClientRequest request = new OkHttpClientRequest(HttpRequestMethod.GET, this.url, this.okHttpClient);
+        request.writeStartLineAndHeaders();
+        ClientResponse response = request.readResponse();
+        assertThat(read(response)).isEqualTo("GET:null:" + Arrays.hashCode(new byte[0]));
+    }
+}
@@ -0,0 +1,199 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import modelengine.fit.http.Serializers;
+import modelengine.fit.http.client.HttpClassicClient;
+import modelengine.fit.http.client.HttpClassicClientFactory;
+import modelengine.fit.http.client.HttpClientErrorException;
+import modelengine.fit.http.client.proxy.scanner.HttpInvocationHandler;
+import modelengine.fit.http.client.proxy.scanner.entity.Address;
+import modelengine.fit.http.client.proxy.scanner.entity.HttpInfo;
+import modelengine.fit.http.protocol.HttpRequestMethod;
+import modelengine.fitframework.flowable.Solo;
+import modelengine.fitframework.ioc.BeanContainer;
+import okhttp3.OkHttpClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示使用 OkHttp 客户端执行声明式 Http 代理接口的测试。
+ * <p>测试在本地回环地址上启动 Http 服务端，验证同步、{@link CompletableFuture} 和 {@link Solo} 三种返回类型。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试使用 OkHttp 客户端执行声明式 Http 代理接口")
+class OkHttpProxyInvocationTest {
+    private final AtomicInteger createdClientNum = new AtomicInteger();
+    private final CountDownLatch slowRequestReleased = new CountDownLatch(1);
+
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+
+    private HttpServer server;
+    private OkHttpClient okHttpClient;
+    private HelloClient helloClient;
+
+    /**
+     * 表示测试使用的声明式 Http 代理接口。
+     */
+    interface HelloClient {
+        String hello();
+
+        CompletableFuture<String> helloAsync();
+
+        Solo<String> helloSolo();
+
+        CompletableFuture<String> missing();
+
+        CompletableFuture<String> slow();
+    }
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setExecutor(this.serverExecutor);
+        this.server.createContext("/hello", exchange -> respond(exchange, 200, "hello"));
+        this.server.createContext("/missing", exchange -> respond(exchange, 404, "missing"));
+        this.server.createContext("/slow", exchange -> {
+            try {
+                this.slowRequestReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "slow");
+        });
+        this.server.start();
+        this.okHttpClient = new OkHttpClient();
+        HttpClassicClient client = new OkHttpClassicClient(Serializers.create(new HashMap<>()),
+                (object, propertyPath) -> null,
+                this.okHttpClient);
+        HttpClassicClientFactory factory = new HttpClassicClientFactory() {
+            @Override
+            public HttpClassicClient create() {
+                OkHttpProxyInvocationTest.this.createdClientNum.incrementAndGet();
+                return client;
+            }
+
+            @Override
+            public HttpClassicClient create(Config config) {
+                return this.create();
+            }
+        };
+        Map<Method, HttpInfo> httpInfoMap = new HashMap<>();
+        for (Method method : HelloClient.class.getDeclaredMethods()) {
+            httpInfoMap.put(method, this.httpInfo("/" + method.getName().replace("Async", "").replace("Solo", "")));
+        }
+        BeanContainer container = (BeanContainer) Proxy.newProxyInstance(BeanContainer.class.getClassLoader(),
+                new Class[] {BeanContainer.class},
+                (proxy, method, args) -> null);
+        this.helloClient = (HelloClient) Proxy.newProxyInstance(HelloClient.class.getClassLoader(),
+                new Class[] {HelloClient.class},
+                new HttpInvocationHandler(httpInfoMap, container, factory));
+    }
+
+    @AfterEach
+    void teardown() {
+        this.slowRequestReleased.countDown();
+        this.server.stop(0);
+        this.serverExecutor.shutdownNow();
+        this.okHttpClient.dispatcher().executorService().shutdown();
+        this.okHttpClient.connectionPool().evictAll();
+    }
+
+    private HttpInfo httpInfo(String pathPattern) {
+        Address address = new Address();
+        address.setProtocol("http");
+        address.setHost("127.0.0.1");
+        address.setPort(this.server.getAddress().getPort());
+        HttpInfo httpInfo = new HttpInfo();
+        httpInfo.setAddress(address);
+        httpInfo.setMethod(HttpRequestMethod.GET);
+        httpInfo.setPathPattern(pathPattern);
+        httpInfo.setAppliers(new ArrayList<>());
+        return httpInfo;
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("当返回类型为普通类型时，同步返回响应内容，并且只创建一次客户端")
+    void shouldReturnContentSynchronously() {
+        assertThat(this.helloClient.hello()).isEqualTo("hello");
+        assertThat(this.helloClient.hello()).isEqualTo("hello");
+        assertThat(this.createdClientNum.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("当返回类型为 CompletableFuture 时，异步返回响应内容")
+    void shouldReturnContentAsynchronously() throws Exception {
+        assertThat(this.helloClient.helloAsync().get(10, TimeUnit.SECONDS)).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("当返回类型为 CompletableFuture 时，调用不会等待响应返回")
+    void shouldNotBlockCallerWhenResponseIsSlow() throws Exception {
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(this.helloClient.slow());
+        }
+        assertThat(futures).noneMatch(CompletableFuture::isDone);
+        this.slowRequestReleased.countDown();
+        for (CompletableFuture<String> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo("slow");
+        }
+    }
+
+    @Test
+    @DisplayName("当返回类型为 CompletableFuture 且响应状态码为 4xx 时，以客户端错误异常结束")
+    void shouldCompleteExceptionallyWhenClientError() {
+        CompletableFuture<String> future = this.helloClient.missing();
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpClientErrorException.class);
+    }
+
+    @Test
+    @DisplayName("当返回类型为 Solo 时，订阅后发送请求并返回响应内容")
+    void shouldReturnContentBySolo() {
+        Solo<String> solo = this.helloClient.helloSolo();
+        assertThat(solo.block()).hasValue("hello");
+    }
+}
@@ -0,0 +1,238 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fit.http.Serializers;
+import modelengine.fit.http.client.HttpClassicClient;
+import modelengine.fit.http.client.okhttp.OkHttpClassicClient;
+import modelengine.fit.http.websocket.Session;
+import modelengine.fit.http.websocket.client.WebSocketClassicListener;
+import okhttp3.OkHttpClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示 {@link OkHttpWebSocketSession} 的单元测试。
+ * <p>服务端只完成 WebSocket 握手，之后不再读取任何数据，用于模拟大量空闲连接以及处理缓慢的对端。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 OkHttpWebSocketSession 类")
+class OkHttpWebSocketSessionTest {
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final int SESSION_NUM = 200;
+
+    private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+    private final List<Session> sessions = new ArrayList<>();
+
+    private ServerSocket serverSocket;
+    private OkHttpClient okHttpClient;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.serverSocket = new ServerSocket(0, SESSION_NUM, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "websocket-test-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        this.okHttpClient = new OkHttpClient();
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        this.sessions.forEach(session -> session.close(1000, "bye"));
+        this.serverSocket.close();
+        for (Socket socket : this.sockets) {
+            socket.close();
+        }
+        this.okHttpClient.dispatcher().executorService().shutdown();
+        this.okHttpClient.connectionPool().evictAll();
+    }
+
+    private void accept() {
+        while (!this.serverSocket.isClosed()) {
+            try {
+                Socket socket = this.serverSocket.accept();
+                this.sockets.add(socket);
+                handshake(socket);
+            } catch (IOException e) {
+                // 服务端关闭或者单个连接握手失败，由测试的断言体现。
+            }
+        }
+    }
+
+    private static void handshake(Socket socket) throws IOException {
+        BufferedReader reader =
+                new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+        String key = null;
+        String line;
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            if (line.toLowerCase(Locale.ROOT).startsWith("sec-websocket-key:")) {
+                key = line.substring(line.indexOf(':') + 1).trim();
+            }
+        }
+        String response = "HTTP/1.1 101 Switching Protocols\r\n" + "Upgrade: websocket\r\n" + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + acceptKey(key) + "\r\n\r\n";
+        OutputStream out = socket.getOutputStream();
+        out.write(response.getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+    }
+
+    private static String acceptKey(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] bytes = digest.digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            return Base64.getEncoder().encodeToString(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Session open(HttpClassicClient client, CountDownLatch opened) {
+        String url = "ws://127.0.0.1:" + this.serverSocket.getLocalPort() + "/ws";
+        Session session = client.createWebSocketSession(url, new WebSocketClassicListener() {
+            @Override
+            public void onOpen(Session session) {
+                opened.countDown();
+            }
+
+            @Override
+            public void onMessage(Session session, String message) {}
+
+            @Override
+            public void onMessage(Session session, byte[] message) {}
+
+            @Override
+            public void onClose(Session session, int code, String reason) {}
+
+            @Override
+            public void onError(Session session, Throwable cause) {}
+        });
+        this.sessions.add(session);
+        return session;
+    }
+
+    @Test
+    @DisplayName("当打开大量会话时，所有会话共享同一个客户端的调度器")
+    void shouldShareDispatcherWhenOpenManySessions() throws InterruptedException {
+        // OkHttp 的每个 WebSocket 会话在调度器的线程上持续读取数据，需要允许足够多的并发调用，会话才能全部打开。
+        this.okHttpClient.dispatcher().setMaxRequests(SESSION_NUM);
+        this.okHttpClient.dispatcher().setMaxRequestsPerHost(SESSION_NUM);
+        HttpClassicClient client = new OkHttpClassicClient(Serializers.create(new HashMap<>()),
+                (object, propertyPath) -> null,
+                this.okHttpClient);
+        CountDownLatch opened = new CountDownLatch(SESSION_NUM);
+        for (int i = 0; i < SESSION_NUM; i++) {
+            this.open(client, opened);
+        }
+        assertThat(opened.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(this.okHttpClient.dispatcher().runningCallsCount()).isEqualTo(SESSION_NUM);
+        assertThat(this.okHttpClient.dispatcher().queuedCallsCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("当对端不读取数据导致待发送队列超过限制时，发送方等待直到超时")
+    void shouldThrowWhenSendQueueIsFullForTooLong() throws InterruptedException {
+        OkHttpWebSocketConfig config = new OkHttpWebSocketConfig(this.okHttpClient, 64 * 1024, 200);
+        HttpClassicClient client = new OkHttpClassicClient(Serializers.create(new HashMap<>()),
+                (object, propertyPath) -> null,
+                this.okHttpClient,
+                config);
+        CountDownLatch opened = new CountDownLatch(1);
+        Session session = this.open(client, opened);
+        assertThat(opened.await(10, TimeUnit.SECONDS)).isTrue();
+        byte[] bytes = new byte[16 * 1024];
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 16 * 1024; i++) {
+                session.send(bytes);
+            }
+        }).isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Timeout to wait for websocket send queue.");
+    }
+
+    @Test
+    @DisplayName("当单条消息超过待发送队列的限制时，直接拒绝发送")
+    void shouldRejectMessageLargerThanQueueLimit() throws InterruptedException {
+        OkHttpWebSocketConfig config = new OkHttpWebSocketConfig(this.okHttpClient, 1024, 200);
+        HttpClassicClient client = new OkHttpClassicClient(Serializers.create(new HashMap<>()),
+                (object, propertyPath) -> null,
+                this.okHttpClient,
+                config);
+        CountDownLatch opened = new CountDownLatch(1);
+        Session session = this.open(client, opened);
+        assertThat(opened.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> session.send(new byte[1025])).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("The websocket message is too large.");
+        assertThatThrownBy(() -> session.send("中".repeat(342))).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("The websocket message is too large.");
+        session.send("中".repeat(341));
+    }
+
+    @Test
+    @DisplayName("当使用默认配置的构造方法创建会话时，会话可以正常打开")
+    void shouldOpenSessionWithDefaultConfig() throws InterruptedException {
+        OkHttpClassicClient client = new OkHttpClassicClient(Serializers.create(new HashMap<>()),
+                (object, propertyPath) -> null,
+                this.okHttpClient);
+        CountDownLatch opened = new CountDownLatch(1);
+        String url = "ws://127.0.0.1:" + this.serverSocket.getLocalPort() + "/ws";
+        Session session = new OkHttpWebSocketSession(client, url, new WebSocketClassicListener() {
+            @Override
+            public void onOpen(Session session) {
+                opened.countDown();
+            }
+
+            @Override
+            public void onMessage(Session session, String message) {}
+
+            @Override
+            public void onMessage(Session session, byte[] message) {}
+
+            @Override
+            public void onClose(Session session, int code, String reason) {}
+
+            @Override
+            public void onError(Session session, Throwable cause) {}
+        });
+        this.sessions.add(session);
+        assertThat(opened.await(10, TimeUnit.SECONDS)).isTrue();
+        session.send("hello");
+    }
+
+    @Test
+    @DisplayName("当待发送队列的限制超过 OkHttp 的上限时，抛出异常")
+    void shouldRejectQueueLimitLargerThanOkHttpLimit() {
+        assertThatThrownBy(() -> new OkHttpWebSocketConfig(this.okHttpClient,
+                OkHttpWebSocketConfig.DEFAULT_MAX_QUEUE_SIZE + 1,
+                0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -153,6 +153,69 @@ public class DefaultReflectibleHttpHandlerTest {
                 .build();
     }
 
+    private DefaultReflectibleHttpHandler createControllerHandler(String methodName, Object... mappedArgs) {
+        Method controllerMethod = ReflectionUtils.findMethod(Controller.class, methodName, String.class, int.class)
+                .orElseThrow(IllegalStateException::new);
+        List<PropertyValueMapper> mappers = new ArrayList<>();
+        for (Object mappedArg : mappedArgs) {
+            mappers.add((request, response, context) -> mappedArg);
+        }
+        HttpHandler.StaticInfo staticInfo = HttpHandler.StaticInfo.builder()
+                .pathPattern("pathPattern")
+                .statusCode(200)
+                .propertyValueMetadata(new ArrayList<>())
+                .build();
+        HttpHandler.ExecutionInfo executionInfo = HttpHandler.ExecutionInfo.builder()
+                .httpServer(mock(HttpClassicServer.class))
+                .preFilters(new ArrayList<>())
+                .httpMappers(mappers)
+                .target(new Controller())
+                .method(controllerMethod)
+                .build();
+        return new DefaultReflectibleHttpHandler(staticInfo, executionInfo);
+    }
+
+    @Test
+    @DisplayName("执行处理器，映射后的参数直接传递给处理方法，返回值设置为响应实体")
+    void givenMappedArgsThenInvokeMethodAndSetEntity() {
+        DefaultReflectibleHttpHandler handler = this.createControllerHandler("concat", "a", 1);
+        handler.handle(this.request, this.response);
+        assertThat(this.response.statusCode()).isEqualTo(200);
+        assertThat(this.response.entity()).isPresent().get().isExactlyInstanceOf(DefaultTextEntity.class);
+        DefaultTextEntity text = ObjectUtils.cast(this.response.entity().get());
+        assertThat(text.content()).isEqualTo("a1");
+    }
+
+    @Test
+    @DisplayName("执行处理器，处理方法抛出异常时，交给异常处理逻辑")
+    void givenMethodThrowsThenHandleException() {
+        DefaultReflectibleHttpHandler handler = this.createControllerHandler("fail", "a", 1);
+        handler.handle(this.request, this.response);
+        assertThat(this.response.statusCode()).isEqualTo(HttpResponseStatus.INTERNAL_SERVER_ERROR.statusCode());
+        assertThat(this.response.entity()).isPresent().get().isExactlyInstanceOf(DefaultObjectEntity.class);
+    }
+
+    @Test
+    @DisplayName("执行处理器，参数与处理方法不匹配时，交给异常处理逻辑")
+    void givenMismatchedArgsThenHandleException() {
+        DefaultReflectibleHttpHandler handler = this.createControllerHandler("concat", "a");
+        handler.handle(this.request, this.response);
+        assertThat(this.response.statusCode()).isEqualTo(HttpResponseStatus.INTERNAL_SERVER_ERROR.statusCode());
+    }
+
+    /**
+     * 表示测试使用的控制器。
+     */
+    private static class Controller {
+        private String concat(String prefix, int suffix) {
+            return prefix + suffix;
+        }
+
+        private String fail(String prefix, int suffix) {
+            throw new IllegalStateException(prefix + suffix);
+        }
+    }
+
     @Nested
     @DisplayName("添加客户端 Json 序列化器")
     class AddCustomJsonSerializer {
@@ -0,0 +1,64 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.function.Consumer;
+
+/**
+ * 表示 TLS 连接上基于 ALPN 的应用层协议协商处理器。
+ * <p>握手成功后，如果协商的结果为 {@code h2}，则使用 HTTP/2，否则使用 HTTP/1.1。协议确定后处理器将自身从管道中移除。
+ * 协商结果直接从 JDK 的 {@link javax.net.ssl.SSLEngine} 中读取，不依赖 Netty 的 {@code SslContext}。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+class AlpnProtocolNegotiator extends ChannelInboundHandlerAdapter {
+    /** 表示 ALPN 中 HTTP/2 的协议名。 */
+    static final String H2 = "h2";
+
+    /** 表示 ALPN 中 HTTP/1.1 的协议名。 */
+    static final String HTTP_1_1 = "http/1.1";
+
+    private final Consumer<ChannelPipeline> http2Configurer;
+    private final Consumer<ChannelPipeline> http1Configurer;
+
+    /**
+     * 创建 TLS 连接上基于 ALPN 的应用层协议协商处理器。
+     *
+     * @param http2Configurer 表示配置 HTTP/2 管道的 {@link Consumer}{@code <}{@link ChannelPipeline}{@code >}。
+     * @param http1Configurer 表示配置 HTTP/1.1 管道的 {@link Consumer}{@code <}{@link ChannelPipeline}{@code >}。
+     */
+    AlpnProtocolNegotiator(Consumer<ChannelPipeline> http2Configurer, Consumer<ChannelPipeline> http1Configurer) {
+        this.http2Configurer = notNull(http2Configurer, "The http2 configurer cannot be null.");
+        this.http1Configurer = notNull(http1Configurer, "The http1 configurer cannot be null.");
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof SslHandshakeCompletionEvent && ((SslHandshakeCompletionEvent) evt).isSuccess()) {
+            SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
+            String protocol = sslHandler.engine().getApplicationProtocol();
+            if (StringUtils.equals(protocol, H2)) {
+                this.http2Configurer.accept(ctx.pipeline());
+            } else {
+                this.http1Configurer.accept(ctx.pipeline());
+            }
+            ctx.pipeline().remove(this);
+        }
+        // 握手失败时由 SslHandler 关闭连接，这里只需要继续传递事件。
+        ctx.fireUserEventTriggered(evt);
+    }
+}
@@ -0,0 +1,60 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 表示明文连接上的 HTTP/2 协议探测器。
+ * <p>连接建立后，如果客户端发送的前 24 个字节是 HTTP/2 的连接前言，则按照 prior knowledge 的方式使用 {@code h2c}，否则使用
+ * HTTP/1.1。协议确定后探测器将自身从管道中移除，已经接收到的数据会原样传递给新的处理器。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+class Http2PriorKnowledgeDetector extends ByteToMessageDecoder {
+    private static final ByteBuf CONNECTION_PREFACE = Http2CodecUtil.connectionPrefaceBuf();
+
+    private final Consumer<ChannelPipeline> http2Configurer;
+    private final Consumer<ChannelPipeline> http1Configurer;
+
+    /**
+     * 创建明文连接上的 HTTP/2 协议探测器。
+     *
+     * @param http2Configurer 表示配置 HTTP/2 管道的 {@link Consumer}{@code <}{@link ChannelPipeline}{@code >}。
+     * @param http1Configurer 表示配置 HTTP/1.1 管道的 {@link Consumer}{@code <}{@link ChannelPipeline}{@code >}。
+     */
+    Http2PriorKnowledgeDetector(Consumer<ChannelPipeline> http2Configurer, Consumer<ChannelPipeline> http1Configurer) {
+        this.http2Configurer = notNull(http2Configurer, "The http2 configurer cannot be null.");
+        this.http1Configurer = notNull(http1Configurer, "The http1 configurer cannot be null.");
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        int prefaceLength = CONNECTION_PREFACE.readableBytes();
+        int length = Math.min(in.readableBytes(), prefaceLength);
+        if (!ByteBufUtil.equals(CONNECTION_PREFACE, CONNECTION_PREFACE.readerIndex(), in, in.readerIndex(), length)) {
+            this.http1Configurer.accept(ctx.pipeline());
+        } else if (length == prefaceLength) {
+            this.http2Configurer.accept(ctx.pipeline());
+        } else {
+            // 已接收的数据是连接前言的前缀，等待更多的数据。
+            return;
+        }
+        ctx.pipeline().remove(this);
+    }
+}
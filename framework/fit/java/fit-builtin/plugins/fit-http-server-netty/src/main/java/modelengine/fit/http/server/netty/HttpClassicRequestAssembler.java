@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -7,7 +7,7 @@
 package modelengine.fit.http.server.netty;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.CONTINUE;
-import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.valueOf;
 import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static modelengine.fit.http.HttpClassicRequestAttribute.HTTP_HANDLER;
@@ -41,15 +41,17 @@ import modelengine.fit.http.server.HttpClassicServerResponse;
 import modelengine.fit.http.server.HttpHandler;
 import modelengine.fit.http.server.HttpServerFilterChain;
 import modelengine.fit.http.server.HttpServerResponseException;
-import modelengine.fit.http.server.support.DefaultHttpServerFilterChain;
+import modelengine.fit.http.server.netty.support.NettyRejectionPolicy;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.pattern.builder.BuilderFactory;
 import modelengine.fitframework.schedule.Task;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.util.IoUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
 import java.util.concurrent.TimeUnit;
 
@@ -84,6 +86,7 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
                 .isDaemonThread(!this.config.isGracefulExit())
                 .exceptionHandler((thread, cause) -> log.error("Failed to handle http request by request assembler.",
                         cause))
+                // 线程池只负责抛出拒绝异常，被拒绝的请求按照配置的拒绝策略处理，参见 reject 方法。
                 .rejectedExecutionHandler(new AbortPolicy())
                 .build();
     }
@@ -140,9 +143,7 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
         if (msg instanceof HttpRequest) {
             clearRequest(ctx);
             this.handleHttpRequest(ctx, cast(msg));
-            return;
-        }
-        if (msg instanceof HttpContent) {
+        } else if (msg instanceof HttpContent) {
             this.handleHttpContent(ctx, cast(msg));
         }
     }
@@ -151,13 +152,63 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
         NettyHttpServerRequest serverRequest =
                 new NettyHttpServerRequest(request, ctx, this.secure, this.config.largeBodySize());
         setRequest(ctx, serverRequest);
+        // HTTP/2 的请求在头部帧上结束流时，转换得到的是同时携带消息体的完整请求。消息体需要在分发之前接收，
+        // 否则业务线程可能已经结束请求并清理了通道上的请求，IO 线程再接收消息体时将找不到请求。
+        if (request instanceof HttpContent) {
+            this.receiveHttpContent(ctx, serverRequest, cast(request));
+        }
         if (HttpUtil.is100ContinueExpected(request)) {
             this.return100Continue(ctx);
+        } else if (this.config.isInlineNonBlocking() && !serverRequest.isLargeBody()) {
+            if (request instanceof LastHttpContent) {
+                this.doHttpRequestOnEventLoop(ctx, serverRequest);
+            } else {
+                serverRequest.deferDispatch();
+            }
         } else {
+            this.execute(ctx, serverRequest, () -> this.doHttpRequest(ctx, serverRequest));
+        }
+    }
+
+    private boolean execute(ChannelHandlerContext ctx, NettyHttpServerRequest request, Runnable runnable) {
+        try {
             this.threadPoolExecutor.execute(Task.builder()
-                    .runnable(() -> this.doHttpRequest(ctx, serverRequest))
-                    .uncaughtExceptionHandler((thread, cause) -> this.exceptionCaught(ctx, cause, serverRequest))
+                    .runnable(runnable)
+                    .uncaughtExceptionHandler((thread, cause) -> this.exceptionCaught(ctx, cause, request))
                     .buildDisposable());
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Too many http requests, reject by request assembler. [path={}]",
+                    request.startLine().requestUri());
+            this.reject(ctx, request);
+            return false;
+        }
+    }
+
+    /**
+     * 拒绝业务线程池无法接收的请求。
+     * <p>按照 {@link NettyRejectionPolicy#KEEP_ALIVE} 拒绝时，返回 503 响应后保持连接，被拒绝请求的剩余消息体在 IO 线程上
+     * 直接丢弃，连接上的后续请求可以继续处理。按照 {@link NettyRejectionPolicy#CLOSE} 拒绝，或者客户端不保持连接时，返回
+     * 503 响应后关闭连接。</p>
+     *
+     * @param ctx 表示 Netty 通道处理器上下文的 {@link ChannelHandlerContext}。
+     * @param request 表示被拒绝的请求的 {@link NettyHttpServerRequest}。
+     */
+    private void reject(ChannelHandlerContext ctx, NettyHttpServerRequest request) {
+        HttpServerResponseException cause =
+                new HttpServerResponseException(HttpResponseStatus.SERVICE_UNAVAILABLE, "Service Unavailable");
+        HttpRequest nettyRequest = request.getNettyRequest();
+        if (this.config.rejectionPolicy() == NettyRejectionPolicy.CLOSE || !HttpUtil.isKeepAlive(nettyRequest)) {
+            this.returnError(ctx, cause, request);
+            return;
+        }
+        FullHttpResponse response = this.buildErrorResponse(cause, request);
+        HttpUtil.setKeepAlive(response.headers(), nettyRequest.protocolVersion(), true);
+        ctx.writeAndFlush(response);
+        try {
+            request.reject();
+        } catch (IOException e) {
+            log.warn("Failed to close netty http server request when rejected, ignored.", e);
         }
     }
 
@@ -169,20 +220,76 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
              // of the try block, which would cause write failures when SSE sends data.
              HttpClassicServerResponse classicResponse = HttpClassicServerResponse.create(this.server,
                      new NettyHttpServerResponse(ctx, request))) {
-            HttpHandler handler = this.server.httpDispatcher().dispatch(classicRequest, classicResponse);
-            classicRequest.attributes().set(PATH_PATTERN.key(), handler.pathPattern());
-            classicRequest.attributes().set(HTTP_HANDLER.key(), handler);
-            HttpServerFilterChain filterChain = new DefaultHttpServerFilterChain(handler);
-            this.doFilterChain(filterChain, classicRequest, classicResponse);
+            HttpHandler handler = this.dispatch(classicRequest, classicResponse);
+            this.doFilterChain(handler, classicRequest, classicResponse);
         } catch (Exception cause) {
             this.exceptionCaught(ctx, cause, request);
         } finally {
-            request.removeExecuteThread();
-            try {
-                request.tryClose();
-            } catch (IOException e) {
-                log.warn("Failed to close netty http server request when request finished, ignored.", e);
-            }
+            this.finishExecution(request);
+        }
+    }
+
+    /**
+     * 在 IO 线程上分发已经接收完整个消息体的请求。
+     * <p>非阻塞的 Http 处理器直接在 IO 线程上执行，其余的 Http 处理器切换到业务线程池中执行。在 IO 线程上执行时不设置执行线程，
+     * 避免连接断开时中断 IO 线程。</p>
+     *
+     * @param ctx 表示 Netty 通道处理器上下文的 {@link ChannelHandlerContext}。
+     * @param request 表示待分发的请求的 {@link NettyHttpServerRequest}。
+     */
+    private void doHttpRequestOnEventLoop(ChannelHandlerContext ctx, NettyHttpServerRequest request) {
+        HttpClassicServerRequest classicRequest = HttpClassicServerRequest.create(this.server, request);
+        HttpClassicServerResponse classicResponse =
+                HttpClassicServerResponse.create(this.server, new NettyHttpServerResponse(ctx, request));
+        HttpHandler handler;
+        try {
+            handler = this.dispatch(classicRequest, classicResponse);
+        } catch (Exception cause) {
+            IoUtils.close(classicRequest);
+            IoUtils.close(classicResponse);
+            this.exceptionCaught(ctx, cause, request);
+            this.finishExecution(request);
+            return;
+        }
+        if (handler.isNonBlocking()) {
+            this.doFilterChain(ctx, request, handler, classicRequest, classicResponse);
+            return;
+        }
+        boolean isAccepted = this.execute(ctx, request, () -> {
+            request.setExecuteThread(Thread.currentThread());
+            this.doFilterChain(ctx, request, handler, classicRequest, classicResponse);
+        });
+        if (!isAccepted) {
+            IoUtils.close(classicRequest);
+            IoUtils.close(classicResponse);
+            this.finishExecution(request);
+        }
+    }
+
+    private HttpHandler dispatch(HttpClassicServerRequest classicRequest, HttpClassicServerResponse classicResponse) {
+        HttpHandler handler = this.server.httpDispatcher().dispatch(classicRequest, classicResponse);
+        classicRequest.attributes().set(PATH_PATTERN.key(), handler.pathPattern());
+        classicRequest.attributes().set(HTTP_HANDLER.key(), handler);
+        return handler;
+    }
+
+    private void doFilterChain(ChannelHandlerContext ctx, NettyHttpServerRequest request, HttpHandler handler,
+            HttpClassicServerRequest classicRequest, HttpClassicServerResponse classicResponse) {
+        try (classicRequest; classicResponse) {
+            this.doFilterChain(handler, classicRequest, classicResponse);
+        } catch (Exception cause) {
+            this.exceptionCaught(ctx, cause, request);
+        } finally {
+            this.finishExecution(request);
+        }
+    }
+
+    private void finishExecution(NettyHttpServerRequest request) {
+        request.removeExecuteThread();
+        try {
+            request.tryClose();
+        } catch (IOException e) {
+            log.warn("Failed to close netty http server request when request finished, ignored.", e);
         }
     }
 
@@ -196,13 +303,26 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
                     ctx.channel().isOpen());
             throw new IllegalStateException(message);
         }
-        this.receiveHttpContent(request, content);
+        if (request.isRejected()) {
+            // 被拒绝的请求已经返回了响应，剩余的消息体直接丢弃，由父类在读取结束后释放。
+            if (content instanceof LastHttpContent) {
+                clearRequest(ctx);
+            }
+            return;
+        }
+        this.receiveHttpContent(ctx, request, content);
     }
 
-    private void receiveHttpContent(NettyHttpServerRequest serverRequest, HttpContent content) {
+    private void receiveHttpContent(ChannelHandlerContext ctx, NettyHttpServerRequest serverRequest,
+            HttpContent content) {
         try {
             if (content instanceof LastHttpContent) {
                 serverRequest.receiveLastHttpContent(cast(content));
+                if (serverRequest.isDispatchDeferred()) {
+                    // 推迟分发的请求在执行结束时尝试关闭，无论是否在 IO 线程上执行。
+                    this.doHttpRequestOnEventLoop(ctx, serverRequest);
+                    return;
+                }
                 try {
                     serverRequest.tryClose();
                 } catch (IOException e) {
@@ -216,8 +336,9 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
         }
     }
 
-    private void doFilterChain(HttpServerFilterChain chain, HttpClassicServerRequest classicRequest,
+    private void doFilterChain(HttpHandler handler, HttpClassicServerRequest classicRequest,
             HttpClassicServerResponse classicResponse) {
+        HttpServerFilterChain chain = handler.createFilterChain();
         chain.doFilter(classicRequest, classicResponse);
         this.server.send(classicResponse);
     }
@@ -228,41 +349,45 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
     }
 
     private void returnError(ChannelHandlerContext ctx, Throwable cause, NettyHttpServerRequest request) {
+        ctx.writeAndFlush(this.buildErrorResponse(cause, request));
+        this.stopExecution(ctx);
+    }
+
+    private FullHttpResponse buildErrorResponse(Throwable cause, NettyHttpServerRequest request) {
         String path = request == null ? "unknown" : request.startLine().requestUri();
         String errorMessage = this.config.shouldDisplayError() && StringUtils.isNotBlank(cause.getMessage())
                 ? cause.getMessage()
                 : "Internal Server Error";
-        FullHttpResponse response = this.server.serializers()
+        return this.server.serializers()
                 .json()
                 .map(objectSerializer -> this.returnErrorByJson(cause, path, errorMessage, objectSerializer))
-                .orElseGet(() -> this.returnErrorByText(path, errorMessage));
-        ctx.writeAndFlush(response);
-        this.stopExecution(ctx);
+                .orElseGet(() -> this.returnErrorByText(cause, path, errorMessage));
     }
 
     private FullHttpResponse returnErrorByJson(Throwable cause, String path, String errorMessage,
             ObjectSerializer jsonSerializer) {
-        ErrorResponse errorResponse;
+        ErrorResponse errorResponse = ErrorResponse.create(this.getResponseStatus(cause), errorMessage, path);
+        byte[] serialized = jsonSerializer.serialize(errorResponse, UTF_8);
+        return createErrorResponse(errorResponse.getStatus(), serialized, APPLICATION_JSON.value());
+    }
+
+    private FullHttpResponse returnErrorByText(Throwable cause, String path, String errorMessage) {
+        byte[] serialized = StringUtils.format("message: {0}, path: {1}", errorMessage, path).getBytes(UTF_8);
+        return createErrorResponse(this.getResponseStatus(cause).statusCode(), serialized, TEXT_PLAIN.value());
+    }
+
+    private HttpResponseStatus getResponseStatus(Throwable cause) {
         if (cause instanceof HttpServerResponseException) {
             HttpServerResponseException actualException = cast(cause);
-            errorResponse = ErrorResponse.create(actualException.responseStatus(), errorMessage, path);
-        } else {
-            errorResponse = ErrorResponse.create(HttpResponseStatus.INTERNAL_SERVER_ERROR, errorMessage, path);
+            return actualException.responseStatus();
         }
-        byte[] serialized = jsonSerializer.serialize(errorResponse, UTF_8);
-        FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1,
-                io.netty.handler.codec.http.HttpResponseStatus.valueOf(errorResponse.getStatus()),
-                Unpooled.copiedBuffer(serialized));
-        response.headers().set(CONTENT_TYPE, APPLICATION_JSON.value());
-        response.headers().set(CONTENT_LENGTH, serialized.length);
-        return response;
+        return HttpResponseStatus.INTERNAL_SERVER_ERROR;
     }
 
-    private FullHttpResponse returnErrorByText(String path, String errorMessage) {
-        byte[] serialized = StringUtils.format("message: {0}, path: {1}", errorMessage, path).getBytes(UTF_8);
+    private static FullHttpResponse createErrorResponse(int statusCode, byte[] serialized, String contentType) {
         FullHttpResponse response =
-                new DefaultFullHttpResponse(HTTP_1_1, INTERNAL_SERVER_ERROR, Unpooled.copiedBuffer(serialized));
-        response.headers().set(CONTENT_TYPE, TEXT_PLAIN.value());
+                new DefaultFullHttpResponse(HTTP_1_1, valueOf(statusCode), Unpooled.copiedBuffer(serialized));
+        response.headers().set(CONTENT_TYPE, contentType);
         response.headers().set(CONTENT_LENGTH, serialized.length);
         return response;
     }
@@ -313,6 +438,23 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
          */
         boolean isGracefulExit();
 
+        /**
+         * 获取是否在 IO 线程上直接执行非阻塞的 Http 处理器的标记。
+         * <p>开启后，消息体不超过巨大消息体阈值的请求在消息体接收完毕后在 IO 线程上分发，非阻塞的 Http 处理器直接在 IO 线程上
+         * 执行，其余的 Http 处理器仍然切换到业务线程池中执行。</p>
+         *
+         * @return 表示是否在 IO 线程上直接执行非阻塞的 Http 处理器的标记的 {@code boolean}。
+         */
+        boolean isInlineNonBlocking();
+
+        /**
+         * 获取业务线程池已满时拒绝请求的策略。
+         *
+         * @return 表示拒绝请求的策略的 {@link NettyRejectionPolicy}，为 {@code null} 时等同于
+         * {@link NettyRejectionPolicy#KEEP_ALIVE}。
+         */
+        NettyRejectionPolicy rejectionPolicy();
+
         /**
          * 表示 {@link Config} 的构建器。
          */
@@ -365,6 +507,22 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
              */
             Builder isGracefulExit(boolean isGracefulExit);
 
+            /**
+             * 向当前构建器中设置是否在 IO 线程上直接执行非阻塞的 Http 处理器的标记。
+             *
+             * @param isInlineNonBlocking 表示待设置的是否在 IO 线程上直接执行非阻塞的 Http 处理器的标记的 {@code boolean}。
+             * @return 表示当前构建器的 {@link Builder}。
+             */
+            Builder isInlineNonBlocking(boolean isInlineNonBlocking);
+
+            /**
+             * 向当前构建器中设置业务线程池已满时拒绝请求的策略。
+             *
+             * @param rejectionPolicy 表示待设置的拒绝请求的策略的 {@link NettyRejectionPolicy}。
+             * @return 表示当前构建器的 {@link Builder}。
+             */
+            Builder rejectionPolicy(NettyRejectionPolicy rejectionPolicy);
+
             /**
              * 构建对象。
              *
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -12,19 +12,27 @@ import static modelengine.fitframework.inspection.Validation.lessThanOrEquals;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.NettyRuntime;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import modelengine.fit.http.Serializers;
@@ -33,6 +41,8 @@ import modelengine.fit.http.server.HttpClassicServer;
 import modelengine.fit.http.server.HttpClassicServerResponse;
 import modelengine.fit.http.server.HttpDispatcher;
 import modelengine.fit.http.server.HttpServerStartupException;
+import modelengine.fit.http.server.netty.support.NettyRejectionPolicy;
+import modelengine.fit.http.server.netty.support.NettyTransport;
 import modelengine.fit.http.server.netty.websocket.ProtocolUpgrader;
 import modelengine.fit.http.websocket.server.WebSocketDispatcher;
 import modelengine.fit.security.Decryptor;
@@ -63,6 +73,7 @@ import java.util.concurrent.locks.Lock;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
 import javax.net.ssl.TrustManager;
 
 /**
@@ -87,6 +98,11 @@ public class NettyHttpClassicServer implements HttpClassicServer {
     private final int queueCapacity;
     private final long largeBodySize;
     private final NettyHttpServerConfig nettyConfig;
+    private final NettyTransport transport;
+    private final NettyRejectionPolicy rejectionPolicy;
+    private final int bossThreadNum;
+    private final int workerThreadNum;
+    private final WriteBufferWaterMark writeBufferWaterMark;
     private final ServerConfig.Secure httpsConfig;
 
     private final ThreadPoolExecutor startServerExecutor =
@@ -115,6 +131,13 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                 : Math.max(NettyRuntime.availableProcessors() * 2, 10);
         this.maxThreadNum = Math.max(this.nettyConfig.getMaxThreadNum(), this.coreThreadNum);
         this.queueCapacity = Math.max(this.nettyConfig.getQueueCapacity(), 0);
+        this.transport = NettyTransport.select(this.nettyConfig.getTransport());
+        this.rejectionPolicy = NettyRejectionPolicy.from(this.nettyConfig.getRejectionPolicy());
+        this.bossThreadNum = Math.max(this.nettyConfig.getBossThreadNum(), 1);
+        this.workerThreadNum = this.nettyConfig.getWorkerThreadNum() > 0
+                ? this.nettyConfig.getWorkerThreadNum()
+                : this.coreThreadNum;
+        this.writeBufferWaterMark = createWriteBufferWaterMark(this.nettyConfig);
         this.isGracefulExit = isGracefulExit;
         this.httpsConfig = notNull(httpConfig, "The http config cannot be null.").secure().orElse(null);
         this.largeBodySize = httpConfig.largeBodySize();
@@ -198,7 +221,7 @@ public class NettyHttpClassicServer implements HttpClassicServer {
     }
 
     private void startServer() {
-        EventLoopGroup bossGroup = createBossGroup();
+        EventLoopGroup bossGroup = this.createBossGroup();
         EventLoopGroup workerGroup = this.createWorkerGroup();
         try {
             SSLContext sslContext = null;
@@ -209,19 +232,19 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                     this.getAssemblerConfig(),
                     this.httpsPort,
                     sslContext,
-                    this.httpsConfig);
+                    this.httpsConfig,
+                    this.nettyConfig.isHttp2Enabled());
             ServerBootstrap serverBootstrap = new ServerBootstrap();
             serverBootstrap.group(bossGroup, workerGroup)
-                    .channel(NioServerSocketChannel.class)
+                    .channel(this.transport.serverChannelClass())
                     .childHandler(channelHandler);
+            int acceptorNum = this.configureOptions(serverBootstrap);
             this.logServerStarted();
             if (this.httpPort > 0) {
-                Channel channel = serverBootstrap.bind(this.httpPort).sync().channel();
-                this.channelGroup.add(channel);
+                this.bindAcceptors(serverBootstrap, this.httpPort, acceptorNum);
             }
             if (this.httpsPort > 0) {
-                Channel channel = serverBootstrap.bind(this.httpsPort).sync().channel();
-                this.channelGroup.add(channel);
+                this.bindAcceptors(serverBootstrap, this.httpsPort, acceptorNum);
             }
             ChannelGroupFuture channelFutures = this.channelGroup.newCloseFuture();
             this.isStarted = true;
@@ -235,6 +258,70 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         }
     }
 
+    /**
+     * 根据配置设置服务端的通道参数。
+     *
+     * @param serverBootstrap 表示服务端启动器的 {@link ServerBootstrap}。
+     * @return 表示每个端口需要绑定的接收连接的通道数量的 {@code int}。
+     */
+    private int configureOptions(ServerBootstrap serverBootstrap) {
+        ByteBufAllocator allocator = this.createAllocator();
+        if (allocator != null) {
+            serverBootstrap.option(ChannelOption.ALLOCATOR, allocator).childOption(ChannelOption.ALLOCATOR, allocator);
+        }
+        if (this.writeBufferWaterMark != null) {
+            serverBootstrap.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, this.writeBufferWaterMark);
+        }
+        int tcpFastOpen = this.nettyConfig.getTcpFastOpen();
+        if (tcpFastOpen > 0) {
+            this.transport.enableTcpFastOpen(serverBootstrap, tcpFastOpen);
+        }
+        if (!this.nettyConfig.isReusePort()) {
+            return 1;
+        }
+        this.transport.enableReusePort(serverBootstrap);
+        return this.transport.supportsReusePort() ? this.bossThreadNum : 1;
+    }
+
+    private void bindAcceptors(ServerBootstrap serverBootstrap, int port, int acceptorNum)
+            throws InterruptedException {
+        for (int i = 0; i < acceptorNum; i++) {
+            Channel channel = serverBootstrap.bind(port).sync().channel();
+            this.channelGroup.add(channel);
+        }
+    }
+
+    private ByteBufAllocator createAllocator() {
+        int heapArenaNum = this.nettyConfig.getAllocatorHeapArenaNum();
+        int directArenaNum = this.nettyConfig.getAllocatorDirectArenaNum();
+        if (heapArenaNum < 0 && directArenaNum < 0) {
+            return null;
+        }
+        return new PooledByteBufAllocator(PooledByteBufAllocator.defaultPreferDirect(),
+                heapArenaNum < 0 ? PooledByteBufAllocator.defaultNumHeapArena() : heapArenaNum,
+                directArenaNum < 0 ? PooledByteBufAllocator.defaultNumDirectArena() : directArenaNum,
+                PooledByteBufAllocator.defaultPageSize(),
+                PooledByteBufAllocator.defaultMaxOrder(),
+                PooledByteBufAllocator.defaultSmallCacheSize(),
+                PooledByteBufAllocator.defaultNormalCacheSize(),
+                PooledByteBufAllocator.defaultUseCacheForAllThreads());
+    }
+
+    private static WriteBufferWaterMark createWriteBufferWaterMark(NettyHttpServerConfig nettyConfig) {
+        int low = nettyConfig.getWriteBufferLowWaterMark();
+        int high = nettyConfig.getWriteBufferHighWaterMark();
+        if (low <= 0 && high <= 0) {
+            return null;
+        }
+        int actualLow = low > 0 ? low : WriteBufferWaterMark.DEFAULT.low();
+        int actualHigh = high > 0 ? high : Math.max(WriteBufferWaterMark.DEFAULT.high(), actualLow);
+        isTrue(actualHigh >= actualLow,
+                "The write buffer high water mark cannot be less than the low water mark. [low={0}, high={1}]",
+                actualLow,
+                actualHigh);
+        return new WriteBufferWaterMark(actualLow, actualHigh);
+    }
+
     private HttpClassicRequestAssembler.Config getAssemblerConfig() {
         return HttpClassicRequestAssembler.Config.custom()
                 .shouldDisplayError(this.nettyConfig.isDisplayError())
@@ -243,10 +330,16 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                 .maxThreadNum(this.maxThreadNum)
                 .queueCapacity(this.queueCapacity)
                 .isGracefulExit(this.isGracefulExit)
+                .isInlineNonBlocking(this.nettyConfig.isInlineNonBlocking())
+                .rejectionPolicy(this.rejectionPolicy)
                 .build();
     }
 
     private void logServerStarted() {
+        log.info("Netty http server transport is ready. [transport={}, bossThreadNum={}, workerThreadNum={}]",
+                this.transport.code(),
+                this.bossThreadNum,
+                this.workerThreadNum);
         if (this.httpPort > 0 && this.httpsPort > 0) {
             log.info("Start netty http server successfully. [httpPort={}, httpsPort={}]",
                     this.httpPort,
@@ -258,15 +351,16 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         }
     }
 
-    private static EventLoopGroup createBossGroup() {
-        return new NioEventLoopGroup(1, new DefaultThreadFactory("netty-boss-group", false, (thread, exception) -> {
-            log.error("Netty boss group occurs exception.", exception);
-        }));
+    private EventLoopGroup createBossGroup() {
+        return this.transport.createEventLoopGroup(this.bossThreadNum,
+                new DefaultThreadFactory("netty-boss-group", false, (thread, exception) -> {
+                    log.error("Netty boss group occurs exception.", exception);
+                }));
     }
 
     private EventLoopGroup createWorkerGroup() {
         boolean isDaemon = !this.isGracefulExit;
-        return new NioEventLoopGroup(this.coreThreadNum,
+        return this.transport.createEventLoopGroup(this.workerThreadNum,
                 new DefaultThreadFactory("netty-worker-group", isDaemon, (thread, exception) -> {
                     log.error("Netty worker group occurs exception.", exception);
                 }));
@@ -360,12 +454,16 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         private final ProtocolUpgrader secureUpgrader;
         private final HttpClassicRequestAssembler assembler;
         private final HttpClassicRequestAssembler secureAssembler;
+        private final boolean isHttp2Enabled;
+        private final ChannelHandler streamInitializer;
+        private final ChannelHandler secureStreamInitializer;
 
         ChannelInitializerHandler(HttpClassicServer server, HttpClassicRequestAssembler.Config assemblerConfig,
-                int httpsPort, SSLContext sslContext, ServerConfig.Secure httpsConfig) {
+                int httpsPort, SSLContext sslContext, ServerConfig.Secure httpsConfig, boolean isHttp2Enabled) {
             this.httpsPort = httpsPort;
             this.sslContext = sslContext;
             this.httpsConfig = httpsConfig;
+            this.isHttp2Enabled = isHttp2Enabled;
             this.upgrader = new ProtocolUpgrader(server,
                     false,
                     assemblerConfig.largeBodySize(),
@@ -376,24 +474,52 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                     assemblerConfig.isGracefulExit());
             this.assembler = new HttpClassicRequestAssembler(server, false, assemblerConfig);
             this.secureAssembler = new HttpClassicRequestAssembler(server, true, assemblerConfig);
+            this.streamInitializer = new Http2StreamInitializer(this.assembler);
+            this.secureStreamInitializer = new Http2StreamInitializer(this.secureAssembler);
         }
 
         @Override
         protected void initChannel(SocketChannel ch) {
             ChannelPipeline pipeline = ch.pipeline();
+            // 合并业务线程中相邻的多次刷新，减少系统调用的次数。
+            pipeline.addLast(new FlushConsolidationHandler(
+                    FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true));
             if (ch.localAddress().getPort() == this.httpsPort && this.sslContext != null
                     && this.httpsConfig.isSslEnabled()) {
                 pipeline.addLast(new SslHandler(this.buildSslEngine(this.sslContext, this.httpsConfig)));
-                pipeline.addLast(new HttpServerCodec());
+                if (this.isHttp2Enabled) {
+                    pipeline.addLast(new AlpnProtocolNegotiator(p -> this.configureHttp2(p, true),
+                            p -> this.configureHttp1(p, true)));
+                } else {
+                    this.configureHttp1(pipeline, true);
+                }
+            } else if (this.isHttp2Enabled) {
+                pipeline.addLast(new Http2PriorKnowledgeDetector(p -> this.configureHttp2(p, false),
+                        p -> this.configureHttp1(p, false)));
+            } else {
+                this.configureHttp1(pipeline, false);
+            }
+        }
+
+        private void configureHttp1(ChannelPipeline pipeline, boolean secure) {
+            pipeline.addLast(new HttpServerCodec());
+            if (secure) {
+                // TLS 连接无法使用零拷贝的文件传输，文件响应需要分块写出。
+                pipeline.addLast(new ChunkedWriteHandler());
                 pipeline.addLast(this.secureUpgrader);
                 pipeline.addLast(this.secureAssembler);
             } else {
-                pipeline.addLast(new HttpServerCodec());
                 pipeline.addLast(this.upgrader);
                 pipeline.addLast(this.assembler);
             }
         }
 
+        private void configureHttp2(ChannelPipeline pipeline, boolean secure) {
+            // 每个 HTTP/2 流映射为一个子通道，子通道上的请求和响应与 HTTP/1.1 使用相同的处理器。
+            pipeline.addLast(Http2FrameCodecBuilder.forServer().build());
+            pipeline.addLast(new Http2MultiplexHandler(secure ? this.secureStreamInitializer : this.streamInitializer));
+        }
+
         private SSLEngine buildSslEngine(SSLContext sslContext, ServerConfig.Secure httpsConfig) {
             SSLEngine sslEngine = sslContext.createSSLEngine();
             sslEngine.setUseClientMode(false);
@@ -405,7 +531,31 @@ public class NettyHttpClassicServer implements HttpClassicServer {
             String[] enabledCipherSuite = CollectionUtils.intersect(configuredCipherSuite,
                     Arrays.asList(sslEngine.getSupportedCipherSuites())).toArray(new String[0]);
             sslEngine.setEnabledCipherSuites(enabledCipherSuite);
+            if (this.isHttp2Enabled) {
+                SSLParameters sslParameters = sslEngine.getSSLParameters();
+                sslParameters.setApplicationProtocols(
+                        new String[] {AlpnProtocolNegotiator.H2, AlpnProtocolNegotiator.HTTP_1_1});
+                sslEngine.setSSLParameters(sslParameters);
+            }
             return sslEngine;
         }
     }
+
+    /**
+     * 表示 HTTP/2 流对应的子通道的初始化器，将 HTTP/2 的帧转换为 Http 消息后交给 Http 请求的组装器处理。
+     */
+    @ChannelHandler.Sharable
+    private static class Http2StreamInitializer extends ChannelInitializer<Http2StreamChannel> {
+        private final HttpClassicRequestAssembler assembler;
+
+        Http2StreamInitializer(HttpClassicRequestAssembler assembler) {
+            this.assembler = assembler;
+        }
+
+        @Override
+        protected void initChannel(Http2StreamChannel ch) {
+            ch.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(true));
+            ch.pipeline().addLast(this.assembler);
+        }
+    }
 }
@@ -40,4 +40,96 @@ public interface NettyHttpServerConfig {
      * @return 表示 Http 响应发生错误时，是否显示错误详细信息的 {@code boolean}。
      */
     boolean isDisplayError();
+
+    /**
+     * 获取是否在 IO 线程上直接执行非阻塞的 Http 处理器。
+     * <p>开启后，标记为非阻塞的 Http 处理器在请求消息体接收完毕后直接在 IO 线程上执行，不再切换到业务线程池。</p>
+     *
+     * @return 表示是否在 IO 线程上直接执行非阻塞的 Http 处理器的 {@code boolean}。
+     */
+    boolean isInlineNonBlocking();
+
+    /**
+     * 获取是否开启 HTTP/2。
+     * <p>开启后，TLS 连接通过 ALPN 协商使用 {@code h2} 或 {@code http/1.1}，明文连接在收到 HTTP/2 连接前言时直接使用
+     * {@code h2c}（prior knowledge），否则仍然使用 HTTP/1.1。</p>
+     *
+     * @return 表示是否开启 HTTP/2 的 {@code boolean}。
+     */
+    boolean isHttp2Enabled();
+
+    /**
+     * 获取网络传输层的类型。
+     * <p>可选值为 {@code 'auto'}、{@code 'nio'} 和 {@code 'epoll'}，为空时等同于 {@code 'auto'}。</p>
+     *
+     * @return 表示网络传输层类型的 {@link String}。
+     */
+    String getTransport();
+
+    /**
+     * 获取业务线程池已满、请求被拒绝时的处理策略。
+     * <p>可选值为 {@code 'keep-alive'} 和 {@code 'close'}，为空时等同于 {@code 'keep-alive'}。两种策略都会返回
+     * {@code 503 Service Unavailable}，{@code 'keep-alive'} 丢弃被拒绝请求的剩余消息体并保持连接，{@code 'close'}
+     * 关闭连接。</p>
+     *
+     * @return 表示请求被拒绝时的处理策略的 {@link String}。
+     */
+    String getRejectionPolicy();
+
+    /**
+     * 获取接收连接的 boss 线程数。
+     * <p>当传输层支持且开启了 {@link #isReusePort()} 时，每个 boss 线程在同一个端口上独立绑定一个接收连接的通道。</p>
+     *
+     * @return 表示接收连接的 boss 线程数的 {@code int}，小于 1 时使用 1。
+     */
+    int getBossThreadNum();
+
+    /**
+     * 获取处理网络读写的 worker 线程数。
+     *
+     * @return 表示处理网络读写的 worker 线程数的 {@code int}，小于 1 时使用业务线程池的核心线程数。
+     */
+    int getWorkerThreadNum();
+
+    /**
+     * 获取是否开启 {@code SO_REUSEPORT}，仅在 epoll 传输层下生效。
+     *
+     * @return 表示是否开启 {@code SO_REUSEPORT} 的 {@code boolean}。
+     */
+    boolean isReusePort();
+
+    /**
+     * 获取 {@code TCP_FASTOPEN} 的等待队列长度。
+     *
+     * @return 表示 {@code TCP_FASTOPEN} 的等待队列长度的 {@code int}，小于 1 时不开启。
+     */
+    int getTcpFastOpen();
+
+    /**
+     * 获取连接写缓冲区的低水位线，单位为字节。
+     *
+     * @return 表示连接写缓冲区的低水位线的 {@code int}，小于 1 时使用 Netty 的默认值。
+     */
+    int getWriteBufferLowWaterMark();
+
+    /**
+     * 获取连接写缓冲区的高水位线，单位为字节。
+     *
+     * @return 表示连接写缓冲区的高水位线的 {@code int}，小于 1 时使用 Netty 的默认值。
+     */
+    int getWriteBufferHighWaterMark();
+
+    /**
+     * 获取池化内存分配器的堆内存 arena 数量。
+     *
+     * @return 表示池化内存分配器的堆内存 arena 数量的 {@code int}，小于 0 时使用 Netty 的默认值。
+     */
+    int getAllocatorHeapArenaNum();
+
+    /**
+     * 获取池化内存分配器的直接内存 arena 数量。
+     *
+     * @return 表示池化内存分配器的直接内存 arena 数量的 {@code int}，小于 0 时使用 Netty 的默认值。
+     */
+    int getAllocatorDirectArenaNum();
 }
@@ -61,6 +61,8 @@ public class NettyHttpServerRequest implements ServerRequest, OnHttpContentRecei
     private final AtomicBoolean isFinished = new AtomicBoolean(false);
     private final Lock tryCloseLock = LockUtils.newReentrantLock();
     private volatile Thread executeThread;
+    private boolean isDispatchDeferred = false;
+    private boolean isRejected = false;
 
     public NettyHttpServerRequest(HttpRequest request, ChannelHandlerContext ctx, boolean isSecure,
             long largeBodySize) {
@@ -71,10 +73,18 @@ public class NettyHttpServerRequest implements ServerRequest, OnHttpContentRecei
         this.startLine = this.initStartLine();
         this.headers = this.initHeaders();
         this.body = this.isLargeBody() ? NettyReadableMessageBody.large() : NettyReadableMessageBody.common();
+        this.body.setAutoReadSwitch(isAutoRead -> ctx.channel().config().setAutoRead(isAutoRead));
+        this.body.setAsyncReadingTerminatedListener(this::tryCloseAfterAsyncReading);
         log.debug("Netty http request initialized. [id={0}, request={1}]", ctx.name(), this.startLine());
     }
 
-    private boolean isLargeBody() {
+    /**
+     * 判断当前请求是否为巨大消息体的请求。
+     * <p>分块传输的消息体，或长度超过巨大消息体阈值的消息体，都属于巨大消息体，其数据存放在临时文件中。</p>
+     *
+     * @return 如果是巨大消息体的请求，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isLargeBody() {
         if (HeaderUtils.isChunked(this.headers)) {
             return true;
         }
@@ -179,7 +189,7 @@ public class NettyHttpServerRequest implements ServerRequest, OnHttpContentRecei
     void tryClose() throws IOException {
         this.tryCloseLock.lock();
         try {
-            if (this.isFinished.get() && this.isComplete.get()) {
+            if (this.isFinished.get() && this.isComplete.get() && !this.body.isConsumingAsynchronously()) {
                 this.close();
             }
         } finally {
@@ -187,6 +197,14 @@ public class NettyHttpServerRequest implements ServerRequest, OnHttpContentRecei
         }
     }
 
+    private void tryCloseAfterAsyncReading() {
+        try {
+            this.tryClose();
+        } catch (IOException e) {
+            log.warn("Failed to close netty http server request when async reading terminated, ignored.", e);
+        }
+    }
+
     @Override
     public void close() throws IOException {
         if (this.isClosed.get()) {
@@ -269,9 +287,47 @@ public class NettyHttpServerRequest implements ServerRequest, OnHttpContentRecei
      */
     void removeExecuteThread() {
         this.executeThread = null;
+        this.body.releaseBackPressure();
         LockUtils.synchronize(this.tryCloseLock, () -> this.isFinished.set(true));
     }
 
+    /**
+     * 将当前请求的分发推迟到消息体接收完毕之后，在 IO 线程上进行。
+     */
+    void deferDispatch() {
+        this.isDispatchDeferred = true;
+    }
+
+    /**
+     * 判断当前请求的分发是否被推迟到消息体接收完毕之后。
+     * <p>该标记只在 IO 线程上读写。</p>
+     *
+     * @return 如果分发被推迟，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isDispatchDeferred() {
+        return this.isDispatchDeferred;
+    }
+
+    /**
+     * 将当前请求标记为被拒绝，并关闭当前请求。
+     * <p>被拒绝的请求不再接收消息体，该标记只在 IO 线程上读写。</p>
+     *
+     * @throws IOException 当关闭失败时。
+     */
+    void reject() throws IOException {
+        this.isRejected = true;
+        this.close();
+    }
+
+    /**
+     * 判断当前请求是否被拒绝。
+     *
+     * @return 如果当前请求被拒绝，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isRejected() {
+        return this.isRejected;
+    }
+
     /**
      * 中断当前请求。
      */
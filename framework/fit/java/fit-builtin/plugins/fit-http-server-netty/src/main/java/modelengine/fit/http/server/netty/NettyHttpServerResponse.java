@@ -8,19 +8,22 @@ package modelengine.fit.http.server.netty;
 
 import static modelengine.fitframework.inspection.Validation.notNull;
 
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
-import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
 import modelengine.fit.http.protocol.ConfigurableMessageHeaders;
 import modelengine.fit.http.protocol.ConfigurableStatusLine;
 import modelengine.fit.http.protocol.HttpVersion;
@@ -31,14 +34,22 @@ import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 
 /**
  * {@link ServerResponse} 的 Netty 实现。
+ * <p>消息体使用通道的内存分配器分配的缓冲区写出。当响应是定长的（存在 {@code Content-Length} 且不是分块传输）时，起始行、
+ * 消息头和消息体只写入通道，在 {@link #flush()} 时统一刷新，每个响应只触发一次刷新；分块传输的响应每次写入都会刷新，
+ * 由通道上的 {@link io.netty.handler.flush.FlushConsolidationHandler} 合并相邻的刷新。</p>
+ * <p>文件通道在没有 TLS 的连接上以 {@link DefaultFileRegion} 零拷贝写出，在 TLS 连接上以 {@link ChunkedNioFile} 分块写出，
+ * 在 HTTP/2 的流上以拷贝的方式写出。文件通道由调用方持有，因此 {@link #close()} 会等待文件写出完成后再返回。</p>
  *
  * @author 季聿阶
  * @since 2022-07-08
  */
 public class NettyHttpServerResponse implements ServerResponse {
+    private static final int FILE_CHUNK_SIZE = 8192;
+
     private final ConfigurableStatusLine startLine;
     private final ConfigurableMessageHeaders headers;
     private final ChannelHandlerContext ctx;
@@ -46,6 +57,8 @@ public class NettyHttpServerResponse implements ServerResponse {
     private final ServerResponseBody body;
     private boolean hasAddedClosedListener;
     private boolean isClosed;
+    private boolean isFixedLength;
+    private ChannelFuture fileWriteFuture;
 
     public NettyHttpServerResponse(ChannelHandlerContext ctx, NettyHttpServerRequest nettyRequest) {
         this.startLine = ConfigurableStatusLine.create(HttpVersion.HTTP_1_1, 0, StringUtils.EMPTY);
@@ -91,19 +104,57 @@ public class NettyHttpServerResponse implements ServerResponse {
         } else {
             response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
         }
-        this.ctx.writeAndFlush(response);
+        this.isFixedLength = HttpUtil.isContentLengthSet(response) && !HttpUtil.isTransferEncodingChunked(response);
+        this.write(response);
     }
 
     @Override
     public void writeBody(int b) throws IOException {
-        this.writeBody(new byte[] {(byte) b});
+        this.checkIfClosed();
+        ByteBuf buffer = this.ctx.alloc().buffer(1);
+        buffer.writeByte(b);
+        this.write(new DefaultHttpContent(buffer));
     }
 
     @Override
     public void writeBody(byte[] bytes, int off, int len) throws IOException {
         this.checkIfClosed();
-        HttpContent httpContent = new DefaultHttpContent(Unpooled.copiedBuffer(bytes, off, len));
-        this.ctx.writeAndFlush(httpContent);
+        if (len == 0) {
+            return;
+        }
+        // 调用方可能会复用字节数组，因此不能直接包装，需要拷贝到通道分配的缓冲区中。
+        ByteBuf buffer = this.ctx.alloc().buffer(len);
+        buffer.writeBytes(bytes, off, len);
+        this.write(new DefaultHttpContent(buffer));
+    }
+
+    @Override
+    public void writeBody(FileChannel channel, long position, long count) throws IOException {
+        this.checkIfClosed();
+        if (count == 0) {
+            return;
+        }
+        if (this.ctx.executor().inEventLoop() || this.ctx.channel() instanceof Http2StreamChannel) {
+            // 在事件循环线程中无法等待文件写出完成，HTTP/2 的流只能写出 Http 消息，都退化为拷贝的方式。
+            ServerResponse.super.writeBody(channel, position, count);
+            return;
+        }
+        Object fileContent = this.ctx.pipeline().get(SslHandler.class) == null
+                ? new CallerOwnedFileRegion(channel, position, count)
+                : new CallerOwnedChunkedNioFile(channel, position, count, FILE_CHUNK_SIZE);
+        this.fileWriteFuture = this.write(fileContent);
+    }
+
+    private ChannelFuture write(Object message) {
+        if (!this.isFixedLength) {
+            return this.ctx.writeAndFlush(message);
+        }
+        ChannelFuture future = this.ctx.write(message);
+        if (!this.ctx.channel().isWritable()) {
+            // 待写出的数据超过了高水位线，提前刷新，避免大的定长响应全部堆积在内存中。
+            this.ctx.flush();
+        }
+        return future;
     }
 
     @Override
@@ -134,6 +185,41 @@ public class NettyHttpServerResponse implements ServerResponse {
     @Override
     public void close() throws IOException {
         this.isClosed = true;
+        this.awaitFileWritten();
         this.body.close();
     }
+
+    private void awaitFileWritten() {
+        ChannelFuture future = this.fileWriteFuture;
+        this.fileWriteFuture = null;
+        if (future == null || future.isDone()) {
+            return;
+        }
+        this.ctx.flush();
+        future.awaitUninterruptibly();
+    }
+
+    /**
+     * 表示文件通道由调用方持有的 {@link DefaultFileRegion}，释放时不关闭文件通道。
+     */
+    private static class CallerOwnedFileRegion extends DefaultFileRegion {
+        CallerOwnedFileRegion(FileChannel channel, long position, long count) {
+            super(channel, position, count);
+        }
+
+        @Override
+        protected void deallocate() {}
+    }
+
+    /**
+     * 表示文件通道由调用方持有的 {@link ChunkedNioFile}，关闭时不关闭文件通道。
+     */
+    private static class CallerOwnedChunkedNioFile extends ChunkedNioFile {
+        CallerOwnedChunkedNioFile(FileChannel channel, long offset, long length, int chunkSize) throws IOException {
+            super(channel, offset, length, chunkSize);
+        }
+
+        @Override
+        public void close() {}
+    }
 }
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -12,64 +12,76 @@ import io.netty.buffer.ByteBuf;
 import modelengine.fit.http.protocol.support.AbstractReadableMessageBody;
 import modelengine.fit.http.server.netty.support.CompositeByteBufReadableMessageBody;
 import modelengine.fit.http.server.netty.support.FileChannelReadableMessageBody;
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.subscription.AbstractSubscription;
 import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.util.LockUtils;
-import modelengine.fitframework.util.ThreadUtils;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 
 /**
  * 表示 Netty 服务器的请求消息体。
+ * <p>阻塞读取时，读取线程在没有可读数据时挂起在条件变量上，直到 IO 线程写入新的数据、写入最后一块数据或消息体被关闭时才被
+ * 唤醒。</p>
+ * <p>消息体同时也是一个 {@link Publisher}{@code <byte[]>}，订阅者可以在数据块到达时异步地消费，数据块的下发受订阅者的请求数量
+ * 限制。无论是阻塞读取还是异步消费，当未读取的数据达到 4 MiB 时，暂停从连接中读取数据，直到未读取的数据降低到 1 MiB 以下时
+ * 再恢复读取。异步消费不应与阻塞读取混用，且只允许存在一个订阅者。</p>
  *
  * @author 季聿阶
  * @since 2023-09-30
  */
 public abstract class NettyReadableMessageBody extends AbstractReadableMessageBody
-        implements NettyReadableMessageBodyBuffer {
+        implements NettyReadableMessageBodyBuffer, Publisher<byte[]> {
+    /** 表示异步消费时单个数据块的最大字节数。 */
+    private static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    /** 表示暂停从连接中读取数据时的未读取数据的字节数。 */
+    private static final int PAUSE_READING_THRESHOLD = 4 * 1024 * 1024;
+
+    /** 表示恢复从连接中读取数据时的未读取数据的字节数。 */
+    private static final int RESUME_READING_THRESHOLD = 1024 * 1024;
+
     private volatile boolean closed = false;
     private volatile boolean writingFinished = false;
     private final Lock lock = LockUtils.newReentrantLock();
     private final Condition condition = this.lock.newCondition();
 
+    private final AtomicReference<ChunkSubscription> subscription = new AtomicReference<>();
+    private final AtomicInteger drainCount = new AtomicInteger();
+    private Consumer<Boolean> autoReadSwitch = isAutoRead -> {};
+    private Runnable asyncReadingTerminatedListener = () -> {};
+    private boolean isReadingPaused = false;
+    private boolean isBackPressureReleased = false;
+
     @Override
     public int read() throws IOException {
-        this.checkIfClosed();
-        while (true) {
-            this.lock.lock();
-            int read = this.tryRead();
-            if (read != Integer.MIN_VALUE) {
-                return read;
-            }
-            ThreadUtils.sleep(0);
-        }
-    }
-
-    /**
-     * 尝试读取下一个字节。
-     *
-     * @return 当返回 {@code -1 - 255} 表示正常读取范围，当返回 {@link Integer#MIN_VALUE} 表示未读取到。
-     * @throws IOException 当发生 I/O 异常时。
-     */
-    private int tryRead() throws IOException {
+        this.lock.lock();
         try {
-            int read = this.read0();
-            if (read != -1) {
-                return read;
-            }
-            if (this.writingFinished) {
-                return -1;
-            }
-            try {
-                this.condition.await();
-            } catch (InterruptedException e) {
-                throw new IOException(e);
+            while (true) {
+                this.checkIfClosed();
+                int read = this.read0();
+                if (read != -1) {
+                    this.resumeReadingIfDrained();
+                    return read;
+                }
+                if (this.writingFinished) {
+                    return -1;
+                }
+                this.awaitWriting();
             }
         } finally {
             this.lock.unlock();
         }
-        return Integer.MIN_VALUE;
     }
 
     /**
@@ -87,25 +99,23 @@ public abstract class NettyReadableMessageBody extends AbstractReadableMessageBo
         if (len == 0) {
             return 0;
         }
-        int read;
         this.lock.lock();
         try {
-            read = this.read0(bytes, off, len);
-            if (read == 0) {
-                read = this.writingFinished ? -1 : 0;
-            }
-            while (read == 0) {
-                try {
-                    this.condition.await();
-                    read = this.read0(bytes, off, len);
-                } catch (InterruptedException e) {
-                    throw new IOException(e);
+            while (true) {
+                this.checkIfClosed();
+                int read = this.read0(bytes, off, len);
+                if (read > 0) {
+                    this.resumeReadingIfDrained();
+                    return read;
                 }
+                if (this.writingFinished) {
+                    return -1;
+                }
+                this.awaitWriting();
             }
         } finally {
             this.lock.unlock();
         }
-        return read;
     }
 
     /**
@@ -119,6 +129,15 @@ public abstract class NettyReadableMessageBody extends AbstractReadableMessageBo
      */
     protected abstract int read0(@Nonnull byte[] bytes, int off, int len) throws IOException;
 
+    private void awaitWriting() throws IOException {
+        try {
+            this.condition.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the netty readable message body.");
+        }
+    }
+
     @Override
     public void write(ByteBuf data, boolean isLast) throws IOException {
         this.checkIfClosed();
@@ -128,13 +147,16 @@ public abstract class NettyReadableMessageBody extends AbstractReadableMessageBo
             int write = this.write0(data, isLast);
             if (isLast) {
                 this.writingFinished = true;
-                this.condition.signal();
+                this.resumeReading();
+                this.condition.signalAll();
             } else if (write > 0) {
-                this.condition.signal();
+                this.pauseReadingIfFull();
+                this.condition.signalAll();
             }
         } finally {
             this.lock.unlock();
         }
+        this.drain();
     }
 
     /**
@@ -155,7 +177,155 @@ public abstract class NettyReadableMessageBody extends AbstractReadableMessageBo
 
     @Override
     public void close() throws IOException {
-        this.closed = true;
+        this.lock.lock();
+        try {
+            this.closed = true;
+            this.resumeReading();
+            this.condition.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        this.drain();
+    }
+
+    @Override
+    public void subscribe(Subscriber<byte[]> subscriber) {
+        notNull(subscriber, "The subscriber cannot be null.");
+        ChunkSubscription current = new ChunkSubscription(subscriber);
+        if (!this.subscription.compareAndSet(null, current)) {
+            current.cancel();
+            subscriber.onSubscribed(current);
+            subscriber.fail(new IllegalStateException("The netty readable message body can be subscribed only once."));
+            return;
+        }
+        subscriber.onSubscribed(current);
+        this.drain();
+    }
+
+    /**
+     * 将消息体中的数据以数据块的形式下发给订阅者，直到订阅者的请求数量耗尽或没有可读数据为止。
+     * <p>同一时刻只有一个线程执行下发，其余线程只记录下发请求，由正在执行下发的线程再次检查。数据在锁内读取，在锁外下发，避免订阅者
+     * 在消费时阻塞 IO 线程的写入。</p>
+     */
+    private void drain() {
+        ChunkSubscription current = this.subscription.get();
+        if (current == null || this.drainCount.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (!current.isTerminated()) {
+                byte[] chunk = null;
+                Exception cause = null;
+                boolean isCompleted = false;
+                this.lock.lock();
+                try {
+                    if (this.closed) {
+                        cause = new IOException("The netty readable message body has already been closed.");
+                    } else if (current.demand.get() > 0) {
+                        chunk = this.readChunk();
+                        isCompleted = chunk == null && this.writingFinished;
+                    }
+                } catch (IOException e) {
+                    cause = e;
+                } finally {
+                    this.lock.unlock();
+                }
+                if (cause != null) {
+                    current.onFailed(cause);
+                } else if (isCompleted) {
+                    current.onCompleted();
+                } else if (chunk != null) {
+                    current.onConsumed(chunk);
+                } else {
+                    break;
+                }
+            }
+            missed = this.drainCount.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private byte[] readChunk() throws IOException {
+        int available = this.available();
+        if (available <= 0) {
+            return null;
+        }
+        byte[] chunk = new byte[Math.min(available, MAX_CHUNK_SIZE)];
+        int read = this.read0(chunk, 0, chunk.length);
+        if (read <= 0) {
+            return null;
+        }
+        this.resumeReadingIfDrained();
+        return read == chunk.length ? chunk : Arrays.copyOf(chunk, read);
+    }
+
+    private void pauseReadingIfFull() throws IOException {
+        if (this.isReadingPaused || (this.isBackPressureReleased && !this.isConsumingAsynchronously())) {
+            return;
+        }
+        if (this.available() >= PAUSE_READING_THRESHOLD) {
+            this.isReadingPaused = true;
+            this.autoReadSwitch.accept(false);
+        }
+    }
+
+    private void resumeReadingIfDrained() throws IOException {
+        if (this.isReadingPaused && this.available() <= RESUME_READING_THRESHOLD) {
+            this.resumeReading();
+        }
+    }
+
+    private void resumeReading() {
+        if (this.isReadingPaused) {
+            this.isReadingPaused = false;
+            this.autoReadSwitch.accept(true);
+        }
+    }
+
+    /**
+     * 设置暂停或恢复从连接中读取数据的开关。
+     *
+     * @param autoReadSwitch 表示暂停或恢复从连接中读取数据的开关的 {@link Consumer}{@code <}{@link Boolean}{@code >}，
+     * 参数为 {@code false} 时暂停读取，为 {@code true} 时恢复读取。
+     */
+    void setAutoReadSwitch(Consumer<Boolean> autoReadSwitch) {
+        this.autoReadSwitch = notNull(autoReadSwitch, "The auto read switch cannot be null.");
+    }
+
+    /**
+     * 设置异步消费结束时的监听器。
+     *
+     * @param listener 表示异步消费结束时的监听器的 {@link Runnable}。
+     */
+    void setAsyncReadingTerminatedListener(Runnable listener) {
+        this.asyncReadingTerminatedListener =
+                notNull(listener, "The async reading terminated listener cannot be null.");
+    }
+
+    /**
+     * 解除阻塞读取时的背压。
+     * <p>请求的处理线程已经结束，不会再有阻塞读取的读取者，此时不再暂停从连接中读取数据，避免未读取的数据阻塞后续请求。</p>
+     */
+    void releaseBackPressure() {
+        this.lock.lock();
+        try {
+            this.isBackPressureReleased = true;
+            if (!this.isConsumingAsynchronously()) {
+                this.resumeReading();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * 判断当前消息体是否正在被异步消费。
+     *
+     * @return 如果存在尚未结束的订阅，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isConsumingAsynchronously() {
+        ChunkSubscription current = this.subscription.get();
+        return current != null && !current.isTerminated();
     }
 
     /**
@@ -184,4 +354,69 @@ public abstract class NettyReadableMessageBody extends AbstractReadableMessageBo
     public static NettyReadableMessageBody large() {
         return new FileChannelReadableMessageBody();
     }
+
+    /**
+     * 表示消息体的异步订阅关系。
+     */
+    private class ChunkSubscription extends AbstractSubscription {
+        private final Subscriber<byte[]> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicBoolean terminated = new AtomicBoolean();
+
+        private ChunkSubscription(Subscriber<byte[]> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        protected void request0(long count) {
+            this.demand.accumulateAndGet(count, (pre, added) -> pre + added < 0 ? Long.MAX_VALUE : pre + added);
+            NettyReadableMessageBody.this.drain();
+        }
+
+        @Override
+        protected void cancel0() {
+            this.terminate();
+        }
+
+        private boolean isTerminated() {
+            return this.terminated.get();
+        }
+
+        private void onConsumed(byte[] chunk) {
+            this.demand.decrementAndGet();
+            try {
+                this.subscriber.consume(chunk);
+            } catch (RuntimeException e) {
+                this.onFailed(e);
+            }
+        }
+
+        private void onCompleted() {
+            if (this.terminate()) {
+                this.subscriber.complete();
+            }
+        }
+
+        private void onFailed(Exception cause) {
+            if (this.terminate()) {
+                this.subscriber.fail(cause);
+            }
+        }
+
+        private boolean terminate() {
+            if (!this.terminated.compareAndSet(false, true)) {
+                return false;
+            }
+            if (NettyReadableMessageBody.this.subscription.get() == this) {
+                NettyReadableMessageBody.this.lock.lock();
+                try {
+                    NettyReadableMessageBody.this.resumeReading();
+                } finally {
+                    NettyReadableMessageBody.this.lock.unlock();
+                }
+                NettyReadableMessageBody.this.asyncReadingTerminatedListener.run();
+            }
+            return true;
+        }
+    }
 }
@@ -38,6 +38,7 @@ public class CompositeByteBufReadableMessageBody extends NettyReadableMessageBod
         }
         int toRead = Math.min(len, compositeByteBuf.readableBytes());
         this.compositeByteBuf.readBytes(bytes, off, toRead);
+        this.compositeByteBuf.discardReadComponents();
         return toRead;
     }
 
@@ -58,8 +59,13 @@ public class CompositeByteBufReadableMessageBody extends NettyReadableMessageBod
     @Override
     public void close() throws IOException {
         super.close();
-        if (this.compositeByteBuf.refCnt() > 0) {
-            this.compositeByteBuf.release();
+        this.getLock().lock();
+        try {
+            if (this.compositeByteBuf.refCnt() > 0) {
+                this.compositeByteBuf.release();
+            }
+        } finally {
+            this.getLock().unlock();
         }
     }
 }
\ No newline at end of file
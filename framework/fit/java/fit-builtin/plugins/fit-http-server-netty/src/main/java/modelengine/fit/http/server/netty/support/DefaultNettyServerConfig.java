@@ -39,6 +39,66 @@ public class DefaultNettyServerConfig implements NettyHttpServerConfig {
      */
     private boolean displayError;
 
+    /**
+     * 配置项：{@code 'inline-non-blocking'}。
+     */
+    private boolean inlineNonBlocking;
+
+    /**
+     * 配置项：{@code 'http2-enabled'}。
+     */
+    private boolean http2Enabled;
+
+    /**
+     * 配置项：{@code 'transport'}。
+     */
+    private String transport;
+
+    /**
+     * 配置项：{@code 'rejection-policy'}。
+     */
+    private String rejectionPolicy;
+
+    /**
+     * 配置项：{@code 'boss-thread-num'}。
+     */
+    private int bossThreadNum = 1;
+
+    /**
+     * 配置项：{@code 'worker-thread-num'}。
+     */
+    private int workerThreadNum;
+
+    /**
+     * 配置项：{@code 'reuse-port'}。
+     */
+    private boolean reusePort;
+
+    /**
+     * 配置项：{@code 'tcp-fast-open'}。
+     */
+    private int tcpFastOpen;
+
+    /**
+     * 配置项：{@code 'write-buffer-low-water-mark'}。
+     */
+    private int writeBufferLowWaterMark;
+
+    /**
+     * 配置项：{@code 'write-buffer-high-water-mark'}。
+     */
+    private int writeBufferHighWaterMark;
+
+    /**
+     * 配置项：{@code 'allocator-heap-arena-num'}。
+     */
+    private int allocatorHeapArenaNum = -1;
+
+    /**
+     * 配置项：{@code 'allocator-direct-arena-num'}。
+     */
+    private int allocatorDirectArenaNum = -1;
+
     @Override
     public int getCoreThreadNum() {
         return this.coreThreadNum;
@@ -94,4 +154,172 @@ public class DefaultNettyServerConfig implements NettyHttpServerConfig {
     public void setDisplayError(boolean displayError) {
         this.displayError = displayError;
     }
+
+    @Override
+    public boolean isInlineNonBlocking() {
+        return this.inlineNonBlocking;
+    }
+
+    /**
+     * 设置是否在 IO 线程上直接执行非阻塞的 Http 处理器的标志。
+     *
+     * @param inlineNonBlocking 表示是否在 IO 线程上直接执行非阻塞的 Http 处理器标志的 {@code boolean}。
+     */
+    public void setInlineNonBlocking(boolean inlineNonBlocking) {
+        this.inlineNonBlocking = inlineNonBlocking;
+    }
+
+    @Override
+    public boolean isHttp2Enabled() {
+        return this.http2Enabled;
+    }
+
+    /**
+     * 设置是否开启 HTTP/2 的标志。
+     *
+     * @param http2Enabled 表示是否开启 HTTP/2 标志的 {@code boolean}。
+     */
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    @Override
+    public String getTransport() {
+        return this.transport;
+    }
+
+    /**
+     * 设置网络传输层的类型。
+     *
+     * @param transport 表示网络传输层类型的 {@link String}。
+     */
+    public void setTransport(String transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public String getRejectionPolicy() {
+        return this.rejectionPolicy;
+    }
+
+    /**
+     * 设置请求被拒绝时的处理策略。
+     *
+     * @param rejectionPolicy 表示请求被拒绝时的处理策略的 {@link String}。
+     */
+    public void setRejectionPolicy(String rejectionPolicy) {
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    @Override
+    public int getBossThreadNum() {
+        return this.bossThreadNum;
+    }
+
+    /**
+     * 设置 boss 线程数量。
+     *
+     * @param bossThreadNum 表示 boss 线程数量的 {@code int}。
+     */
+    public void setBossThreadNum(int bossThreadNum) {
+        this.bossThreadNum = bossThreadNum;
+    }
+
+    @Override
+    public int getWorkerThreadNum() {
+        return this.workerThreadNum;
+    }
+
+    /**
+     * 设置 worker 线程数量。
+     *
+     * @param workerThreadNum 表示 worker 线程数量的 {@code int}。
+     */
+    public void setWorkerThreadNum(int workerThreadNum) {
+        this.workerThreadNum = workerThreadNum;
+    }
+
+    @Override
+    public boolean isReusePort() {
+        return this.reusePort;
+    }
+
+    /**
+     * 设置是否开启 {@code SO_REUSEPORT} 的标志。
+     *
+     * @param reusePort 表示是否开启 {@code SO_REUSEPORT} 标志的 {@code boolean}。
+     */
+    public void setReusePort(boolean reusePort) {
+        this.reusePort = reusePort;
+    }
+
+    @Override
+    public int getTcpFastOpen() {
+        return this.tcpFastOpen;
+    }
+
+    /**
+     * 设置 {@code TCP_FASTOPEN} 的等待队列长度。
+     *
+     * @param tcpFastOpen 表示 {@code TCP_FASTOPEN} 的等待队列长度的 {@code int}。
+     */
+    public void setTcpFastOpen(int tcpFastOpen) {
+        this.tcpFastOpen = tcpFastOpen;
+    }
+
+    @Override
+    public int getWriteBufferLowWaterMark() {
+        return this.writeBufferLowWaterMark;
+    }
+
+    /**
+     * 设置写缓冲区的低水位线。
+     *
+     * @param writeBufferLowWaterMark 表示写缓冲区的低水位线的 {@code int}。
+     */
+    public void setWriteBufferLowWaterMark(int writeBufferLowWaterMark) {
+        this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    }
+
+    @Override
+    public int getWriteBufferHighWaterMark() {
+        return this.writeBufferHighWaterMark;
+    }
+
+    /**
+     * 设置写缓冲区的高水位线。
+     *
+     * @param writeBufferHighWaterMark 表示写缓冲区的高水位线的 {@code int}。
+     */
+    public void setWriteBufferHighWaterMark(int writeBufferHighWaterMark) {
+        this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    }
+
+    @Override
+    public int getAllocatorHeapArenaNum() {
+        return this.allocatorHeapArenaNum;
+    }
+
+    /**
+     * 设置池化内存分配器的堆内存 arena 数量。
+     *
+     * @param allocatorHeapArenaNum 表示堆内存 arena 数量的 {@code int}。
+     */
+    public void setAllocatorHeapArenaNum(int allocatorHeapArenaNum) {
+        this.allocatorHeapArenaNum = allocatorHeapArenaNum;
+    }
+
+    @Override
+    public int getAllocatorDirectArenaNum() {
+        return this.allocatorDirectArenaNum;
+    }
+
+    /**
+     * 设置池化内存分配器的直接内存 arena 数量。
+     *
+     * @param allocatorDirectArenaNum 表示直接内存 arena 数量的 {@code int}。
+     */
+    public void setAllocatorDirectArenaNum(int allocatorDirectArenaNum) {
+        this.allocatorDirectArenaNum = allocatorDirectArenaNum;
+    }
 }
@@ -0,0 +1,62 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty.support;
+
+import modelengine.fitframework.util.StringUtils;
+
+/**
+ * 表示业务线程池已满、请求被拒绝时 Netty Http 服务端的处理策略。
+ * <p>两种策略都会返回 {@code 503 Service Unavailable}。请求的消息体在 IO 线程上接收，因此不提供由 IO 线程直接执行请求的
+ * 策略，否则阻塞的处理器在等待消息体时会阻塞负责接收消息体的 IO 线程。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+public enum NettyRejectionPolicy {
+    /** 表示返回响应后丢弃被拒绝请求的剩余消息体，并保持连接，连接上的后续请求可以继续处理。 */
+    KEEP_ALIVE("keep-alive"),
+
+    /** 表示返回响应后关闭连接。 */
+    CLOSE("close");
+
+    private final String code;
+
+    NettyRejectionPolicy(String code) {
+        this.code = code;
+    }
+
+    /**
+     * 获取拒绝策略的配置名称。
+     *
+     * @return 表示拒绝策略配置名称的 {@link String}。
+     */
+    public String code() {
+        return this.code;
+    }
+
+    /**
+     * 根据配置获取拒绝策略。
+     * <p>配置为空时使用 {@link #KEEP_ALIVE}。</p>
+     *
+     * @param code 表示配置的拒绝策略名称的 {@link String}。
+     * @return 表示拒绝策略的 {@link NettyRejectionPolicy}。
+     * @throws IllegalArgumentException 当 {@code code} 不是可识别的拒绝策略名称时。
+     */
+    public static NettyRejectionPolicy from(String code) {
+        if (StringUtils.isBlank(code)) {
+            return KEEP_ALIVE;
+        }
+        for (NettyRejectionPolicy policy : values()) {
+            if (StringUtils.equalsIgnoreCase(policy.code, code.trim())) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException(StringUtils.format(
+                "Unknown netty rejection policy. [rejectionPolicy={0}, supported=keep-alive,close]",
+                code));
+    }
+}
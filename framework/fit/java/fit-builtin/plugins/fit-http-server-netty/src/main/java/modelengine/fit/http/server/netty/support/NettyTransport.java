@@ -0,0 +1,207 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty.support;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 表示 Netty Http 服务端使用的传输层。
+ * <p>{@link #EPOLL} 使用 Linux 原生的 epoll 边缘触发模式，并支持 {@code SO_REUSEPORT} 和 {@code TCP_FASTOPEN}。开启
+ * {@code SO_REUSEPORT} 时可以在同一个端口上绑定多个接收连接的通道，由内核在多个 boss 线程之间分配新连接。当本地原生库不可用
+ * 时，回退为 {@link #NIO}。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+public enum NettyTransport {
+    /** 表示基于 JDK NIO 的传输层，所有平台均可用。 */
+    NIO("nio") {
+        @Override
+        protected IoHandlerFactory ioHandlerFactory() {
+            return NioIoHandler.newFactory();
+        }
+
+        @Override
+        public Class<? extends ServerChannel> serverChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+
+        @Override
+        public boolean supportsReusePort() {
+            return false;
+        }
+
+        @Override
+        public boolean supportsTcpFastOpen() {
+            return false;
+        }
+
+        @Override
+        public void enableReusePort(ServerBootstrap bootstrap) {
+            log.warn("SO_REUSEPORT is ignored by non-native transport. [transport={}]", this.code());
+        }
+
+        @Override
+        public void enableTcpFastOpen(ServerBootstrap bootstrap, int pendingNum) {
+            log.warn("TCP_FASTOPEN is ignored by non-native transport. [transport={}]", this.code());
+        }
+    },
+
+    /** 表示基于 Linux 原生 epoll 的传输层。 */
+    EPOLL("epoll") {
+        @Override
+        protected IoHandlerFactory ioHandlerFactory() {
+            return EpollIoHandler.newFactory();
+        }
+
+        @Override
+        public Class<? extends ServerChannel> serverChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @Override
+        public boolean supportsReusePort() {
+            return true;
+        }
+
+        @Override
+        public boolean supportsTcpFastOpen() {
+            return Epoll.isTcpFastOpenServerSideAvailable();
+        }
+
+        @Override
+        public void enableReusePort(ServerBootstrap bootstrap) {
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
+
+        @Override
+        public void enableTcpFastOpen(ServerBootstrap bootstrap, int pendingNum) {
+            if (!this.supportsTcpFastOpen()) {
+                log.warn("TCP_FASTOPEN is not enabled in the kernel, ignored. [transport={}]", this.code());
+                return;
+            }
+            bootstrap.option(ChannelOption.TCP_FASTOPEN, pendingNum);
+        }
+    };
+
+    private static final Logger log = Logger.get(NettyTransport.class);
+    private static final String AUTO = "auto";
+
+    private final String code;
+
+    NettyTransport(String code) {
+        this.code = code;
+    }
+
+    /**
+     * 获取传输层的配置名称。
+     *
+     * @return 表示传输层配置名称的 {@link String}。
+     */
+    public String code() {
+        return this.code;
+    }
+
+    /**
+     * 获取事件循环的 IO 处理器工厂。
+     *
+     * @return 表示 IO 处理器工厂的 {@link IoHandlerFactory}。
+     */
+    protected abstract IoHandlerFactory ioHandlerFactory();
+
+    /**
+     * 获取服务端通道的类型。
+     *
+     * @return 表示服务端通道类型的 {@link Class}{@code <? extends }{@link ServerChannel}{@code >}。
+     */
+    public abstract Class<? extends ServerChannel> serverChannelClass();
+
+    /**
+     * 判断当前传输层是否支持 {@code SO_REUSEPORT}。
+     *
+     * @return 如果支持 {@code SO_REUSEPORT}，返回 {@code true}，否则，返回 {@code false}。
+     */
+    public abstract boolean supportsReusePort();
+
+    /**
+     * 判断当前传输层是否支持服务端的 {@code TCP_FASTOPEN}。
+     *
+     * @return 如果支持 {@code TCP_FASTOPEN}，返回 {@code true}，否则，返回 {@code false}。
+     */
+    public abstract boolean supportsTcpFastOpen();
+
+    /**
+     * 为服务端开启 {@code SO_REUSEPORT}。
+     * <p>当前传输层不支持时，打印告警并忽略该配置。</p>
+     *
+     * @param bootstrap 表示服务端启动器的 {@link ServerBootstrap}。
+     */
+    public abstract void enableReusePort(ServerBootstrap bootstrap);
+
+    /**
+     * 为服务端开启 {@code TCP_FASTOPEN}。
+     * <p>当前传输层不支持时，打印告警并忽略该配置。</p>
+     *
+     * @param bootstrap 表示服务端启动器的 {@link ServerBootstrap}。
+     * @param pendingNum 表示 {@code TCP_FASTOPEN} 等待队列长度的 {@code int}。
+     */
+    public abstract void enableTcpFastOpen(ServerBootstrap bootstrap, int pendingNum);
+
+    /**
+     * 创建当前传输层的事件循环组。
+     *
+     * @param threadNum 表示事件循环线程数量的 {@code int}。
+     * @param threadFactory 表示事件循环线程工厂的 {@link ThreadFactory}。
+     * @return 表示创建的事件循环组的 {@link EventLoopGroup}。
+     */
+    public EventLoopGroup createEventLoopGroup(int threadNum, ThreadFactory threadFactory) {
+        return new MultiThreadIoEventLoopGroup(threadNum, threadFactory, this.ioHandlerFactory());
+    }
+
+    /**
+     * 根据配置选择传输层。
+     * <p>配置为空或 {@code 'auto'} 时，原生 epoll 可用则使用 {@link #EPOLL}，否则使用 {@link #NIO}；配置为
+     * {@code 'epoll'} 但原生 epoll 不可用时，打印告警并回退为 {@link #NIO}。</p>
+     *
+     * @param code 表示配置的传输层名称的 {@link String}。
+     * @return 表示选择的传输层的 {@link NettyTransport}。
+     * @throws IllegalArgumentException 当 {@code code} 不是可识别的传输层名称时。
+     */
+    public static NettyTransport select(String code) {
+        if (StringUtils.isBlank(code) || StringUtils.equalsIgnoreCase(code.trim(), AUTO)) {
+            return Epoll.isAvailable() ? EPOLL : NIO;
+        }
+        for (NettyTransport transport : values()) {
+            if (StringUtils.equalsIgnoreCase(transport.code, code.trim())) {
+                if (transport == EPOLL && !Epoll.isAvailable()) {
+                    log.warn("Native epoll transport is unavailable, fall back to nio. [cause={}]",
+                            Epoll.unavailabilityCause().getMessage());
+                    return NIO;
+                }
+                return transport;
+            }
+        }
+        throw new IllegalArgumentException(StringUtils.format(
+                "Unknown netty transport. [transport={0}, supported=auto,nio,epoll]",
+                code));
+    }
+}
@@ -1,31 +1,43 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
 
 package modelengine.fit.http.server.netty;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelId;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.util.Attribute;
 import io.netty.util.AttributeMap;
 import modelengine.fit.http.protocol.HttpRequestMethod;
 import modelengine.fit.http.server.HttpHandler;
 import modelengine.fit.http.server.netty.support.DefaultNettyServerConfig;
+import modelengine.fit.http.server.netty.support.NettyRejectionPolicy;
+import modelengine.fit.http.server.support.DefaultHttpServerFilterChain;
 import modelengine.fit.server.http.HttpConfig;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.serialization.ObjectSerializer;
@@ -36,7 +48,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 表示 {@link HttpClassicRequestAssembler} 的单元测试。
@@ -48,6 +65,7 @@ import java.util.Map;
 class HttpClassicRequestAssemblerTest {
     private HttpClassicRequestAssembler requestAssembler;
     private ChannelHandlerContext ctx;
+    private NettyHttpClassicServer classicServer;
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     @BeforeEach
@@ -63,13 +81,13 @@ class HttpClassicRequestAssemblerTest {
         nettyServerConfig.setDisplayError(true);
         HttpConfig httpConfig = mock(HttpConfig.class);
         BeanContainer container = mock(BeanContainer.class);
-        NettyHttpClassicServer classicServer = new NettyHttpClassicServer(container,
+        this.classicServer = new NettyHttpClassicServer(container,
                 serializersMap,
                 valueFetcher,
                 nettyServerConfig,
                 httpConfig,
                 true);
-        classicServer.httpDispatcher().register(HttpRequestMethod.GET.name(), handler);
+        this.classicServer.httpDispatcher().register(HttpRequestMethod.GET.name(), handler);
         this.ctx = mock(ChannelHandlerContext.class);
         Channel channel = mock(Channel.class);
         when(this.ctx.channel()).thenReturn(channel);
@@ -77,7 +95,7 @@ class HttpClassicRequestAssemblerTest {
         when(((AttributeMap) this.ctx).attr(any())).thenReturn(attribute);
         ChannelId channelId = mock(ChannelId.class);
         when(channelId.asLongText()).thenReturn("requestId");
-        this.requestAssembler = new HttpClassicRequestAssembler(classicServer,
+        this.requestAssembler = new HttpClassicRequestAssembler(this.classicServer,
                 false,
                 HttpClassicRequestAssembler.Config.custom()
                         .maxThreadNum(1)
@@ -94,4 +112,172 @@ class HttpClassicRequestAssemblerTest {
         DefaultHttpRequest httpRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/a", headers);
         assertDoesNotThrow(() -> this.requestAssembler.channelRead0(this.ctx, httpRequest));
     }
+
+    private static EmbeddedChannel remoteChannel(HttpClassicRequestAssembler assembler) {
+        return new EmbeddedChannel(assembler) {
+            @Override
+            protected SocketAddress remoteAddress0() {
+                return new InetSocketAddress("127.0.0.1", 8080);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("当开启 IO 线程内联执行时，非阻塞的处理器在 IO 线程上执行")
+    void givenInlineNonBlockingThenHandleOnEventLoop() {
+        AtomicReference<Thread> handleThread = new AtomicReference<>();
+        HttpHandler handler = mock(HttpHandler.class);
+        when(handler.pathPattern()).thenReturn("/inline");
+        when(handler.isNonBlocking()).thenReturn(true);
+        when(handler.createFilterChain()).thenAnswer(invocation -> new DefaultHttpServerFilterChain(handler));
+        doAnswer(invocation -> {
+            handleThread.set(Thread.currentThread());
+            return null;
+        }).when(handler).handle(any(), any());
+        this.classicServer.httpDispatcher().register(HttpRequestMethod.GET.name(), handler);
+        EmbeddedChannel channel = remoteChannel(new HttpClassicRequestAssembler(this.classicServer,
+                false,
+                HttpClassicRequestAssembler.Config.custom()
+                        .maxThreadNum(1)
+                        .largeBodySize(2048)
+                        .isInlineNonBlocking(true)
+                        .build()));
+        channel.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/inline"));
+        assertThat(handleThread.get()).isNull();
+        channel.writeInbound(LastHttpContent.EMPTY_LAST_CONTENT);
+        assertThat(handleThread.get()).isSameAs(Thread.currentThread());
+        channel.finishAndReleaseAll();
+    }
+
+    private void registerBlockingHandler(CountDownLatch started, CountDownLatch release) {
+        HttpHandler handler = mock(HttpHandler.class);
+        when(handler.pathPattern()).thenReturn("/blocking");
+        when(handler.createFilterChain()).thenAnswer(invocation -> new DefaultHttpServerFilterChain(handler));
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(handler).handle(any(), any());
+        this.classicServer.httpDispatcher().register(HttpRequestMethod.GET.name(), handler);
+        this.classicServer.httpDispatcher().register(HttpRequestMethod.POST.name(), handler);
+    }
+
+    private static void assertServiceUnavailable(EmbeddedChannel channel) {
+        FullHttpResponse response = channel.readOutbound();
+        assertThat(response).isNotNull();
+        assertThat(response.status()).isEqualTo(HttpResponseStatus.SERVICE_UNAVAILABLE);
+        response.release();
+    }
+
+    @Test
+    @DisplayName("当业务线程池已满时，返回 503 响应并保持连接")
+    void givenThreadPoolFullThenReturnServiceUnavailable() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        this.registerBlockingHandler(started, release);
+        HttpClassicRequestAssembler assembler = new HttpClassicRequestAssembler(this.classicServer,
+                false,
+                HttpClassicRequestAssembler.Config.custom().coreThreadNum(1).maxThreadNum(1).queueCapacity(0).build());
+        EmbeddedChannel busy = remoteChannel(assembler);
+        EmbeddedChannel rejected = remoteChannel(assembler);
+        try {
+            busy.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/blocking"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            rejected.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/blocking"));
+            assertServiceUnavailable(rejected);
+            assertThat(rejected.isOpen()).isTrue();
+        } finally {
+            release.countDown();
+            busy.finishAndReleaseAll();
+            rejected.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    @DisplayName("当业务线程池已满时，丢弃被拒绝请求的分块消息体，连接上的后续请求可以继续处理")
+    void givenThreadPoolFullWhenChunkedBodyRejectedThenDiscardBodyAndKeepConnection() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        this.registerBlockingHandler(started, release);
+        AtomicReference<Thread> handleThread = new AtomicReference<>();
+        HttpHandler inlineHandler = mock(HttpHandler.class);
+        when(inlineHandler.pathPattern()).thenReturn("/inline");
+        when(inlineHandler.isNonBlocking()).thenReturn(true);
+        when(inlineHandler.createFilterChain()).thenAnswer(invocation -> new DefaultHttpServerFilterChain(
+                inlineHandler));
+        doAnswer(invocation -> {
+            handleThread.set(Thread.currentThread());
+            return null;
+        }).when(inlineHandler).handle(any(), any());
+        this.classicServer.httpDispatcher().register(HttpRequestMethod.GET.name(), inlineHandler);
+        HttpClassicRequestAssembler assembler = new HttpClassicRequestAssembler(this.classicServer,
+                false,
+                HttpClassicRequestAssembler.Config.custom()
+                        .coreThreadNum(1)
+                        .maxThreadNum(1)
+                        .queueCapacity(0)
+                        .isInlineNonBlocking(true)
+                        .build());
+        EmbeddedChannel busy = remoteChannel(assembler);
+        EmbeddedChannel rejected = remoteChannel(assembler);
+        try {
+            busy.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/blocking"));
+            busy.writeInbound(LastHttpContent.EMPTY_LAST_CONTENT);
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            HttpHeaders headers = new DefaultHttpHeaders();
+            headers.set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
+            rejected.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+                    HttpMethod.POST,
+                    "/blocking",
+                    headers));
+            assertServiceUnavailable(rejected);
+            DefaultHttpContent first = new DefaultHttpContent(Unpooled.copiedBuffer("hello", UTF_8));
+            DefaultHttpContent second = new DefaultHttpContent(Unpooled.copiedBuffer("world", UTF_8));
+            DefaultLastHttpContent last = new DefaultLastHttpContent(Unpooled.copiedBuffer("!", UTF_8));
+            rejected.writeInbound(first, second, last);
+            assertThat(first.refCnt()).isZero();
+            assertThat(second.refCnt()).isZero();
+            assertThat(last.refCnt()).isZero();
+            assertThat(rejected.isOpen()).isTrue();
+
+            rejected.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/inline"));
+            rejected.writeInbound(LastHttpContent.EMPTY_LAST_CONTENT);
+            assertThat(handleThread.get()).isSameAs(Thread.currentThread());
+            assertThat(rejected.isOpen()).isTrue();
+        } finally {
+            release.countDown();
+            busy.finishAndReleaseAll();
+            rejected.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    @DisplayName("当业务线程池已满且拒绝策略为关闭连接时，返回 503 响应并关闭连接")
+    void givenThreadPoolFullAndClosePolicyThenCloseConnection() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        this.registerBlockingHandler(started, release);
+        HttpClassicRequestAssembler assembler = new HttpClassicRequestAssembler(this.classicServer,
+                false,
+                HttpClassicRequestAssembler.Config.custom()
+                        .coreThreadNum(1)
+                        .maxThreadNum(1)
+                        .queueCapacity(0)
+                        .rejectionPolicy(NettyRejectionPolicy.CLOSE)
+                        .build());
+        EmbeddedChannel busy = remoteChannel(assembler);
+        EmbeddedChannel rejected = remoteChannel(assembler);
+        try {
+            busy.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/blocking"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            rejected.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/blocking"));
+            assertServiceUnavailable(rejected);
+            assertThat(rejected.isOpen()).isFalse();
+        } finally {
+            release.countDown();
+            busy.finishAndReleaseAll();
+            rejected.finishAndReleaseAll();
+        }
+    }
 }
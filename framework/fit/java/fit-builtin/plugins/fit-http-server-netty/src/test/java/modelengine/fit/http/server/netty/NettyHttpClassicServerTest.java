@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -9,29 +9,60 @@ package modelengine.fit.http.server.netty;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import io.netty.channel.epoll.Epoll;
 import modelengine.fit.http.Serializers;
 import modelengine.fit.http.server.HttpDispatcher;
 import modelengine.fit.http.server.netty.support.DefaultNettyServerConfig;
 import modelengine.fit.server.http.HttpConfig;
+import modelengine.fitframework.conf.runtime.ServerConfig;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.LockUtils;
 import modelengine.fitframework.util.MapBuilder;
 import modelengine.fitframework.util.ThreadUtils;
 import modelengine.fitframework.value.ValueFetcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
 import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
 
 /**
  * 表示 {@link NettyHttpClassicServer} 的单元测试。
@@ -41,6 +72,8 @@ import java.util.Map;
  */
 @DisplayName("测试 NettyHttpClassicServer 类")
 class NettyHttpClassicServerTest {
+    private static final String KEY_STORE_PASSWORD = "changeit";
+
     private NettyHttpClassicServer classicServer;
     private ValueFetcher valueFetcher;
     private Map<String, ObjectSerializer> serializersMap;
@@ -119,6 +152,167 @@ class NettyHttpClassicServerTest {
         assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @ParameterizedTest(name = "{index}: 传输层为 `{0}`")
+    @ValueSource(strings = {"nio", "epoll"})
+    @DisplayName("当使用不同的传输层启动 netty 的服务端时，可以在本地回环地址上处理 Http 请求")
+    void shouldHandleRequestOnLoopbackWithTransport(String transport) throws IOException {
+        if ("epoll".equals(transport)) {
+            assumeTrue(Epoll.isAvailable(), "Native epoll transport is unavailable.");
+        }
+        DefaultNettyServerConfig nettyServerConfig = new DefaultNettyServerConfig();
+        nettyServerConfig.setTransport(transport);
+        nettyServerConfig.setBossThreadNum(2);
+        nettyServerConfig.setWorkerThreadNum(2);
+        nettyServerConfig.setReusePort(true);
+        nettyServerConfig.setTcpFastOpen(16);
+        nettyServerConfig.setWriteBufferLowWaterMark(16 * 1024);
+        nettyServerConfig.setWriteBufferHighWaterMark(32 * 1024);
+        nettyServerConfig.setAllocatorHeapArenaNum(1);
+        nettyServerConfig.setAllocatorDirectArenaNum(1);
+        NettyHttpClassicServer server = new NettyHttpClassicServer(mock(BeanContainer.class),
+                this.serializersMap,
+                this.valueFetcher,
+                nettyServerConfig,
+                mock(HttpConfig.class),
+                false);
+        int port = this.getIdlePort();
+        server.bind(port, false);
+        server.start();
+        try {
+            for (int i = 0; i < 100 && !server.isStarted(); i++) {
+                ThreadUtils.sleep(50);
+            }
+            assertThat(server.isStarted()).isTrue();
+            for (int i = 0; i < 3; i++) {
+                assertThat(this.sendRequest(port)).startsWith("HTTP/1.1 ");
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("当开启 HTTP/2 时，明文连接上可以通过 h2c prior knowledge 处理 Http 请求，并兼容 HTTP/1.1")
+    void shouldHandleH2cRequestWithPriorKnowledge() throws IOException {
+        DefaultNettyServerConfig nettyServerConfig = new DefaultNettyServerConfig();
+        nettyServerConfig.setHttp2Enabled(true);
+        NettyHttpClassicServer server = new NettyHttpClassicServer(mock(BeanContainer.class),
+                this.serializersMap,
+                this.valueFetcher,
+                nettyServerConfig,
+                mock(HttpConfig.class),
+                false);
+        int port = this.getIdlePort();
+        server.bind(port, false);
+        server.start();
+        OkHttpClient client = new OkHttpClient.Builder().protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE)).build();
+        try {
+            for (int i = 0; i < 100 && !server.isStarted(); i++) {
+                ThreadUtils.sleep(50);
+            }
+            assertThat(server.isStarted()).isTrue();
+            Request request = new Request.Builder().url("http://127.0.0.1:" + port + "/unknown").build();
+            for (int i = 0; i < 3; i++) {
+                try (Response response = client.newCall(request).execute()) {
+                    assertThat(response.protocol()).isEqualTo(Protocol.H2_PRIOR_KNOWLEDGE);
+                    assertThat(response.code()).isEqualTo(404);
+                }
+            }
+            assertThat(client.connectionPool().connectionCount()).isEqualTo(1);
+            assertThat(this.sendRequest(port)).startsWith("HTTP/1.1 ");
+        } finally {
+            client.dispatcher().executorService().shutdown();
+            client.connectionPool().evictAll();
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("当开启 HTTP/2 时，加密连接上可以通过 ALPN 协商使用 h2 处理 Http 请求")
+    void shouldHandleH2RequestWithAlpn(@TempDir Path tempDir) throws Exception {
+        Path keyStore = this.createKeyStore(tempDir);
+        ServerConfig.Secure secure = mock(ServerConfig.Secure.class);
+        when(secure.isSslEnabled()).thenReturn(true);
+        when(secure.keyStoreFile()).thenReturn(Optional.of(keyStore.toString()));
+        when(secure.keyStorePassword()).thenReturn(Optional.of(KEY_STORE_PASSWORD));
+        when(secure.trustStoreFile()).thenReturn(Optional.of(keyStore.toString()));
+        when(secure.trustStorePassword()).thenReturn(Optional.of(KEY_STORE_PASSWORD));
+        when(secure.sslCiphers()).thenReturn(List.of("TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256"));
+        HttpConfig httpConfig = mock(HttpConfig.class);
+        when(httpConfig.secure()).thenReturn(Optional.of(secure));
+        DefaultNettyServerConfig nettyServerConfig = new DefaultNettyServerConfig();
+        nettyServerConfig.setHttp2Enabled(true);
+        NettyHttpClassicServer server = new NettyHttpClassicServer(mock(BeanContainer.class),
+                this.serializersMap,
+                this.valueFetcher,
+                nettyServerConfig,
+                httpConfig,
+                false);
+        int port = this.getIdlePort();
+        server.bind(port, true);
+        server.start();
+        X509TrustManager trustManager = this.createTrustManager(keyStore);
+        SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
+        sslContext.init(null, new TrustManager[] {trustManager}, null);
+        OkHttpClient client = new OkHttpClient.Builder().sslSocketFactory(sslContext.getSocketFactory(), trustManager)
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .build();
+        try {
+            for (int i = 0; i < 100 && !server.isStarted(); i++) {
+                ThreadUtils.sleep(50);
+            }
+            assertThat(server.isStarted()).isTrue();
+            Request request = new Request.Builder().url("https://127.0.0.1:" + port + "/unknown").build();
+            for (int i = 0; i < 3; i++) {
+                try (Response response = client.newCall(request).execute()) {
+                    assertThat(response.protocol()).isEqualTo(Protocol.HTTP_2);
+                    assertThat(response.code()).isEqualTo(404);
+                }
+            }
+            assertThat(client.connectionPool().connectionCount()).isEqualTo(1);
+        } finally {
+            client.dispatcher().executorService().shutdown();
+            client.connectionPool().evictAll();
+            server.stop();
+        }
+    }
+
+    private Path createKeyStore(Path dir) throws IOException, InterruptedException {
+        Path keyStore = dir.resolve("server.p12");
+        String keytool = Paths.get(System.getProperty("java.home"), "bin", "keytool").toString();
+        Process process = new ProcessBuilder(keytool, "-genkeypair", "-alias", "server", "-keyalg", "RSA",
+                "-keysize", "2048", "-dname", "CN=localhost", "-ext", "SAN=ip:127.0.0.1", "-validity", "1",
+                "-storetype", "PKCS12", "-keystore", keyStore.toString(), "-storepass", KEY_STORE_PASSWORD,
+                "-keypass", KEY_STORE_PASSWORD).redirectErrorStream(true).start();
+        process.getInputStream().transferTo(OutputStream.nullOutputStream());
+        assertThat(process.waitFor(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(process.exitValue()).isEqualTo(0);
+        return keyStore;
+    }
+
+    private X509TrustManager createTrustManager(Path keyStoreFile) throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(keyStoreFile)) {
+            keyStore.load(in, KEY_STORE_PASSWORD.toCharArray());
+        }
+        TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        factory.init(keyStore);
+        return (X509TrustManager) factory.getTrustManagers()[0];
+    }
+
+    private String sendRequest(int port) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setSoTimeout(10000);
+            OutputStream out = socket.getOutputStream();
+            out.write("GET /unknown HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n".getBytes(
+                    StandardCharsets.US_ASCII));
+            out.flush();
+            BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            return reader.readLine();
+        }
+    }
+
     private int getIdlePort() throws IOException {
         // 读取空闲的可用端口
         try (ServerSocket serverSocket = new ServerSocket(0)) {
@@ -0,0 +1,351 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.ResourceLeakDetector;
+import modelengine.fit.http.protocol.MessageHeaderNames;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示 {@link NettyHttpServerResponse} 的单元测试。
+ * <p>测试期间内存泄漏检测级别为 {@link ResourceLeakDetector.Level#PARANOID}，并且记录通道分配的所有缓冲区，在每个测试结束时
+ * 检查这些缓冲区都已经被释放。通道上与服务端一样添加了 {@link FlushConsolidationHandler}。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 NettyHttpServerResponse")
+class NettyHttpServerResponseTest {
+    private static ResourceLeakDetector.Level originalLevel;
+
+    private TrackingAllocator allocator;
+    private EmbeddedChannel channel;
+    private AtomicInteger flushes;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void enableParanoidLeakDetection() {
+        originalLevel = ResourceLeakDetector.getLevel();
+        ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    }
+
+    @AfterAll
+    static void restoreLeakDetection() {
+        ResourceLeakDetector.setLevel(originalLevel);
+    }
+
+    @BeforeEach
+    void setup() {
+        this.allocator = new TrackingAllocator();
+        this.channel = new EmbeddedChannel();
+        this.channel.config().setAllocator(this.allocator);
+        this.flushes = new AtomicInteger();
+        this.channel.pipeline()
+                .addLast(new ChannelOutboundHandlerAdapter() {
+                    @Override
+                    public void flush(ChannelHandlerContext ctx) {
+                        NettyHttpServerResponseTest.this.flushes.incrementAndGet();
+                        ctx.flush();
+                    }
+                }, flushConsolidationHandler(), new HttpResponseEncoder(), new ChunkedWriteHandler(),
+                        new ChannelInboundHandlerAdapter());
+    }
+
+    @AfterEach
+    void teardown() {
+        this.channel.finishAndReleaseAll();
+        assertThat(this.allocator.unreleased()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("定长响应在结束时只刷新一次，且消息体与写入的内容一致")
+    void shouldFlushOnceForFixedLengthResponse() throws IOException {
+        NettyHttpServerResponse response = this.createResponse();
+        response.startLine().statusCode(200);
+        response.headers().set(MessageHeaderNames.CONTENT_LENGTH, "11");
+        response.writeStartLineAndHeaders();
+        response.writeBody("hello ".getBytes(StandardCharsets.UTF_8));
+        response.writeBody("world".getBytes(StandardCharsets.UTF_8));
+        this.channel.runPendingTasks();
+        assertThat(this.channel.outboundMessages()).isEmpty();
+
+        response.flush();
+        response.close();
+        String actual = this.readOutbound();
+        assertThat(this.flushes.get()).isEqualTo(1);
+        assertThat(actual).startsWith("HTTP/1.1 200 OK\r\n")
+                .containsIgnoringCase("content-length: 11")
+                .endsWith("\r\n\r\nhello world");
+    }
+
+    @Test
+    @DisplayName("分块响应每次写入都会刷新，且以结束块结尾")
+    void shouldFlushEachChunkForChunkedResponse() throws IOException {
+        NettyHttpServerResponse response = this.createResponse();
+        response.startLine().statusCode(200);
+        response.headers().set(MessageHeaderNames.TRANSFER_ENCODING, "chunked");
+        response.writeStartLineAndHeaders();
+        this.channel.runPendingTasks();
+        assertThat(this.channel.outboundMessages()).isNotEmpty();
+        String headers = this.readOutbound();
+        byte[] bytes = "abcdef".getBytes(StandardCharsets.UTF_8);
+        response.writeBody(bytes, 0, 2);
+        assertThat(this.readOutbound()).isEqualTo("2\r\nab\r\n");
+        response.writeBody(bytes, 2, 4);
+        response.writeBody('g');
+        response.flush();
+        response.close();
+        assertThat(headers).startsWith("HTTP/1.1 200 OK\r\n").containsIgnoringCase("transfer-encoding: chunked");
+        assertThat(this.readOutbound()).isEqualTo("4\r\ncdef\r\n1\r\ng\r\n0\r\n\r\n");
+    }
+
+    @Test
+    @DisplayName("在事件循环线程中写出文件时，拷贝文件内容写出，且不关闭文件通道")
+    void shouldCopyFileInEventLoop() throws IOException {
+        byte[] content = this.content(20000);
+        Path file = Files.write(this.tempDir.resolve("event-loop.bin"), content);
+        NettyHttpServerResponse response = this.createResponse();
+        response.startLine().statusCode(200);
+        response.headers().set(MessageHeaderNames.CONTENT_LENGTH, String.valueOf(content.length - 100));
+        response.writeStartLineAndHeaders();
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            response.writeBody(fileChannel, 100, content.length - 100);
+            response.flush();
+            response.close();
+            assertThat(fileChannel.isOpen()).isTrue();
+            assertThat(fileChannel.position()).isEqualTo(0L);
+        }
+        String actual = this.readOutbound();
+        assertThat(actual).endsWith(new String(content, 100, content.length - 100, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    @DisplayName("在业务线程中写出文件时，以零拷贝的方式写出，关闭响应时文件已经写出完成")
+    void shouldTransferFileOnLoopback() throws Exception {
+        byte[] content = this.content(1024 * 1024);
+        Path file = Files.write(this.tempDir.resolve("loopback.bin"), content);
+        CompletableFuture<Boolean> isFileChannelOpen = new CompletableFuture<>();
+        this.serveFileOnLoopback(file, content.length, isFileChannelOpen, port -> {
+            byte[] actual = this.requestOnLoopback(port);
+            assertThat(isFileChannelOpen.get(10, TimeUnit.SECONDS)).isTrue();
+            String text = new String(actual, StandardCharsets.ISO_8859_1);
+            int bodyIndex = text.indexOf("\r\n\r\n") + 4;
+            assertThat(text).startsWith("HTTP/1.1 200 OK\r\n");
+            assertThat(actual.length - bodyIndex).isEqualTo(content.length);
+            assertThat(text.substring(bodyIndex)).isEqualTo(new String(content, StandardCharsets.ISO_8859_1));
+        });
+    }
+
+    @Test
+    @DisplayName("在业务线程中写出文件时，客户端中途断开连接，关闭响应不会一直阻塞")
+    void shouldNotHangOnCloseWhenPeerResets() throws Exception {
+        byte[] content = this.content(32 * 1024 * 1024);
+        Path file = Files.write(this.tempDir.resolve("reset.bin"), content);
+        CompletableFuture<Boolean> isFileChannelOpen = new CompletableFuture<>();
+        this.serveFileOnLoopback(file, content.length, isFileChannelOpen, port -> {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                socket.setSoTimeout(10000);
+                socket.setSoLinger(true, 0);
+                socket.getOutputStream()
+                        .write("GET /file HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                assertThat(socket.getInputStream().readNBytes(1024)).hasSize(1024);
+            }
+            assertThat(isFileChannelOpen.get(10, TimeUnit.SECONDS)).isTrue();
+        });
+    }
+
+    private void serveFileOnLoopback(Path file, long length, CompletableFuture<Boolean> isFileChannelOpen,
+            LoopbackClient client) throws Exception {
+        ExecutorService businessExecutor = Executors.newSingleThreadExecutor();
+        EventLoopGroup group = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory());
+        try {
+            Channel serverChannel = new ServerBootstrap().group(group)
+                    .channel(NioServerSocketChannel.class)
+                    .childOption(ChannelOption.ALLOCATOR, this.allocator)
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel ch) {
+                            ch.pipeline().addLast(flushConsolidationHandler(), new HttpServerCodec(),
+                                    new ChannelInboundHandlerAdapter() {
+                                        @Override
+                                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                            if (msg instanceof HttpRequest request) {
+                                                businessExecutor.execute(() -> sendFile(createResponse(ctx,
+                                                        request), file, length, isFileChannelOpen));
+                                            }
+                                            ReferenceCountUtil.release(msg);
+                                        }
+                                    });
+                        }
+                    })
+                    .bind(InetAddress.getLoopbackAddress(), 0)
+                    .sync()
+                    .channel();
+            client.request(((InetSocketAddress) serverChannel.localAddress()).getPort());
+            serverChannel.close().sync();
+        } finally {
+            businessExecutor.shutdownNow();
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+        }
+    }
+
+    private static FlushConsolidationHandler flushConsolidationHandler() {
+        return new FlushConsolidationHandler(FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true);
+    }
+
+    private static void sendFile(NettyHttpServerResponse response, Path file, long length,
+            CompletableFuture<Boolean> isOpen) {
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            response.startLine().statusCode(200);
+            response.headers().set(MessageHeaderNames.CONTENT_LENGTH, String.valueOf(length));
+            response.writeStartLineAndHeaders();
+            response.writeBody(fileChannel, 0, length);
+            response.flush();
+            response.close();
+            isOpen.complete(fileChannel.isOpen());
+        } catch (IOException e) {
+            isOpen.completeExceptionally(e);
+        }
+    }
+
+    private byte[] requestOnLoopback(int port) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setSoTimeout(10000);
+            OutputStream out = socket.getOutputStream();
+            out.write("GET /file HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n".getBytes(
+                    StandardCharsets.US_ASCII));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            ByteArrayOutputStream received = new ByteArrayOutputStream();
+            in.transferTo(received);
+            return received.toByteArray();
+        }
+    }
+
+    private NettyHttpServerResponse createResponse() {
+        ChannelHandlerContext ctx = this.channel.pipeline().lastContext();
+        HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/a");
+        return createResponse(ctx, request);
+    }
+
+    private static NettyHttpServerResponse createResponse(ChannelHandlerContext ctx, HttpRequest request) {
+        return new NettyHttpServerResponse(ctx, new NettyHttpServerRequest(request, ctx, false, 2048));
+    }
+
+    private String readOutbound() {
+        this.channel.runPendingTasks();
+        StringBuilder builder = new StringBuilder();
+        Object message;
+        while ((message = this.channel.readOutbound()) != null) {
+            ByteBuf buffer = (ByteBuf) message;
+            builder.append(buffer.toString(StandardCharsets.ISO_8859_1));
+            buffer.release();
+        }
+        return builder.toString();
+    }
+
+    private byte[] content(int length) {
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        return content;
+    }
+
+    /**
+     * 表示在本地回环地址上访问服务端的客户端。
+     */
+    @FunctionalInterface
+    private interface LoopbackClient {
+        void request(int port) throws Exception;
+    }
+
+    /**
+     * 表示记录所有分配的缓冲区的内存分配器。
+     */
+    private static class TrackingAllocator extends PooledByteBufAllocator {
+        private final List<ByteBuf> buffers = new CopyOnWriteArrayList<>();
+
+        TrackingAllocator() {
+            super(false);
+        }
+
+        @Override
+        protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+            return this.track(super.newHeapBuffer(initialCapacity, maxCapacity));
+        }
+
+        @Override
+        protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+            return this.track(super.newDirectBuffer(initialCapacity, maxCapacity));
+        }
+
+        private ByteBuf track(ByteBuf buffer) {
+            this.buffers.add(buffer);
+            return buffer;
+        }
+
+        List<ByteBuf> unreleased() {
+            return this.buffers.stream().filter(buffer -> buffer.refCnt() > 0).toList();
+        }
+    }
+}
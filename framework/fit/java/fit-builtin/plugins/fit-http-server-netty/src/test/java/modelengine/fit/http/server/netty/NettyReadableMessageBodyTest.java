@@ -0,0 +1,219 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.buffer.Unpooled;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.Subscription;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 表示 {@link NettyReadableMessageBody} 的单元测试。
+ * <p>写入端模拟缓慢发送数据的客户端，每写入一块数据后停顿一段时间。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 NettyReadableMessageBody 类")
+class NettyReadableMessageBodyTest {
+    private static final int CHUNK_NUM = 20;
+    private static final int CHUNK_SIZE = 100;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void teardown() {
+        this.executor.shutdownNow();
+    }
+
+    private static NettyReadableMessageBody create(boolean isLarge) {
+        return isLarge ? NettyReadableMessageBody.large() : NettyReadableMessageBody.common();
+    }
+
+    private static byte[] chunk(int index) {
+        byte[] bytes = new byte[CHUNK_SIZE];
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            bytes[i] = (byte) (index + i);
+        }
+        return bytes;
+    }
+
+    private static byte[] expected() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < CHUNK_NUM; i++) {
+            out.writeBytes(chunk(i));
+        }
+        return out.toByteArray();
+    }
+
+    private Future<?> writeSlowly(NettyReadableMessageBody body) {
+        return this.executor.submit(() -> {
+            for (int i = 0; i < CHUNK_NUM; i++) {
+                Thread.sleep(5);
+                body.write(Unpooled.wrappedBuffer(chunk(i)), false);
+            }
+            body.write(Unpooled.EMPTY_BUFFER, true);
+            return null;
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("当客户端缓慢写入时，批量读取等待数据到达并最终返回 -1")
+    void shouldReadAllBytesWhenWriterIsSlow(boolean isLarge) throws Exception {
+        try (NettyReadableMessageBody body = create(isLarge)) {
+            Future<?> writer = this.writeSlowly(body);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[64];
+            int read;
+            while ((read = body.read(buffer, 0, buffer.length)) != -1) {
+                assertThat(read).isPositive();
+                out.write(buffer, 0, read);
+            }
+            writer.get(5, TimeUnit.SECONDS);
+            assertThat(out.toByteArray()).isEqualTo(expected());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("当客户端缓慢写入时，逐字节读取等待数据到达并最终返回 -1")
+    void shouldReadAllSingleBytesWhenWriterIsSlow(boolean isLarge) throws Exception {
+        try (NettyReadableMessageBody body = create(isLarge)) {
+            Future<?> writer = this.writeSlowly(body);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int read;
+            while ((read = body.read()) != -1) {
+                out.write(read);
+            }
+            writer.get(5, TimeUnit.SECONDS);
+            assertThat(out.toByteArray()).isEqualTo(expected());
+        }
+    }
+
+    @Test
+    @DisplayName("当消息体被关闭时，唤醒阻塞的读取线程并抛出异常")
+    void shouldWakeUpReaderWhenClosed() throws Exception {
+        NettyReadableMessageBody body = NettyReadableMessageBody.common();
+        Future<?> closer = this.executor.submit(() -> {
+            Thread.sleep(50);
+            body.close();
+            return null;
+        });
+        assertThatThrownBy(() -> body.read(new byte[8], 0, 8)).isInstanceOf(IOException.class);
+        closer.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("当读取线程被中断时，抛出 InterruptedIOException 并保留中断标志")
+    void shouldThrowInterruptedIOExceptionWhenInterrupted() throws Exception {
+        Thread reader = Thread.currentThread();
+        try (NettyReadableMessageBody body = NettyReadableMessageBody.common()) {
+            Future<?> interrupter = this.executor.submit(() -> {
+                Thread.sleep(50);
+                reader.interrupt();
+                return null;
+            });
+            assertThatThrownBy(body::read).isInstanceOf(InterruptedIOException.class);
+            assertThat(Thread.interrupted()).isTrue();
+            interrupter.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("当客户端缓慢写入时，订阅者按请求数量逐块消费数据")
+    void shouldConsumeChunksOnDemandWhenWriterIsSlow(boolean isLarge) throws Exception {
+        try (NettyReadableMessageBody body = create(isLarge)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            CountDownLatch completed = new CountDownLatch(1);
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            body.subscribe(Subscriber.functional(subscription -> subscription.request(1), (subscription, data) -> {
+                out.writeBytes(data);
+                subscription.request(1);
+            }, subscription -> completed.countDown(), (subscription, cause) -> {
+                failure.set(cause);
+                completed.countDown();
+            }));
+            assertThat(body.isConsumingAsynchronously()).isTrue();
+            this.writeSlowly(body).get(5, TimeUnit.SECONDS);
+            assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(failure.get()).isNull();
+            assertThat(out.toByteArray()).isEqualTo(expected());
+            assertThat(body.isConsumingAsynchronously()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("当订阅者没有请求数据时，不下发数据块")
+    void shouldNotConsumeWithoutDemand() throws IOException {
+        try (NettyReadableMessageBody body = NettyReadableMessageBody.common()) {
+            List<byte[]> chunks = new CopyOnWriteArrayList<>();
+            AtomicReference<Subscription> subscriptionRef = new AtomicReference<>();
+            body.subscribe(Subscriber.functional(subscriptionRef::set,
+                    (subscription, data) -> chunks.add(data),
+                    subscription -> {},
+                    (subscription, cause) -> {}));
+            body.write(Unpooled.wrappedBuffer(chunk(0)), false);
+            assertThat(chunks).isEmpty();
+            subscriptionRef.get().request(1);
+            assertThat(chunks).hasSize(1);
+            assertThat(chunks.get(0)).isEqualTo(chunk(0));
+        }
+    }
+
+    @Test
+    @DisplayName("当重复订阅时，后来的订阅者收到异常")
+    void shouldFailSecondSubscriber() throws IOException {
+        try (NettyReadableMessageBody body = NettyReadableMessageBody.common()) {
+            body.subscribe(Subscriber.empty());
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            body.subscribe(Subscriber.functional(subscription -> {}, (subscription, data) -> {},
+                    subscription -> {}, (subscription, cause) -> failure.set(cause)));
+            assertThat(failure.get()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("当未读取的数据过多时暂停从连接读取，读取后恢复")
+    void shouldPauseAndResumeAutoRead() throws IOException {
+        try (NettyReadableMessageBody body = NettyReadableMessageBody.common()) {
+            List<Boolean> switches = new CopyOnWriteArrayList<>();
+            body.setAutoReadSwitch(switches::add);
+            byte[] block = new byte[1024 * 1024];
+            for (int i = 0; i < 4; i++) {
+                body.write(Unpooled.wrappedBuffer(block), false);
+            }
+            assertThat(switches).containsExactly(false);
+            byte[] buffer = new byte[block.length];
+            for (int i = 0; i < 3; i++) {
+                assertThat(body.read(buffer, 0, buffer.length)).isEqualTo(buffer.length);
+            }
+            assertThat(switches).containsExactly(false, true);
+        }
+    }
+}
@@ -28,4 +28,37 @@ public class DefaultNettyServerConfigTest {
         assertThat(config).returns(2, DefaultNettyServerConfig::getMaxThreadNum)
                 .returns(true, DefaultNettyServerConfig::isDisplayError);
     }
+
+    @Test
+    @DisplayName("当传输层相关配置被正确设置时，可以获取正确的配置值")
+    void shouldReturnTransportConfig() {
+        DefaultNettyServerConfig config = new DefaultNettyServerConfig();
+        assertThat(config).returns(1, DefaultNettyServerConfig::getBossThreadNum)
+                .returns(-1, DefaultNettyServerConfig::getAllocatorHeapArenaNum)
+                .returns(-1, DefaultNettyServerConfig::getAllocatorDirectArenaNum);
+        config.setTransport("epoll");
+        config.setRejectionPolicy("close");
+        config.setBossThreadNum(4);
+        config.setWorkerThreadNum(8);
+        config.setReusePort(true);
+        config.setTcpFastOpen(256);
+        config.setWriteBufferLowWaterMark(1024);
+        config.setWriteBufferHighWaterMark(2048);
+        config.setAllocatorHeapArenaNum(0);
+        config.setAllocatorDirectArenaNum(2);
+        config.setInlineNonBlocking(true);
+        config.setHttp2Enabled(true);
+        assertThat(config).returns("epoll", DefaultNettyServerConfig::getTransport)
+                .returns("close", DefaultNettyServerConfig::getRejectionPolicy)
+                .returns(4, DefaultNettyServerConfig::getBossThreadNum)
+                .returns(8, DefaultNettyServerConfig::getWorkerThreadNum)
+                .returns(true, DefaultNettyServerConfig::isReusePort)
+                .returns(256, DefaultNettyServerConfig::getTcpFastOpen)
+                .returns(1024, DefaultNettyServerConfig::getWriteBufferLowWaterMark)
+                .returns(2048, DefaultNettyServerConfig::getWriteBufferHighWaterMark)
+                .returns(0, DefaultNettyServerConfig::getAllocatorHeapArenaNum)
+                .returns(2, DefaultNettyServerConfig::getAllocatorDirectArenaNum)
+                .returns(true, DefaultNettyServerConfig::isInlineNonBlocking)
+                .returns(true, DefaultNettyServerConfig::isHttp2Enabled);
+    }
 }
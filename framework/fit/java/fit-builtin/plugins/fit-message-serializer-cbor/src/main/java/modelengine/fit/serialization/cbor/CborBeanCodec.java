@@ -0,0 +1,340 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.cbor;
+
+import modelengine.fitframework.beans.BeanAccessor;
+import modelengine.fitframework.exception.ObjectInstantiationException;
+import modelengine.fitframework.util.ReflectionUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 表示自定义结构体的 CBOR 编解码信息。
+ * <p>每个类型只在第一次使用时解析一次属性，属性的读写通过预先生成的 {@link MethodHandle} 完成。编解码信息通过
+ * {@link ClassValue} 关联到类型上，不会阻止插件卸载后类加载器被回收。属性的范围、顺序和别名与
+ * {@link BeanAccessor} 保持一致，从而保证与先转换成 {@link Map} 再编解码的方式得到相同的结果。实例化使用的构造方法也只查找一次，
+ * 解码时不再为每个实例重复查找构造方法和检查访问权限。</p>
+ * <p>记录类型的属性是其全部组件，按照声明的顺序编码，解码时通过规范构造方法一次性构造实例，缺少的组件使用
+ * {@code null} 或者基本类型的默认值。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+final class CborBeanCodec {
+    private static final ClassValue<CborBeanCodec> CODECS = new ClassValue<>() {
+        @Override
+        protected CborBeanCodec computeValue(Class<?> type) {
+            return new CborBeanCodec(type);
+        }
+    };
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final Class<?> type;
+    private final BeanAccessor accessor;
+    private final Constructor<?> constructor;
+    private final Class<?>[] componentTypes;
+    private final List<Property> readableProperties;
+    private final Map<String, Property> properties;
+
+    private CborBeanCodec(Class<?> type) {
+        this.type = type;
+        if (type.isRecord()) {
+            this.accessor = null;
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            List<Property> readable = new ArrayList<>(components.length);
+            Map<String, Property> all = new HashMap<>();
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+                Property property = new Property(components[i], i);
+                readable.add(property);
+                all.put(property.name, property);
+            }
+            this.constructor = accessible(ReflectionUtils.getDeclaredConstructor(type, parameterTypes));
+            this.componentTypes = parameterTypes;
+            this.readableProperties = Collections.unmodifiableList(readable);
+            this.properties = Collections.unmodifiableMap(all);
+            return;
+        }
+        this.accessor = BeanAccessor.of(type);
+        this.constructor = defaultConstructor(type);
+        this.componentTypes = null;
+        BeanInfo info;
+        try {
+            info = Introspector.getBeanInfo(type);
+        } catch (IntrospectionException e) {
+            throw new IllegalStateException(StringUtils.format("Failed to introspect class of bean. [type={0}]",
+                    type.getName()), e);
+        }
+        Map<String, PropertyDescriptor> descriptors = new HashMap<>();
+        for (PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
+            descriptors.put(descriptor.getName(), descriptor);
+        }
+        List<Property> readable = new ArrayList<>();
+        Map<String, Property> all = new HashMap<>();
+        for (String name : this.accessor.properties()) {
+            Property property = new Property(name, this.accessor.getAlias(name), descriptors.get(name));
+            all.put(name, property);
+            if (!Objects.equals(name, "class")) {
+                readable.add(property);
+            }
+        }
+        this.readableProperties = Collections.unmodifiableList(readable);
+        this.properties = Collections.unmodifiableMap(all);
+    }
+
+    /**
+     * 获取指定类型的编解码信息。
+     *
+     * @param type 表示指定类型的 {@link Class}{@code <?>}。
+     * @return 表示指定类型的编解码信息的 {@link CborBeanCodec}。
+     */
+    static CborBeanCodec of(Class<?> type) {
+        return CODECS.get(type);
+    }
+
+    /**
+     * 获取编码时需要输出的属性列表，顺序与 {@link BeanAccessor#properties()} 一致。
+     *
+     * @return 表示属性列表的 {@link List}{@code <}{@link Property}{@code >}。
+     */
+    List<Property> readableProperties() {
+        return this.readableProperties;
+    }
+
+    /**
+     * 根据编码后的键获取对应的属性。
+     *
+     * @param key 表示编码后的键的 {@link String}，可以是属性名，也可以是属性的别名。
+     * @return 表示对应属性的 {@link Property}，不存在时为 {@code null}。
+     */
+    Property property(String key) {
+        if (this.accessor == null) {
+            return this.properties.get(key);
+        }
+        return this.properties.get(this.accessor.getAlias(key));
+    }
+
+    /**
+     * 开始构造一个新的实例。
+     *
+     * @return 表示构造中的实例的 {@link Instance}。
+     */
+    Instance newInstance() {
+        return new Instance();
+    }
+
+    private static Constructor<?> defaultConstructor(Class<?> type) {
+        try {
+            return accessible(type.getDeclaredConstructor());
+        } catch (NoSuchMethodException e) {
+            // 没有无参构造方法时交给 ReflectionUtils 实例化，保持原有的异常信息。
+            return null;
+        }
+    }
+
+    private static Constructor<?> accessible(Constructor<?> constructor) {
+        try {
+            constructor.setAccessible(true);
+        } catch (RuntimeException e) {
+            // 无法取消访问检查时，实例化时按照原有方式抛出异常。
+        }
+        return constructor;
+    }
+
+    private Object instantiate(Object[] arguments) {
+        if (this.constructor == null) {
+            return ReflectionUtils.instantiate(this.type);
+        }
+        try {
+            return this.constructor.newInstance(arguments);
+        } catch (InvocationTargetException e) {
+            throw new ObjectInstantiationException(e.getCause());
+        } catch (IllegalAccessException | IllegalArgumentException | InstantiationException e) {
+            throw new ObjectInstantiationException(e);
+        }
+    }
+
+    private static MethodHandle unreflect(Method method, MethodType type) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException e) {
+            // 无法直接访问的方法交给 BeanAccessor 处理，保持原有的异常信息。
+            return null;
+        }
+    }
+
+    /**
+     * 表示解码过程中构造中的实例。
+     * <p>普通结构体先通过无参构造方法实例化，再逐个设置属性；记录类型先收集所有组件的值，最后调用规范构造方法。</p>
+     */
+    final class Instance {
+        private final Object bean;
+        private final Object[] components;
+
+        private Instance() {
+            if (CborBeanCodec.this.componentTypes == null) {
+                this.bean = CborBeanCodec.this.instantiate(NO_ARGUMENTS);
+                this.components = null;
+            } else {
+                this.bean = null;
+                this.components = new Object[CborBeanCodec.this.readableProperties.size()];
+            }
+        }
+
+        /**
+         * 设置实例的属性值。
+         *
+         * @param property 表示待设置的属性的 {@link Property}。
+         * @param value 表示属性值的 {@link Object}。
+         */
+        void set(Property property, Object value) {
+            if (this.components == null) {
+                property.set(this.bean, value);
+            } else {
+                this.components[property.index] = value;
+            }
+        }
+
+        /**
+         * 完成实例的构造。
+         *
+         * @return 表示构造完成的实例的 {@link Object}。
+         */
+        Object build() {
+            if (this.components == null) {
+                return this.bean;
+            }
+            Class<?>[] componentTypes = CborBeanCodec.this.componentTypes;
+            for (int i = 0; i < this.components.length; i++) {
+                if (this.components[i] == null && componentTypes[i].isPrimitive()) {
+                    this.components[i] = ReflectionUtils.getPrimitiveDefaultValue(componentTypes[i]);
+                }
+            }
+            return CborBeanCodec.this.instantiate(this.components);
+        }
+    }
+
+    /**
+     * 表示结构体的一个属性。
+     */
+    final class Property {
+        private final String name;
+        private final String alias;
+        private final int index;
+        private final Type type;
+        private final Method readMethod;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private Property(RecordComponent component, int index) {
+            this.name = component.getName();
+            this.alias = this.name;
+            this.index = index;
+            this.type = component.getGenericType();
+            this.readMethod = component.getAccessor();
+            this.getter = unreflect(this.readMethod, GETTER_TYPE);
+            this.setter = null;
+        }
+
+        private Property(String name, String alias, PropertyDescriptor descriptor) {
+            this.name = name;
+            this.alias = alias;
+            this.index = -1;
+            Method readMethod = descriptor.getReadMethod();
+            Method writeMethod = descriptor.getWriteMethod();
+            this.readMethod = readMethod;
+            this.type = readMethod != null
+                    ? readMethod.getGenericReturnType()
+                    : writeMethod.getParameters()[0].getParameterizedType();
+            this.getter = unreflect(readMethod, GETTER_TYPE);
+            this.setter = unreflect(writeMethod, SETTER_TYPE);
+        }
+
+        /**
+         * 获取编码时使用的键。
+         *
+         * @return 表示编码时使用的键的 {@link String}。
+         */
+        String alias() {
+            return this.alias;
+        }
+
+        /**
+         * 获取属性的类型。
+         *
+         * @return 表示属性的类型的 {@link Type}。
+         */
+        Type type() {
+            return this.type;
+        }
+
+        /**
+         * 读取指定实例的属性值。
+         *
+         * @param bean 表示指定实例的 {@link Object}。
+         * @return 表示属性值的 {@link Object}。
+         */
+        Object get(Object bean) {
+            if (this.getter == null) {
+                return CborBeanCodec.this.accessor == null
+                        ? ReflectionUtils.invoke(bean, this.readMethod)
+                        : CborBeanCodec.this.accessor.get(bean, this.name);
+            }
+            try {
+                return this.getter.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * 设置指定实例的属性值。
+         *
+         * @param bean 表示指定实例的 {@link Object}。
+         * @param value 表示属性值的 {@link Object}。
+         */
+        void set(Object bean, Object value) {
+            if (this.setter == null) {
+                CborBeanCodec.this.accessor.set(bean, this.name, value);
+                return;
+            }
+            try {
+                this.setter.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
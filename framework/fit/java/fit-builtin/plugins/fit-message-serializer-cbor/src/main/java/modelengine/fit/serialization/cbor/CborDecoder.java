@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -9,27 +9,49 @@ package modelengine.fit.serialization.cbor;
 import static modelengine.fitframework.inspection.Validation.between;
 import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
 import static modelengine.fitframework.inspection.Validation.notNull;
+import static modelengine.fitframework.util.ObjectUtils.cast;
 
+import modelengine.fitframework.beans.convert.ConversionService;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.util.Convert;
+import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
 
 /**
  * 表示 CBOR 的解码器。
+ * <p>除了解码成仅包含 Java 类型的对象外，还支持按照目标类型直接解码：集合、映射、数组和自定义结构体在解码的同时直接构造，
+ * 其余类型解码后通过 {@link ConversionService#forStandard() 标准转换服务} 转换，结果与先解码再通过
+ * {@link ObjectUtils#toCustomObject(Object, Type)} 转换一致。</p>
  *
  * @author 季聿阶
  * @since 2024-01-28
  */
 public class CborDecoder {
+    /**
+     * 表示按照目标类型解码时，容器的最大初始容量。
+     * <p>数组和映射的长度来自待解码的数据，不能直接用于预先分配容器，容器在元素实际读取之后再按需扩容。</p>
+     */
+    private static final int MAX_INITIAL_CAPACITY = 16;
+
     /**
      * 将指定的二进制数组进行解码。
      *
@@ -52,7 +74,156 @@ public class CborDecoder {
      * @throws IOException 当解码过程中发生错误时。
      */
     public Object decode(InputStream in) throws IOException {
-        int first = greaterThanOrEquals(in.read(), 0, "No enough byte to decode by CBOR.");
+        return this.decode(in, this.readFirst(in));
+    }
+
+    /**
+     * 从指定字节输入流中读取字节，并直接解码成指定类型的对象。
+     *
+     * @param in 表示指定的字节输入流的 {@link InputStream}。
+     * @param type 表示目标类型的 {@link Type}。
+     * @param <T> 表示目标类型的 {@link T}。
+     * @return 表示解码后的对象的 {@link T}。
+     * @throws IOException 当解码过程中发生错误时。
+     */
+    public <T> T decode(InputStream in, Type type) throws IOException {
+        return cast(this.decode(in, this.readFirst(in), type));
+    }
+
+    /**
+     * 从指定字节输入流中解码一个数组，数组中的每个元素直接解码成对应位置的类型。
+     * <p>当数组中的元素数量少于类型数量时，缺少的元素为 {@code null}。</p>
+     *
+     * @param in 表示指定的字节输入流的 {@link InputStream}。
+     * @param elementTypes 表示每个元素的目标类型的 {@link Type}{@code []}。
+     * @return 表示解码后的元素的 {@link Object}{@code []}。
+     * @throws IOException 当解码过程中发生错误时。
+     */
+    public Object[] decodeElements(InputStream in, Type[] elementTypes) throws IOException {
+        int first = this.readFirst(in);
+        int type = (first & 0b111_00000) >> 5;
+        if (type != 4) {
+            throw new IllegalStateException(StringUtils.format("The data to decode is not an array. [type={0}]",
+                    type));
+        }
+        int len = this.decodeLength(in, first, "array");
+        if (len > elementTypes.length) {
+            throw new IllegalStateException(StringUtils.format("Total {0} elements supplied but {1} required.",
+                    len,
+                    elementTypes.length));
+        }
+        Object[] elements = new Object[elementTypes.length];
+        for (int i = 0; i < len; i++) {
+            elements[i] = this.decode(in, this.readFirst(in), elementTypes[i]);
+        }
+        return elements;
+    }
+
+    private int readFirst(InputStream in) throws IOException {
+        return greaterThanOrEquals(in.read(), 0, "No enough byte to decode by CBOR.");
+    }
+
+    private Object decode(InputStream in, int first, Type type) throws IOException {
+        int majorType = (first & 0b111_00000) >> 5;
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            if (majorType == 3 && clazz == String.class) {
+                return this.decodeString(in, (byte) first);
+            }
+            if (majorType == 4 && clazz.isArray()) {
+                return this.decodeArray(in, first, clazz.getComponentType());
+            }
+            if (majorType == 5 && this.isBean(clazz)) {
+                return this.decodeBean(in, first, clazz);
+            }
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type rawType = parameterizedType.getRawType();
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            if (majorType == 4 && rawType == List.class) {
+                return this.decodeCollection(in, first, arguments[0], ArrayList::new);
+            }
+            if (majorType == 4 && rawType == Set.class) {
+                return this.decodeCollection(in, first, arguments[0], HashSet::new);
+            }
+            if (majorType == 5 && rawType == Map.class) {
+                return this.decodeMap(in, first, arguments[0], arguments[1]);
+            }
+        }
+        return ConversionService.forStandard().convert(this.decode(in, first), type);
+    }
+
+    private boolean isBean(Class<?> clazz) {
+        // 映射、集合、接口和抽象类无法按照结构体构造，交给转换服务处理。
+        return !clazz.isPrimitive() && !clazz.isArray() && !clazz.isEnum() && !clazz.isInterface()
+                && !Modifier.isAbstract(clazz.getModifiers()) && clazz != Void.class && clazz != Object.class
+                && !Map.class.isAssignableFrom(clazz) && !Collection.class.isAssignableFrom(clazz);
+    }
+
+    private Object decodeArray(InputStream in, int first, Class<?> componentType) throws IOException {
+        int len = this.decodeLength(in, first, "array");
+        List<Object> elements = new ArrayList<>(Math.min(len, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < len; i++) {
+            elements.add(this.decode(in, this.readFirst(in), componentType));
+        }
+        Object array = Array.newInstance(componentType, elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Array.set(array, i, elements.get(i));
+        }
+        return array;
+    }
+
+    private Collection<Object> decodeCollection(InputStream in, int first, Type elementType,
+            IntFunction<Collection<Object>> constructor) throws IOException {
+        int len = this.decodeLength(in, first, "array");
+        Collection<Object> collection = constructor.apply(Math.min(len, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < len; i++) {
+            collection.add(this.decode(in, this.readFirst(in), elementType));
+        }
+        return collection;
+    }
+
+    private Map<Object, Object> decodeMap(InputStream in, int first, Type keyType, Type valueType)
+            throws IOException {
+        int size = this.decodeLength(in, first, "map");
+        Map<Object, Object> map = new HashMap<>(Math.min(size, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++) {
+            Object key = this.decode(in, this.readFirst(in), keyType);
+            Object value = this.decode(in, this.readFirst(in), valueType);
+            map.put(key, value);
+        }
+        return map;
+    }
+
+    private Object decodeBean(InputStream in, int first, Class<?> clazz) throws IOException {
+        int size = this.decodeLength(in, first, "map");
+        CborBeanCodec codec = CborBeanCodec.of(clazz);
+        CborBeanCodec.Instance instance = codec.newInstance();
+        for (int i = 0; i < size; i++) {
+            Object key = this.decode(in);
+            if (key != null && !(key instanceof String)) {
+                throw new IllegalStateException(StringUtils.format(
+                        "The property name of a bean must be a string. [bean={0}, key={1}]",
+                        clazz.getName(),
+                        key));
+            }
+            CborBeanCodec.Property property = key == null ? null : codec.property((String) key);
+            if (property == null) {
+                this.decode(in);
+                continue;
+            }
+            instance.set(property, this.decode(in, this.readFirst(in), property.type()));
+        }
+        return instance.build();
+    }
+
+    private int decodeLength(InputStream in, int first, String kind) throws IOException {
+        long len = this.decodeUnsignedInteger(in, first);
+        between(len, 0L, (long) Integer.MAX_VALUE, "The {0} length is out of range. [length={1}]", kind, len);
+        return (int) len;
+    }
+
+    private Object decode(InputStream in, int first) throws IOException {
         int type = (first & 0b111_00000) >> 5;
         switch (type) {
             case 0:
@@ -113,16 +284,13 @@ public class CborDecoder {
     private byte[] decodeBytes(InputStream in, byte first) throws IOException {
         long len = this.decodeUnsignedInteger(in, first);
         between(len, 0L, (long) Integer.MAX_VALUE, "The bytes length is out of range. [length={0}]", len);
-        byte[] bytes = new byte[(int) len];
-        if (len == 0) {
-            return bytes;
-        }
-        int read = in.read(bytes);
-        Validation.equals(read,
+        // 按照实际读取到的字节分配内存，避免根据声明的长度预先分配过大的数组。
+        byte[] bytes = in.readNBytes((int) len);
+        Validation.equals(bytes.length,
                 (int) len,
                 "No enough bytes to decode to bytes by CBOR. [total={0}, actual={1}]",
                 len,
-                read);
+                bytes.length);
         return bytes;
     }
 
@@ -178,7 +346,7 @@ public class CborDecoder {
 
     private void readBytes(InputStream in, byte[] bytes) throws IOException {
         int len = bytes.length;
-        int read = in.read(bytes);
+        int read = in.readNBytes(bytes, 0, len);
         Validation.equals(read, len, "No enough bytes to decode. [need={0}, read={1}]", len, read);
     }
 }
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -9,22 +9,25 @@ package modelengine.fit.serialization.cbor;
 import static modelengine.fitframework.inspection.Validation.between;
 import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
 import static modelengine.fitframework.util.ObjectUtils.cast;
-import static modelengine.fitframework.util.ObjectUtils.toJavaObject;
 
-import modelengine.fitframework.util.Convert;
+import modelengine.fitframework.io.PooledByteArrayOutputStream;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
  * 表示 CBOR 的编码器。
+ * <p>自定义结构体通过 {@link CborBeanCodec} 直接编码，与先通过 {@link ObjectUtils#toJavaObject(Object)} 转换成仅包含 Java
+ * 类型的对象再编码的结果完全一致，但不再生成中间的对象。</p>
  *
  * @author 季聿阶
  * @since 2024-01-25
@@ -38,7 +41,7 @@ public class CborEncoder {
      * @throws IOException 当编码过程中发生错误时。
      */
     public byte[] encode(Object data) throws IOException {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
             this.encode(data, out);
             return out.toByteArray();
         }
@@ -52,32 +55,47 @@ public class CborEncoder {
      * @throws IOException 当编码过程中发生错误时。
      */
     public void encode(Object data, OutputStream out) throws IOException {
-        Object actual = toJavaObject(data);
-        if (actual == null) {
+        try (CborOutput output = new CborOutput(out)) {
+            this.encode(data, output);
+            output.flush();
+        }
+    }
+
+    private void encode(Object data, CborOutput out) throws IOException {
+        if (data == null) {
             this.encodeNull(out);
-        } else if (actual instanceof Boolean) {
-            this.encodeBoolean((boolean) actual, out);
-        } else if (actual instanceof Number) {
-            this.encodeNumber((Number) actual, out);
-        } else if (actual instanceof byte[]) {
-            this.encodeBytes((byte[]) actual, out);
-        } else if (actual instanceof String) {
-            this.encodeString((String) actual, out);
-        } else if (actual instanceof List) {
-            this.encodeList(cast(actual), out);
-        } else if (actual instanceof Map) {
-            this.encodeObject(cast(actual), out);
-        } else {
+        } else if (data instanceof Boolean) {
+            this.encodeBoolean((boolean) data, out);
+        } else if (this.isJavaNumber(data)) {
+            this.encodeNumber((Number) data, out);
+        } else if (data instanceof byte[]) {
+            this.encodeBytes((byte[]) data, out);
+        } else if (data instanceof String) {
+            this.encodeString((String) data, out);
+        } else if (data instanceof Map) {
+            this.encodeObject(cast(data), out);
+        } else if (data instanceof List) {
+            this.encodeList(cast(data), out);
+        } else if (data.getClass().isArray()) {
+            this.encodeArray(data, out);
+        } else if (ReflectionUtils.isPrimitiveWrapper(data.getClass())) {
             throw new IllegalArgumentException(StringUtils.format("Unsupported data type to encode by CBOR. [type={0}]",
-                    actual.getClass().getName()));
+                    data.getClass().getName()));
+        } else {
+            this.encodeBean(data, out);
         }
     }
 
-    private void encodeNull(OutputStream out) throws IOException {
+    private boolean isJavaNumber(Object data) {
+        return data instanceof Number && (ReflectionUtils.isPrimitiveWrapper(data.getClass())
+                || data instanceof BigInteger || data instanceof BigDecimal);
+    }
+
+    private void encodeNull(CborOutput out) throws IOException {
         out.write(CborConstant.NULL);
     }
 
-    private void encodeBoolean(boolean data, OutputStream out) throws IOException {
+    private void encodeBoolean(boolean data, CborOutput out) throws IOException {
         if (data) {
             out.write(CborConstant.TRUE);
         } else {
@@ -85,7 +103,7 @@ public class CborEncoder {
         }
     }
 
-    private void encodeNumber(Number data, OutputStream out) throws IOException {
+    private void encodeNumber(Number data, CborOutput out) throws IOException {
         if (this.isInteger(data)) {
             this.encodeInteger(data.longValue(), out);
         } else if (data instanceof Double || data instanceof BigDecimal) {
@@ -103,91 +121,96 @@ public class CborEncoder {
                 || number instanceof BigInteger;
     }
 
-    private void encodeInteger(long data, OutputStream out) throws IOException {
+    private void encodeInteger(long data, CborOutput out) throws IOException {
         if (data >= 0) {
-            this.encodeUnsignedInteger(data, out);
+            this.encodeUnsignedInteger(data, 0, out);
         } else {
-            this.encodeNegativeInteger(data, out);
+            this.encodeUnsignedInteger(-data - 1, 1, out);
         }
     }
 
-    private void encodeUnsignedInteger(long data, OutputStream out) throws IOException {
-        out.write(this.encodeUnsignedInteger(data, 0));
-    }
-
-    private void encodeNegativeInteger(long data, OutputStream out) throws IOException {
-        out.write(this.encodeUnsignedInteger(-data - 1, 1));
-    }
-
-    private void encodeDouble(double data, OutputStream out) throws IOException {
+    private void encodeDouble(double data, CborOutput out) throws IOException {
         out.write(CborConstant.DOUBLE);
-        out.write(Convert.toBytes(data));
+        out.writeBigEndian(Double.doubleToLongBits(data), 8);
     }
 
-    private void encodeFloat(float data, OutputStream out) throws IOException {
+    private void encodeFloat(float data, CborOutput out) throws IOException {
         out.write(CborConstant.FLOAT);
-        out.write(Convert.toBytes(data));
+        out.writeBigEndian(Float.floatToIntBits(data), 4);
     }
 
-    private void encodeBytes(byte[] data, OutputStream out) throws IOException {
-        int len = data.length;
-        out.write(this.encodeUnsignedInteger(len, 2));
+    private void encodeBytes(byte[] data, CborOutput out) throws IOException {
+        this.encodeUnsignedInteger(data.length, 2, out);
         out.write(data);
     }
 
-    private void encodeString(String data, OutputStream out) throws IOException {
-        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
-        int len = bytes.length;
-        out.write(this.encodeUnsignedInteger(len, 3));
-        out.write(bytes);
+    private void encodeString(String data, CborOutput out) throws IOException {
+        this.encodeUnsignedInteger(CborOutput.utf8Length(data), 3, out);
+        out.writeUtf8(data);
     }
 
-    private void encodeList(List<Object> dataList, OutputStream out) throws IOException {
-        int len = dataList.size();
-        out.write(this.encodeUnsignedInteger(len, 4));
+    private void encodeList(List<Object> dataList, CborOutput out) throws IOException {
+        this.encodeUnsignedInteger(dataList.size(), 4, out);
         for (Object data : dataList) {
             this.encode(data, out);
         }
     }
 
-    private void encodeObject(Map<Object, Object> data, OutputStream out) throws IOException {
-        int len = data.size();
-        out.write(this.encodeUnsignedInteger(len, 5));
+    private void encodeArray(Object array, CborOutput out) throws IOException {
+        int len = Array.getLength(array);
+        this.encodeUnsignedInteger(len, 4, out);
+        for (int i = 0; i < len; i++) {
+            this.encode(Array.get(array, i), out);
+        }
+    }
+
+    private void encodeObject(Map<Object, Object> data, CborOutput out) throws IOException {
+        this.encodeUnsignedInteger(data.size(), 5, out);
         for (Map.Entry<Object, Object> entry : data.entrySet()) {
             this.encode(entry.getKey(), out);
             this.encode(entry.getValue(), out);
         }
     }
 
-    private byte[] encodeUnsignedInteger(long data, int type) {
+    private void encodeBean(Object bean, CborOutput out) throws IOException {
+        List<CborBeanCodec.Property> properties = CborBeanCodec.of(bean.getClass()).readableProperties();
+        List<String> keys = new ArrayList<>(properties.size());
+        List<Object> values = new ArrayList<>(properties.size());
+        for (CborBeanCodec.Property property : properties) {
+            Object value = property.get(bean);
+            if (value != null) {
+                keys.add(property.alias());
+                values.add(value);
+            }
+        }
+        this.encodeUnsignedInteger(keys.size(), 5, out);
+        for (int i = 0; i < keys.size(); i++) {
+            this.encodeString(keys.get(i), out);
+            this.encode(values.get(i), out);
+        }
+    }
+
+    private void encodeUnsignedInteger(long data, int type, CborOutput out) throws IOException {
         greaterThanOrEquals(data, 0, "The integer to encode must be unsigned. [integer={0}]", data);
         between(type, 0, 5, "The type is out of range. [type={0}]", type);
         if (data < 24) {
-            return this.encodeUnsignedInteger(data, 0, this.firstByte((byte) data, type));
+            out.write(this.firstByte((byte) data, type));
         } else if (data < 0xFF) {
-            return this.encodeUnsignedInteger(data, 1, this.firstByte((byte) 0b000_11000, type));
+            out.write(this.firstByte((byte) 0b000_11000, type));
+            out.writeBigEndian(data, 1);
         } else if (data < 0xFF_FF) {
-            return this.encodeUnsignedInteger(data, 2, this.firstByte((byte) 0b000_11001, type));
+            out.write(this.firstByte((byte) 0b000_11001, type));
+            out.writeBigEndian(data, 2);
         } else if (data < 0xFF_FF_FF_FFL) {
-            return this.encodeUnsignedInteger(data, 4, this.firstByte((byte) 0b000_11010, type));
+            out.write(this.firstByte((byte) 0b000_11010, type));
+            out.writeBigEndian(data, 4);
         } else {
-            return this.encodeUnsignedInteger(data, 8, this.firstByte((byte) 0b000_11011, type));
+            out.write(this.firstByte((byte) 0b000_11011, type));
+            out.writeBigEndian(data, 8);
         }
     }
 
     private byte firstByte(byte flag, int type) {
         return (byte) (flag | (type << 5));
     }
-
-    private byte[] encodeUnsignedInteger(long data, int byteNum, byte first) {
-        long value = data;
-        byte[] bs = new byte[byteNum + 1];
-        bs[0] = first;
-        for (int i = byteNum; i > 0; i--) {
-            byte cur = (byte) (value & 0xFF);
-            bs[i] = cur;
-            value = value >> 8;
-        }
-        return bs;
-    }
 }
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -8,6 +8,7 @@ package modelengine.fit.serialization.cbor;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static modelengine.fitframework.inspection.Validation.notNull;
+import static modelengine.fitframework.util.ObjectUtils.cast;
 
 import modelengine.fit.serialization.MessageSerializer;
 import modelengine.fit.serialization.util.MessageSerializerUtils;
@@ -18,12 +19,12 @@ import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.ArrayUtils;
-import modelengine.fitframework.util.ObjectUtils;
-import modelengine.fitframework.util.TypeUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.List;
 
 /**
  * 表示 {@link MessageSerializer} 的 CBOR 的实现。
@@ -36,6 +37,7 @@ import java.util.List;
 @Component
 public class CborMessageSerializer implements MessageSerializer {
     private final ObjectSerializer serializer;
+    private final CborObjectSerializer cborObjectSerializer;
     private final Config config;
 
     /**
@@ -46,6 +48,7 @@ public class CborMessageSerializer implements MessageSerializer {
      */
     public CborMessageSerializer(@Fit(alias = "cbor") ObjectSerializer serializer, Config config) {
         this.serializer = notNull(serializer, "The CBOR serializer cannot be null.");
+        this.cborObjectSerializer = cast(this.serializer);
         this.config = notNull(config, "The message serializer config cannot be null.");
     }
 
@@ -54,17 +57,21 @@ public class CborMessageSerializer implements MessageSerializer {
         return this.serializer.serialize(arguments, UTF_8);
     }
 
+    @Override
+    public void serializeRequest(Type[] argumentTypes, Object[] arguments, OutputStream out) {
+        this.serializer.serialize(arguments, UTF_8, out);
+    }
+
     @Override
     public Object[] deserializeRequest(Type[] argumentTypes, byte[] serialized) {
         MessageSerializerUtils.isSupportedLength(serialized.length, this.config);
-        List<Object> deserialized = this.serializer.deserialize(serialized,
-                UTF_8,
-                TypeUtils.parameterized(List.class, new Type[] {Object.class}));
-        Object[] array = new Object[argumentTypes.length];
-        for (int i = 0; i < deserialized.size(); i++) {
-            array[i] = ObjectUtils.toCustomObject(deserialized.get(i), argumentTypes[i]);
-        }
-        return array;
+        return this.cborObjectSerializer.deserializeElements(new ByteArrayInputStream(serialized), argumentTypes);
+    }
+
+    @Override
+    public Object[] deserializeRequest(Type[] argumentTypes, InputStream in) {
+        return this.cborObjectSerializer.deserializeElements(MessageSerializerUtils.limitLength(in, this.config),
+                argumentTypes);
     }
 
     @Override
@@ -72,6 +79,11 @@ public class CborMessageSerializer implements MessageSerializer {
         return this.serializer.serialize(returnData, UTF_8);
     }
 
+    @Override
+    public <T> void serializeResponse(Type returnType, T returnData, OutputStream out) {
+        this.serializer.serialize(returnData, UTF_8, out);
+    }
+
     @Override
     public <T> T deserializeResponse(Type returnType, byte[] serialized) {
         if (ArrayUtils.isEmpty(serialized)) {
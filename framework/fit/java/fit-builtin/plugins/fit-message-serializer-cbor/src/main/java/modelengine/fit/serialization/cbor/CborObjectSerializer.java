@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -10,7 +10,6 @@ import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.serialization.annotation.BuiltinSerializer;
-import modelengine.fitframework.util.ObjectUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -22,6 +21,7 @@ import java.util.Map;
 /**
  * 表示 {@link ObjectSerializer} 的 CBOR 的实现。
  * <p><a href="https://datatracker.ietf.org/doc/html/rfc8949">RFC 8949</a> 列出了 CBOR 的详细规范。</p>
+ * <p>反序列化时按照目标类型直接构造对象，不再先解码成 {@link Map} 和 {@link java.util.List} 再进行转换。</p>
  *
  * @author 季聿阶
  * @since 2024-01-25
@@ -46,8 +46,23 @@ public class CborObjectSerializer implements ObjectSerializer {
     public <T> T deserialize(InputStream in, Charset charset, Type objectType, Map<String, Object> context)
             throws SerializationException {
         try {
-            Object decoded = this.decoder.decode(in);
-            return ObjectUtils.toCustomObject(decoded, objectType);
+            return this.decoder.decode(in, objectType);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize by CBOR.", e);
+        }
+    }
+
+    /**
+     * 从输入流中反序列化一个数组，数组中的每个元素直接反序列化成对应位置的类型。
+     *
+     * @param in 表示输入流的 {@link InputStream}。
+     * @param elementTypes 表示每个元素的目标类型的 {@link Type}{@code []}。
+     * @return 表示反序列化后的元素的 {@link Object}{@code []}。
+     * @throws SerializationException 当反序列化过程中发生错误时。
+     */
+    public Object[] deserializeElements(InputStream in, Type[] elementTypes) {
+        try {
+            return this.decoder.decodeElements(in, elementTypes);
         } catch (IOException e) {
             throw new SerializationException("Failed to deserialize by CBOR.", e);
         }
@@ -0,0 +1,179 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.cbor;
+
+import static modelengine.fitframework.util.ObjectUtils.cast;
+
+import modelengine.fitframework.io.PooledByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 表示 CBOR 编码的输出缓冲区。
+ * <p>当输出流本身是 {@link PooledByteArrayOutputStream} 时直接写入该输出流；否则先写入从当前线程获取的
+ * {@link PooledByteArrayOutputStream}，缓冲的内容达到一定大小后写入输出流。字符串直接按照 UTF-8 编码写入缓冲区，不再生成中间的
+ * 字节数组。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+final class CborOutput implements AutoCloseable {
+    private static final int FLUSH_THRESHOLD = PooledByteArrayOutputStream.INITIAL_CAPACITY;
+
+    private final OutputStream out;
+    private final PooledByteArrayOutputStream buffer;
+
+    /**
+     * 创建一个写入指定输出流的缓冲区。
+     *
+     * @param out 表示输出流的 {@link OutputStream}。
+     */
+    CborOutput(OutputStream out) {
+        if (out instanceof PooledByteArrayOutputStream) {
+            this.out = null;
+            this.buffer = cast(out);
+        } else {
+            this.out = out;
+            this.buffer = PooledByteArrayOutputStream.acquire();
+        }
+    }
+
+    /**
+     * 写入一个字节。
+     *
+     * @param value 表示待写入的字节的 {@code int}。
+     * @throws IOException 当写入输出流失败时。
+     */
+    void write(int value) throws IOException {
+        this.buffer.write(value);
+        this.flushIfFull();
+    }
+
+    /**
+     * 写入指定的字节数组。
+     *
+     * @param bytes 表示待写入的字节数组的 {@code byte[]}。
+     * @throws IOException 当写入输出流失败时。
+     */
+    void write(byte[] bytes) throws IOException {
+        if (this.out != null && bytes.length >= FLUSH_THRESHOLD) {
+            this.flush();
+            this.out.write(bytes);
+            return;
+        }
+        this.buffer.write(bytes, 0, bytes.length);
+        this.flushIfFull();
+    }
+
+    /**
+     * 按照大端序写入指定长整型的低位字节。
+     *
+     * @param value 表示待写入的长整型的 {@code long}。
+     * @param byteNum 表示写入的字节数的 {@code int}。
+     * @throws IOException 当写入输出流失败时。
+     */
+    void writeBigEndian(long value, int byteNum) throws IOException {
+        for (int i = byteNum - 1; i >= 0; i--) {
+            this.buffer.write((int) (value >>> (i * 8)));
+        }
+        this.flushIfFull();
+    }
+
+    /**
+     * 计算指定字符串按照 UTF-8 编码后的字节数。
+     * <p>不成对的代理字符与 {@link String#getBytes(java.nio.charset.Charset)} 一致，编码为一个 {@code '?'}。</p>
+     *
+     * @param value 表示指定字符串的 {@link String}。
+     * @return 表示编码后的字节数的 {@code long}。
+     */
+    static long utf8Length(String value) {
+        int length = value.length();
+        long count = length;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                continue;
+            }
+            if (ch < 0x800) {
+                count += 1;
+            } else if (isPairedHighSurrogate(value, i)) {
+                count += 2;
+                i++;
+            } else if (!Character.isSurrogate(ch)) {
+                count += 2;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 按照 UTF-8 编码写入指定的字符串。
+     *
+     * @param value 表示待写入的字符串的 {@link String}。
+     * @throws IOException 当写入输出流失败时。
+     */
+    void writeUtf8(String value) throws IOException {
+        PooledByteArrayOutputStream target = this.buffer;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                target.write(ch);
+            } else if (ch < 0x800) {
+                target.write(0xC0 | (ch >> 6));
+                target.write(0x80 | (ch & 0x3F));
+            } else if (isPairedHighSurrogate(value, i)) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                target.write(0xF0 | (codePoint >> 18));
+                target.write(0x80 | ((codePoint >> 12) & 0x3F));
+                target.write(0x80 | ((codePoint >> 6) & 0x3F));
+                target.write(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                target.write('?');
+            } else {
+                target.write(0xE0 | (ch >> 12));
+                target.write(0x80 | ((ch >> 6) & 0x3F));
+                target.write(0x80 | (ch & 0x3F));
+            }
+            this.flushIfFull();
+        }
+    }
+
+    private static boolean isPairedHighSurrogate(String value, int index) {
+        return Character.isHighSurrogate(value.charAt(index)) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+
+    /**
+     * 将缓冲区中的内容写入输出流。
+     *
+     * @throws IOException 当写入输出流失败时。
+     */
+    void flush() throws IOException {
+        if (this.out != null && this.buffer.size() > 0) {
+            this.buffer.writeTo(this.out);
+            this.buffer.reset();
+        }
+    }
+
+    /**
+     * 释放从当前线程获取的缓冲区，不会将缓冲区中剩余的内容写入输出流。
+     */
+    @Override
+    public void close() {
+        if (this.out != null) {
+            this.buffer.close();
+        }
+    }
+
+    private void flushIfFull() throws IOException {
+        if (this.out != null && this.buffer.size() >= FLUSH_THRESHOLD) {
+            this.flush();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -7,10 +7,14 @@
 package modelengine.fit.serialization.cbor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import modelengine.fit.serialization.Constants;
 import modelengine.fit.serialization.cbor.test.box.Box;
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.support.PropertiesConfig;
+import modelengine.fitframework.io.PooledByteArrayOutputStream;
+import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.MapBuilder;
 import modelengine.fitframework.util.ObjectUtils;
 
@@ -20,9 +24,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -32,6 +40,8 @@ import java.util.Properties;
  * @since 2020-11-23
  */
 public class CborMessageSerializerTest {
+    private static final int LARGE_REPEAT = 170_000;
+
     private CborMessageSerializer cborMessageSerializer;
     private Properties properties = new Properties();
     private Config config = new PropertiesConfig("test", properties);
@@ -57,6 +67,46 @@ public class CborMessageSerializerTest {
         assertThat(arguments).isEqualTo(values);
     }
 
+    @Test
+    @DisplayName("从输入流中反序列化数 MB 的请求参数，结果等于原值")
+    void shouldDeserializeLargeRequestFromStream() {
+        Type[] argumentTypes = new Type[] {String.class, Integer.class, List.class};
+        Object[] values = new Object[] {"用以UTF-8编码的中文".repeat(LARGE_REPEAT), 1, Arrays.asList("s1", "s2")};
+        byte[] bytes = this.cborMessageSerializer.serializeRequest(argumentTypes, values);
+        assertThat(bytes.length).isGreaterThan(4 * 1024 * 1024);
+        Object[] arguments =
+                this.cborMessageSerializer.deserializeRequest(argumentTypes, new ByteArrayInputStream(bytes));
+        assertThat(arguments).isEqualTo(values);
+    }
+
+    @Test
+    @DisplayName("序列化到复用的缓冲区的结果，与序列化为字节数组的结果一致")
+    void shouldSerializeToPooledBufferSameAsBytes() throws IOException {
+        Type[] argumentTypes = new Type[] {String.class, List.class};
+        Object[] values = new Object[] {"用以UTF-8编码的中文".repeat(LARGE_REPEAT), Arrays.asList("s1", "s2")};
+        byte[] expected = this.cborMessageSerializer.serializeRequest(argumentTypes, values);
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
+            this.cborMessageSerializer.serializeRequest(argumentTypes, values, out);
+            assertThat(out.toByteArray()).isEqualTo(expected);
+            try (InputStream in = out.toInputStream()) {
+                assertThat(this.cborMessageSerializer.deserializeRequest(argumentTypes, in)).isEqualTo(values);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("当输入流中的数据超过阈值时，抛出异常")
+    void shouldThrowWhenStreamExceedsLargeDataSize() {
+        Properties limited = new Properties();
+        limited.setProperty(Constants.LARGE_DATA_SIZE, "1024");
+        CborMessageSerializer serializer =
+                new CborMessageSerializer(new CborObjectSerializer(), new PropertiesConfig("limited", limited));
+        Type[] argumentTypes = new Type[] {String.class};
+        byte[] bytes = serializer.serializeRequest(argumentTypes, new Object[] {"a".repeat(2048)});
+        assertThatThrownBy(() -> serializer.deserializeRequest(argumentTypes,
+                new ByteArrayInputStream(bytes))).isInstanceOf(SerializationException.class);
+    }
+
     @Nested
     @DisplayName("给定一个结构体对象")
     class GivenParamsAreCustom {
@@ -0,0 +1,205 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.cbor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fit.serialization.cbor.test.box.Box;
+import modelengine.fit.serialization.cbor.test.person.Person;
+import modelengine.fit.serialization.cbor.test.person.PersonName;
+import modelengine.fitframework.util.MapBuilder;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.TypeUtils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表示 {@link CborObjectSerializer} 的单元测试。
+ * <p>按照类型直接编解码的结果需要与先转换成仅包含 Java 类型的对象再编解码的结果保持一致。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 CborObjectSerializer")
+public class CborObjectSerializerTest {
+    private CborObjectSerializer serializer;
+    private CborEncoder encoder;
+    private CborDecoder decoder;
+
+    @BeforeEach
+    void setup() {
+        this.serializer = new CborObjectSerializer();
+        this.encoder = new CborEncoder();
+        this.decoder = new CborDecoder();
+    }
+
+    private static PersonName name(String first, String last) {
+        PersonName name = new PersonName();
+        name.setFirst(first);
+        name.setLast(last);
+        return name;
+    }
+
+    private static Person person() {
+        Person person = new Person();
+        person.setName(name("张", "三😀"));
+        person.setInventions(Arrays.asList("a", "b"));
+        person.setAge(30);
+        person.setHeight(1.75);
+        person.setAlive(true);
+        person.setAliases(MapBuilder.<String, PersonName>get().put("en", name("Zhang", null)).build());
+        person.setHistory(new PersonName[] {name("h", "1"), null});
+        person.setAvatar(new byte[] {1, 2, 3});
+        return person;
+    }
+
+    @Test
+    @DisplayName("直接编码自定义结构体的结果，与先转换成 Java 对象再编码的结果一致")
+    void shouldEncodeBeanSameAsJavaObject() throws IOException {
+        Person person = person();
+        byte[] expected = this.encoder.encode(ObjectUtils.toJavaObject(person));
+        assertThat(this.encoder.encode(person)).isEqualTo(expected);
+        assertThat(this.serializer.serialize(person, StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("按照类型直接解码的结果，与先解码再转换的结果一致")
+    void shouldDecodeBeanSameAsConversion() throws IOException {
+        byte[] bytes = this.encoder.encode(person());
+        Person expected = ObjectUtils.toCustomObject(this.decoder.decode(bytes), Person.class);
+        Person actual = this.serializer.deserialize(bytes, StandardCharsets.UTF_8, Person.class);
+        assertThat(actual).isEqualTo(expected).isEqualTo(person());
+        assertThat(actual.getAliases()).isInstanceOf(expected.getAliases().getClass());
+        assertThat(actual.getInventions()).isInstanceOf(expected.getInventions().getClass());
+    }
+
+    @Test
+    @DisplayName("按照泛型集合类型直接解码的结果，与先解码再转换的结果一致")
+    void shouldDecodeGenericCollectionSameAsConversion() throws IOException {
+        Box box = Box.builder()
+                .value("hello")
+                .tList(Arrays.asList("s1", "s2"))
+                .tMap(MapBuilder.<String, String>get().put("k", "v").build())
+                .build();
+        Type listType = TypeUtils.parameterized(List.class, new Type[] {Box.class});
+        Type mapType = TypeUtils.parameterized(Map.class, new Type[] {String.class, listType});
+        Type setType = TypeUtils.parameterized(Set.class, new Type[] {Long.class});
+        Object[] values = new Object[] {Arrays.asList(box, null), MapBuilder.get().put("b", List.of(box)).build(),
+                Arrays.asList(1, 2, 2)};
+        Type[] types = new Type[] {listType, mapType, setType};
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = this.encoder.encode(values[i]);
+            Object expected = ObjectUtils.toCustomObject(this.decoder.decode(bytes), types[i]);
+            Object actual = this.decoder.decode(new ByteArrayInputStream(bytes), types[i]);
+            assertThat(actual).isEqualTo(expected).isInstanceOf(expected.getClass());
+        }
+    }
+
+    @Test
+    @DisplayName("编码字符串的结果与 String.getBytes 一致，包括不成对的代理字符")
+    void shouldEncodeStringSameAsGetBytes() throws IOException {
+        String value = "用以UTF-8编码的中文😀\uD800end";
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = this.encoder.encode(value);
+        assertThat(Arrays.copyOfRange(encoded, encoded.length - bytes.length, encoded.length)).isEqualTo(bytes);
+        assertThat(this.decoder.decode(encoded)).isEqualTo(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("当输入流每次只返回部分数据时，正确解码")
+    void shouldDecodeFromPartialReadStream() throws IOException {
+        byte[] bytes = this.encoder.encode(person());
+        InputStream in = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(byte[] buffer, int off, int len) throws IOException {
+                return super.read(buffer, off, Math.min(len, 3));
+            }
+        };
+        Person actual = this.decoder.decode(in, Person.class);
+        assertThat(actual).isEqualTo(person());
+    }
+
+    @Test
+    @DisplayName("按照位置类型解码数组，元素数量超过类型数量时抛出异常")
+    void shouldDecodeElementsByPosition() throws IOException {
+        byte[] bytes = this.encoder.encode(Arrays.asList("s", person(), 1));
+        Object[] actual = this.serializer.deserializeElements(new ByteArrayInputStream(bytes),
+                new Type[] {String.class, Person.class, Integer.class, String.class});
+        assertThat(actual).containsExactly("s", person(), 1, null);
+        assertThatThrownBy(() -> this.serializer.deserializeElements(new ByteArrayInputStream(bytes),
+                new Type[] {String.class})).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("声明的长度远超实际数据时，按照类型解码抛出异常，而不是预先分配内存")
+    void shouldFailWithoutPreallocatingWhenDeclaredLengthIsHuge() {
+        Type listType = TypeUtils.parameterized(List.class, new Type[] {String.class});
+        Type setType = TypeUtils.parameterized(Set.class, new Type[] {String.class});
+        Type mapType = TypeUtils.parameterized(Map.class, new Type[] {String.class, String.class});
+        byte[] array = new byte[] {(byte) 0x9A, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+        byte[] map = new byte[] {(byte) 0xBA, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+        byte[] string = new byte[] {0x7A, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+        assertThatThrownBy(() -> this.decoder.decode(new ByteArrayInputStream(array), listType)).isInstanceOf(
+                IllegalArgumentException.class);
+        assertThatThrownBy(() -> this.decoder.decode(new ByteArrayInputStream(array), setType)).isInstanceOf(
+                IllegalArgumentException.class);
+        assertThatThrownBy(() -> this.decoder.decode(new ByteArrayInputStream(array), String[].class)).isInstanceOf(
+                IllegalArgumentException.class);
+        assertThatThrownBy(() -> this.decoder.decode(new ByteArrayInputStream(map), mapType)).isInstanceOf(
+                IllegalArgumentException.class);
+        assertThatThrownBy(() -> this.decoder.decode(new ByteArrayInputStream(string), String.class)).isInstanceOf(
+                IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("目标类型是映射的实现类时，不当作自定义结构体解码，结果与先解码再转换一致")
+    void shouldDecodeMapImplementationSameAsConversion() throws IOException {
+        byte[] bytes = this.encoder.encode(MapBuilder.<String, Object>get().put("b", 2).put("a", 1).build());
+        for (Class<?> type : Arrays.asList(TreeMap.class, ConcurrentHashMap.class, HashMap.class)) {
+            Object expected = ObjectUtils.toCustomObject(this.decoder.decode(bytes), type);
+            Object actual = this.decoder.decode(new ByteArrayInputStream(bytes), type);
+            assertThat(actual).isEqualTo(expected).isInstanceOf(type);
+        }
+    }
+
+    @Test
+    @DisplayName("记录类型按照组件编码，并通过规范构造方法解码")
+    void shouldEncodeAndDecodeRecord() throws IOException {
+        Point point = new Point("p", 3, Arrays.asList("a", "b"), name("张", "三"));
+        byte[] bytes = this.encoder.encode(point);
+        assertThat(this.decoder.decode(bytes)).isEqualTo(MapBuilder.get()
+                .put("label", "p")
+                .put("x", 3L)
+                .put("tags", Arrays.asList("a", "b"))
+                .put("owner", MapBuilder.get().put("first", "张").put("last", "三").build())
+                .build());
+        assertThat(this.serializer.<Point>deserialize(bytes, StandardCharsets.UTF_8, Point.class)).isEqualTo(point);
+
+        byte[] partial = this.encoder.encode(MapBuilder.get().put("label", "q").put("unknown", 1).build());
+        assertThat(this.serializer.<Point>deserialize(partial, StandardCharsets.UTF_8, Point.class)).isEqualTo(
+                new Point("q", 0, null, null));
+    }
+
+    private record Point(String label, int x, List<String> tags, PersonName owner) {}
+}
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -7,8 +7,10 @@
 package modelengine.fit.serialization.cbor.test.person;
 
 import lombok.Data;
+import modelengine.fitframework.annotation.Property;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 为单元测试提供人的信息定义。
@@ -20,4 +22,11 @@ import java.util.List;
 public class Person {
     private PersonName name;
     private List<String> inventions;
+    @Property(name = "person_age")
+    private int age;
+    private Double height;
+    private boolean alive;
+    private Map<String, PersonName> aliases;
+    private PersonName[] history;
+    private byte[] avatar;
 }
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -10,6 +10,8 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
@@ -25,6 +27,8 @@ import modelengine.fitframework.util.ArrayUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
@@ -59,6 +63,11 @@ public class JacksonMessageSerializer implements MessageSerializer {
         return this.serializer.serialize(arguments, UTF_8);
     }
 
+    @Override
+    public void serializeRequest(Type[] argumentTypes, Object[] arguments, OutputStream out) {
+        this.serializer.serialize(arguments, UTF_8, out);
+    }
+
     @Override
     public Object[] deserializeRequest(Type[] argumentTypes, byte[] serialized) {
         ArrayNode array;
@@ -80,11 +89,45 @@ public class JacksonMessageSerializer implements MessageSerializer {
         return arguments;
     }
 
+    @Override
+    public Object[] deserializeRequest(Type[] argumentTypes, InputStream in) {
+        try (JsonParser parser = this.mapper.createParser(MessageSerializerUtils.limitLength(in, this.config))) {
+            // 输入流由调用方负责关闭。
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new SerializationException("The JSON request must be an array of arguments.");
+            }
+            Object[] arguments = new Object[argumentTypes.length];
+            int count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (count < argumentTypes.length) {
+                    arguments[count] = this.mapper.readValue(parser, this.mapper.constructType(argumentTypes[count]));
+                } else {
+                    parser.skipChildren();
+                }
+                count++;
+            }
+            if (count != argumentTypes.length) {
+                throw new SerializationException(StringUtils.format("Total {0} arguments supplied but {1} required.",
+                        count,
+                        argumentTypes.length));
+            }
+            return arguments;
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read JSON request from input stream.", e);
+        }
+    }
+
     @Override
     public <T> byte[] serializeResponse(Type returnType, T returnData) {
         return this.serializer.serialize(returnData, UTF_8);
     }
 
+    @Override
+    public <T> void serializeResponse(Type returnType, T returnData, OutputStream out) {
+        this.serializer.serialize(returnData, UTF_8, out);
+    }
+
     @Override
     public <T> T deserializeResponse(Type returnType, byte[] serialized) {
         if (ArrayUtils.isEmpty(serialized)) {
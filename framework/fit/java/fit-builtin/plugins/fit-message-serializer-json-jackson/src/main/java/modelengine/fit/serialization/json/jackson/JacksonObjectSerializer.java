@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -106,6 +106,8 @@ public class JacksonObjectSerializer implements ObjectSerializer {
             throws SerializationException {
         notNull(out, "The output stream cannot be null.");
         try (JsonGenerator generator = this.mapper.createGenerator(out, this.getJsonEncoding(charset))) {
+            // 输出流由调用方负责关闭，调用方可能在序列化后继续使用输出流，例如复用的缓冲区。
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
             this.mapper.writeValue(generator, object);
         } catch (IOException e) {
             throw new SerializationException("Failed to serialize by Jackson.", e);
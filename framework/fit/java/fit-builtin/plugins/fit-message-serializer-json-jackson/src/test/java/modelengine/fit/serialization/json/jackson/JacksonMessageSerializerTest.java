@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -7,13 +7,16 @@
 package modelengine.fit.serialization.json.jackson;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import modelengine.fit.serialization.Constants;
 import modelengine.fit.serialization.test.box.Box;
 import modelengine.fit.serialization.test.person.PersonAlias;
 import modelengine.fit.serialization.test.person.PersonName;
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.conf.support.PropertiesConfig;
+import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.MapBuilder;
 import modelengine.fitframework.util.ObjectUtils;
 
@@ -22,11 +25,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -37,6 +42,8 @@ import java.util.Properties;
  */
 @DisplayName("测试 JacksonMessageSerializer")
 public class JacksonMessageSerializerTest {
+    private static final int LARGE_REPEAT = 170_000;
+
     private final Properties properties = new Properties();
     private final Config config = new PropertiesConfig("test", properties);
     private JacksonMessageSerializer messageSerializer;
@@ -57,6 +64,41 @@ public class JacksonMessageSerializerTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("从输入流中反序列化数 MB 的请求参数，结果等于原值")
+    void shouldDeserializeLargeRequestFromStream() {
+        Type[] argumentTypes = new Type[] {String.class, Integer.class, List.class};
+        Object[] expected = new Object[] {"用以UTF-8编码的中文".repeat(LARGE_REPEAT), 1, Arrays.asList("s1", "s2")};
+        byte[] bytes = this.messageSerializer.serializeRequest(argumentTypes, expected);
+        assertThat(bytes.length).isGreaterThan(4 * 1024 * 1024);
+        Object[] actual = this.messageSerializer.deserializeRequest(argumentTypes, new ByteArrayInputStream(bytes));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("当输入流中的参数数量与要求的数量不一致时，抛出异常")
+    void shouldThrowWhenStreamArgumentsMismatch() {
+        Type[] argumentTypes = new Type[] {String.class};
+        byte[] bytes = "[\"s1\", {\"k\": [1, 2]}]".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> this.messageSerializer.deserializeRequest(argumentTypes,
+                new ByteArrayInputStream(bytes))).isInstanceOf(SerializationException.class)
+                .hasMessage("Total 2 arguments supplied but 1 required.");
+    }
+
+    @Test
+    @DisplayName("当输入流中的数据超过阈值时，抛出异常")
+    void shouldThrowWhenStreamExceedsLargeDataSize() {
+        Properties limited = new Properties();
+        limited.setProperty(Constants.LARGE_DATA_SIZE, "1024");
+        Config limitedConfig = new PropertiesConfig("limited", limited);
+        JacksonMessageSerializer serializer =
+                new JacksonMessageSerializer(new JacksonObjectSerializer(null, null, null, true), limitedConfig);
+        Type[] argumentTypes = new Type[] {String.class};
+        byte[] bytes = serializer.serializeRequest(argumentTypes, new Object[] {"a".repeat(2048)});
+        assertThatThrownBy(() -> serializer.deserializeRequest(argumentTypes,
+                new ByteArrayInputStream(bytes))).isInstanceOf(SerializationException.class);
+    }
+
     @Test
     @DisplayName("支持所有方法")
     void shouldReturnTrue() {
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -34,20 +34,27 @@ import modelengine.fitframework.serialization.Version;
 import modelengine.fitframework.serialization.tlv.TlvUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
  * 表示处理 FIT 通信方式的处理器。
+ * <p>请求参数直接从请求的消息体中流式反序列化。每个服务和序列化格式对应的参数类型和序列化器都会被缓存，避免在每次请求时重复计算。
+ * 缓存中持有服务方法和插件提供的序列化器，因此在插件启动或者停止时需要调用 {@link #clearPlans()} 清空缓存。</p>
  *
  * @author 季聿阶
  * @since 2022-09-14
  */
 public class FitHttpHandler extends AbstractHttpHandler {
+    private final Map<PlanKey, Plan> planCache = new ConcurrentHashMap<>();
     private final BeanContainer container;
     private final Dispatcher dispatcher;
     private final LocalGenericableRepository repository;
@@ -66,7 +73,7 @@ public class FitHttpHandler extends AbstractHttpHandler {
     public void handle(HttpClassicServerRequest request, HttpClassicServerResponse response)
             throws DoHttpHandlerException {
         RequestMetadata metadata = this.getRequestMetadata(request);
-        Object[] data = this.getRequestData(request.entityBytes(), metadata);
+        Object[] data = this.getRequestData(request.entityStream(), metadata);
         String asyncTaskId = HttpUtils.getAsyncTaskId(metadata.tagValues());
         if (StringUtils.isBlank(asyncTaskId)) {
             this.doSyncHandle(metadata, data, response);
@@ -95,18 +102,29 @@ public class FitHttpHandler extends AbstractHttpHandler {
                 .build();
     }
 
-    private Object[] getRequestData(byte[] dataBytes, RequestMetadata metadata) {
+    private Object[] getRequestData(InputStream data, RequestMetadata metadata) {
         Genericable genericable = this.getGenericable(metadata);
         Method method = genericable.method().method();
         notNull(method, "The genericable method cannot be null. [genericableId={0}]", genericable.id());
-        int format = metadata.dataFormat();
-        MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(this.container, format)
+        Plan plan = this.planCache.computeIfAbsent(new PlanKey(method, metadata.dataFormat()), this::createPlan);
+        return plan.serializer.deserializeRequest(plan.argumentTypes, data);
+    }
+
+    /**
+     * 清空缓存的反序列化请求参数的计划。
+     */
+    void clearPlans() {
+        this.planCache.clear();
+    }
+
+    private Plan createPlan(PlanKey key) {
+        MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(this.container, key.format)
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                         "MessageSerializer required but not found. [format={0}]",
-                        format)));
+                        key.format)));
         Type[] argumentTypes =
-                Stream.of(method.getParameters()).map(Parameter::getParameterizedType).toArray(Type[]::new);
-        return messageSerializer.deserializeRequest(argumentTypes, dataBytes);
+                Stream.of(key.method.getParameters()).map(Parameter::getParameterizedType).toArray(Type[]::new);
+        return new Plan(argumentTypes, messageSerializer);
     }
 
     private Genericable getGenericable(RequestMetadata metadata) {
@@ -140,4 +158,48 @@ public class FitHttpHandler extends AbstractHttpHandler {
         HttpServerUtils.setResponseHeaders(response, result);
         HttpServerUtils.setResponseEntity(this.container, metadata.dataFormat(), response, result);
     }
+
+    /**
+     * 表示反序列化请求参数的计划的缓存键。
+     * <p>服务方法在插件重新加载后会发生变化，因此使用方法本身而不是服务的唯一标识作为缓存键。</p>
+     */
+    private static final class PlanKey {
+        private final Method method;
+        private final int format;
+
+        private PlanKey(Method method, int format) {
+            this.method = method;
+            this.format = format;
+        }
+
+        @Override
+        public boolean equals(Object another) {
+            if (this == another) {
+                return true;
+            }
+            if (!(another instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey that = (PlanKey) another;
+            return this.method == that.method && this.format == that.format;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.method, this.format);
+        }
+    }
+
+    /**
+     * 表示反序列化请求参数的计划，包含参数类型列表和消息序列化器。
+     */
+    private static final class Plan {
+        private final Type[] argumentTypes;
+        private final MessageSerializer serializer;
+
+        private Plan(Type[] argumentTypes, MessageSerializer serializer) {
+            this.argumentTypes = argumentTypes;
+            this.serializer = serializer;
+        }
+    }
 }
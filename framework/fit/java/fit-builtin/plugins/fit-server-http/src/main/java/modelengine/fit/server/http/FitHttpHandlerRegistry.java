@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -19,16 +19,24 @@ import modelengine.fitframework.broker.LocalGenericableRepository;
 import modelengine.fitframework.broker.server.Dispatcher;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
 import modelengine.fitframework.util.StringUtils;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * FIT 通信方式的处理器的注册器。
+ * <p>处理器中缓存的请求参数的反序列化计划依赖插件提供的服务和序列化器，因此在插件启动或者停止时清空。</p>
  *
  * @author 季聿阶
  * @since 2022-09-14
  */
 @Component
-public class FitHttpHandlerRegistry {
+public class FitHttpHandlerRegistry implements PluginStartedObserver, PluginStoppedObserver {
+    private final List<FitHttpHandler> handlers = new CopyOnWriteArrayList<>();
     private final BeanContainer container;
     private final LocalGenericableRepository repository;
     private final String contextPath;
@@ -67,12 +75,14 @@ public class FitHttpHandlerRegistry {
 
     private HttpHandler createHttpHandler(HttpClassicServer httpServer, Dispatcher dispatcher, String pathPattern,
             WorkerConfig worker) {
-        return new FitHttpHandler(this.container,
+        FitHttpHandler handler = new FitHttpHandler(this.container,
                 dispatcher,
                 this.repository,
                 worker,
                 HttpHandler.StaticInfo.builder().pathPattern(pathPattern).build(),
                 HttpHandler.ExecutionInfo.builder().httpServer(httpServer).build());
+        this.handlers.add(handler);
+        return handler;
     }
 
     private HttpHandler createAsyncHttpHandler(HttpClassicServer httpServer, WorkerConfig worker, String pathPattern) {
@@ -85,4 +95,14 @@ public class FitHttpHandlerRegistry {
     String getContextPath() {
         return this.contextPath;
     }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        this.handlers.forEach(FitHttpHandler::clearPlans);
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        this.handlers.forEach(FitHttpHandler::clearPlans);
+    }
 }
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -28,14 +28,12 @@ import modelengine.fit.serialization.util.MessageSerializerUtils;
 import modelengine.fitframework.broker.GenericableMetadata;
 import modelengine.fitframework.broker.server.Response;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
+import modelengine.fitframework.io.PooledByteArrayOutputStream;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.resource.UrlUtils;
 import modelengine.fitframework.util.StringUtils;
 
-import java.io.ByteArrayInputStream;
-import java.lang.reflect.Type;
-
 /**
  * 表示 {@link HttpHandler} 相关的工具类。
  *
@@ -113,17 +111,24 @@ public class HttpServerUtils {
         if (dataFormat == SerializationFormat.JSON.code()) {
             response.entity(new DefaultObjectEntity<>(response, result.data()));
         } else {
-            byte[] responseData = getResponseData(container, result.type(), result.data(), dataFormat);
-            response.headers().set(MessageHeaderNames.CONTENT_LENGTH, Integer.toString(responseData.length));
-            response.entity(Entity.createBinaryEntity(response, new ByteArrayInputStream(responseData)));
+            MessageSerializer messageSerializer = getMessageSerializer(container, dataFormat);
+            PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire();
+            try {
+                messageSerializer.serializeResponse(result.type(), result.data(), out);
+            } catch (RuntimeException e) {
+                out.close();
+                throw e;
+            }
+            response.headers().set(MessageHeaderNames.CONTENT_LENGTH, Integer.toString(out.size()));
+            // 消息体直接读取序列化使用的缓冲区，响应关闭时释放缓冲区。
+            response.entity(Entity.createBinaryEntity(response, out.toInputStream()));
         }
     }
 
-    private static byte[] getResponseData(BeanContainer container, Type returnType, Object data, int format) {
-        MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(container, format)
+    private static MessageSerializer getMessageSerializer(BeanContainer container, int format) {
+        return MessageSerializerUtils.getMessageSerializer(container, format)
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                         "MessageSerializer required but not found. [format={0}]",
                         format)));
-        return messageSerializer.serializeResponse(returnType, data);
     }
 }
@@ -50,6 +50,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -111,6 +112,7 @@ public class RegistryListener implements Registry, Notify {
 
     private final Map<UniqueFitableId, Optional<FitableAddressInstance>> fitableInstancesCache =
             new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
     private final ApplicationConfig application;
     private final WorkerConfig worker;
     private final RegistryListenerMode listenerMode;
@@ -241,7 +243,7 @@ public class RegistryListener implements Registry, Notify {
                 ObjectUtils.<Optional<FitableAddressInstance>>nullIf(this.fitableInstancesCache.get(id),
                         Optional.empty()).orElseGet(() -> this.loadFitableInstance(id).orElse(null));
         if (fitableInstance == null) {
-            this.fitableInstancesCache.put(id, Optional.empty());
+            this.cacheFitableInstance(id, Optional.empty());
             fitableInstance = new FitableAddressInstance();
             fitableInstance.setApplicationInstances(new ArrayList<>());
             log.debug("No fitable instance in cache. "
@@ -271,6 +273,20 @@ public class RegistryListener implements Registry, Notify {
         return targets;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>每次更新本地缓存时版本都会增加，包括拉模式下定时同步的结果与本地缓存相同的情况。</p>
+     */
+    @Override
+    public long version() {
+        return this.version.get();
+    }
+
+    private void cacheFitableInstance(UniqueFitableId id, Optional<FitableAddressInstance> fitableInstance) {
+        this.fitableInstancesCache.put(id, fitableInstance);
+        this.version.incrementAndGet();
+    }
+
     private boolean isWorkerIdInApplicationInstance(String workerId, ApplicationInstance applicationInstance) {
         return applicationInstance.getWorkers().stream().anyMatch(worker -> Objects.equals(worker.getId(), workerId));
     }
@@ -401,7 +417,7 @@ public class RegistryListener implements Registry, Notify {
                 .filter(fitableInstance -> fitableInstance.getFitable() != null)
                 .collect(Collectors.toMap(fitableInstance -> this.getUniqueFitableId(fitableInstance.getFitable()),
                         Function.identity()));
-        fitableKeys.forEach(fitableKey -> this.fitableInstancesCache.put(fitableKey,
+        fitableKeys.forEach(fitableKey -> this.cacheFitableInstance(fitableKey,
                 Optional.ofNullable(fitableInstanceMap.get(fitableKey))));
     }
 
@@ -492,7 +508,7 @@ public class RegistryListener implements Registry, Notify {
         }
         UniqueFitableId fitableKey = this.getUniqueFitableId(fitable);
         if (this.fitableInstancesCache.containsKey(fitableKey)) {
-            this.fitableInstancesCache.put(fitableKey, Optional.of(fitableInstance));
+            this.cacheFitableInstance(fitableKey, Optional.of(fitableInstance));
         }
     }
 }
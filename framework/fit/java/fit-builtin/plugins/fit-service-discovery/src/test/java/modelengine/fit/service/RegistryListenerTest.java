@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -140,6 +140,22 @@ class RegistryListenerTest {
         assertDoesNotThrow(() -> this.registryListener.notifyFitables(fitableInstances));
     }
 
+    @Test
+    @DisplayName("提供 RegistryListener 类更新本地缓存时，版本增加，只读取本地缓存时版本不变")
+    void givenRegistryListenerWhenCacheUpdatedThenVersionIncreased() {
+        UniqueFitableId fitableId = UniqueFitableId.create(GENERICABLE_ID, VERSION, FITABLE_ID, VERSION);
+        this.createRegister("push-and-pull", true);
+        long initial = this.registryListener.version();
+        this.registryListener.getFitableTargets(fitableId);
+        long loaded = this.registryListener.version();
+        assertThat(loaded).isGreaterThan(initial);
+        this.registryListener.getFitableTargets(fitableId);
+        assertThat(this.registryListener.version()).isEqualTo(loaded);
+        this.registryListener.notifyFitables(Collections.singletonList(this.buildServiceAddress(this.fitable,
+                this.address)));
+        assertThat(this.registryListener.version()).isGreaterThan(loaded);
+    }
+
     private Address buildAddress() {
         Address constructAddress = new Address();
         constructAddress.setHost("A");
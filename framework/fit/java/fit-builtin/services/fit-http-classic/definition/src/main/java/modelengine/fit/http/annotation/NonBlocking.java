@@ -0,0 +1,27 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 表示 Http 处理器不会阻塞当前线程。
+ * <p>被标记的 Http 处理器在服务器开启 IO 线程内联执行时，直接在 IO 线程上执行，不再切换到业务线程池。因此，被标记的 Http
+ * 处理器及其前置过滤器中不能进行任何阻塞操作，例如同步的远程调用、数据库访问和文件读写等，适用于健康检查和内存查询等耗时极短的
+ * 处理器。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface NonBlocking {}
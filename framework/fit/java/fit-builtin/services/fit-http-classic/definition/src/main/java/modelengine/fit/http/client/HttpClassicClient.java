@@ -6,6 +6,7 @@
 
 package modelengine.fit.http.client;
 
+import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 
 import modelengine.fit.http.HttpResource;
@@ -19,6 +20,7 @@ import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 Http 客户端。
@@ -73,7 +75,42 @@ public interface HttpClassicClient extends HttpResource {
      * @return 表示 Http 响应的数据内容的 {@link T}。
      */
     default <T> T exchangeForEntity(HttpClassicClientRequest request, Type responseType) {
-        try (HttpClassicClientResponse<T> response = this.exchange(request, responseType)) {
+        return toEntity(request, this.exchange(request, responseType), responseType);
+    }
+
+    /**
+     * 发送 Http 请求，异步接收 Http 响应。
+     *
+     * @param request 表示 Http 请求的 {@link HttpClassicClientRequest}。
+     * @param responseType 表示期待的返回值类型的 {@link Type}。
+     * @param <T> 表示期待的返回值类型的 {@link T}。
+     * @return 表示异步接收的 Http 响应的 {@link CompletableFuture}{@code <}{@link HttpClassicClientResponse}{@code
+     * <}{@link T}{@code >>}。
+     */
+    default <T> CompletableFuture<HttpClassicClientResponse<T>> exchangeAsync(HttpClassicClientRequest request,
+            Type responseType) {
+        notNull(request, "The http classic request to exchange cannot be null.");
+        return request.exchangeAsync(responseType);
+    }
+
+    /**
+     * 发送 Http 请求，异步获取 Http 响应的数据内容。
+     * <p>响应的状态码不是 {@code 2xx} 时，返回的 {@link CompletableFuture} 以 {@link HttpClientResponseException}
+     * 异常结束。</p>
+     *
+     * @param request 表示 Http 请求的 {@link HttpClassicClientRequest}。
+     * @param responseType 表示期待的返回值类型的 {@link Type}。
+     * @param <T> 表示期待的返回值类型的 {@link T}。
+     * @return 表示异步获取的 Http 响应的数据内容的 {@link CompletableFuture}{@code <}{@link T}{@code >}。
+     */
+    default <T> CompletableFuture<T> exchangeForEntityAsync(HttpClassicClientRequest request, Type responseType) {
+        return this.<T>exchangeAsync(request, responseType)
+                .thenApply(response -> toEntity(request, response, responseType));
+    }
+
+    private static <T> T toEntity(HttpClassicClientRequest request, HttpClassicClientResponse<T> httpResponse,
+            Type responseType) {
+        try (HttpClassicClientResponse<T> response = httpResponse) {
             if (response.statusCode() >= 200 && response.statusCode() < 300) {
                 if (responseType == String.class) {
                     return cast(response.textEntity().map(TextEntity::content).orElse(StringUtils.EMPTY));
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -14,6 +14,7 @@ import modelengine.fitframework.flowable.Choir;
 import modelengine.fitframework.model.MultiValueMap;
 
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示经典的客户端的 Http 请求。
@@ -81,6 +82,17 @@ public interface HttpClassicClientRequest extends HttpClassicRequest {
      */
     <T> HttpClassicClientResponse<T> exchange(Type responseType);
 
+    /**
+     * 发送当前 Http 请求，异步交换 Http 响应。
+     * <p>请求的内容在调用线程中写出，响应在底层客户端接收完成后通知，调用线程不会阻塞等待响应。</p>
+     *
+     * @param responseType 表示期待的返回值类型的 {@link Type}。
+     * @param <T> 表示期待的返回值类型的 {@link T}。
+     * @return 表示异步交换回来的 Http 响应的 {@link CompletableFuture}{@code <}{@link HttpClassicClientResponse}{@code
+     * <}{@link T}{@code >>}。
+     */
+    <T> CompletableFuture<HttpClassicClientResponse<T>> exchangeAsync(Type responseType);
+
     /**
      * 延迟发送当前 Http 请求，交换 Http 流式响应。
      *
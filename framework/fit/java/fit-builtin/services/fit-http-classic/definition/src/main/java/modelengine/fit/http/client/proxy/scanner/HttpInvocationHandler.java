@@ -7,43 +7,50 @@
 package modelengine.fit.http.client.proxy.scanner;
 
 import static modelengine.fitframework.inspection.Validation.notNull;
-import static modelengine.fitframework.util.ObjectUtils.cast;
 
 import modelengine.fit.http.client.HttpClassicClient;
 import modelengine.fit.http.client.HttpClassicClientFactory;
 import modelengine.fit.http.client.HttpClassicClientRequest;
-import modelengine.fit.http.client.HttpClassicClientResponse;
-import modelengine.fit.http.client.HttpClientErrorException;
 import modelengine.fit.http.client.HttpClientException;
-import modelengine.fit.http.client.HttpClientResponseException;
-import modelengine.fit.http.client.HttpServerErrorException;
 import modelengine.fit.http.client.proxy.PropertyValueApplier;
 import modelengine.fit.http.client.proxy.RequestBuilder;
 import modelengine.fit.http.client.proxy.scanner.entity.Address;
 import modelengine.fit.http.client.proxy.scanner.entity.HttpInfo;
-import modelengine.fit.http.entity.ObjectEntity;
-import modelengine.fit.http.entity.TextEntity;
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.flowable.Solo;
 import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.List;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles HTTP invocations for proxy interfaces by mapping method calls to HTTP requests.
  * This class implements the {@link InvocationHandler} interface and is responsible for
  * constructing and executing HTTP requests based on the annotations and parameters of the
  * invoked methods.
+ * <p>Besides plain return types, proxy methods may return {@link CompletableFuture}, {@link Solo} or
+ * {@link Choir}. The first two are backed by {@link HttpClassicClient#exchangeForEntityAsync(HttpClassicClientRequest,
+ * Type)}, so no caller thread is blocked while the request is outstanding; {@link Choir} is backed by the streaming
+ * exchange. The HTTP client and the per-method invocation plan are created once and reused across calls.</p>
  *
  * @author 王攀博
  * @since 2025-01-07
  */
 public class HttpInvocationHandler implements InvocationHandler {
-    private final HttpClassicClientFactory factory;
+    private static final Object[] EMPTY_ARGS = new Object[0];
+
     private final Map<Method, HttpInfo> httpInfoMap;
     private final BeanContainer container;
+    private final LazyLoader<HttpClassicClient> client;
+    private final Map<Method, Invocation> invocations = new ConcurrentHashMap<>();
 
     /**
      * Constructs an HttpInvocationHandler with the specified HTTP client factory, HTTP info map, and bean container.
@@ -56,46 +63,75 @@ public class HttpInvocationHandler implements InvocationHandler {
             HttpClassicClientFactory factory) {
         this.httpInfoMap = notNull(httpInfoMap, "The http info cannot be null.");
         this.container = notNull(container, "The bean container cannot be null.");
-        this.factory = notNull(factory, "The HTTP client factory cannot be null.");
+        notNull(factory, "The HTTP client factory cannot be null.");
+        this.client = LazyLoader.of(factory::create);
     }
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Invocation invocation = this.invocations.computeIfAbsent(method, this::createInvocation);
+        Object[] actualArgs = args == null ? EMPTY_ARGS : args;
+        if (actualArgs.length != invocation.appliers.length) {
+            throw new HttpClientException("Args length not equals to appliers size.");
+        }
+        HttpClassicClient httpClient = this.client.get();
+        switch (invocation.returnKind) {
+            case FUTURE:
+                return this.exchangeAsync(httpClient, invocation, actualArgs);
+            case SOLO:
+                return Solo.create(emitter -> this.exchangeAsync(httpClient, invocation, actualArgs)
+                        .whenComplete((result, cause) -> {
+                            if (cause != null) {
+                                emitter.fail(unwrap(cause));
+                                return;
+                            }
+                            if (result != null) {
+                                emitter.emit(result);
+                            }
+                            emitter.complete();
+                        }));
+            case CHOIR:
+                return httpClient.exchangeStream(this.createRequest(httpClient, invocation, actualArgs),
+                        invocation.responseType);
+            default:
+                return httpClient.exchangeForEntity(this.createRequest(httpClient, invocation, actualArgs),
+                        invocation.responseType);
+        }
+    }
+
+    private Invocation createInvocation(Method method) {
         HttpInfo httpInfo = this.httpInfoMap.get(method);
         if (httpInfo == null) {
             throw new HttpClientException("No method http info.");
         }
-        List<PropertyValueApplier> appliers = httpInfo.getAppliers();
-        if (args.length != appliers.size()) {
-            throw new HttpClientException("Args length not equals to appliers size.");
+        return new Invocation(httpInfo, method);
+    }
+
+    private CompletableFuture<Object> exchangeAsync(HttpClassicClient httpClient, Invocation invocation,
+            Object[] args) {
+        HttpClassicClientRequest request;
+        try {
+            request = this.createRequest(httpClient, invocation, args);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
-        HttpClassicClient client = this.factory.create();
+        return httpClient.exchangeForEntityAsync(request, invocation.responseType);
+    }
+
+    private HttpClassicClientRequest createRequest(HttpClassicClient httpClient, Invocation invocation,
+            Object[] args) {
         RequestBuilder requestBuilder = RequestBuilder.create()
-                .client(client)
-                .method(httpInfo.getMethod())
-                .pathPattern(httpInfo.getPathPattern());
-        Address address = this.updateAddress(httpInfo.getAddress());
+                .client(httpClient)
+                .method(invocation.httpInfo.getMethod())
+                .pathPattern(invocation.httpInfo.getPathPattern());
+        Address address = this.updateAddress(invocation.httpInfo.getAddress());
         if (address != null) {
             requestBuilder.protocol(address.getProtocol()).host(address.getHost()).port(address.getPort());
         }
-        for (int i = 0; i < appliers.size(); i++) {
-            appliers.get(i).apply(requestBuilder, args[i]);
-        }
-        HttpClassicClientRequest request = requestBuilder.build();
-        try (HttpClassicClientResponse<?> response = client.exchange(request, method.getReturnType())) {
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                if (method.getReturnType() == String.class) {
-                    return cast(response.textEntity().map(TextEntity::content).orElse(StringUtils.EMPTY));
-                }
-                return cast(response.objectEntity().map(ObjectEntity::object).orElse(null));
-            } else if (response.statusCode() >= 400 && response.statusCode() < 500) {
-                throw new HttpClientErrorException(request, response);
-            } else if (response.statusCode() >= 500 && response.statusCode() < 600) {
-                throw new HttpServerErrorException(request, response);
-            } else {
-                throw new HttpClientResponseException(request, response);
-            }
+        for (int i = 0; i < invocation.appliers.length; i++) {
+            invocation.appliers[i].apply(requestBuilder, args[i]);
         }
+        return requestBuilder.build();
     }
 
     private Address updateAddress(Address addressIn) {
@@ -113,4 +149,57 @@ public class HttpInvocationHandler implements InvocationHandler {
         }
         return addressIn;
     }
-}
\ No newline at end of file
+
+    private static Exception unwrap(Throwable cause) {
+        Throwable actual = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+        return actual instanceof Exception ? (Exception) actual : new CompletionException(actual);
+    }
+
+    /**
+     * The return kinds supported by proxy methods.
+     */
+    private enum ReturnKind {
+        SYNC,
+        FUTURE,
+        SOLO,
+        CHOIR
+    }
+
+    /**
+     * The invocation plan of a proxy method, resolved on the first call and reused afterward.
+     */
+    private static class Invocation {
+        private final HttpInfo httpInfo;
+        private final PropertyValueApplier[] appliers;
+        private final ReturnKind returnKind;
+        private final Type responseType;
+
+        Invocation(HttpInfo httpInfo, Method method) {
+            this.httpInfo = httpInfo;
+            this.appliers = httpInfo.getAppliers().toArray(new PropertyValueApplier[0]);
+            Class<?> returnType = method.getReturnType();
+            if (returnType == CompletableFuture.class) {
+                this.returnKind = ReturnKind.FUTURE;
+            } else if (returnType == Solo.class) {
+                this.returnKind = ReturnKind.SOLO;
+            } else if (returnType == Choir.class) {
+                this.returnKind = ReturnKind.CHOIR;
+            } else {
+                this.returnKind = ReturnKind.SYNC;
+            }
+            this.responseType = this.returnKind == ReturnKind.SYNC
+                    ? returnType
+                    : elementType(method.getGenericReturnType());
+        }
+
+        private static Type elementType(Type genericReturnType) {
+            if (genericReturnType instanceof ParameterizedType) {
+                Type elementType = ((ParameterizedType) genericReturnType).getActualTypeArguments()[0];
+                if (elementType instanceof Class || elementType instanceof ParameterizedType) {
+                    return elementType;
+                }
+            }
+            return Object.class;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -35,6 +35,7 @@ import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 {@link HttpClassicClientRequest} 的默认实现。
@@ -43,6 +44,8 @@ import java.util.Optional;
  * @since 2022-11-25
  */
 public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest implements HttpClassicClientRequest {
+    private static final int BUFFER_SIZE = 8192;
+
     private final ClientRequest clientRequest;
     private Entity entity;
 
@@ -106,31 +109,8 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
 
     @Override
     public <T> HttpClassicClientResponse<T> exchange(Type responseType) {
-        this.commit();
         try {
-            Charset charset = this.contentType().flatMap(ContentType::charset).orElse(StandardCharsets.UTF_8);
-            if (this.entity == null) {
-                this.clientRequest.writeStartLineAndHeaders();
-            } else if (this.entity instanceof ReadableBinaryEntity) {
-                if (this.entity instanceof FileEntity) {
-                    FileEntity actual = cast(this.entity);
-                    this.headers().set(CONTENT_LENGTH, String.valueOf(actual.length()));
-                } else {
-                    this.headers().set(TRANSFER_ENCODING, CHUNKED);
-                }
-                this.clientRequest.writeStartLineAndHeaders();
-                ReadableBinaryEntity readableBinaryEntity = cast(this.entity);
-                byte[] bytes = new byte[512];
-                int read;
-                while ((read = readableBinaryEntity.read(bytes)) > -1) {
-                    this.clientRequest.writeBody(bytes, 0, read);
-                }
-            } else {
-                byte[] entityBytes = this.entitySerializer().serializeEntity(cast(this.entity), charset);
-                this.headers().set(CONTENT_LENGTH, String.valueOf(entityBytes.length));
-                this.clientRequest.writeStartLineAndHeaders();
-                this.clientRequest.writeBody(entityBytes);
-            }
+            this.writeRequest();
             ClientResponse clientResponse = this.clientRequest.readResponse();
             return new DefaultHttpClassicClientResponse<>(this.httpResource(), clientResponse, responseType);
         } catch (IOException e) {
@@ -140,6 +120,64 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
         }
     }
 
+    @Override
+    public <T> CompletableFuture<HttpClassicClientResponse<T>> exchangeAsync(Type responseType) {
+        CompletableFuture<ClientResponse> clientResponseFuture;
+        try {
+            this.writeRequest();
+            clientResponseFuture = this.clientRequest.readResponseAsync();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new ClientException("Failed to exchange response.", e));
+        } finally {
+            // 请求的内容已经全部交给底层客户端，可以在响应返回之前释放。
+            this.close();
+        }
+        CompletableFuture<HttpClassicClientResponse<T>> future = new CompletableFuture<>();
+        clientResponseFuture.whenComplete((clientResponse, cause) -> {
+            if (cause instanceof IOException) {
+                future.completeExceptionally(new ClientException("Failed to exchange response.", cause));
+            } else if (cause != null) {
+                future.completeExceptionally(cause);
+            } else {
+                try {
+                    future.complete(new DefaultHttpClassicClientResponse<>(this.httpResource(),
+                            clientResponse,
+                            responseType));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    private void writeRequest() throws IOException {
+        this.commit();
+        Charset charset = this.contentType().flatMap(ContentType::charset).orElse(StandardCharsets.UTF_8);
+        if (this.entity == null) {
+            this.clientRequest.writeStartLineAndHeaders();
+        } else if (this.entity instanceof ReadableBinaryEntity) {
+            if (this.entity instanceof FileEntity) {
+                FileEntity actual = cast(this.entity);
+                this.headers().set(CONTENT_LENGTH, String.valueOf(actual.length()));
+            } else {
+                this.headers().set(TRANSFER_ENCODING, CHUNKED);
+            }
+            this.clientRequest.writeStartLineAndHeaders();
+            ReadableBinaryEntity readableBinaryEntity = cast(this.entity);
+            byte[] bytes = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = readableBinaryEntity.read(bytes)) > -1) {
+                this.clientRequest.writeBody(bytes, 0, read);
+            }
+        } else {
+            byte[] entityBytes = this.entitySerializer().serializeEntity(cast(this.entity), charset);
+            this.headers().set(CONTENT_LENGTH, String.valueOf(entityBytes.length));
+            this.clientRequest.writeStartLineAndHeaders();
+            this.clientRequest.writeBody(entityBytes);
+        }
+    }
+
     @Override
     public Choir<Object> exchangeStream() {
         return this.exchangeStream(Object.class);
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -13,7 +13,9 @@ import modelengine.fit.http.protocol.Address;
 import modelengine.fit.http.protocol.ServerRequest;
 import modelengine.fit.http.server.support.DefaultHttpClassicServerRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
+import java.io.InputStream;
 
 /**
  * Represents a classic HTTP server request.
@@ -57,6 +59,20 @@ public interface HttpClassicServerRequest extends HttpClassicRequest, Closeable
      */
     byte[] entityBytes();
 
+    /**
+     * Gets the input stream of the message body of the HTTP request.
+     *
+     * <p>The default implementation wraps {@link #entityBytes()}, so the whole body is buffered first. Implementations
+     * backed by a connection may read the body directly without buffering it as a whole, unless {@link #entityBytes()}
+     * has already been called. The stream can only be consumed once, and must not be used together with
+     * {@link #entityBytes()} or {@link #entity()}.</p>
+     *
+     * @return An {@link InputStream} for reading the entity body data.
+     */
+    default InputStream entityStream() {
+        return new ByteArrayInputStream(this.entityBytes());
+    }
+
     /**
      * Checks whether the current request is active.
      *
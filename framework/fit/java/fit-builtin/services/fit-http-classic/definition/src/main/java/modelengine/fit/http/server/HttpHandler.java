@@ -9,6 +9,7 @@ package modelengine.fit.http.server;
 import modelengine.fit.http.HttpResourceSupplier;
 import modelengine.fit.http.server.handler.PropertyValueMapper;
 import modelengine.fit.http.server.handler.PropertyValueMetadata;
+import modelengine.fit.http.server.support.DefaultHttpServerFilterChain;
 import modelengine.fitframework.pattern.builder.BuilderFactory;
 
 import java.lang.reflect.Method;
@@ -44,6 +45,26 @@ public interface HttpHandler extends HttpResourceSupplier {
      */
     void handle(HttpClassicServerRequest request, HttpClassicServerResponse response) throws DoHttpHandlerException;
 
+    /**
+     * 判断处理器是否为非阻塞的处理器。
+     * <p>非阻塞的处理器在服务器开启 IO 线程内联执行时，可以直接在 IO 线程上执行。</p>
+     *
+     * @return 如果是非阻塞的处理器，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
+
+    /**
+     * 创建执行当前处理器的过滤器链。
+     * <p>每次请求都需要使用一个新的过滤器链。</p>
+     *
+     * @return 表示执行当前处理器的过滤器链的 {@link HttpServerFilterChain}。
+     */
+    default HttpServerFilterChain createFilterChain() {
+        return new DefaultHttpServerFilterChain(this);
+    }
+
     /**
      * 表示 Http 处理器的相关静态信息。
      */
@@ -78,6 +99,13 @@ public interface HttpHandler extends HttpResourceSupplier {
          */
         boolean isDocumentIgnored();
 
+        /**
+         * 获取 Http 处理器是否为非阻塞的处理器。
+         *
+         * @return 如果是非阻塞的处理器，则返回 {@code true}，否则，返回 {@code false}。
+         */
+        boolean isNonBlocking();
+
         /**
          * 获取 Http 处理器的简短摘要。
          *
@@ -136,6 +164,14 @@ public interface HttpHandler extends HttpResourceSupplier {
              */
             Builder isDocumentIgnored(boolean ignored);
 
+            /**
+             * 向当前构建器中设置 Http 处理器是否为非阻塞的处理器的标记。
+             *
+             * @param nonBlocking 表示待设置的 Http 处理器是否为非阻塞的处理器的标记的 {@code boolean}。
+             * @return 表示当前构建器的 {@link Builder}。
+             */
+            Builder isNonBlocking(boolean nonBlocking);
+
             /**
              * 向当前构建器中设置 Http 处理器的简短摘要。
              *
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -12,22 +12,21 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.http.server.dispatch.MappingTree;
 import modelengine.fitframework.util.CollectionUtils;
+import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * {@link MappingTree} 的默认实现。
+ * <p>匹配树由不可变的节点构成，每个节点的子节点按路径段排序后存放在数组中，通过二分查找定位。注册和取消注册时只复制从根节点到
+ * 目标节点路径上的节点，再整体替换根节点，因此运行时动态注册的处理器不会影响正在进行的搜索。搜索时直接在原始路径字符串上按下标
+ * 遍历路径段，不会切分路径，也不会创建中间对象。</p>
  *
  * @author 季聿阶
  * @since 2022-07-26
@@ -38,7 +37,7 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
 
     private static final String WILD_KEY = "*";
 
-    private final Map<String, MappingTreeNode<T>> nodes = new ConcurrentHashMap<>();
+    private volatile MappingTreeNode<T> root = MappingTreeNode.empty();
 
     /**
      * 将指定路径按照路径分隔符进行切分。
@@ -53,41 +52,35 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
     }
 
     @Override
-    public Optional<T> register(String pathPattern, T handler) {
+    public synchronized Optional<T> register(String pathPattern, T handler) {
         notBlank(pathPattern, "The path pattern to register cannot be blank.");
         notNull(handler, "The http handler to register cannot be null.");
         String actualPathPattern = pathPattern.trim();
         isTrue(actualPathPattern.startsWith(PATH_SEPARATOR),
                 "The path pattern is not start with '/'. [pathPattern={0}]",
                 pathPattern);
-        Queue<String> pathFragments = splitPath(actualPathPattern);
+        List<String> pathFragments = new ArrayList<>(splitPath(actualPathPattern));
         isTrue(CollectionUtils.isNotEmpty(pathFragments),
                 "The path pattern cannot only contain '/'. [pathPattern={0}]",
                 pathPattern);
-        return this.nodes.computeIfAbsent(pathFragments.remove(), fragment -> new MappingTreeNode<>())
-                .register(pathFragments, handler);
+        T pre = this.root.find(pathFragments, 0);
+        this.root = this.root.with(pathFragments, 0, handler);
+        return Optional.ofNullable(pre);
     }
 
     @Override
-    public void unregister(String pathPattern) {
+    public synchronized void unregister(String pathPattern) {
         notBlank(pathPattern, "The path pattern to unregister cannot be blank.");
         String actualPathPattern = pathPattern.trim();
         isTrue(actualPathPattern.startsWith(PATH_SEPARATOR),
                 "The path pattern is not start with '/'. [pathPattern={0}]",
                 pathPattern);
-        Queue<String> pathFragments = splitPath(actualPathPattern);
+        List<String> pathFragments = new ArrayList<>(splitPath(actualPathPattern));
         isTrue(CollectionUtils.isNotEmpty(pathFragments),
                 "The path pattern cannot only contain '/'. [pathPattern={0}]",
                 pathPattern);
-        String removed = pathFragments.remove();
-        if (!this.nodes.containsKey(removed)) {
-            return;
-        }
-        MappingTreeNode<T> treeNode = this.nodes.get(removed);
-        boolean isEmpty = treeNode.unregister(pathFragments);
-        if (isEmpty) {
-            this.nodes.remove(removed);
-        }
+        MappingTreeNode<T> newRoot = this.root.without(pathFragments, 0);
+        this.root = newRoot == null ? MappingTreeNode.empty() : newRoot;
     }
 
     @Override
@@ -95,91 +88,177 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         notBlank(path, "The search path cannot be blank.");
         String actualPath = path.trim();
         isTrue(actualPath.startsWith(PATH_SEPARATOR), "The search path is not start with '/'. [path={0}]", path);
-        Deque<String> pathFragments = splitPath(actualPath);
-        isTrue(CollectionUtils.isNotEmpty(pathFragments),
+        isTrue(PathFragments.nextStart(actualPath, 0) < actualPath.length(),
                 "The search path cannot only contain '/'. [pathPattern={0}]",
                 path);
-        MappingTreeNode<T> childNode = this.nodes.get(pathFragments.removeFirst());
-        Optional<T> httpHandler = Optional.ofNullable(childNode).flatMap(node -> node.search(pathFragments));
-        if (httpHandler.isPresent()) {
-            return httpHandler;
-        }
-        MappingTreeNode<T> wildChildNode = this.nodes.get(WILD_KEY);
-        return Optional.ofNullable(wildChildNode).flatMap(node -> node.search(pathFragments));
+        return Optional.ofNullable(this.root.search(actualPath, 0));
     }
 
     @Override
     public List<T> getAllHandlers() {
-        Collection<MappingTreeNode<T>> values = this.nodes.values();
-        return values.stream()
-                .filter(Objects::nonNull)
-                .flatMap(value -> this.getNodeHandlers(value).stream())
-                .collect(Collectors.toList());
-    }
-
-    private List<T> getNodeHandlers(MappingTreeNode<T> node) {
         List<T> handlers = new ArrayList<>();
-        if (node.handler != null) {
-            handlers.add(node.handler);
-        }
-        if (!node.children.isEmpty()) {
-            List<T> childrenHandlers = node.children.values()
-                    .stream()
-                    .filter(Objects::nonNull)
-                    .flatMap(child -> this.getNodeHandlers(child).stream())
-                    .collect(Collectors.toList());
-            handlers.addAll(childrenHandlers);
-        }
+        this.root.collect(handlers);
         return handlers;
     }
 
+    /**
+     * 表示匹配树上不可变的节点，修改时返回新的节点。
+     *
+     * @param <T> 表示匹配树上的处理器类型的 {@link T}。
+     */
     private static class MappingTreeNode<T> {
-        private final Map<String, MappingTreeNode<T>> children = new ConcurrentHashMap<>();
-        private T handler;
-
-        private Optional<T> register(Queue<String> pathFragments, T handler) {
-            if (pathFragments.isEmpty()) {
-                T pre = this.handler;
-                this.handler = handler;
-                return Optional.ofNullable(pre);
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private static final MappingTreeNode<?> EMPTY =
+                new MappingTreeNode(new String[0], new MappingTreeNode[0], null, null);
+
+        /** 表示按字典序排列的非通配子节点的路径段。 */
+        private final String[] keys;
+        private final MappingTreeNode<T>[] children;
+        private final MappingTreeNode<T> wildChild;
+        private final T handler;
+
+        private MappingTreeNode(String[] keys, MappingTreeNode<T>[] children, MappingTreeNode<T> wildChild,
+                T handler) {
+            this.keys = keys;
+            this.children = children;
+            this.wildChild = wildChild;
+            this.handler = handler;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> MappingTreeNode<T> empty() {
+            return (MappingTreeNode<T>) EMPTY;
+        }
+
+        private boolean isEmpty() {
+            return this.handler == null && this.wildChild == null && this.keys.length == 0;
+        }
+
+        private MappingTreeNode<T> child(String fragment) {
+            if (WILD_KEY.equals(fragment)) {
+                return this.wildChild;
             }
-            return this.children.computeIfAbsent(pathFragments.remove(), fragment -> new MappingTreeNode<>())
-                    .register(pathFragments, handler);
+            int index = Arrays.binarySearch(this.keys, fragment);
+            return index < 0 ? null : this.children[index];
         }
 
-        private boolean unregister(Queue<String> pathFragments) {
-            if (pathFragments.isEmpty()) {
-                this.handler = null;
-                return this.children.isEmpty();
+        private T find(List<String> pathFragments, int index) {
+            if (index == pathFragments.size()) {
+                return this.handler;
             }
-            String removed = pathFragments.remove();
-            if (!this.children.containsKey(removed)) {
-                return this.children.isEmpty();
+            MappingTreeNode<T> child = this.child(pathFragments.get(index));
+            return child == null ? null : child.find(pathFragments, index + 1);
+        }
+
+        private MappingTreeNode<T> with(List<String> pathFragments, int index, T newHandler) {
+            if (index == pathFragments.size()) {
+                return new MappingTreeNode<>(this.keys, this.children, this.wildChild, newHandler);
             }
-            boolean isEmpty = this.children.get(removed).unregister(pathFragments);
-            if (isEmpty) {
-                this.children.remove(removed);
+            String fragment = pathFragments.get(index);
+            MappingTreeNode<T> child = ObjectUtils.nullIf(this.child(fragment), MappingTreeNode.empty());
+            return this.replace(fragment, child.with(pathFragments, index + 1, newHandler));
+        }
+
+        private MappingTreeNode<T> without(List<String> pathFragments, int index) {
+            MappingTreeNode<T> result;
+            if (index == pathFragments.size()) {
+                result = new MappingTreeNode<>(this.keys, this.children, this.wildChild, null);
+            } else {
+                String fragment = pathFragments.get(index);
+                MappingTreeNode<T> child = this.child(fragment);
+                if (child == null) {
+                    return this;
+                }
+                result = this.replace(fragment, child.without(pathFragments, index + 1));
+            }
+            return result.isEmpty() ? null : result;
+        }
+
+        /**
+         * 复制当前节点并替换指定路径段的子节点，子节点为 {@code null} 时移除该路径段。
+         */
+        @SuppressWarnings("unchecked")
+        private MappingTreeNode<T> replace(String fragment, MappingTreeNode<T> child) {
+            if (WILD_KEY.equals(fragment)) {
+                return new MappingTreeNode<>(this.keys, this.children, child, this.handler);
+            }
+            int index = Arrays.binarySearch(this.keys, fragment);
+            String[] newKeys;
+            MappingTreeNode<T>[] newChildren;
+            if (index >= 0 && child != null) {
+                newKeys = this.keys;
+                newChildren = this.children.clone();
+                newChildren[index] = child;
+            } else if (index >= 0) {
+                newKeys = new String[this.keys.length - 1];
+                newChildren = new MappingTreeNode[this.keys.length - 1];
+                System.arraycopy(this.keys, 0, newKeys, 0, index);
+                System.arraycopy(this.keys, index + 1, newKeys, index, newKeys.length - index);
+                System.arraycopy(this.children, 0, newChildren, 0, index);
+                System.arraycopy(this.children, index + 1, newChildren, index, newChildren.length - index);
+            } else if (child != null) {
+                int insertion = -index - 1;
+                newKeys = new String[this.keys.length + 1];
+                newChildren = new MappingTreeNode[this.keys.length + 1];
+                System.arraycopy(this.keys, 0, newKeys, 0, insertion);
+                System.arraycopy(this.keys, insertion, newKeys, insertion + 1, this.keys.length - insertion);
+                System.arraycopy(this.children, 0, newChildren, 0, insertion);
+                System.arraycopy(this.children,
+                        insertion,
+                        newChildren,
+                        insertion + 1,
+                        this.children.length - insertion);
+                newKeys[insertion] = fragment;
+                newChildren[insertion] = child;
+            } else {
+                return this;
+            }
+            return new MappingTreeNode<>(newKeys, newChildren, this.wildChild, this.handler);
+        }
+
+        private T search(String path, int from) {
+            int start = PathFragments.nextStart(path, from);
+            if (start == path.length()) {
+                return this.handler;
+            }
+            int end = PathFragments.end(path, start);
+            MappingTreeNode<T> child = this.searchChild(path, start, end);
+            if (child != null) {
+                T found = child.search(path, end);
+                if (found != null) {
+                    return found;
+                }
+            }
+            return this.wildChild == null ? null : this.wildChild.search(path, end);
+        }
+
+        private MappingTreeNode<T> searchChild(String path, int start, int end) {
+            int low = 0;
+            int high = this.keys.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = PathFragments.compare(this.keys[middle], path, start, end);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return this.children[middle];
+                }
             }
-            return this.children.isEmpty();
+            return null;
         }
 
-        private Optional<T> search(Deque<String> pathFragments) {
-            if (pathFragments.isEmpty()) {
-                return Optional.ofNullable(this.handler);
+        private void collect(List<T> handlers) {
+            if (this.handler != null) {
+                handlers.add(this.handler);
             }
-            String removed = pathFragments.removeFirst();
-            MappingTreeNode<T> child = this.children.get(removed);
-            Optional<T> httpHandler = Optional.ofNullable(child).flatMap(node -> node.search(pathFragments));
-            if (httpHandler.isPresent()) {
-                return httpHandler;
+            for (MappingTreeNode<T> child : this.children) {
+                child.collect(handlers);
             }
-            MappingTreeNode<T> wildChild = this.children.get(WILD_KEY);
-            httpHandler = Optional.ofNullable(wildChild).flatMap(node -> node.search(pathFragments));
-            if (httpHandler.isPresent()) {
-                return httpHandler;
+            if (this.wildChild != null) {
+                this.wildChild.collect(handlers);
             }
-            pathFragments.addFirst(removed);
-            return Optional.empty();
         }
     }
 }
@@ -0,0 +1,86 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.dispatch.support;
+
+/**
+ * 表示在原始路径字符串上按下标遍历路径段的工具类。
+ * <p>路径段的切分规则与 {@link DefaultMappingTree#splitPath(String)} 一致：跳过路径分隔符和空白的路径段。遍历时不切分路径，
+ * 也不创建子字符串。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+public final class PathFragments {
+    private static final char PATH_SEPARATOR = '/';
+
+    private PathFragments() {}
+
+    /**
+     * 从指定位置开始查找下一个路径段的起始位置，跳过路径分隔符和空白的路径段。
+     *
+     * @param path 表示完整路径的 {@link String}。
+     * @param from 表示查找的起始位置的 {@code int}。
+     * @return 表示下一个路径段起始位置的 {@code int}，没有更多路径段时，返回路径的长度。
+     */
+    public static int nextStart(String path, int from) {
+        int index = from;
+        while (index < path.length()) {
+            if (path.charAt(index) == PATH_SEPARATOR) {
+                index++;
+                continue;
+            }
+            int end = end(path, index);
+            if (!isBlank(path, index, end)) {
+                return index;
+            }
+            index = end;
+        }
+        return path.length();
+    }
+
+    /**
+     * 查找从指定位置开始的路径段的结束位置。
+     *
+     * @param path 表示完整路径的 {@link String}。
+     * @param start 表示路径段起始位置的 {@code int}。
+     * @return 表示路径段结束位置的 {@code int}，即下一个路径分隔符的位置或者路径的长度。
+     */
+    public static int end(String path, int start) {
+        int end = path.indexOf(PATH_SEPARATOR, start);
+        return end < 0 ? path.length() : end;
+    }
+
+    /**
+     * 比较指定的路径段与路径中的指定区间，比较规则与 {@link String#compareTo(String)} 一致。
+     *
+     * @param key 表示指定路径段的 {@link String}。
+     * @param path 表示完整路径的 {@link String}。
+     * @param start 表示区间起始位置的 {@code int}。
+     * @param end 表示区间结束位置的 {@code int}。
+     * @return 表示比较结果的 {@code int}。
+     */
+    static int compare(String key, String path, int start, int end) {
+        int length = Math.min(key.length(), end - start);
+        for (int i = 0; i < length; i++) {
+            char expected = key.charAt(i);
+            char actual = path.charAt(start + i);
+            if (expected != actual) {
+                return expected - actual;
+            }
+        }
+        return key.length() - (end - start);
+    }
+
+    private static boolean isBlank(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(path.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,279 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.dispatch.support;
+
+import static modelengine.fitframework.inspection.Validation.isTrue;
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.http.server.dispatch.MappingTree;
+import modelengine.fitframework.util.wildcard.Pattern;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 表示路径样式中存在 {@code '**'} 通配符的 {@link MappingTree} 实现。
+ * <p>注册时将所有路径样式按路径段编译为一棵前缀树，匹配规则与 {@link Pattern#forPath(String, char)} 保持一致：</p>
+ * <ul>
+ *     <li>{@code '**'} 路径段匹配任意个（包括 0 个）路径段；</li>
+ *     <li>{@code '*'} 路径段匹配任意一个路径段；</li>
+ *     <li>包含 {@code '*'} 或 {@code '?'} 的路径段在段内按字符进行通配匹配；</li>
+ *     <li>其余路径段需要完全相等。</li>
+ * </ul>
+ * <p>当多个路径样式都可以匹配同一个路径时，返回最先注册的路径样式对应的处理器。与路径匹配模式一致，不包含任何路径段的路径
+ * （如 {@code '/'}）不会匹配任何路径样式。</p>
+ * <p>前缀树在注册和取消注册时整体重建并替换，搜索过程不加锁，且不会修改任何状态。与 {@link DefaultMappingTree} 一致，搜索时直接
+ * 在原始路径字符串上按下标遍历路径段，不会切分路径。</p>
+ *
+ * @param <T> 表示匹配树上的处理器类型的 {@link T}。
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+public class WildcardMappingTree<T> implements MappingTree<T> {
+    private static final String MULTIPLE_WILDCARD = "**";
+    private static final String SINGLE_WILDCARD = "*";
+    private static final char MULTIPLE_CHAR_WILDCARD = '*';
+    private static final char SINGLE_CHAR_WILDCARD = '?';
+
+    private final Map<String, Route<T>> routes = new LinkedHashMap<>();
+    private long nextOrder = 0L;
+    private volatile Node<T> root = new Node<>();
+
+    @Override
+    public synchronized Optional<T> register(String pathPattern, T handler) {
+        notNull(handler, "The http handler to register cannot be null.");
+        String actualPathPattern = validate(pathPattern, "register");
+        Route<T> pre = this.routes.get(actualPathPattern);
+        long order = pre == null ? this.nextOrder++ : pre.order;
+        this.routes.put(actualPathPattern, new Route<>(handler, order));
+        this.rebuild();
+        return Optional.ofNullable(pre).map(route -> route.handler);
+    }
+
+    @Override
+    public synchronized void unregister(String pathPattern) {
+        String actualPathPattern = validate(pathPattern, "unregister");
+        if (this.routes.remove(actualPathPattern) != null) {
+            this.rebuild();
+        }
+    }
+
+    @Override
+    public Optional<T> search(String path) {
+        notNull(path, "The search path cannot be null.");
+        if (PathFragments.nextStart(path, 0) == path.length()) {
+            return Optional.empty();
+        }
+        Route<T> matched = this.root.search(path, 0, null);
+        return Optional.ofNullable(matched).map(route -> route.handler);
+    }
+
+    @Override
+    public synchronized List<T> getAllHandlers() {
+        List<T> handlers = new ArrayList<>(this.routes.size());
+        this.routes.values().forEach(route -> handlers.add(route.handler));
+        return handlers;
+    }
+
+    private static String validate(String pathPattern, String operation) {
+        notBlank(pathPattern, "The path pattern to {0} cannot be blank.", operation);
+        String actualPathPattern = pathPattern.trim();
+        isTrue(actualPathPattern.startsWith(DefaultMappingTree.PATH_SEPARATOR),
+                "The path pattern is not start with '/'. [pathPattern={0}]",
+                pathPattern);
+        return actualPathPattern;
+    }
+
+    private void rebuild() {
+        Node<T> newRoot = new Node<>();
+        this.routes.forEach((pathPattern, route) -> newRoot.add(DefaultMappingTree.splitPath(pathPattern), route));
+        newRoot.seal();
+        this.root = newRoot;
+    }
+
+    /**
+     * 判断路径中的指定区间是否满足段内的通配样式，{@code '?'} 匹配任意一个字符，{@code '*'} 匹配任意个字符。
+     *
+     * @param pattern 表示段内通配样式的 {@link String}。
+     * @param path 表示完整路径的 {@link String}。
+     * @param start 表示路径段起始位置的 {@code int}。
+     * @param end 表示路径段结束位置的 {@code int}。
+     * @return 如果匹配成功，返回 {@code true}，否则，返回 {@code false}。
+     */
+    private static boolean matchesFragment(String pattern, String path, int start, int end) {
+        int patternIndex = 0;
+        int valueIndex = start;
+        int starIndex = -1;
+        int starMatchedIndex = start;
+        while (valueIndex < end) {
+            if (patternIndex < pattern.length() && (pattern.charAt(patternIndex) == SINGLE_CHAR_WILDCARD
+                    || pattern.charAt(patternIndex) == path.charAt(valueIndex))) {
+                patternIndex++;
+                valueIndex++;
+            } else if (patternIndex < pattern.length() && pattern.charAt(patternIndex) == MULTIPLE_CHAR_WILDCARD) {
+                starIndex = patternIndex++;
+                starMatchedIndex = valueIndex;
+            } else if (starIndex >= 0) {
+                patternIndex = starIndex + 1;
+                valueIndex = ++starMatchedIndex;
+            } else {
+                return false;
+            }
+        }
+        while (patternIndex < pattern.length() && pattern.charAt(patternIndex) == MULTIPLE_CHAR_WILDCARD) {
+            patternIndex++;
+        }
+        return patternIndex == pattern.length();
+    }
+
+    private static boolean isFragmentPattern(String fragment) {
+        return fragment.indexOf(MULTIPLE_CHAR_WILDCARD) >= 0 || fragment.indexOf(SINGLE_CHAR_WILDCARD) >= 0;
+    }
+
+    private static <T> Route<T> earlier(Route<T> current, Route<T> candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.order < current.order ? candidate : current;
+    }
+
+    private static class Route<T> {
+        private final T handler;
+        private final long order;
+
+        private Route(T handler, long order) {
+            this.handler = handler;
+            this.order = order;
+        }
+    }
+
+    private static class Node<T> {
+        private static final String[] EMPTY_KEYS = new String[0];
+
+        private Map<String, Node<T>> literalChildren = new TreeMap<>();
+        private Map<String, Node<T>> patternChildren = new LinkedHashMap<>();
+
+        /** 表示封存后按字典序排列的非通配子节点的路径段，搜索时通过二分查找定位。 */
+        private String[] literalKeys = EMPTY_KEYS;
+        private Node<T>[] literalNodes;
+        private String[] patternKeys = EMPTY_KEYS;
+        private Node<T>[] patternNodes;
+        private Node<T> singleWildcardChild;
+        private Node<T> multipleWildcardChild;
+        private Route<T> route;
+
+        /** 表示以当前节点为根的子树中最先注册的路径样式的顺序，用于在搜索时剪枝。 */
+        private long minOrder = Long.MAX_VALUE;
+
+        private void add(Collection<String> pathFragments, Route<T> route) {
+            Node<T> current = this;
+            for (String fragment : pathFragments) {
+                current.minOrder = Math.min(current.minOrder, route.order);
+                current = current.child(fragment);
+            }
+            current.minOrder = Math.min(current.minOrder, route.order);
+            current.route = earlier(current.route, route);
+        }
+
+        private Node<T> child(String fragment) {
+            if (MULTIPLE_WILDCARD.equals(fragment)) {
+                if (this.multipleWildcardChild == null) {
+                    this.multipleWildcardChild = new Node<>();
+                }
+                return this.multipleWildcardChild;
+            }
+            if (SINGLE_WILDCARD.equals(fragment)) {
+                if (this.singleWildcardChild == null) {
+                    this.singleWildcardChild = new Node<>();
+                }
+                return this.singleWildcardChild;
+            }
+            Map<String, Node<T>> children = isFragmentPattern(fragment) ? this.patternChildren : this.literalChildren;
+            return children.computeIfAbsent(fragment, key -> new Node<>());
+        }
+
+        @SuppressWarnings("unchecked")
+        private void seal() {
+            this.literalKeys = this.literalChildren.keySet().toArray(EMPTY_KEYS);
+            this.literalNodes = this.literalChildren.values().toArray(new Node[0]);
+            this.patternKeys = this.patternChildren.keySet().toArray(EMPTY_KEYS);
+            this.patternNodes = this.patternChildren.values().toArray(new Node[0]);
+            this.literalChildren = null;
+            this.patternChildren = null;
+            for (Node<T> child : this.literalNodes) {
+                child.seal();
+            }
+            for (Node<T> child : this.patternNodes) {
+                child.seal();
+            }
+            if (this.singleWildcardChild != null) {
+                this.singleWildcardChild.seal();
+            }
+            if (this.multipleWildcardChild != null) {
+                this.multipleWildcardChild.seal();
+            }
+        }
+
+        private Route<T> search(String path, int from, Route<T> matched) {
+            if (matched != null && matched.order <= this.minOrder) {
+                return matched;
+            }
+            Route<T> result = matched;
+            int start = PathFragments.nextStart(path, from);
+            if (this.multipleWildcardChild != null) {
+                int next = start;
+                while (true) {
+                    result = this.multipleWildcardChild.search(path, next, result);
+                    if (next == path.length()) {
+                        break;
+                    }
+                    next = PathFragments.nextStart(path, PathFragments.end(path, next));
+                }
+            }
+            if (start == path.length()) {
+                return earlier(result, this.route);
+            }
+            int end = PathFragments.end(path, start);
+            Node<T> literalChild = this.searchLiteralChild(path, start, end);
+            if (literalChild != null) {
+                result = literalChild.search(path, end, result);
+            }
+            if (this.singleWildcardChild != null) {
+                result = this.singleWildcardChild.search(path, end, result);
+            }
+            for (int i = 0; i < this.patternKeys.length; i++) {
+                if (matchesFragment(this.patternKeys[i], path, start, end)) {
+                    result = this.patternNodes[i].search(path, end, result);
+                }
+            }
+            return result;
+        }
+
+        private Node<T> searchLiteralChild(String path, int start, int end) {
+            int low = 0;
+            int high = this.literalKeys.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = PathFragments.compare(this.literalKeys[middle], path, start, end);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return this.literalNodes[middle];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -13,9 +13,12 @@ import static modelengine.fitframework.util.ObjectUtils.getIfNull;
 import modelengine.fit.http.server.HttpClassicServer;
 import modelengine.fit.http.server.HttpHandler;
 import modelengine.fit.http.server.HttpServerFilter;
+import modelengine.fit.http.server.HttpServerFilterChain;
+import modelengine.fit.http.server.support.DefaultHttpServerFilterChain;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 表示 {@link HttpHandler} 的抽象父类。
@@ -27,6 +30,8 @@ public abstract class AbstractHttpHandler implements HttpHandler {
     private final HttpClassicServer httpServer;
     private final String pathPattern;
     private final List<HttpServerFilter> preFilters;
+    private final boolean isNonBlocking;
+    private volatile Supplier<HttpServerFilterChain> filterChainTemplate;
 
     /**
      * 通过 Http 处理器的相关静态信息来实例化 {@link AbstractHttpHandler}。
@@ -45,6 +50,7 @@ public abstract class AbstractHttpHandler implements HttpHandler {
         this.httpServer = notNull(executionInfo.httpServer(), "The http server cannot be null.");
         this.pathPattern = notBlank(staticInfo.pathPattern(), "The path pattern cannot be blank.");
         this.preFilters = getIfNull(executionInfo.preFilters(), Collections::emptyList);
+        this.isNonBlocking = staticInfo.isNonBlocking();
     }
 
     @Override
@@ -61,4 +67,19 @@ public abstract class AbstractHttpHandler implements HttpHandler {
     public List<HttpServerFilter> preFilters() {
         return Collections.unmodifiableList(this.preFilters);
     }
+
+    @Override
+    public boolean isNonBlocking() {
+        return this.isNonBlocking;
+    }
+
+    @Override
+    public HttpServerFilterChain createFilterChain() {
+        Supplier<HttpServerFilterChain> template = this.filterChainTemplate;
+        if (template == null) {
+            template = DefaultHttpServerFilterChain.template(this);
+            this.filterChainTemplate = template;
+        }
+        return template.get();
+    }
 }
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -30,7 +30,7 @@ import java.util.List;
 public abstract class AbstractReflectibleHttpHandler extends AbstractHttpHandler implements ReflectibleMappingHandler {
     private final Object target;
     private final Method method;
-    private final List<PropertyValueMapper> propertyValueMappers;
+    private final PropertyValueMapper[] propertyValueMappers;
     private final StaticInfo staticInfo;
     private final List<PropertyValueMetadata> propertyValueMetadata;
 
@@ -60,10 +60,12 @@ public abstract class AbstractReflectibleHttpHandler extends AbstractHttpHandler
         super(staticInfo, executionInfo);
         this.staticInfo = notNull(staticInfo, "The http handler static info cannot be null.");
         notNull(executionInfo, "The http handler execution info cannot be null.");
-        this.propertyValueMappers = notNull(executionInfo.httpMappers(), "The http mappers cannot be null.");
-        for (PropertyValueMapper propertyValueMapper : this.propertyValueMappers) {
+        List<PropertyValueMapper> httpMappers =
+                notNull(executionInfo.httpMappers(), "The http mappers cannot be null.");
+        for (PropertyValueMapper propertyValueMapper : httpMappers) {
             notNull(propertyValueMapper, "The http mapper cannot be null.");
         }
+        this.propertyValueMappers = httpMappers.toArray(new PropertyValueMapper[0]);
         this.target = notNull(executionInfo.target(), "The specified target of http handler cannot be null.");
         this.method = notNull(executionInfo.method(), "The specified method of http handler cannot be null.");
         this.propertyValueMetadata =
@@ -123,11 +125,11 @@ public abstract class AbstractReflectibleHttpHandler extends AbstractHttpHandler
     @Override
     public void handle(HttpClassicServerRequest request, HttpClassicServerResponse response)
             throws DoHttpHandlerException {
-        Object[] args;
+        Object[] args = new Object[this.propertyValueMappers.length];
         try {
-            args = this.propertyValueMappers.stream()
-                    .map(httpMapper -> httpMapper.map(request, response, null))
-                    .toArray();
+            for (int i = 0; i < args.length; i++) {
+                args[i] = this.propertyValueMappers[i].map(request, response, null);
+            }
         } catch (HttpServerResponseException e) {
             this.handleException(request, response, new Object[0], e);
             return;
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -12,6 +12,7 @@ import static modelengine.fitframework.util.ObjectUtils.cast;
 
 import modelengine.fit.http.server.HttpClassicServerRequest;
 import modelengine.fit.http.server.HttpClassicServerResponse;
+import modelengine.fit.http.server.dispatch.support.PathFragments;
 import modelengine.fit.http.server.handler.RequestMappingException;
 import modelengine.fit.http.server.handler.SourceFetcher;
 import modelengine.fit.http.server.handler.exception.RequestParamFetchException;
@@ -34,6 +35,7 @@ public class PathVariableFetcher implements SourceFetcher {
     private static final char PATH_VARIABLE_SUFFIX = '}';
 
     private final String variableName;
+    private volatile VariablePosition position;
 
     /**
      * 通过路径变量名来实例化 {@link PathVariableFetcher}。
@@ -63,6 +65,41 @@ public class PathVariableFetcher implements SourceFetcher {
                 .get(PATH_PATTERN.key())
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format("No path pattern. [path={0}]",
                         request.path()))));
+        VariablePosition position = this.getPosition(pathPattern);
+        String path = request.path();
+        String value = null;
+        int fragmentCount = 0;
+        int start = PathFragments.nextStart(path, 0);
+        while (start < path.length()) {
+            int end = PathFragments.end(path, start);
+            if (fragmentCount == position.index) {
+                value = path.substring(start, end);
+            }
+            fragmentCount++;
+            start = PathFragments.nextStart(path, end);
+        }
+        Validation.equals(fragmentCount,
+                position.fragmentCount,
+                () -> new RequestMappingException(StringUtils.format(
+                        "The http request path does not match the path pattern. [pattern={0}, path={1}]",
+                        pathPattern,
+                        path)));
+        return value;
+    }
+
+    /**
+     * 获取路径变量在指定路径样式中的位置。
+     * <p>同一个获取器只属于一个处理器，其路径样式是固定的，因此只在第一次获取时解析路径样式，之后复用解析的结果。</p>
+     *
+     * @param pathPattern 表示路径样式的 {@link String}。
+     * @return 表示路径变量位置的 {@link VariablePosition}。
+     * @throws RequestMappingException 当路径样式中不存在当前路径变量时。
+     */
+    private VariablePosition getPosition(String pathPattern) {
+        VariablePosition position = this.position;
+        if (position != null && position.pathPattern.equals(pathPattern)) {
+            return position;
+        }
         List<String> partPatterns =
                 StringUtils.split(pathPattern, PATH_SEPARATOR, ArrayList::new, StringUtils::isNotBlank);
         int pathVariableIndex = this.findPathVariableIndex(partPatterns);
@@ -73,15 +110,9 @@ public class PathVariableFetcher implements SourceFetcher {
                         "No path variable in path pattern. [pattern={0}, variable={1}]",
                         pathPattern,
                         this.variableName)));
-        List<String> partPath =
-                StringUtils.split(request.path(), PATH_SEPARATOR, ArrayList::new, StringUtils::isNotBlank);
-        Validation.equals(partPath.size(),
-                partPatterns.size(),
-                () -> new RequestMappingException(StringUtils.format(
-                        "The http request path does not match the path pattern. [pattern={0}, path={1}]",
-                        pathPattern,
-                        request.path())));
-        return partPath.get(pathVariableIndex);
+        position = new VariablePosition(pathPattern, pathVariableIndex, partPatterns.size());
+        this.position = position;
+        return position;
     }
 
     private int findPathVariableIndex(List<String> partPatterns) {
@@ -93,4 +124,16 @@ public class PathVariableFetcher implements SourceFetcher {
         }
         return -1;
     }
+
+    private static class VariablePosition {
+        private final String pathPattern;
+        private final int index;
+        private final int fragmentCount;
+
+        private VariablePosition(String pathPattern, int index, int fragmentCount) {
+            this.pathPattern = pathPattern;
+            this.index = index;
+            this.fragmentCount = fragmentCount;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -12,6 +12,7 @@ import modelengine.fit.http.server.HttpClassicServerRequest;
 import modelengine.fit.http.server.HttpClassicServerResponse;
 import modelengine.fit.http.server.handler.PropertyValueMapper;
 import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.util.ReflectionUtils;
 
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
@@ -19,7 +20,8 @@ import java.util.Map;
 
 /**
  * 表示类型转换的 {@link PropertyValueMapper}。
- * <p>{@link TypeTransformationPropertyValueMapper} 会将获取到的数据转换成指定类型的数据。</p>
+ * <p>{@link TypeTransformationPropertyValueMapper} 会将获取到的数据转换成指定类型的数据。当目标类型是字符串或基本类型（及其包装类）
+ * 且获取到的数据已经是该类型时，直接返回数据，不再经过序列化和反序列化。</p>
  *
  * @author 季聿阶
  * @since 2022-08-31
@@ -27,6 +29,7 @@ import java.util.Map;
 public class TypeTransformationPropertyValueMapper implements PropertyValueMapper {
     private final PropertyValueMapper mapper;
     private final Type type;
+    private final Class<?> directType;
 
     /**
      * 通过另一个 Http 参数映射器、目标类型、数据是否必须的标记和数据默认值来实例化 {@link
@@ -40,13 +43,22 @@ public class TypeTransformationPropertyValueMapper implements PropertyValueMappe
     public TypeTransformationPropertyValueMapper(PropertyValueMapper mapper, Type type) {
         this.mapper = notNull(mapper, "The http mapper cannot be null.");
         this.type = notNull(type, "The target type cannot be null.");
+        this.directType = directTypeOf(type);
+    }
+
+    private static Class<?> directTypeOf(Type type) {
+        if (!(type instanceof Class)) {
+            return null;
+        }
+        Class<?> clazz = ReflectionUtils.ignorePrimitiveClass((Class<?>) type);
+        return clazz == String.class || ReflectionUtils.isPrimitiveWrapper(clazz) ? clazz : null;
     }
 
     @Override
     public Object map(HttpClassicServerRequest request, HttpClassicServerResponse response,
             Map<String, Object> context) {
         Object source = this.mapper.map(request, response, context);
-        if (source instanceof String && this.type == String.class) {
+        if (this.directType != null && this.directType.isInstance(source)) {
             return source;
         }
         if (source != null) {
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -24,6 +24,7 @@ import modelengine.fit.http.support.DefaultAttributeCollection;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
@@ -86,6 +87,14 @@ public class DefaultHttpClassicServerRequest extends AbstractHttpClassicRequest
         return this.entityBytesLoader.get();
     }
 
+    @Override
+    public InputStream entityStream() {
+        if (this.entityBytesLoader.isLoaded()) {
+            return new ByteArrayInputStream(this.entityBytes());
+        }
+        return this.serverRequest.getBodyInputStream();
+    }
+
     @Override
     public boolean isActive() {
         return this.serverRequest.isActive();
@@ -43,7 +43,9 @@ import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
@@ -59,6 +61,7 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
     private static final String FILENAME_PARAMETER_KEY = "filename";
     private static final String FILENAME_STAR_PARAMETER_KEY = "filename*";
     private static final String ZERO = "0";
+    private static final int BUFFER_SIZE = 8192;
 
     private final ServerResponse serverResponse;
     private Entity entity;
@@ -229,10 +232,18 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
             }
             this.serverResponse.writeStartLineAndHeaders();
             ReadableBinaryEntity readableBinaryEntity = cast(this.entity);
-            byte[] bytes = new byte[512];
-            int read;
-            while ((read = readableBinaryEntity.read(bytes)) > -1) {
-                this.serverResponse.writeBody(bytes, 0, read);
+            if (this.entity instanceof FileEntity && readableBinaryEntity.getInputStream() instanceof FileInputStream) {
+                // 文件输入流直接以文件通道的形式写出，由服务端实现决定是否使用零拷贝的方式传输。
+                FileInputStream fileInputStream = cast(readableBinaryEntity.getInputStream());
+                FileChannel fileChannel = fileInputStream.getChannel();
+                FileEntity actual = cast(this.entity);
+                this.serverResponse.writeBody(fileChannel, fileChannel.position(), actual.length());
+            } else {
+                byte[] bytes = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = readableBinaryEntity.read(bytes)) > -1) {
+                    this.serverResponse.writeBody(bytes, 0, read);
+                }
             }
         } else if (this.entity instanceof WritableBinaryEntity) {
             // WritableBinaryEntity 已经在用户代码层面进行了输出，因此此处什么都不需要处理。
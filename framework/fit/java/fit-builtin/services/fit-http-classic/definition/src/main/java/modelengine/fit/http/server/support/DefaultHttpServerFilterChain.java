@@ -12,13 +12,18 @@ import modelengine.fit.http.server.HttpHandler;
 import modelengine.fit.http.server.HttpServerFilter;
 import modelengine.fit.http.server.HttpServerFilterChain;
 import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.util.wildcard.PathPattern;
 import modelengine.fitframework.util.wildcard.Pattern;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * {@link HttpServerFilterChain} 的默认实现。
+ * <p>过滤器的匹配样式和不匹配样式在创建时预先编译，可以通过 {@link #template(HttpHandler)} 为每个 Http 请求处理器预先创建
+ * 模板，每次请求只需要从模板中创建新的过滤器链，而不必重复编译过滤器的路径样式。</p>
  *
  * @author 季聿阶
  * @since 2022-07-18
@@ -26,7 +31,7 @@ import java.util.Optional;
 public class DefaultHttpServerFilterChain implements HttpServerFilterChain {
     private static final char PATH_SEPARATOR = '/';
 
-    private final List<HttpServerFilter> filters;
+    private final List<CompiledFilter> filters;
     private int index;
     private final HttpHandler handler;
 
@@ -37,39 +42,99 @@ public class DefaultHttpServerFilterChain implements HttpServerFilterChain {
      * @throws IllegalArgumentException 当 {@code handler} 为 {@code null} 时。
      */
     public DefaultHttpServerFilterChain(HttpHandler handler) {
-        this.handler = Validation.notNull(handler, "The http handler cannot be null.");
-        this.filters = handler.preFilters();
+        this(Validation.notNull(handler, "The http handler cannot be null."), compile(handler.preFilters()));
+    }
+
+    private DefaultHttpServerFilterChain(HttpHandler handler, List<CompiledFilter> filters) {
+        this.handler = handler;
+        this.filters = filters;
         this.index = -1;
     }
 
+    /**
+     * 为指定的 Http 请求处理器创建过滤器链的模板。
+     * <p>模板中的过滤器及其路径样式在创建模板时确定，因此，只适用于前置过滤器列表以及过滤器的路径样式都不会变化的 Http 请求处理器。
+     * </p>
+     *
+     * @param handler 表示 Http 请求处理器的 {@link HttpHandler}。
+     * @return 表示每次调用都创建一个新的过滤器链的模板的 {@link Supplier}{@code <}{@link HttpServerFilterChain}{@code >}。
+     * @throws IllegalArgumentException 当 {@code handler} 为 {@code null} 时。
+     */
+    public static Supplier<HttpServerFilterChain> template(HttpHandler handler) {
+        Validation.notNull(handler, "The http handler cannot be null.");
+        List<CompiledFilter> filters = compile(handler.preFilters());
+        return () -> new DefaultHttpServerFilterChain(handler, filters);
+    }
+
+    private static List<CompiledFilter> compile(List<HttpServerFilter> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<CompiledFilter> compiledFilters = new ArrayList<>(filters.size());
+        for (HttpServerFilter filter : filters) {
+            compiledFilters.add(new CompiledFilter(filter));
+        }
+        return Collections.unmodifiableList(compiledFilters);
+    }
+
     @Override
     public void doFilter(HttpClassicServerRequest request, HttpClassicServerResponse response) {
-        Optional<HttpServerFilter> opNextFilter = this.findNextFilter(request);
-        if (opNextFilter.isPresent()) {
-            opNextFilter.get().doFilter(request, response, this);
+        HttpServerFilter nextFilter = this.findNextFilter(request);
+        if (nextFilter != null) {
+            nextFilter.doFilter(request, response, this);
         } else {
             this.handler.handle(request, response);
         }
     }
 
-    private Optional<HttpServerFilter> findNextFilter(HttpClassicServerRequest request) {
+    private HttpServerFilter findNextFilter(HttpClassicServerRequest request) {
         for (int i = this.index + 1; i < this.filters.size(); i++) {
-            HttpServerFilter nextFilter = this.filters.get(i);
-            boolean isMismatch = nextFilter.mismatchPatterns()
-                    .stream()
-                    .map(pattern -> Pattern.forPath(pattern, PATH_SEPARATOR))
-                    .anyMatch(pattern -> pattern.matches(request.path()));
-            if (isMismatch) {
-                continue;
+            CompiledFilter nextFilter = this.filters.get(i);
+            if (nextFilter.matches(request.path())) {
+                this.index = i;
+                return nextFilter.filter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 表示预先编译了路径样式的过滤器。
+     */
+    private static class CompiledFilter {
+        private final HttpServerFilter filter;
+        private final List<PathPattern> matchPatterns;
+        private final List<PathPattern> mismatchPatterns;
+
+        private CompiledFilter(HttpServerFilter filter) {
+            this.filter = filter;
+            this.matchPatterns = compile(filter.matchPatterns());
+            this.mismatchPatterns = compile(filter.mismatchPatterns());
+        }
+
+        private static List<PathPattern> compile(List<String> patterns) {
+            if (patterns == null || patterns.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<PathPattern> compiled = new ArrayList<>(patterns.size());
+            for (String pattern : patterns) {
+                compiled.add(Pattern.forPath(pattern, PATH_SEPARATOR));
+            }
+            return compiled;
+        }
+
+        private boolean matches(String path) {
+            for (PathPattern pattern : this.mismatchPatterns) {
+                if (pattern.matches(path)) {
+                    return false;
+                }
             }
-            for (String pattern : nextFilter.matchPatterns()) {
-                boolean matches = Pattern.forPath(pattern, PATH_SEPARATOR).matches(request.path());
-                if (matches) {
-                    this.index = i;
-                    return Optional.of(nextFilter);
+            for (PathPattern pattern : this.matchPatterns) {
+                if (pattern.matches(path)) {
+                    return true;
                 }
             }
+            return false;
         }
-        return Optional.empty();
     }
 }
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -65,4 +66,44 @@ public class DefaultMappingTreeTest {
             assertThat(search).isNotEmpty().get().isEqualTo(DefaultMappingTreeTest.this.handler);
         }
     }
+
+    @Nested
+    @DisplayName("注册了多个路径后")
+    class AfterRegisteringMultiplePatterns {
+        private final HttpHandler parentHandler = mock(HttpHandler.class);
+        private final HttpHandler wildHandler = mock(HttpHandler.class);
+
+        @BeforeEach
+        void setup() {
+            DefaultMappingTreeTest.this.mappingTree.register("/a", this.parentHandler);
+            DefaultMappingTreeTest.this.mappingTree.register("/a/b", DefaultMappingTreeTest.this.handler);
+            DefaultMappingTreeTest.this.mappingTree.register("/a/*", this.wildHandler);
+        }
+
+        @ParameterizedTest(name = "{index}: 搜索路径为 `{0}`")
+        @DisplayName("忽略重复的分隔符和空白的路径段")
+        @ValueSource(strings = {"/a/b", "//a//b/", "/a/ /b", " /a/b "})
+        void shouldIgnoreEmptyFragments(String path) {
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(path);
+            assertThat(search).contains(DefaultMappingTreeTest.this.handler);
+        }
+
+        @Test
+        @DisplayName("精确匹配优先于通配符匹配")
+        void shouldPreferExactFragment() {
+            assertThat(DefaultMappingTreeTest.this.mappingTree.search("/a/c")).contains(this.wildHandler);
+            assertThat(DefaultMappingTreeTest.this.mappingTree.search("/a")).contains(this.parentHandler);
+            assertThat(DefaultMappingTreeTest.this.mappingTree.getAllHandlers()).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("取消注册子路径后，父路径的处理器仍然可以搜索到")
+        void shouldKeepParentHandlerAfterUnregisteringChild() {
+            DefaultMappingTreeTest.this.mappingTree.unregister("/a/b");
+            DefaultMappingTreeTest.this.mappingTree.unregister("/a/*");
+            assertThat(DefaultMappingTreeTest.this.mappingTree.search("/a")).contains(this.parentHandler);
+            assertThat(DefaultMappingTreeTest.this.mappingTree.search("/a/b")).isEmpty();
+            assertThat(DefaultMappingTreeTest.this.mappingTree.getAllHandlers()).containsExactly(this.parentHandler);
+        }
+    }
 }
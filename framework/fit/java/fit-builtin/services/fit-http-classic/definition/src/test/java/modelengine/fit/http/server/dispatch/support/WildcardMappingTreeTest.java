@@ -0,0 +1,116 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.dispatch.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fit.http.server.dispatch.MappingTree;
+import modelengine.fitframework.util.wildcard.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * {@link WildcardMappingTree} 的单元测试。
+ * <p>匹配结果与逐个使用 {@link Pattern#forPath(String, char)} 按注册顺序进行匹配的结果进行比对。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 WildcardMappingTree")
+public class WildcardMappingTreeTest {
+    private static final String[] PATTERN_FRAGMENTS = {"a", "b", "c", "*", "**", "a*", "?b", "*c*", "a?c"};
+    private static final String[] PATH_FRAGMENTS = {"a", "b", "c", "ab", "cb", "ac", "abc", "bcb"};
+
+    private MappingTree<String> mappingTree;
+
+    @BeforeEach
+    void setup() {
+        this.mappingTree = new WildcardMappingTree<>();
+    }
+
+    @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+    @DisplayName("单个路径样式的匹配结果与路径匹配模式一致")
+    @CsvSource({
+            "/**,/", "/**,/a/b/c", "/a/**,/a", "/a/**,/a/b/c", "/a/**,/b/a", "/**/c,/c", "/**/c,/a/b/c",
+            "/**/c,/a/b/c/d", "/a/**/c,/a/c", "/a/**/c,/a/b/b/c", "/a/**/*/c,/a/c", "/a/**/*/c,/a/b/c",
+            "/a*/**,/abc/d", "/a*/**,/b/d", "/?b/**,/ab", "/?b/**,/abc", "/*c*/**/a?c,/bcb/x/abc",
+            "/**/**,/a", "/a//**,/a/b", "/a/**,/a//b", "/**/a*b*c,/x/aXbYc"
+    })
+    void shouldMatchSameAsPathPattern(String pathPattern, String path) {
+        this.mappingTree.register(pathPattern, pathPattern);
+        boolean expected = Pattern.forPath(pathPattern, '/').matches(path);
+        assertThat(this.mappingTree.search(path).isPresent()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("随机生成的路径样式集合的匹配结果与按注册顺序逐个匹配的结果一致")
+    void shouldMatchSameAsSequentialPathPatternsForRandomRoutes() {
+        Random random = new Random(20250901L);
+        for (int round = 0; round < 50; round++) {
+            MappingTree<String> tree = new WildcardMappingTree<>();
+            Map<String, String> routes = new LinkedHashMap<>();
+            for (int i = 0; i < 40; i++) {
+                String pathPattern = randomPath(random, PATTERN_FRAGMENTS, 5);
+                if (!pathPattern.contains("**") || routes.containsKey(pathPattern)) {
+                    continue;
+                }
+                routes.put(pathPattern, pathPattern);
+                tree.register(pathPattern, pathPattern);
+            }
+            for (int i = 0; i < 200; i++) {
+                String path = randomPath(random, PATH_FRAGMENTS, 6);
+                assertThat(tree.search(path)).as("path=%s, routes=%s", path, routes.keySet())
+                        .isEqualTo(searchSequentially(routes, path));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("多个路径样式都能匹配时，返回最先注册的处理器，重复注册不改变顺序")
+    void shouldReturnEarliestRegisteredHandler() {
+        this.mappingTree.register("/**", "all");
+        this.mappingTree.register("/a/**", "a");
+        assertThat(this.mappingTree.search("/a/b")).contains("all");
+
+        assertThat(this.mappingTree.register("/**", "all2")).contains("all");
+        assertThat(this.mappingTree.search("/a/b")).contains("all2");
+        assertThat(this.mappingTree.getAllHandlers()).containsExactly("all2", "a");
+
+        this.mappingTree.unregister("/**");
+        assertThat(this.mappingTree.search("/a/b")).contains("a");
+        assertThat(this.mappingTree.search("/b")).isEmpty();
+        assertThat(this.mappingTree.getAllHandlers()).containsExactly("a");
+    }
+
+    private static Optional<String> searchSequentially(Map<String, String> routes, String path) {
+        for (Map.Entry<String, String> entry : routes.entrySet()) {
+            if (Pattern.forPath(entry.getKey(), '/').matches(path)) {
+                return Optional.of(entry.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String randomPath(Random random, String[] fragments, int maxLength) {
+        int length = random.nextInt(maxLength) + 1;
+        StringJoiner joiner = new StringJoiner("/", "/", "");
+        for (int i = 0; i < length; i++) {
+            joiner.add(fragments[random.nextInt(fragments.length)]);
+        }
+        return joiner.toString();
+    }
+}
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -69,6 +69,15 @@ class TypeTransformationPropertyValueMapperTest {
                 IllegalStateException.class);
     }
 
+    @Test
+    @DisplayName("当获取到的数据已经是目标的基本类型时，不经过序列化直接返回")
+    void givenValueOfPrimitiveTypeThenReturnDirectly() {
+        PropertyValueMapper mapper = (request, response, context) -> 5;
+        TypeTransformationPropertyValueMapper typeTransformationHttpMapper =
+                new TypeTransformationPropertyValueMapper(mapper, int.class);
+        assertThat(typeTransformationHttpMapper.map(this.request, null, null)).isEqualTo(5);
+    }
+
     private TypeTransformationPropertyValueMapper getTypeTransformationParameterMapper(Class<?> clazz,
             SourceFetcher sourceFetcher) {
         PropertyValueMapper mapper = new UniqueSourcePropertyValueMapper(sourceFetcher, false);
@@ -10,13 +10,19 @@ import static modelengine.fit.http.protocol.MimeType.TEXT_PLAIN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import modelengine.fit.http.HttpMessage;
 import modelengine.fit.http.HttpResource;
 import modelengine.fit.http.Serializers;
 import modelengine.fit.http.entity.Entity;
+import modelengine.fit.http.entity.FileEntity;
 import modelengine.fit.http.entity.TextEntity;
 import modelengine.fit.http.entity.TextEvent;
 import modelengine.fit.http.entity.TextEventStreamEntity;
@@ -32,9 +38,14 @@ import modelengine.fitframework.util.ObjectUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 
 /**
@@ -113,4 +124,22 @@ class DefaultHttpClassicServerResponseTest {
                 catchThrowableOfType(InternalServerErrorException.class, actualResponse::send);
         assertThat(cause).isNotNull().cause().isNotNull().hasMessage("Error");
     }
+
+    @Test
+    @DisplayName("当文件消息体来自文件输入流时，以文件通道的形式写出")
+    void shouldWriteFileChannelWhenSendFileEntity(@TempDir Path tempDir) throws IOException {
+        Path file = Files.write(tempDir.resolve("a.txt"), "hello".getBytes(StandardCharsets.UTF_8));
+        ServerResponse serverResponse = mock(ServerResponse.class);
+        when(serverResponse.startLine()).thenReturn(mock(ConfigurableStatusLine.class));
+        when(serverResponse.headers()).thenReturn(mock(ConfigurableMessageHeaders.class));
+        DefaultHttpClassicServerResponse actualResponse =
+                new DefaultHttpClassicServerResponse(mock(HttpResource.class), serverResponse);
+        try (FileInputStream in = new FileInputStream(file.toFile())) {
+            actualResponse.entity(FileEntity.createAttachment(mock(HttpMessage.class), "a.txt", in, 5));
+            actualResponse.send();
+            verify(serverResponse).writeBody(in.getChannel(), 0L, 5L);
+            verify(serverResponse, never()).writeBody(any(byte[].class), anyInt(), anyInt());
+            verify(serverResponse).flush();
+        }
+    }
 }
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.when;
 
 import modelengine.fit.http.server.HttpClassicServerRequest;
 import modelengine.fit.http.server.HttpServerFilter;
+import modelengine.fit.http.server.HttpServerFilterChain;
 import modelengine.fit.http.server.handler.AbstractHttpHandler;
 
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 表示 {@link DefaultHttpServerFilterChain} 的单元测试。
@@ -56,4 +58,21 @@ class DefaultHttpServerFilterChainTest {
         filterChain.doFilter(request, null);
         verify(serverFilter2, times(1)).doFilter(any(), any(), any());
     }
+
+    @Test
+    @DisplayName("当通过模板创建过滤器链时，过滤器的路径样式只在创建模板时编译一次")
+    void givenTemplateThenCompilePatternsOnce() {
+        final AbstractHttpHandler httpHandler = mock(AbstractHttpHandler.class);
+        final HttpServerFilter serverFilter = mock(HttpServerFilter.class);
+        when(serverFilter.matchPatterns()).thenReturn(Collections.singletonList("/a/**"));
+        when(httpHandler.preFilters()).thenReturn(Collections.singletonList(serverFilter));
+        final Supplier<HttpServerFilterChain> template = DefaultHttpServerFilterChain.template(httpHandler);
+        final HttpClassicServerRequest request = mock(HttpClassicServerRequest.class);
+        when(request.path()).thenReturn("/a/b/c");
+        template.get().doFilter(request, null);
+        template.get().doFilter(request, null);
+        verify(serverFilter, times(2)).doFilter(any(), any(), any());
+        verify(serverFilter, times(1)).matchPatterns();
+        verify(httpHandler, times(1)).preFilters();
+    }
 }
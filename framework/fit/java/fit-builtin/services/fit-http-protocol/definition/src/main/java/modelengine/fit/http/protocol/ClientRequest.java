@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -9,6 +9,7 @@ package modelengine.fit.http.protocol;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示客户端的 Http 请求。
@@ -72,4 +73,18 @@ public interface ClientRequest extends Message<RequestLine, ConfigurableMessageH
      * @throws modelengine.fitframework.exception.TimeoutException 当发生超时异常时。
      */
     ClientResponse readResponse() throws IOException;
+
+    /**
+     * 异步读取 Http 响应。
+     * <p>默认在调用线程中同步读取，支持非阻塞调用的实现需要覆盖该方法。</p>
+     *
+     * @return 表示异步读取的 Http 响应的 {@link CompletableFuture}{@code <}{@link ClientResponse}{@code >}。
+     */
+    default CompletableFuture<ClientResponse> readResponseAsync() {
+        try {
+            return CompletableFuture.completedFuture(this.readResponse());
+        } catch (IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
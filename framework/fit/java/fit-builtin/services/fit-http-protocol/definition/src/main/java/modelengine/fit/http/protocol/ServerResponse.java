@@ -6,10 +6,14 @@
 
 package modelengine.fit.http.protocol;
 
+import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * Represents an HTTP response on the server side.
@@ -60,6 +64,38 @@ public interface ServerResponse
      */
     void writeBody(byte[] bytes, int off, int len) throws IOException;
 
+    /**
+     * Writes {@code count} bytes of the specified file channel, starting at {@code position}, to the HTTP message body.
+     *
+     * <p>Implementations may transfer the file content asynchronously without copying it through the heap. The
+     * channel is still owned by the caller, it must stay open until {@link #close()} returns. The default
+     * implementation reads the channel with positional reads and writes the data by
+     * {@link #writeBody(byte[], int, int)}, so the position of the channel is not changed.</p>
+     *
+     * @param channel The file channel containing the data to be written.
+     * @param position The position in the file channel to start reading from.
+     * @param count The number of bytes to write.
+     * @throws IOException If an I/O error occurs, or the file ends before {@code count} bytes are read.
+     * @throws IllegalArgumentException If {@code channel} is null, or {@code position} or {@code count} is negative.
+     */
+    default void writeBody(FileChannel channel, long position, long count) throws IOException {
+        notNull(channel, "The file channel to write cannot be null.");
+        greaterThanOrEquals(position, 0, "The file position cannot be negative. [position={0}]", position);
+        greaterThanOrEquals(count, 0, "The count of bytes to write cannot be negative. [count={0}]", count);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(count, 8192));
+        long written = 0;
+        while (written < count) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), count - written));
+            int read = channel.read(buffer, position + written);
+            if (read < 0) {
+                throw new EOFException("The file ends before all bytes are written.");
+            }
+            this.writeBody(buffer.array(), 0, read);
+            written += read;
+        }
+    }
+
     /**
      * Forces any buffered data to be written out immediately and sends the response end marker.
      *
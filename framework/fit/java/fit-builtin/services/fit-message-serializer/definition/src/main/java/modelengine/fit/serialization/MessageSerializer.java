@@ -6,6 +6,11 @@
 
 package modelengine.fit.serialization;
 
+import modelengine.fitframework.serialization.SerializationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
@@ -26,6 +31,24 @@ public interface MessageSerializer {
      */
     byte[] serializeRequest(Type[] argumentTypes, Object[] arguments);
 
+    /**
+     * 将调用的请求信息序列化到输出流中。
+     * <p>默认实现调用 {@link #serializeRequest(Type[], Object[])} 后写入输出流，支持流式序列化的序列化器应该重写该方法，
+     * 直接将参数写入输出流，避免生成中间的二进制序列。</p>
+     *
+     * @param argumentTypes 表示请求参数类型列表的 {@link Type}{@code []}。
+     * @param arguments 表示请求参数列表的 {@link Object}{@code []}。
+     * @param out 表示待写入的输出流的 {@link OutputStream}。
+     * @throws SerializationException 当写入输出流失败时。
+     */
+    default void serializeRequest(Type[] argumentTypes, Object[] arguments, OutputStream out) {
+        try {
+            out.write(this.serializeRequest(argumentTypes, arguments));
+        } catch (IOException e) {
+            throw new SerializationException("Failed to write request data.", e);
+        }
+    }
+
     /**
      * 从二进制序列中反序列化出调用的请求参数列表。
      *
@@ -35,6 +58,24 @@ public interface MessageSerializer {
      */
     Object[] deserializeRequest(Type[] argumentTypes, byte[] serialized);
 
+    /**
+     * 从输入流中反序列化出调用的请求参数列表。
+     * <p>默认实现读取输入流中的全部内容后调用 {@link #deserializeRequest(Type[], byte[])}，支持流式解析的序列化器应该
+     * 重写该方法，直接从输入流中解析参数，避免将完整的消息体复制到内存中。</p>
+     *
+     * @param argumentTypes 表示请求参数类型列表的 {@link Type}{@code []}。
+     * @param in 表示包含请求参数信息的输入流的 {@link InputStream}。
+     * @return 表示请求参数列表的 {@link Object}{@code []}。
+     * @throws SerializationException 当读取输入流失败时。
+     */
+    default Object[] deserializeRequest(Type[] argumentTypes, InputStream in) {
+        try {
+            return this.deserializeRequest(argumentTypes, in.readAllBytes());
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read request data.", e);
+        }
+    }
+
     /**
      * 将调用的响应信息序列化成二进制序列。
      *
@@ -45,6 +86,24 @@ public interface MessageSerializer {
      */
     <T> byte[] serializeResponse(Type returnType, T returnData);
 
+    /**
+     * 将调用的响应信息序列化到输出流中。
+     * <p>默认实现调用 {@link #serializeResponse(Type, Object)} 后写入输出流，支持流式序列化的序列化器应该重写该方法。</p>
+     *
+     * @param returnType 表示响应数据类型的 {@link Type}。
+     * @param returnData 表示响应数据的 {@link T}。
+     * @param out 表示待写入的输出流的 {@link OutputStream}。
+     * @param <T> 表示响应数据类型的 {@link T}。
+     * @throws SerializationException 当写入输出流失败时。
+     */
+    default <T> void serializeResponse(Type returnType, T returnData, OutputStream out) {
+        try {
+            out.write(this.serializeResponse(returnType, returnData));
+        } catch (IOException e) {
+            throw new SerializationException("Failed to write response data.", e);
+        }
+    }
+
     /**
      * 从二进制序列中反序列化出调用的响应信息。
      *
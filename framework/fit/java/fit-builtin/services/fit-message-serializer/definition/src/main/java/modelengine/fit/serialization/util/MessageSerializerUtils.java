@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -14,6 +14,9 @@ import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -45,8 +48,29 @@ public class MessageSerializerUtils {
      * @param config 表示指定配置的 {@link Config}。
      */
     public static void isSupportedLength(long length, Config config) {
-        long largeDataSize = config.keys().contains(Constants.LARGE_DATA_SIZE) ? config.get(
-                Constants.LARGE_DATA_SIZE, Long.class) : 0L;
+        checkLength(length, getLargeDataSize(config));
+    }
+
+    /**
+     * 包装输入流，使得从中读取的数据超过反序列化数据大小阈值时抛出异常。
+     * <p>当没有配置阈值时，直接返回原始的输入流。</p>
+     *
+     * @param in 表示待包装的输入流的 {@link InputStream}。
+     * @param config 表示指定配置的 {@link Config}。
+     * @return 表示包装后的输入流的 {@link InputStream}。
+     */
+    public static InputStream limitLength(InputStream in, Config config) {
+        long largeDataSize = getLargeDataSize(config);
+        return largeDataSize == 0L ? in : new LengthLimitedInputStream(in, largeDataSize);
+    }
+
+    private static long getLargeDataSize(Config config) {
+        // 配置的键会被规范化，因此不能通过 keys() 判断是否存在。
+        Long largeDataSize = config.get(Constants.LARGE_DATA_SIZE, Long.class);
+        return largeDataSize == null ? 0L : largeDataSize;
+    }
+
+    private static void checkLength(long length, long largeDataSize) {
         if (largeDataSize != 0L && length > largeDataSize) {
             throw new SerializationException(StringUtils.format("The deserialized data size exceeds the threshold. "
                     + "[largeDataSize={0}]", largeDataSize));
@@ -59,4 +83,52 @@ public class MessageSerializerUtils {
                 .map(BeanFactory::<MessageSerializer>get)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 表示在读取的数据超过阈值时抛出异常的输入流。
+     */
+    private static class LengthLimitedInputStream extends FilterInputStream {
+        private final long largeDataSize;
+        private long count;
+
+        LengthLimitedInputStream(InputStream in, long largeDataSize) {
+            super(in);
+            this.largeDataSize = largeDataSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                this.count(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) throws IOException {
+            int read = super.read(bytes, off, len);
+            if (read > 0) {
+                this.count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            this.count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long read) {
+            this.count += read;
+            checkLength(this.count, this.largeDataSize);
+        }
+    }
 }
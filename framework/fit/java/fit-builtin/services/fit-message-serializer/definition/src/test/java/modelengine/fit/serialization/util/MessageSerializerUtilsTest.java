@@ -0,0 +1,58 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fit.serialization.Constants;
+import modelengine.fitframework.conf.Config;
+import modelengine.fitframework.serialization.SerializationException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 表示 {@link MessageSerializerUtils} 的单元测试。
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 MessageSerializerUtils")
+public class MessageSerializerUtilsTest {
+    private final Config limited = Config.fromReadonlyMap("limited", Map.of(Constants.LARGE_DATA_SIZE, 1024L));
+    private final Config unlimited = Config.fromReadonlyMap("unlimited", Map.of());
+
+    @Test
+    @DisplayName("当配置了反序列化数据大小阈值时，超过阈值的长度抛出异常")
+    void shouldThrowWhenLengthExceedsConfiguredLargeDataSize() {
+        assertThatNoException().isThrownBy(() -> MessageSerializerUtils.isSupportedLength(1024L, this.limited));
+        assertThatThrownBy(() -> MessageSerializerUtils.isSupportedLength(1025L, this.limited)).isInstanceOf(
+                SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("当配置了反序列化数据大小阈值时，从包装的输入流中读取超过阈值的数据抛出异常")
+    void shouldThrowWhenStreamExceedsConfiguredLargeDataSize() {
+        InputStream in = MessageSerializerUtils.limitLength(new ByteArrayInputStream(new byte[2048]), this.limited);
+        assertThatThrownBy(in::readAllBytes).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("当没有配置反序列化数据大小阈值时，不限制数据长度")
+    void shouldNotLimitWhenLargeDataSizeIsNotConfigured() {
+        InputStream in = new ByteArrayInputStream(new byte[2048]);
+        assertThat(MessageSerializerUtils.limitLength(in, this.unlimited)).isSameAs(in);
+        assertThatNoException().isThrownBy(() -> MessageSerializerUtils.isSupportedLength(Long.MAX_VALUE,
+                this.unlimited));
+    }
+}
@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -33,4 +33,14 @@ public interface Registry {
      * @return 表示指定服务实现的地址列表的 {@link List}{@code <}{@link Target}{@code >}。
      */
     List<Target> getFitableTargets(UniqueFitableId id);
+
+    /**
+     * 获取本地缓存的服务地址信息的版本。
+     * <p>本地缓存的服务地址信息每次发生变化时，版本都会增加。返回负数表示不支持版本。</p>
+     *
+     * @return 表示本地缓存的服务地址信息的版本的 {@code long}，负数表示不支持版本。
+     */
+    default long version() {
+        return -1;
+    }
 }
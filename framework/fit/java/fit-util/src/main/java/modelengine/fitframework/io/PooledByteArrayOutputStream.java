@@ -0,0 +1,230 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.io;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 表示可以重复使用底层字节数组的输出流。
+ * <p>每个线程缓存一个字节数组，通过 {@link #acquire()} 获取实例时优先使用当前线程缓存的字节数组，在 {@link #close()} 时将字节数组
+ * 归还到当前线程。容量超过 {@link #MAX_RETAINED_CAPACITY} 的字节数组不再缓存，避免一次超大的消息长期占用内存。</p>
+ * <p>实例不是线程安全的，且关闭后不能继续使用。通过 {@link #toInputStream()} 获取的输入流持有当前实例，关闭输入流时释放当前实例，
+ * 因此可以将序列化的结果直接作为消息体发送，而不需要再复制一份字节数组。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+public final class PooledByteArrayOutputStream extends OutputStream {
+    /** 表示新创建的字节数组的容量。 */
+    public static final int INITIAL_CAPACITY = 8192;
+
+    /** 表示线程缓存的字节数组的最大容量。 */
+    public static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final ThreadLocal<byte[]> CACHE = new ThreadLocal<>();
+
+    private byte[] buffer;
+    private int count;
+
+    private PooledByteArrayOutputStream(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * 获取一个输出流实例，使用完毕后需要关闭。
+     *
+     * @return 表示输出流实例的 {@link PooledByteArrayOutputStream}。
+     */
+    public static PooledByteArrayOutputStream acquire() {
+        byte[] cached = CACHE.get();
+        if (cached == null) {
+            return new PooledByteArrayOutputStream(new byte[INITIAL_CAPACITY]);
+        }
+        CACHE.set(null);
+        return new PooledByteArrayOutputStream(cached);
+    }
+
+    @Override
+    public void write(int b) {
+        this.ensureCapacity(this.count + 1);
+        this.buffer[this.count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int off, int len) {
+        Objects.checkFromIndexSize(off, len, bytes.length);
+        this.ensureCapacity(this.count + len);
+        System.arraycopy(bytes, off, this.buffer, this.count, len);
+        this.count += len;
+    }
+
+    /**
+     * 获取已经写入的字节数。
+     *
+     * @return 表示已经写入的字节数的 {@code int}。
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * 清空已经写入的内容，保留底层字节数组。
+     */
+    public void reset() {
+        this.count = 0;
+    }
+
+    /**
+     * 将已经写入的内容写入指定的输出流。
+     *
+     * @param out 表示指定输出流的 {@link OutputStream}。
+     * @throws IOException 当写入输出流失败时。
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        notNull(out, "The output stream cannot be null.");
+        out.write(this.buffer(), 0, this.count);
+    }
+
+    /**
+     * 复制已经写入的内容。
+     *
+     * @return 表示已经写入的内容的 {@code byte[]}。
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer(), this.count);
+    }
+
+    /**
+     * 获取读取已经写入的内容的输入流。
+     * <p>输入流直接读取底层字节数组，关闭输入流时关闭当前输出流。获取输入流后不能再向当前输出流写入内容。</p>
+     *
+     * @return 表示读取已经写入的内容的输入流的 {@link InputStream}。
+     */
+    public InputStream toInputStream() {
+        this.buffer();
+        return new View();
+    }
+
+    /**
+     * 获取向当前实例写入内容的输出流，关闭该输出流不会释放当前实例。
+     * <p>将当前实例交给可能关闭输出流的第三方实现写入时使用，当前实例仍然由获取它的一方负责关闭。</p>
+     *
+     * @return 表示向当前实例写入内容的输出流的 {@link OutputStream}。
+     */
+    public OutputStream unclosable() {
+        this.buffer();
+        return new UnclosableWriter();
+    }
+
+    /**
+     * 获取底层字节数组的容量。
+     *
+     * @return 表示底层字节数组的容量的 {@code int}。
+     */
+    int capacity() {
+        return this.buffer().length;
+    }
+
+    /**
+     * 释放当前实例，将底层字节数组归还到当前线程。重复关闭不会产生影响。
+     */
+    @Override
+    public void close() {
+        byte[] released = this.buffer;
+        if (released == null) {
+            return;
+        }
+        this.buffer = null;
+        this.count = 0;
+        if (released.length <= MAX_RETAINED_CAPACITY && CACHE.get() == null) {
+            CACHE.set(released);
+        }
+    }
+
+    private byte[] buffer() {
+        if (this.buffer == null) {
+            throw new IllegalStateException("The pooled byte array output stream has been closed.");
+        }
+        return this.buffer;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        byte[] current = this.buffer();
+        if (minCapacity <= current.length) {
+            return;
+        }
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("The required capacity of pooled byte array output stream is too large.");
+        }
+        int capacity = (int) Math.min(Math.max((long) current.length << 1, minCapacity), MAX_CAPACITY);
+        this.buffer = Arrays.copyOf(current, capacity);
+    }
+
+    private final class UnclosableWriter extends OutputStream {
+        @Override
+        public void write(int b) {
+            PooledByteArrayOutputStream.this.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int off, int len) {
+            PooledByteArrayOutputStream.this.write(bytes, off, len);
+        }
+
+        @Override
+        public void close() {
+            // 输出流由获取当前实例的一方负责关闭，这里不释放当前实例。
+        }
+    }
+
+    private final class View extends InputStream {
+        private int position;
+
+        @Override
+        public int read() {
+            byte[] bytes = PooledByteArrayOutputStream.this.buffer();
+            if (this.position >= PooledByteArrayOutputStream.this.count) {
+                return -1;
+            }
+            return Byte.toUnsignedInt(bytes[this.position++]);
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            Objects.checkFromIndexSize(off, len, bytes.length);
+            byte[] source = PooledByteArrayOutputStream.this.buffer();
+            int available = PooledByteArrayOutputStream.this.count - this.position;
+            if (len == 0) {
+                return 0;
+            }
+            if (available <= 0) {
+                return -1;
+            }
+            int actual = Math.min(len, available);
+            System.arraycopy(source, this.position, bytes, off, actual);
+            this.position += actual;
+            return actual;
+        }
+
+        @Override
+        public int available() {
+            return Math.max(PooledByteArrayOutputStream.this.count - this.position, 0);
+        }
+
+        @Override
+        public void close() {
+            PooledByteArrayOutputStream.this.close();
+        }
+    }
+}
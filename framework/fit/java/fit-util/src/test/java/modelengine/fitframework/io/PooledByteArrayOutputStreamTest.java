@@ -0,0 +1,169 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 表示 {@link PooledByteArrayOutputStream} 的单元测试。
+ * <p>通过 {@link com.sun.management.ThreadMXBean} 统计当前线程分配的字节数，验证缓冲区被重复使用。</p>
+ *
+ * @author 季聿阶
+ * @since 2025-09-01
+ */
+@DisplayName("测试 PooledByteArrayOutputStream 类")
+class PooledByteArrayOutputStreamTest {
+    private static final int PAYLOAD_SIZE = 32 * 1024;
+    private static final int TIMES = 1000;
+
+    private static byte[] payload(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static long allocatedBytes(Runnable action) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long start = bean.getThreadAllocatedBytes(threadId);
+        action.run();
+        return bean.getThreadAllocatedBytes(threadId) - start;
+    }
+
+    private static void writePooled(byte[] payload) {
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
+            out.write(payload);
+            out.writeTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeFresh(byte[] payload) {
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            out.write(payload);
+            OutputStream.nullOutputStream().write(out.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("写入的内容可以通过字节数组、输出流和输入流获取")
+    void shouldReadWrittenContent() throws IOException {
+        byte[] payload = payload(PooledByteArrayOutputStream.INITIAL_CAPACITY * 3 + 1);
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
+            out.write(payload[0]);
+            out.write(payload, 1, payload.length - 1);
+            assertThat(out.size()).isEqualTo(payload.length);
+            assertThat(out.toByteArray()).isEqualTo(payload);
+            ByteArrayOutputStream copied = new ByteArrayOutputStream();
+            out.writeTo(copied);
+            assertThat(copied.toByteArray()).isEqualTo(payload);
+            try (InputStream in = out.toInputStream()) {
+                assertThat(in.available()).isEqualTo(payload.length);
+                assertThat(in.readAllBytes()).isEqualTo(payload);
+                assertThat(in.read()).isEqualTo(-1);
+            }
+            assertThatThrownBy(out::toByteArray).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("关闭后再次获取时，重复使用当前线程缓存的字节数组")
+    void shouldReuseBufferInSameThread() {
+        int capacity;
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
+            out.write(payload(PAYLOAD_SIZE), 0, PAYLOAD_SIZE);
+            capacity = out.capacity();
+        }
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
+            assertThat(out.size()).isEqualTo(0);
+            assertThat(out.capacity()).isEqualTo(capacity).isGreaterThan(PooledByteArrayOutputStream.INITIAL_CAPACITY);
+        }
+    }
+
+    @Test
+    @DisplayName("超过最大缓存容量的字节数组在关闭后不再缓存")
+    void shouldNotRetainHugeBuffer() {
+        int size = PooledByteArrayOutputStream.MAX_RETAINED_CAPACITY * 2;
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
+            out.write(payload(size), 0, size);
+            assertThat(out.capacity()).isGreaterThan(PooledByteArrayOutputStream.MAX_RETAINED_CAPACITY);
+        }
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
+            assertThat(out.capacity()).isLessThanOrEqualTo(PooledByteArrayOutputStream.MAX_RETAINED_CAPACITY);
+        }
+    }
+
+    @Test
+    @DisplayName("关闭后不能继续写入，重复关闭不会影响其他实例")
+    void shouldRejectWriteAfterClose() {
+        PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire();
+        out.close();
+        try (PooledByteArrayOutputStream another = PooledByteArrayOutputStream.acquire()) {
+            out.close();
+            another.write(1);
+            try (PooledByteArrayOutputStream third = PooledByteArrayOutputStream.acquire()) {
+                third.write(2);
+                assertThat(another.toByteArray()).containsExactly(1);
+            }
+        }
+        assertThatThrownBy(() -> out.write(1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(out::toInputStream).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("关闭不可关闭的输出流时，不释放当前实例")
+    void shouldKeepBufferWhenUnclosableClosed() throws IOException {
+        try (PooledByteArrayOutputStream out = PooledByteArrayOutputStream.acquire()) {
+            OutputStream unclosable = out.unclosable();
+            unclosable.write(1);
+            unclosable.write(new byte[] {2, 3}, 0, 2);
+            unclosable.close();
+            out.write(4);
+            assertThat(out.toByteArray()).containsExactly(1, 2, 3, 4);
+        }
+    }
+
+    @Test
+    @DisplayName("重复序列化时几乎不分配新的字节数组")
+    void shouldAllocateFarLessThanFreshBuffers() {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+        byte[] payload = payload(PAYLOAD_SIZE);
+        for (int i = 0; i < TIMES; i++) {
+            writePooled(payload);
+            writeFresh(payload);
+        }
+        long pooled = allocatedBytes(() -> {
+            for (int i = 0; i < TIMES; i++) {
+                writePooled(payload);
+            }
+        });
+        long fresh = allocatedBytes(() -> {
+            for (int i = 0; i < TIMES; i++) {
+                writeFresh(payload);
+            }
+        });
+        assertThat(fresh).isGreaterThan((long) PAYLOAD_SIZE * TIMES);
+        assertThat(pooled).isLessThan((long) PAYLOAD_SIZE * TIMES / 10);
+    }
+}
@@ -0,0 +1,160 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.benchmarks;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextIndexedMemoRepo;
+import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMemoRepo;
+import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextRepo;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FlowContextRepo} 内存实现的查询与写入基准测试。
+ * <p>仓库中预先存放 {@code contextCount} 个分布在多个节点位置上的上下文，对比 {@link FlowContextMemoRepo}
+ * 与 {@link FlowContextIndexedMemoRepo} 在节点拉取数据时常用查询上的开销。</p>
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowContextRepoBenchmark {
+    private static final String STREAM_ID = "benchmark-stream";
+
+    private static final String BATCH_ID = "benchmark-batch";
+
+    private static final String PENDING = FlowNodeStatus.PENDING.toString();
+
+    private static final int POSITION_COUNT = 16;
+
+    @Param({"memo", "indexed"})
+    private String repoType;
+
+    @Param({"1000", "10000"})
+    private int contextCount;
+
+    private FlowContextRepo repo;
+
+    private List<String> positions;
+
+    private List<String> sampleIds;
+
+    private int cursor;
+
+    /**
+     * 创建仓库并灌入上下文。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.repo = "memo".equals(this.repoType) ? new FlowContextMemoRepo(false) : new FlowContextIndexedMemoRepo(false);
+        this.positions = new ArrayList<>(POSITION_COUNT);
+        for (int i = 0; i < POSITION_COUNT; i++) {
+            this.positions.add("position-" + i);
+        }
+        List<FlowContext<Integer>> contexts = new ArrayList<>(this.contextCount);
+        this.sampleIds = new ArrayList<>();
+        for (int i = 0; i < this.contextCount; i++) {
+            FlowContext<Integer> context = context(i, this.positions.get(i % POSITION_COUNT), "trace-" + (i % 64));
+            contexts.add(context);
+            if (i % 97 == 0) {
+                this.sampleIds.add(context.getId());
+            }
+        }
+        this.repo.save(contexts);
+    }
+
+    /**
+     * 按节点位置查询待处理的上下文，即节点每次拉取数据时的查询。
+     *
+     * @return 查询结果的数量
+     */
+    @Benchmark
+    public int getContextsByPosition() {
+        String position = this.positions.get(this.next(POSITION_COUNT));
+        return this.repo.<Integer>getContextsByPosition(STREAM_ID, Collections.singletonList(position), PENDING)
+                .size();
+    }
+
+    /**
+     * 按节点位置和批次查询上下文。
+     *
+     * @return 查询结果的数量
+     */
+    @Benchmark
+    public int getContextsByBatch() {
+        String position = this.positions.get(this.next(POSITION_COUNT));
+        return this.repo.<Integer>getContextsByPosition(STREAM_ID, position, BATCH_ID, PENDING).size();
+    }
+
+    /**
+     * 按 trace 查询上下文。
+     *
+     * @return 查询结果的数量
+     */
+    @Benchmark
+    public int getContextsByTrace() {
+        return this.repo.<Integer>getContextsByTrace("trace-" + this.next(64)).size();
+    }
+
+    /**
+     * 按唯一标识查询单个上下文。
+     *
+     * @return 查询到的上下文
+     */
+    @Benchmark
+    public FlowContext<Integer> getById() {
+        return this.repo.getById(this.sampleIds.get(this.next(this.sampleIds.size())));
+    }
+
+    /**
+     * 保存一个新的上下文后将其归档，仓库中的上下文数量保持不变。
+     */
+    @Benchmark
+    public void saveAndArchive() {
+        FlowContext<Integer> context = context(-1, this.positions.get(this.next(POSITION_COUNT)), "trace-new");
+        List<FlowContext<Integer>> single = Collections.singletonList(context);
+        this.repo.save(single);
+        context.setStatus(FlowNodeStatus.ARCHIVED);
+        this.repo.updateStatus(single, FlowNodeStatus.ARCHIVED.toString(), context.getPosition());
+    }
+
+    private int next(int bound) {
+        this.cursor = (this.cursor + 1) % bound;
+        return this.cursor;
+    }
+
+    private static FlowContext<Integer> context(int data, String position, String trace) {
+        FlowContext<Integer> context = new FlowContext<>(STREAM_ID, "root", data, Collections.singleton(trace),
+                position, new FlowSession());
+        context.setStatus(FlowNodeStatus.PENDING);
+        context.batchId(BATCH_ID);
+        return context;
+    }
+}
@@ -0,0 +1,78 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.benchmarks;
+
+import modelengine.fit.waterflow.domain.utils.FlowExecutors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 固定键线程池的派发基准测试。
+ * <p>通过 {@link FlowExecutors#submit(Object, String, Runnable)} 将一个批次的任务按 {@code keyCount} 个键派发，
+ * 同一个键的任务在同一个线程上串行执行，等待批次全部执行完成，衡量派发与线程切换的开销。</p>
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowExecutorsBenchmark {
+    private static final long TIMEOUT_SECONDS = 30L;
+
+    @Param({"1", "64"})
+    private int batchSize;
+
+    @Param({"1", "16"})
+    private int keyCount;
+
+    private String[] keys;
+
+    /**
+     * 预先生成派发使用的键。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.keys = new String[this.keyCount];
+        for (int i = 0; i < this.keyCount; i++) {
+            this.keys[i] = "benchmark-key-" + i;
+        }
+    }
+
+    /**
+     * 派发一个批次的任务并等待全部执行完成。
+     *
+     * @throws InterruptedException 等待时被中断
+     */
+    @Benchmark
+    public void submit() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(this.batchSize);
+        for (int i = 0; i < this.batchSize; i++) {
+            FlowExecutors.submit(null, this.keys[i % this.keyCount], latch::countDown);
+        }
+        if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The submitted tasks did not finish in time.");
+        }
+    }
+}
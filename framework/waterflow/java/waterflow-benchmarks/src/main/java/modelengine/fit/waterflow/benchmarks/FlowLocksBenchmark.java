@@ -0,0 +1,84 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.benchmarks;
+
+import modelengine.fit.waterflow.domain.context.repo.flowlock.FlowLocks;
+import modelengine.fit.waterflow.domain.context.repo.flowlock.FlowLocksMemo;
+import modelengine.fit.waterflow.domain.context.repo.flowlock.FlowLocksStriped;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * {@link FlowLocks} 内存实现在多线程竞争下的基准测试。
+ * <p>多个线程在 {@code keyCount} 个节点锁上反复获取、释放锁，对比 {@link FlowLocksMemo} 与 {@link FlowLocksStriped}
+ * 的开销，{@code keyCount} 为 1 时即所有线程竞争同一个节点。</p>
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class FlowLocksBenchmark {
+    @Param({"memo", "striped"})
+    private String locksType;
+
+    @Param({"1", "64"})
+    private int keyCount;
+
+    private FlowLocks locks;
+
+    private String[] keys;
+
+    /**
+     * 创建被测的锁实现并生成节点锁的键。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.locks = "memo".equals(this.locksType) ? new FlowLocksMemo() : new FlowLocksStriped();
+        this.keys = new String[this.keyCount];
+        for (int i = 0; i < this.keyCount; i++) {
+            this.keys[i] = "water-flow-node-benchmark-node-" + i + "-RequestReady";
+        }
+    }
+
+    /**
+     * 获取节点锁，执行一段很短的临界区后释放。
+     *
+     * @return 临界区内计算的结果
+     */
+    @Benchmark
+    public int lockAndUnlock() {
+        Lock lock = this.locks.getDistributeLock(this.keys[ThreadLocalRandom.current().nextInt(this.keyCount)]);
+        lock.lock();
+        try {
+            return lock.hashCode();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
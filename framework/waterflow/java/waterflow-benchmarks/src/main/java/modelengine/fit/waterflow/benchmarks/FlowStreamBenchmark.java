@@ -0,0 +1,157 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.benchmarks;
+
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.context.Window;
+import modelengine.fit.waterflow.domain.flow.Flows;
+import modelengine.fit.waterflow.domain.flow.ProcessFlow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 通过 {@link Flows#create()} 构建的流的端到端基准测试。
+ * <p>每次调用向流中灌入一个批次的数据并等待流处理结束，{@code batchSize} 为 1 时即单个数据的场景。
+ * 同时以吞吐量和采样时间两种模式运行，采样时间模式会输出 p99 等延迟分位数。</p>
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowStreamBenchmark {
+    private static final long TIMEOUT_SECONDS = 30L;
+
+    private static final int WINDOW_SIZE = 2;
+
+    @Param({"1", "32"})
+    private int batchSize;
+
+    private Integer[] batch;
+
+    private volatile CountDownLatch latch;
+
+    private ProcessFlow<Integer> mapFlow;
+
+    private ProcessFlow<Integer> flatMapReduceFlow;
+
+    private ProcessFlow<Integer> windowReduceFlow;
+
+    private ProcessFlow<Integer> parallelFlow;
+
+    /**
+     * 构建被测的流，每个线程使用自己的流实例。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.batch = IntStream.range(0, this.batchSize).boxed().toArray(Integer[]::new);
+        this.mapFlow = Flows.<Integer>create()
+                .map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(String::valueOf)
+                .close(r -> this.countDown(r.getAll().size()));
+        this.flatMapReduceFlow = Flows.<Integer>create()
+                .flatMap(i -> Flows.flux(i, i + 1))
+                .reduce(() -> 0, Integer::sum)
+                .close(r -> this.countDown(r.getAll().size()));
+        this.windowReduceFlow = Flows.<Integer>create()
+                .window(WINDOW_SIZE)
+                .reduce(() -> 0, Integer::sum)
+                .close(r -> this.countDown(r.getAll().size()));
+        this.parallelFlow = Flows.<Integer>create()
+                .parallel()
+                .fork(node -> node.map(i -> i + 1))
+                .fork(node -> node.map(i -> i * 2))
+                .join(() -> 0, Integer::sum)
+                .close(r -> this.countDown(r.getAll().size()));
+    }
+
+    /**
+     * 多个 map 节点串联的流。
+     */
+    @Benchmark
+    public void map() {
+        this.offerAndAwait(this.mapFlow, this.batchSize, new FlowSession());
+    }
+
+    /**
+     * flatMap 展开后在 session 窗口内 reduce 的流，整个批次只输出一个结果。
+     */
+    @Benchmark
+    public void flatMapReduce() {
+        FlowSession session = new FlowSession();
+        Window window = session.begin();
+        this.latch = new CountDownLatch(1);
+        this.flatMapReduceFlow.offer(this.batch, session);
+        window.complete();
+        this.await();
+    }
+
+    /**
+     * 按数量划分窗口后 reduce 的流，每个窗口输出一个结果。
+     */
+    @Benchmark
+    public void windowReduce() {
+        FlowSession session = new FlowSession();
+        Window window = session.begin();
+        this.latch = new CountDownLatch((this.batchSize + WINDOW_SIZE - 1) / WINDOW_SIZE);
+        this.windowReduceFlow.offer(this.batch, session);
+        window.complete();
+        this.await();
+    }
+
+    /**
+     * parallel 分支后 join 的流，每个数据输出一个结果。
+     */
+    @Benchmark
+    public void parallel() {
+        this.offerAndAwait(this.parallelFlow, this.batchSize, new FlowSession());
+    }
+
+    private void offerAndAwait(ProcessFlow<Integer> flow, int expected, FlowSession session) {
+        this.latch = new CountDownLatch(expected);
+        flow.offer(this.batch, session);
+        this.await();
+    }
+
+    private void countDown(int count) {
+        CountDownLatch current = this.latch;
+        for (int i = 0; i < count; i++) {
+            current.countDown();
+        }
+    }
+
+    private void await() {
+        try {
+            if (!this.latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The flow did not finish in time.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
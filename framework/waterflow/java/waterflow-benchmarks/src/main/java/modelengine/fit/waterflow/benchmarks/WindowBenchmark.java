@@ -0,0 +1,71 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.benchmarks;
+
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.context.Window;
+import modelengine.fit.waterflow.domain.context.WindowToken;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FlowSession} 窗口的 token 记账基准测试。
+ * <p>模拟一个 session 的数据依次经过两个节点：上游节点为每个数据创建 token，下游节点接收 token 后消费，
+ * 最后关闭窗口并判断是否全部消费完成，衡量窗口在 {@code tokenCount} 个数据下的记账开销。</p>
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WindowBenchmark {
+    @Param({"1", "32", "256"})
+    private int tokenCount;
+
+    /**
+     * 一个 session 在两个节点之间完成全部 token 的传递与消费。
+     *
+     * @return 下游窗口是否消费完成
+     */
+    @Benchmark
+    public boolean tokenLifecycle() {
+        FlowSession session = new FlowSession();
+        Window source = session.begin();
+        Window target = new Window();
+        target.setSession(session);
+        source.addTo(target);
+        List<WindowToken> produced = new ArrayList<>(this.tokenCount);
+        for (int i = 0; i < this.tokenCount; i++) {
+            produced.add(source.createToken());
+        }
+        for (WindowToken token : produced) {
+            token.beginConsume();
+            WindowToken accepted = target.acceptToken(token);
+            accepted.beginConsume();
+            accepted.finishConsume();
+        }
+        source.complete();
+        return target.isDone();
+    }
+}
@@ -300,7 +300,12 @@ public enum ErrorCodes {
     /**
      * 连接线配置不合法。
      */
-    INVALID_EVENT_CONFIG(10007517, "Event config is invalid, event id: {0}");
+    INVALID_EVENT_CONFIG(10007517, "Event config is invalid, event id: {0}"),
+
+    /**
+     * 流程上下文日志读写失败。
+     */
+    FLOW_CONTEXT_LOG_ERROR(10007519, "Flow context log {0} failed, path: {1}.");
 
     private final Integer errorCode;
 
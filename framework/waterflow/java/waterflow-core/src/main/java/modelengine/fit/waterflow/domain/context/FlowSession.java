@@ -12,7 +12,6 @@ import modelengine.fitframework.util.MapBuilder;
 import modelengine.fitframework.util.ObjectUtils;
 
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
@@ -71,12 +70,12 @@ public class FlowSession extends IdGenerator implements StateContext {
     private Consumer<Exception> errorHandler;
 
     /**
-     * 构造方法，使用随机 UUID 作为 session ID，并设置保序标识。
+     * 构造方法，使用 {@link IdGenerator} 当前策略生成的 UUID 作为 session ID，并设置保序标识。
      *
      * @param preserved 是否保序
      */
     public FlowSession(boolean preserved) {
-        this(UUID.randomUUID().toString(), preserved);
+        this(IdGenerator.nextUuid().toString(), preserved);
     }
 
     /**
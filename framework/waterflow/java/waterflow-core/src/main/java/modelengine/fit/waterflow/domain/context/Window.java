@@ -14,6 +14,7 @@ import modelengine.fit.waterflow.domain.stream.operators.Operators;
 import modelengine.fit.waterflow.domain.stream.operators.WindowArg;
 import modelengine.fit.waterflow.domain.stream.reactive.Processor;
 import modelengine.fit.waterflow.domain.stream.reactive.Publisher;
+import modelengine.fit.waterflow.domain.utils.IdGenerator;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -95,7 +96,7 @@ public class Window implements Completable {
      * @param condition 窗口条件
      */
     public Window(Operators.WindowCondition condition) {
-        this(condition, UUID.randomUUID());
+        this(condition, IdGenerator.nextUuid());
     }
 
     /**
@@ -0,0 +1,380 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import modelengine.fit.waterflow.domain.common.Constants;
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowTrace;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+import modelengine.fit.waterflow.domain.stream.operators.Operators;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 持久化{@link FlowContext}对象到内存中的带索引实现。
+ * <p>除按 id 存储上下文外，还按照（流程版本、位置、状态）、traceId 和 parallelId 维护二级哈希索引，
+ * 每个索引桶内按上下文首次保存的顺序排列，查询只需访问命中的索引桶，不再扫描全部上下文。</p>
+ * <p>索引只用于缩小候选集合，命中的上下文仍会按其当前的属性再次校验，因此与{@link FlowContextMemoRepo}的查询语义保持一致。
+ * 同一个上下文的保存在其 id 上串行，不同上下文的保存之间互不阻塞。</p>
+ * <p>索引只在 {@code save} 和各个 {@code update*} 方法中按照上下文当时的属性更新。直接修改已保存上下文的位置、状态、
+ * traceId 或 parallelId 而没有调用这些方法时，上下文仍然留在原来的索引桶中：按照新属性查询不到该上下文，按照旧属性查询时
+ * 也会因为再次校验而被过滤，直到下一次保存或更新。流程引擎在流转上下文后都会通过这些方法写回，调用方修改上下文后也需要如此。</p>
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+public class FlowContextIndexedMemoRepo implements FlowContextRepo {
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final Map<String, Entry> contexts = new ConcurrentHashMap<>();
+
+    private final Map<String, NavigableMap<Long, Entry>> positionIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, NavigableMap<Long, Entry>> traceIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, NavigableMap<Long, Entry>> parallelIndex = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final boolean isReserveTerminal;
+
+    /**
+     * 构造方法
+     */
+    public FlowContextIndexedMemoRepo() {
+        this(false);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param isReserveTerminal 是否保留结束的数据，一般只有测试才保留
+     */
+    public FlowContextIndexedMemoRepo(boolean isReserveTerminal) {
+        this.isReserveTerminal = isReserveTerminal;
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByPosition(String streamId, List<String> posIds, String status) {
+        List<String> keys = posIds.stream()
+                .distinct()
+                .map(posId -> positionKey(streamId, posId, status))
+                .collect(Collectors.toList());
+        return this.query(this.positionIndex, keys, context -> Objects.equals(context.getStreamId(), streamId)
+                && posIds.contains(context.getPosition())
+                && context.getStatus().toString().equals(status)
+                && !context.isSent(), UNLIMITED);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByPosition(String streamId, String posId, String batchId, String status) {
+        return this.query(this.positionIndex,
+                Collections.singletonList(positionKey(streamId, posId, status)),
+                context -> Objects.equals(context.getStreamId(), streamId)
+                        && Objects.equals(context.getPosition(), posId)
+                        && Objects.equals(context.getBatchId(), batchId)
+                        && context.getStatus().toString().equals(status),
+                UNLIMITED);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByTrace(String traceId) {
+        return this.query(this.traceIndex,
+                Collections.singletonList(traceId),
+                context -> context.getTraceId().contains(traceId),
+                UNLIMITED);
+    }
+
+    @Override
+    public <T> void save(List<FlowContext<T>> contexts) {
+        contexts.forEach(this::save);
+    }
+
+    @Override
+    public <T> void updateToSent(List<FlowContext<T>> contexts) {
+        this.save(contexts);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByParallel(String parallelId) {
+        return this.query(this.parallelIndex,
+                Collections.singletonList(parallelId),
+                context -> Objects.equals(context.getParallel(), parallelId),
+                UNLIMITED);
+    }
+
+    @Override
+    public <T> FlowContext<T> getById(String id) {
+        Entry entry = this.contexts.get(id);
+        return entry == null ? null : ObjectUtils.cast(entry.context);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getByIds(List<String> ids) {
+        return ids.stream().map(this::<T>getById).collect(Collectors.toList());
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getPendingAndSentByIds(List<String> ids) {
+        return ids.stream()
+                .distinct()
+                .map(this.contexts::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingLong(entry -> entry.sequence))
+                .map(entry -> ObjectUtils.<FlowContext<T>>cast(entry.context))
+                .filter(context -> context.getStatus() == FlowNodeStatus.PENDING)
+                .filter(FlowContext::isSent)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> requestMappingContext(String streamId, List<String> subscriptions,
+            Map<String, Integer> sessions) {
+        return this.requestMappingContext(streamId, subscriptions, sessions, Collections.emptySet());
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> requestMappingContext(String streamId, List<String> subscriptions,
+            Map<String, Integer> sessions, Set<String> excludedSessions) {
+        return this.query(this.positionIndex, this.pendingKeys(streamId, subscriptions), context -> {
+            if (!Objects.equals(context.getStreamId(), streamId) || !subscriptions.contains(context.getPosition())
+                    || context.getStatus() != FlowNodeStatus.PENDING) {
+                return false;
+            }
+            String sessionId = context.getSession().getId();
+            if (excludedSessions.contains(sessionId)) {
+                return false;
+            }
+            // 找到需要保序的当前序列或者不需要保序的
+            return context.getIndex() == -1 || context.getIndex() == 0 || (sessions.containsKey(sessionId)
+                    && Objects.equals(context.getIndex(), sessions.get(sessionId)));
+        }, 1);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> requestProducingContext(String streamId, List<String> subscriptions,
+            Operators.Filter<T> filter) {
+        List<FlowContext<T>> all = this.query(this.positionIndex,
+                this.pendingKeys(streamId, subscriptions),
+                context -> Objects.equals(context.getStreamId(), streamId)
+                        && subscriptions.contains(context.getPosition())
+                        && context.getStatus() == FlowNodeStatus.PENDING,
+                UNLIMITED);
+        return filter.process(all);
+    }
+
+    @Override
+    public <T> void save(FlowTrace trace, FlowContext<T> flowContext) {
+    }
+
+    @Override
+    public <T> void updateFlowData(List<FlowContext<T>> contexts) {
+        this.save(contexts);
+    }
+
+    @Override
+    public <T> void updateIndex(List<FlowContext<T>> contexts) {
+        List<FlowContext<T>> updated = new ArrayList<>();
+        for (FlowContext<T> context : contexts) {
+            FlowContext<T> saved = this.getById(context.getId());
+            if (saved == null) {
+                saved = context;
+            } else {
+                saved.setIndex(context.getIndex());
+            }
+            updated.add(saved);
+        }
+        this.save(updated);
+    }
+
+    /**
+     * 按照首次保存的顺序获取所有存储的上下文，供持久化实现生成快照使用。
+     *
+     * @return 表示所有上下文的 {@link List}{@code <}{@link FlowContext}{@code <?>>}。
+     */
+    List<FlowContext<?>> getAll() {
+        return this.contexts.values()
+                .stream()
+                .sorted(Comparator.comparingLong(entry -> entry.sequence))
+                .map(entry -> entry.context)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> pendingKeys(String streamId, List<String> subscriptions) {
+        String status = FlowNodeStatus.PENDING.toString();
+        return subscriptions.stream()
+                .distinct()
+                .map(subscription -> positionKey(streamId, subscription, status))
+                .collect(Collectors.toList());
+    }
+
+    private <T> List<FlowContext<T>> query(Map<String, NavigableMap<Long, Entry>> index, List<String> keys,
+            Predicate<FlowContext<T>> filter, int limit) {
+        if (keys.size() == 1) {
+            return collect(index.get(keys.get(0)), filter, limit);
+        }
+        // 多个索引桶时，先在每个桶内取满足条件的前 limit 个，再按首次保存的顺序合并
+        NavigableMap<Long, Entry> merged = new TreeMap<>();
+        for (String key : keys) {
+            NavigableMap<Long, Entry> bucket = index.get(key);
+            if (bucket == null) {
+                continue;
+            }
+            int count = 0;
+            for (Entry entry : bucket.values()) {
+                if (count >= limit) {
+                    break;
+                }
+                if (filter.test(ObjectUtils.cast(entry.context))) {
+                    merged.put(entry.sequence, entry);
+                    count++;
+                }
+            }
+        }
+        return merged.values()
+                .stream()
+                .limit(limit)
+                .map(entry -> ObjectUtils.<FlowContext<T>>cast(entry.context))
+                .collect(Collectors.toList());
+    }
+
+    private static <T> List<FlowContext<T>> collect(NavigableMap<Long, Entry> bucket,
+            Predicate<FlowContext<T>> filter, int limit) {
+        if (bucket == null) {
+            return new ArrayList<>();
+        }
+        List<FlowContext<T>> result = new ArrayList<>();
+        for (Entry entry : bucket.values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            FlowContext<T> context = ObjectUtils.cast(entry.context);
+            if (filter.test(context)) {
+                result.add(context);
+            }
+        }
+        return result;
+    }
+
+    private void save(FlowContext<?> context) {
+        boolean isRemoved = !this.isReserveTerminal && (context.getStatus() == FlowNodeStatus.ARCHIVED
+                || context.getStatus() == FlowNodeStatus.ERROR);
+        this.contexts.compute(context.getId(), (id, entry) -> {
+            if (isRemoved) {
+                if (entry != null) {
+                    this.unlinkAll(entry);
+                }
+                return null;
+            }
+            Entry actual = entry == null ? new Entry(this.sequence.incrementAndGet()) : entry;
+            this.reindex(actual, context);
+            return actual;
+        });
+    }
+
+    /**
+     * 先挂上新的索引再摘除旧的索引，保证并发查询期间上下文不会从任何一个应命中的索引中短暂消失。
+     * 该方法只在对应 id 的 compute 中调用，同一个上下文的索引变更是串行的。
+     *
+     * @param entry 表示上下文存储项的 {@link Entry}。
+     * @param context 表示最新上下文的 {@link FlowContext}{@code <?>}。
+     */
+    private void reindex(Entry entry, FlowContext<?> context) {
+        entry.context = context;
+        String positionKey = positionKey(context.getStreamId(), context.getPosition(), context.getStatus().toString());
+        Set<String> traceIds = new HashSet<>(context.getTraceId());
+        String parallel = context.getParallel();
+
+        if (!Objects.equals(positionKey, entry.positionKey)) {
+            link(this.positionIndex, positionKey, entry);
+            unlink(this.positionIndex, entry.positionKey, entry);
+            entry.positionKey = positionKey;
+        }
+        if (!traceIds.equals(entry.traceIds)) {
+            traceIds.stream().filter(traceId -> !entry.traceIds.contains(traceId))
+                    .forEach(traceId -> link(this.traceIndex, traceId, entry));
+            entry.traceIds.stream().filter(traceId -> !traceIds.contains(traceId))
+                    .forEach(traceId -> unlink(this.traceIndex, traceId, entry));
+            entry.traceIds = traceIds;
+        }
+        if (!entry.isLinked || !Objects.equals(parallel, entry.parallel)) {
+            link(this.parallelIndex, parallel, entry);
+            if (entry.isLinked) {
+                unlink(this.parallelIndex, entry.parallel, entry);
+            }
+            entry.parallel = parallel;
+        }
+        entry.isLinked = true;
+    }
+
+    private void unlinkAll(Entry entry) {
+        unlink(this.positionIndex, entry.positionKey, entry);
+        entry.traceIds.forEach(traceId -> unlink(this.traceIndex, traceId, entry));
+        unlink(this.parallelIndex, entry.parallel, entry);
+    }
+
+    private static void link(Map<String, NavigableMap<Long, Entry>> index, String key, Entry entry) {
+        if (key == null) {
+            return;
+        }
+        index.compute(key, (__, bucket) -> {
+            NavigableMap<Long, Entry> actual = bucket == null ? new ConcurrentSkipListMap<>() : bucket;
+            actual.put(entry.sequence, entry);
+            return actual;
+        });
+    }
+
+    private static void unlink(Map<String, NavigableMap<Long, Entry>> index, String key, Entry entry) {
+        if (key == null) {
+            return;
+        }
+        index.computeIfPresent(key, (__, bucket) -> {
+            bucket.remove(entry.sequence);
+            return bucket.isEmpty() ? null : bucket;
+        });
+    }
+
+    private static String positionKey(String streamId, String position, String status) {
+        return streamId + Constants.STREAM_ID_SEPARATOR + position + Constants.STREAM_ID_SEPARATOR + status;
+    }
+
+    /**
+     * 上下文存储项，记录上下文首次保存的序号以及最近一次建立索引时使用的键。
+     */
+    private static class Entry {
+        private final long sequence;
+
+        private volatile FlowContext<?> context;
+
+        private String positionKey;
+
+        private Set<String> traceIds = Collections.emptySet();
+
+        private String parallel;
+
+        private boolean isLinked;
+
+        private Entry(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
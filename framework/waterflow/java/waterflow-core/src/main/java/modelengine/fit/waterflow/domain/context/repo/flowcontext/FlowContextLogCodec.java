@@ -0,0 +1,185 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 上下文日志记录的编解码器，将上下文的持久化状态编码为日志记录的内容。
+ * <p>只记录恢复上下文所需的状态，session 只保留唯一标识和保序标识，window 等运行时对象不会被持久化。</p>
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+final class FlowContextLogCodec {
+    private static final byte VERSION = 1;
+
+    private static final int NULL_LENGTH = -1;
+
+    private final FlowContextLogRepo.DataCodec dataCodec;
+
+    FlowContextLogCodec(FlowContextLogRepo.DataCodec dataCodec) {
+        this.dataCodec = dataCodec;
+    }
+
+    /**
+     * 将上下文编码为日志记录的内容。
+     *
+     * @param context 表示待编码上下文的 {@link FlowContext}{@code <?>}。
+     * @return 表示日志记录内容的 {@code byte[]}。
+     * @throws IOException 当编码失败时。
+     */
+    byte[] encode(FlowContext<?> context) throws IOException {
+        return this.encode(context, context.getIndex());
+    }
+
+    /**
+     * 使用指定的序号将上下文编码为日志记录的内容，上下文本身不会被修改。
+     *
+     * @param context 表示待编码上下文的 {@link FlowContext}{@code <?>}。
+     * @param index 表示记录中使用的序号的 {@link Integer}。
+     * @return 表示日志记录内容的 {@code byte[]}。
+     * @throws IOException 当编码失败时。
+     */
+    byte[] encode(FlowContext<?> context, Integer index) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(VERSION);
+        writeString(out, context.getId());
+        writeString(out, context.getStreamId());
+        writeString(out, context.getRootId());
+        out.writeInt(context.getTraceId().size());
+        for (String traceId : context.getTraceId()) {
+            writeString(out, traceId);
+        }
+        writeString(out, context.getPosition());
+        writeString(out, context.getParallel());
+        writeString(out, context.getParallelMode());
+        out.writeBoolean(context.isJoined());
+        writeString(out, context.getStatus().name());
+        writeString(out, context.getPrevious());
+        writeString(out, context.getBatchId());
+        writeString(out, context.getToBatch());
+        out.writeBoolean(context.isSent());
+        writeTime(out, context.getCreateAt());
+        writeTime(out, context.getUpdateAt());
+        writeTime(out, context.getArchivedAt());
+        out.writeInt(index == null ? -1 : index);
+        FlowSession session = context.getSession();
+        writeString(out, session == null ? null : session.getId());
+        out.writeBoolean(session != null && session.preserved());
+        writeBytes(out, context.getData() == null ? null : this.dataCodec.encode(context.getData()));
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 将日志记录的内容解码为上下文。
+     *
+     * @param payload 表示日志记录内容的 {@code byte[]}。
+     * @return 表示解码得到的上下文的 {@link FlowContext}{@code <Object>}。
+     * @throws IOException 当解码失败时。
+     */
+    FlowContext<Object> decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported flow context record version: " + version);
+        }
+        String id = readString(in);
+        String streamId = readString(in);
+        String rootId = readString(in);
+        int traceCount = in.readInt();
+        Set<String> traceIds = new HashSet<>();
+        for (int i = 0; i < traceCount; i++) {
+            traceIds.add(readString(in));
+        }
+        String position = readString(in);
+        String parallel = readString(in);
+        String parallelMode = readString(in);
+        boolean isJoined = in.readBoolean();
+        FlowNodeStatus status = FlowNodeStatus.valueOf(readString(in));
+        String previous = readString(in);
+        String batchId = readString(in);
+        String toBatch = readString(in);
+        boolean isSent = in.readBoolean();
+        LocalDateTime createAt = readTime(in);
+        LocalDateTime updateAt = readTime(in);
+        LocalDateTime archivedAt = readTime(in);
+        int index = in.readInt();
+        String sessionId = readString(in);
+        boolean isPreserved = in.readBoolean();
+        byte[] data = readBytes(in);
+
+        // 先用不保序的 session 创建上下文，避免构造时依赖 window 计算序号，序号由日志中的值恢复
+        FlowContext<Object> context = new FlowContext<>(streamId, rootId,
+                data == null ? null : this.dataCodec.decode(data), traceIds, position, parallel, parallelMode,
+                new FlowSession(sessionId, false));
+        context.setId(id);
+        context.setSession(new FlowSession(sessionId, isPreserved));
+        context.join(isJoined);
+        context.setStatus(status);
+        context.setPrevious(previous);
+        context.batchId(batchId);
+        context.toBatch(toBatch);
+        context.setSent(isSent);
+        context.setCreateAt(createAt);
+        context.setUpdateAt(updateAt);
+        context.setArchivedAt(archivedAt);
+        context.setIndex(index);
+        return context;
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        writeString(out, time == null ? null : time.toString());
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        String time = readString(in);
+        return time == null ? null : LocalDateTime.parse(time);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,404 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import static modelengine.fit.waterflow.ErrorCodes.FLOW_CONTEXT_LOG_ERROR;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowTrace;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+import modelengine.fit.waterflow.domain.stream.operators.Operators;
+import modelengine.fit.waterflow.exceptions.WaterflowException;
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.ExecutePolicy;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
+import modelengine.fitframework.util.CollectionUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 持久化{@link FlowContext}对象到本地磁盘的实现。
+ * <p>所有查询都由内存中的{@link FlowContextIndexedMemoRepo}完成，上下文的每次状态变化先追加一条记录到
+ * {@link FlowContextSegmentLog}再更新内存，多个线程的写入以组提交的方式合并 fsync，方法返回时记录已经落盘。</p>
+ * <p>创建时回放日志恢复进程退出前的上下文，后台定时将存活的上下文压缩为快照以回收已结束上下文占用的空间。
+ * 上下文中的数据通过{@link DataCodec}编解码，默认使用只允许 JDK 基础类型的 Java 序列化，
+ * session 只恢复唯一标识和保序标识。</p>
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+public class FlowContextLogRepo implements FlowContextRepo, AutoCloseable {
+    private static final Logger LOG = Logger.get(FlowContextLogRepo.class);
+
+    private static final long DEFAULT_MAX_SEGMENT_BYTES = 64L * 1024 * 1024;
+
+    private static final long DEFAULT_COMPACT_INTERVAL_MILLIS = 60_000L;
+
+    private static final int COMPACT_SEGMENT_THRESHOLD = 4;
+
+    private final Path directory;
+
+    private final FlowContextIndexedMemoRepo memo;
+
+    private final FlowContextLogCodec codec;
+
+    private final FlowContextSegmentLog log;
+
+    private final ThreadPoolScheduler compactor;
+
+    private final Object writeLock = new Object();
+
+    /**
+     * 构造方法，数据使用 Java 序列化
+     *
+     * @param directory 日志目录
+     */
+    public FlowContextLogRepo(Path directory) {
+        this(directory, DataCodec.javaSerialization(), false);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param directory 日志目录
+     * @param dataCodec 上下文数据的编解码器
+     * @param isReserveTerminal 是否保留结束的数据，一般只有测试才保留
+     */
+    public FlowContextLogRepo(Path directory, DataCodec dataCodec, boolean isReserveTerminal) {
+        this(directory, dataCodec, isReserveTerminal, DEFAULT_MAX_SEGMENT_BYTES, DEFAULT_COMPACT_INTERVAL_MILLIS);
+    }
+
+    FlowContextLogRepo(Path directory, DataCodec dataCodec, boolean isReserveTerminal, long maxSegmentBytes,
+            long compactIntervalMillis) {
+        this.directory = Validation.notNull(directory, "The log directory cannot be null.");
+        this.codec = new FlowContextLogCodec(Validation.notNull(dataCodec, "The data codec cannot be null."));
+        this.memo = new FlowContextIndexedMemoRepo(isReserveTerminal);
+        Map<String, FlowContext<Object>> recovered = new LinkedHashMap<>();
+        try {
+            this.log = new FlowContextSegmentLog(directory, maxSegmentBytes, new FlowContextSegmentLog.Replayer() {
+                @Override
+                public void replay(byte[] payload) throws IOException {
+                    FlowContext<Object> context = FlowContextLogRepo.this.codec.decode(payload);
+                    if (!isReserveTerminal && isTerminal(context)) {
+                        recovered.remove(context.getId());
+                    } else {
+                        recovered.put(context.getId(), context);
+                    }
+                }
+
+                @Override
+                public void reset() {
+                    recovered.clear();
+                }
+            });
+        } catch (IOException e) {
+            throw new WaterflowException(e, FLOW_CONTEXT_LOG_ERROR, "recovery", directory);
+        }
+        this.memo.save(new ArrayList<>(recovered.values()));
+        LOG.info("Flow context log recovered. [directory={}, contexts={}]", directory, recovered.size());
+        this.compactor = ThreadPoolScheduler.custom()
+                .threadPoolName("flow-context-log-compactor")
+                .corePoolSize(1)
+                .isDaemonThread(true)
+                .build();
+        this.compactor.schedule(Task.builder()
+                .policy(ExecutePolicy.fixedDelay(compactIntervalMillis))
+                .runnable(this::compactIfNecessary)
+                .build(), compactIntervalMillis);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByPosition(String streamId, List<String> posIds, String status) {
+        return this.memo.getContextsByPosition(streamId, posIds, status);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByPosition(String streamId, String posId, String batchId, String status) {
+        return this.memo.getContextsByPosition(streamId, posId, batchId, status);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByTrace(String traceId) {
+        return this.memo.getContextsByTrace(traceId);
+    }
+
+    @Override
+    public <T> void save(List<FlowContext<T>> contexts) {
+        this.write(contexts, () -> this.memo.save(contexts));
+    }
+
+    @Override
+    public <T> void updateToSent(List<FlowContext<T>> contexts) {
+        this.write(contexts, () -> this.memo.updateToSent(contexts));
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByParallel(String parallelId) {
+        return this.memo.getContextsByParallel(parallelId);
+    }
+
+    @Override
+    public <T> FlowContext<T> getById(String id) {
+        return this.memo.getById(id);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getByIds(List<String> ids) {
+        return this.memo.getByIds(ids);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getPendingAndSentByIds(List<String> ids) {
+        return this.memo.getPendingAndSentByIds(ids);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> requestMappingContext(String streamId, List<String> subscriptions,
+            Map<String, Integer> sessions) {
+        return this.memo.requestMappingContext(streamId, subscriptions, sessions);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> requestMappingContext(String streamId, List<String> subscriptions,
+            Map<String, Integer> sessions, Set<String> excludedSessions) {
+        return this.memo.requestMappingContext(streamId, subscriptions, sessions, excludedSessions);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> requestProducingContext(String streamId, List<String> subscriptions,
+            Operators.Filter<T> filter) {
+        return this.memo.requestProducingContext(streamId, subscriptions, filter);
+    }
+
+    @Override
+    public <T> void updateContextPool(List<FlowContext<T>> after, Set<String> traces) {
+        this.write(after, () -> this.memo.updateContextPool(after, traces));
+    }
+
+    @Override
+    public <T> void save(FlowTrace trace, FlowContext<T> flowContext) {
+        this.memo.save(trace, flowContext);
+    }
+
+    @Override
+    public <T> void updateFlowData(List<FlowContext<T>> contexts) {
+        this.write(contexts, () -> this.memo.updateFlowData(contexts));
+    }
+
+    @Override
+    public <T> void updateStatus(List<FlowContext<T>> contexts, String status, String position) {
+        this.write(contexts, () -> this.memo.updateStatus(contexts, status, position));
+    }
+
+    @Override
+    public <T> void updateIndex(List<FlowContext<T>> contexts) {
+        if (CollectionUtils.isEmpty(contexts)) {
+            this.memo.updateIndex(contexts);
+            return;
+        }
+        // 内存中只更新已保存上下文的序号，日志中记录的是更新序号后的已保存上下文
+        List<byte[]> payloads = new ArrayList<>(contexts.size());
+        for (FlowContext<T> context : contexts) {
+            FlowContext<T> saved = this.memo.getById(context.getId());
+            payloads.add(saved == null ? this.encode(context) : this.encode(saved, context.getIndex()));
+        }
+        this.writePayloads(payloads, () -> this.memo.updateIndex(contexts));
+    }
+
+    /**
+     * 将存活的上下文压缩为快照，删除快照之前的所有分段
+     */
+    public void compact() {
+        try {
+            this.log.compact(() -> {
+                // 分段切换前追加的记录在持有写锁期间已经更新到内存，因此在写锁内获取的存活上下文包含了被压缩分段中的所有变更
+                List<FlowContext<?>> contexts;
+                synchronized (this.writeLock) {
+                    contexts = this.memo.getAll();
+                }
+                List<byte[]> payloads = new ArrayList<>(contexts.size());
+                for (FlowContext<?> context : contexts) {
+                    payloads.add(this.codec.encode(context));
+                }
+                return payloads;
+            });
+        } catch (IOException e) {
+            throw new WaterflowException(e, FLOW_CONTEXT_LOG_ERROR, "compaction", this.directory);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.compactor.shutdown();
+            this.log.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new WaterflowException(e, FLOW_CONTEXT_LOG_ERROR, "close", this.directory);
+        }
+    }
+
+    /**
+     * 在锁外编码后追加日志再更新内存，追加与内存更新在同一把锁内完成，保证日志顺序与内存中的变更顺序一致，
+     * 追加失败时内存不会被更新。等待落盘在锁外进行，并发的写入可以合并为一次 fsync
+     */
+    private <T> void write(List<FlowContext<T>> contexts, Runnable apply) {
+        if (CollectionUtils.isEmpty(contexts)) {
+            apply.run();
+            return;
+        }
+        List<byte[]> payloads = new ArrayList<>(contexts.size());
+        for (FlowContext<T> context : contexts) {
+            payloads.add(this.encode(context));
+        }
+        this.writePayloads(payloads, apply);
+    }
+
+    private void writePayloads(List<byte[]> payloads, Runnable apply) {
+        try {
+            long ticket;
+            synchronized (this.writeLock) {
+                ticket = this.log.append(payloads);
+                apply.run();
+            }
+            this.log.sync(ticket);
+        } catch (IOException e) {
+            throw new WaterflowException(e, FLOW_CONTEXT_LOG_ERROR, "write", this.directory);
+        }
+    }
+
+    private byte[] encode(FlowContext<?> context) {
+        return this.encode(context, context.getIndex());
+    }
+
+    private byte[] encode(FlowContext<?> context, Integer index) {
+        try {
+            return this.codec.encode(context, index);
+        } catch (IOException e) {
+            throw new WaterflowException(e, FLOW_CONTEXT_LOG_ERROR, "write", this.directory);
+        }
+    }
+
+    private void compactIfNecessary() {
+        try {
+            if (this.log.segmentCount() > COMPACT_SEGMENT_THRESHOLD) {
+                this.compact();
+            }
+        } catch (Exception e) {
+            LOG.error("Failed to compact flow context log. [directory={}, causedBy={}]",
+                    this.directory, e.getClass().getName());
+            LOG.debug("Compact flow context log exception details: ", e);
+        }
+    }
+
+    private static boolean isTerminal(FlowContext<?> context) {
+        return context.getStatus() == FlowNodeStatus.ARCHIVED || context.getStatus() == FlowNodeStatus.ERROR;
+    }
+
+    /**
+     * 上下文数据的编解码器
+     *
+     * @author 高诗意
+     * @since 1.0
+     */
+    public interface DataCodec {
+        /**
+         * 编码上下文中的数据
+         *
+         * @param data 上下文中的数据
+         * @return 编码后的字节
+         * @throws IOException 编码失败
+         */
+        byte[] encode(Object data) throws IOException;
+
+        /**
+         * 解码上下文中的数据
+         *
+         * @param bytes 编码后的字节
+         * @return 上下文中的数据
+         * @throws IOException 解码失败
+         */
+        Object decode(byte[] bytes) throws IOException;
+
+        /**
+         * 获取使用 Java 序列化的编解码器，要求上下文中的数据实现{@link java.io.Serializable}
+         * <p>解码时只允许{@code java.lang}、{@code java.util}、{@code java.time}和{@code java.math}中的类，
+         * 上下文中存放其他类型的数据时需要通过{@link #javaSerialization(String...)}指定允许的类。</p>
+         *
+         * @return Java 序列化的编解码器
+         */
+        static DataCodec javaSerialization() {
+            return JavaSerializationCodec.INSTANCE;
+        }
+
+        /**
+         * 获取使用 Java 序列化的编解码器，解码时除默认允许的类外，还允许指定模式匹配的类
+         * <p>模式的格式与{@link ObjectInputFilter.Config#createFilter(String)}相同，例如{@code com.example.model.**}，
+         * 未匹配任何模式的类在解码时被拒绝。</p>
+         *
+         * @param allowedPatterns 表示允许解码的类的模式的 {@link String}{@code []}
+         * @return Java 序列化的编解码器
+         */
+        static DataCodec javaSerialization(String... allowedPatterns) {
+            Validation.notNull(allowedPatterns, "The allowed patterns cannot be null.");
+            return new JavaSerializationCodec(allowedPatterns);
+        }
+    }
+
+    private static final class JavaSerializationCodec implements DataCodec {
+        private static final String[] DEFAULT_ALLOWED_PATTERNS = {"java.lang.*", "java.util.*", "java.time.*",
+                "java.math.*"};
+
+        private static final JavaSerializationCodec INSTANCE = new JavaSerializationCodec();
+
+        private final ObjectInputFilter filter;
+
+        private JavaSerializationCodec(String... allowedPatterns) {
+            StringBuilder patterns = new StringBuilder();
+            for (String pattern : allowedPatterns) {
+                patterns.append(Validation.notBlank(pattern, "The allowed pattern cannot be blank.")).append(';');
+            }
+            for (String pattern : DEFAULT_ALLOWED_PATTERNS) {
+                patterns.append(pattern).append(';');
+            }
+            this.filter = ObjectInputFilter.Config.createFilter(patterns.append("!*").toString());
+        }
+
+        @Override
+        public byte[] encode(Object data) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(data);
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public Object decode(byte[] bytes) throws IOException {
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                in.setObjectInputFilter(this.filter);
+                return in.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -12,10 +12,12 @@ import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
 import modelengine.fit.waterflow.domain.stream.operators.Operators;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Function;
@@ -128,10 +130,17 @@ public class FlowContextMemoRepo implements FlowContextRepo {
     @Override
     public <T> List<FlowContext<T>> requestMappingContext(String streamId, List<String> subscriptions,
         Map<String, Integer> sessions) {
+        return this.requestMappingContext(streamId, subscriptions, sessions, Collections.emptySet());
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> requestMappingContext(String streamId, List<String> subscriptions,
+        Map<String, Integer> sessions, Set<String> excludedSessions) {
         return query(stream -> stream
                 .filter(context -> context.getStreamId().equals(streamId))
                 .filter(context -> subscriptions.contains(context.getPosition()))
                 .filter(context -> context.getStatus() == FlowNodeStatus.PENDING)
+                .filter(context -> !excludedSessions.contains(context.getSession().getId()))
                 .filter(context -> {
                     boolean found = false;
                     for (String s : sessions.keySet()) {
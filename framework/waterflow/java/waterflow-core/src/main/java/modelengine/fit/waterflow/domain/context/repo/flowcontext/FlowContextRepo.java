@@ -15,10 +15,11 @@ import modelengine.fit.waterflow.exceptions.WaterflowException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 流程上下文持久化Repo核心类型
- * 包含FlowContextMemoRepo和FlowContextPersistRepo两种实现
+ * 包含FlowContextMemoRepo、FlowContextIndexedMemoRepo和FlowContextPersistRepo等实现
  *
  * @author 高诗意
  * @since 1.0
@@ -130,6 +131,25 @@ public interface FlowContextRepo {
     <T> List<FlowContext<T>> requestMappingContext(String streamId, List<String> subscriptions,
             Map<String, Integer> sessions);
 
+    /**
+     * 查找map节点所有from事件上待处理的上下文，跳过指定会话中的上下文
+     * 默认实现在查询结果上过滤，实现类可以在查询时直接跳过，避免排在前面的会话挡住其他会话的上下文
+     *
+     * @param <T> 泛型类型，表示上下文的数据类型
+     * @param streamId 流程版本ID
+     * @param subscriptions from事件的事件ID列表
+     * @param sessions 涉及保序的sessions
+     * @param excludedSessions 需要跳过的会话ID集合，通常是节点正在处理的会话
+     * @return 待处理的上下文列表
+     */
+    default <T> List<FlowContext<T>> requestMappingContext(String streamId, List<String> subscriptions,
+            Map<String, Integer> sessions, Set<String> excludedSessions) {
+        return this.<T>requestMappingContext(streamId, subscriptions, sessions)
+                .stream()
+                .filter(context -> !excludedSessions.contains(context.getSession().getId()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 查找produce节点所有from事件上待处理的上下文
      *
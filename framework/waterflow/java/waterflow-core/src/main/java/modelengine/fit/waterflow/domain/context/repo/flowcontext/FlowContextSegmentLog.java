@@ -0,0 +1,366 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import modelengine.fitframework.log.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 本地磁盘上只追加写的分段日志。
+ * <p>日志目录下按编号存放多个分段文件，每个分段以文件头开始，其后是若干条记录，每条记录的格式为：
+ * {@code [内容长度(4字节)][内容的CRC32(4字节)][内容]}。</p>
+ * <ul>
+ *     <li>写入：记录追加到当前分段，分段超过大小上限后切换到新的分段；</li>
+ *     <li>刷盘：{@link #sync(long)} 以组提交的方式刷盘，同一时刻只有一个线程执行 fsync，
+ *     等待中的线程在其完成后发现自己的记录已经落盘即直接返回；</li>
+ *     <li>恢复：按编号顺序回放所有分段，最后一个分段尾部不完整或者校验失败的记录会被截断；</li>
+ *     <li>压缩：先切换到新的分段，再将存活数据的快照写入临时文件，原子替换旧分段中编号最大的一个后删除其余旧分段。
+ *     快照分段在回放时会先清空之前的状态，因此压缩过程中任意时刻崩溃都能恢复出正确的状态。</li>
+ * </ul>
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+final class FlowContextSegmentLog implements Closeable {
+    private static final Logger LOG = Logger.get(FlowContextSegmentLog.class);
+
+    private static final int MAGIC = 0x57464C47;
+
+    private static final byte KIND_LOG = 0;
+
+    private static final byte KIND_SNAPSHOT = 1;
+
+    private static final int HEADER_SIZE = 5;
+
+    private static final int FRAME_HEADER_SIZE = 8;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    private final long maxSegmentBytes;
+
+    private final Object appendLock = new Object();
+
+    private final Object syncLock = new Object();
+
+    private final Object compactLock = new Object();
+
+    private FileChannel active;
+
+    private long activeNumber;
+
+    private long activeSize;
+
+    private long appendedTicket = 0L;
+
+    private volatile long syncedTicket = 0L;
+
+    /**
+     * 打开日志目录，回放已有的分段后在新的分段上继续追加。
+     *
+     * @param directory 表示日志目录的 {@link Path}。
+     * @param maxSegmentBytes 表示单个分段大小上限的 {@code long}。
+     * @param replayer 表示回放记录的 {@link Replayer}。
+     * @throws IOException 当读写日志文件失败时。
+     */
+    FlowContextSegmentLog(Path directory, long maxSegmentBytes, Replayer replayer) throws IOException {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path temp : files.filter(file -> file.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .collect(Collectors.toList())) {
+                Files.deleteIfExists(temp);
+            }
+        }
+        List<Long> segments = this.segments();
+        for (int i = 0; i < segments.size(); i++) {
+            this.replay(segments.get(i), i == segments.size() - 1, replayer);
+        }
+        long next = segments.isEmpty() ? 1L : segments.get(segments.size() - 1) + 1;
+        this.open(next);
+    }
+
+    /**
+     * 追加一批记录，记录写入操作系统缓冲区后即返回，需要通过 {@link #sync(long)} 确保落盘。
+     *
+     * @param payloads 表示记录内容的 {@link List}{@code <byte[]>}。
+     * @return 表示这批记录的写入序号的 {@code long}，用于等待落盘。
+     * @throws IOException 当写入失败时。
+     */
+    long append(List<byte[]> payloads) throws IOException {
+        ByteBuffer buffer = frame(payloads);
+        synchronized (this.appendLock) {
+            while (buffer.hasRemaining()) {
+                this.active.write(buffer);
+            }
+            this.activeSize += buffer.limit();
+            long ticket = ++this.appendedTicket;
+            if (this.activeSize >= this.maxSegmentBytes) {
+                this.roll();
+            }
+            return ticket;
+        }
+    }
+
+    /**
+     * 等待指定序号及之前的记录落盘，多个线程同时等待时合并为一次 fsync。
+     *
+     * @param ticket 表示 {@link #append(List)} 返回的写入序号的 {@code long}。
+     * @throws IOException 当刷盘失败时。
+     */
+    void sync(long ticket) throws IOException {
+        if (this.syncedTicket >= ticket) {
+            return;
+        }
+        synchronized (this.syncLock) {
+            if (this.syncedTicket >= ticket) {
+                return;
+            }
+            long target;
+            FileChannel channel;
+            synchronized (this.appendLock) {
+                target = this.appendedTicket;
+                channel = this.active;
+            }
+            try {
+                channel.force(false);
+            } catch (ClosedChannelException ignored) {
+                // 分段切换时已经对旧分段刷盘后才关闭，旧分段上的记录已经落盘
+            }
+            this.syncedTicket = target;
+        }
+    }
+
+    /**
+     * 压缩日志，用存活数据的快照替换当前所有已写满或者正在写的分段。
+     *
+     * @param snapshot 表示在切换分段之后获取存活数据快照的 {@link SnapshotSupplier}。
+     * @throws IOException 当读写日志文件失败时。
+     */
+    void compact(SnapshotSupplier snapshot) throws IOException {
+        synchronized (this.compactLock) {
+            long upTo;
+            synchronized (this.appendLock) {
+                upTo = this.activeNumber;
+                this.roll();
+            }
+            Path temp = this.directory.resolve(segmentName(upTo) + TEMP_SUFFIX);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                writeFully(channel, header(KIND_SNAPSHOT));
+                List<byte[]> payloads = snapshot.get();
+                if (!payloads.isEmpty()) {
+                    writeFully(channel, frame(payloads));
+                }
+                channel.force(true);
+            }
+            Files.move(temp, this.segmentPath(upTo), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            this.forceDirectory();
+            for (long number : this.segments()) {
+                if (number < upTo) {
+                    Files.deleteIfExists(this.segmentPath(number));
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取当前日志目录下的分段数量。
+     *
+     * @return 表示分段数量的 {@code int}。
+     * @throws IOException 当读取日志目录失败时。
+     */
+    int segmentCount() throws IOException {
+        return this.segments().size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.appendLock) {
+            if (this.active.isOpen()) {
+                this.active.force(false);
+                this.active.close();
+            }
+        }
+    }
+
+    private void roll() throws IOException {
+        this.active.force(false);
+        this.active.close();
+        this.open(this.activeNumber + 1);
+    }
+
+    private void open(long number) throws IOException {
+        FileChannel channel = FileChannel.open(this.segmentPath(number), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        writeFully(channel, header(KIND_LOG));
+        channel.force(false);
+        this.forceDirectory();
+        this.active = channel;
+        this.activeNumber = number;
+        this.activeSize = HEADER_SIZE;
+    }
+
+    private void replay(long number, boolean isLast, Replayer replayer) throws IOException {
+        Path path = this.segmentPath(number);
+        byte[] content = Files.readAllBytes(path);
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        if (content.length < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            LOG.warn("Skip invalid flow context segment. [path={}]", path);
+            if (isLast) {
+                Files.delete(path);
+            }
+            return;
+        }
+        if (buffer.get() == KIND_SNAPSHOT) {
+            replayer.reset();
+        }
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() > 0) {
+            int start = buffer.position();
+            if (buffer.remaining() < FRAME_HEADER_SIZE) {
+                this.truncate(path, start, isLast);
+                return;
+            }
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                this.truncate(path, start, isLast);
+                return;
+            }
+            crc.reset();
+            crc.update(content, buffer.position(), length);
+            if ((int) crc.getValue() != checksum) {
+                this.truncate(path, start, isLast);
+                return;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            replayer.replay(payload);
+        }
+    }
+
+    private void truncate(Path path, int position, boolean isLast) throws IOException {
+        if (!isLast) {
+            LOG.warn("Flow context segment is corrupted, skip the remaining records. [path={}, position={}]",
+                    path, position);
+            return;
+        }
+        LOG.warn("Truncate the torn tail of flow context segment. [path={}, position={}]", path, position);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(position);
+            channel.force(true);
+        }
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return this.directory.resolve(segmentName(number));
+    }
+
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(this.directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // 部分平台不支持对目录执行 fsync，此时依赖文件系统自身的元数据持久化
+        }
+    }
+
+    private static String segmentName(long number) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX);
+    }
+
+    private static ByteBuffer header(byte kind) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put(kind).flip();
+        return header;
+    }
+
+    private static ByteBuffer frame(List<byte[]> payloads) {
+        int size = 0;
+        for (byte[] payload : payloads) {
+            size += FRAME_HEADER_SIZE + payload.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        CRC32 crc = new CRC32();
+        for (byte[] payload : payloads) {
+            crc.reset();
+            crc.update(payload, 0, payload.length);
+            buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * 日志回放器。
+     */
+    interface Replayer {
+        /**
+         * 回放一条记录。
+         *
+         * @param payload 表示记录内容的 {@code byte[]}。
+         * @throws IOException 当解析记录失败时。
+         */
+        void replay(byte[] payload) throws IOException;
+
+        /**
+         * 遇到快照分段，清空之前回放得到的状态。
+         */
+        void reset();
+    }
+
+    /**
+     * 存活数据快照的提供者。
+     */
+    interface SnapshotSupplier {
+        /**
+         * 获取存活数据的快照。
+         *
+         * @return 表示快照中所有记录内容的 {@link List}{@code <byte[]>}。
+         * @throws IOException 当编码失败时。
+         */
+        List<byte[]> get() throws IOException;
+    }
+}
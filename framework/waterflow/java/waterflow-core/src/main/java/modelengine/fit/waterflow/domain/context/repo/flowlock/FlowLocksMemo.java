@@ -1,5 +1,5 @@
 /*---------------------------------------------------------------------------------------------
- *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  Copyright (c) 2024-2025 Huawei Technologies Co., Ltd. All rights reserved.
  *  This file is a part of the ModelEngine Project.
  *  Licensed under the MIT License. See License.txt in the project root for license information.
  *--------------------------------------------------------------------------------------------*/
@@ -16,6 +16,8 @@ import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 流程锁，内存版本的实现
+ * <p>引用计数记录正在持有或等待某个key上锁的线程数量，在加锁时增加，在加锁失败或解锁时减少，减少到 0 时清理该key上的锁。
+ * 仅获取锁对象而不加锁不会占用引用。若持有的锁对象在加锁前已被清理，加锁时会使用该key上当前有效的锁，保证同一个key上只有一把锁。</p>
  *
  * @author 高诗意
  * @since 1.0
@@ -25,12 +27,7 @@ public class FlowLocksMemo implements FlowLocks {
 
     @Override
     public Lock getLocalLock(String key) {
-        return locks.compute(key, (__, value) -> {
-            if (value == null) {
-                return new MemLockWrapper(key, new ReentrantLock(), this);
-            }
-            return value;
-        });
+        return this.locks.computeIfAbsent(key, __ -> new MemLockWrapper(key, new ReentrantLock(), this));
     }
 
     /**
@@ -46,12 +43,26 @@ public class FlowLocksMemo implements FlowLocks {
         return getLocalLock(key);
     }
 
-    private void tryCleanLocalLock(String key) {
-        this.locks.compute(key, (__, value) -> {
-            if (value == null) {
-                return null;
-            }
-            if (value.getRefCount() == 0) {
+    /**
+     * 获取缓存的锁的数量。
+     *
+     * @return 表示缓存的锁的数量的 {@code int}。
+     */
+    int size() {
+        return this.locks.size();
+    }
+
+    private MemLockWrapper retain(MemLockWrapper wrapper) {
+        return this.locks.compute(wrapper.key, (__, value) -> {
+            MemLockWrapper actual = value == null ? wrapper : value;
+            actual.refCount.incrementAndGet();
+            return actual;
+        });
+    }
+
+    private void release(MemLockWrapper wrapper) {
+        this.locks.computeIfPresent(wrapper.key, (__, value) -> {
+            if (value == wrapper && wrapper.refCount.decrementAndGet() == 0) {
                 return null;
             }
             return value;
@@ -60,7 +71,7 @@ public class FlowLocksMemo implements FlowLocks {
 
     private static class MemLockWrapper implements Lock {
         private final String key;
-        private final AtomicInteger refCount = new AtomicInteger(1);
+        private final AtomicInteger refCount = new AtomicInteger(0);
         private final ReentrantLock target;
         private final FlowLocksMemo locksMemo;
 
@@ -72,42 +83,70 @@ public class FlowLocksMemo implements FlowLocks {
 
         @Override
         public void lock() {
-            this.target.lock();
+            this.locksMemo.retain(this).target.lock();
         }
 
         @Override
         public void lockInterruptibly() throws InterruptedException {
-            this.target.lockInterruptibly();
+            MemLockWrapper actual = this.locksMemo.retain(this);
+            try {
+                actual.target.lockInterruptibly();
+            } catch (InterruptedException e) {
+                this.locksMemo.release(actual);
+                throw e;
+            }
         }
 
         @Override
         public boolean tryLock() {
-            return this.target.tryLock();
+            MemLockWrapper actual = this.locksMemo.retain(this);
+            if (actual.target.tryLock()) {
+                return true;
+            }
+            this.locksMemo.release(actual);
+            return false;
         }
 
         @Override
         public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
-            return this.target.tryLock(time, unit);
+            MemLockWrapper actual = this.locksMemo.retain(this);
+            boolean isLocked = false;
+            try {
+                isLocked = actual.target.tryLock(time, unit);
+                return isLocked;
+            } finally {
+                if (!isLocked) {
+                    this.locksMemo.release(actual);
+                }
+            }
         }
 
         @Override
         public void unlock() {
-            this.target.unlock();
-            this.refCount.decrementAndGet();
-            this.locksMemo.tryCleanLocalLock(this.key);
+            // 持有锁期间引用不为 0，当前key上的锁不会被清理，因此未持有自身的锁时，持有的一定是当前有效的锁
+            MemLockWrapper actual = this.target.isHeldByCurrentThread()
+                    ? this
+                    : this.locksMemo.locks.getOrDefault(this.key, this);
+            actual.target.unlock();
+            this.locksMemo.release(actual);
         }
 
+        /**
+         * 创建绑定到当前线程持有的锁上的条件。
+         * <p>锁对象在加锁前可能已被清理，此时真正持有的是该key上当前有效的锁，因此要求在持有锁时创建条件。</p>
+         *
+         * @return 表示绑定到当前持有的锁上的条件的 {@link Condition}。
+         * @throws IllegalMonitorStateException 当前线程未持有该key上的锁时。
+         */
         @Override
         public Condition newCondition() {
-            return this.target.newCondition();
-        }
-
-        private void addRef() {
-            this.refCount.incrementAndGet();
-        }
-
-        private int getRefCount() {
-            return this.refCount.get();
+            MemLockWrapper actual = this.target.isHeldByCurrentThread()
+                    ? this
+                    : this.locksMemo.locks.getOrDefault(this.key, this);
+            if (!actual.target.isHeldByCurrentThread()) {
+                throw new IllegalMonitorStateException("The lock must be held when creating a condition.");
+            }
+            return actual.target.newCondition();
         }
     }
 }
@@ -0,0 +1,78 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowlock;
+
+import modelengine.fitframework.inspection.Validation;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 流程锁，内存版本的分段实现
+ * <p>预先创建固定数量的{@link ReentrantLock}，按照key的哈希值映射到其中一把锁上，获取锁时不再创建锁对象，
+ * 也不需要维护引用计数和清理。不同的key可能映射到同一把锁上，只会降低并行度，不影响同一个key的互斥语义。</p>
+ * <p>因为锁是可重入的，同一个线程嵌套获取映射到同一把锁上的不同key不会死锁；
+ * 但不同线程以不同顺序嵌套获取多个key时可能因为映射到同一把锁上而死锁，此时应使用{@link FlowLocksMemo}。</p>
+ * <p>默认的流程锁仍然是{@link FlowLocksMemo}，需要时通过{@code Flows.setLocks}启用分段实现。</p>
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+public class FlowLocksStriped implements FlowLocks {
+    private static final int DEFAULT_STRIPES = 256;
+
+    private final ReentrantLock[] stripes;
+
+    private final int mask;
+
+    /**
+     * 构造方法，使用默认的分段数量
+     */
+    public FlowLocksStriped() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param stripes 分段数量，会向上取整为2的幂
+     */
+    public FlowLocksStriped(int stripes) {
+        Validation.greaterThan(stripes, 0, "The stripes should greater than 0.");
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public Lock getLocalLock(String key) {
+        return this.stripes[this.indexOf(key)];
+    }
+
+    /**
+     * 获取分布式锁，内存版本与本地锁相同
+     *
+     * @param key 分布式锁的key值
+     * @return {@link Lock} 锁对象
+     */
+    @Override
+    public Lock getDistributeLock(String key) {
+        return this.getLocalLock(key);
+    }
+
+    private int indexOf(String key) {
+        int hash = key.hashCode();
+        // 将高位扰动到低位，避免只取低位时前缀相同的key集中在少数几把锁上
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+}
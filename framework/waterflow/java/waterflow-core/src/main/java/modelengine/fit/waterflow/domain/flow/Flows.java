@@ -9,7 +9,7 @@ package modelengine.fit.waterflow.domain.flow;
 import lombok.Setter;
 import modelengine.fit.waterflow.domain.context.FlowSession;
 import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMemoMessenger;
-import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMemoRepo;
+import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextIndexedMemoRepo;
 import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMessenger;
 import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextRepo;
 import modelengine.fit.waterflow.domain.context.repo.flowlock.FlowLocks;
@@ -46,7 +46,7 @@ public final class Flows {
     private static FlowLocks locks;
 
     static {
-        setRepo(new FlowContextMemoRepo());
+        setRepo(new FlowContextIndexedMemoRepo());
         setMessenger(new FlowContextMemoMessenger());
         setLocks(new FlowLocksMemo());
     }
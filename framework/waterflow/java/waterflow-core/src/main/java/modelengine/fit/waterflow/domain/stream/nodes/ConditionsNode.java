@@ -11,7 +11,7 @@ import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMess
 import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextRepo;
 import modelengine.fit.waterflow.domain.context.repo.flowlock.FlowLocks;
 import modelengine.fit.waterflow.domain.enums.FlowNodeType;
-import modelengine.fit.waterflow.domain.utils.UUIDUtil;
+import modelengine.fit.waterflow.domain.utils.IdGenerator;
 import modelengine.fitframework.util.CollectionUtils;
 
 import java.util.List;
@@ -36,7 +36,7 @@ public class ConditionsNode<I> extends Node<I, I> {
      */
     public ConditionsNode(String streamId, FlowContextRepo repo, FlowContextMessenger messenger, FlowLocks locks) {
         super(streamId, FlowContext::getData, repo, messenger, locks, () -> initFrom(streamId, repo, messenger, locks));
-        super.id = "condition:" + UUIDUtil.uuid();
+        super.id = "condition:" + IdGenerator.nextId();
     }
 
     /**
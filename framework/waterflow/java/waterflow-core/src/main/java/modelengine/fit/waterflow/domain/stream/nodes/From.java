@@ -30,7 +30,6 @@ import modelengine.fit.waterflow.domain.stream.reactive.Subscriber;
 import modelengine.fit.waterflow.domain.stream.reactive.Subscription;
 import modelengine.fit.waterflow.domain.stream.reactive.When;
 import modelengine.fit.waterflow.domain.utils.IdGenerator;
-import modelengine.fit.waterflow.domain.utils.UUIDUtil;
 import modelengine.fit.waterflow.exceptions.WaterflowException;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.util.CollectionUtils;
@@ -460,8 +459,8 @@ public class From<I> extends IdGenerator implements Publisher<I> {
 
     // 开始节点无需处理直接标记结束
     private List<FlowContext<I>> startNodeMarkAsHandled(List<FlowContext<I>> preList, FlowTrace trace) {
-        String fromBatchId = UUIDUtil.uuid();
-        String toBatchId = UUIDUtil.uuid();
+        String fromBatchId = IdGenerator.nextId();
+        String toBatchId = IdGenerator.nextId();
         trace.setStartNode(this.getId());
         trace.setStreamId(this.streamId);
         trace.setStatus(FlowTraceStatus.RUNNING);
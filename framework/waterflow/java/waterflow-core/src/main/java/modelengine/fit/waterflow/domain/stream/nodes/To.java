@@ -32,8 +32,6 @@ import modelengine.fit.waterflow.domain.stream.reactive.Subscription;
 import modelengine.fit.waterflow.domain.utils.FlowExecutors;
 import modelengine.fit.waterflow.domain.utils.IdGenerator;
 import modelengine.fit.waterflow.domain.utils.Identity;
-import modelengine.fit.waterflow.domain.utils.SleepUtil;
-import modelengine.fit.waterflow.domain.utils.UUIDUtil;
 import modelengine.fit.waterflow.exceptions.WaterflowException;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.log.Logger;
@@ -51,6 +49,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -67,15 +68,16 @@ import java.util.stream.Stream;
 public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
     private static final Logger LOG = Logger.get(To.class);
 
-    private static final String PROCESS_T_NAME_PREFIX = "NodeProcessT";
-
-    private static final String PRE_PROCESS_T_NAME_PREFIX = "NodePreProcessT";
-
     /**
-     * 最大流量，也就是该节点可以处理的最大数据量
+     * 默认的最大并发批次数量
+     * 同一会话的批次总是依次处理，不同会话的批次可以同时处理，
+     * 需要所有批次严格按照到达的顺序处理时，可以通过{@link #setMaxConcurrency(int)}设置为1
      */
     private static final int MAX_CONCURRENCY = 10;
 
+    /**
+     * 读取数据异常时，重新调度节点之前等待的毫秒数
+     */
     private static final int SLEEP_MILLS = 10;
 
     /**
@@ -142,7 +144,8 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
 
     private Operators.Validator<I> validator = (repo, to) -> repo.requestMappingContext(to.streamId,
             to.froms.stream().map(Identity::getId).collect(Collectors.toList()),
-            to.processingSessions);
+            to.processingSessions,
+            to.busySessions);
 
     private Blocks.Block<I> block = null;
 
@@ -168,14 +171,16 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
     private volatile int curConcurrency = 0;
 
     /**
-     * 当前节点预处理是否在运行中
+     * 正在本节点处理保序数据的会话，这些会话同时只有一个批次在处理，保证保序数据的处理顺序
+     * 不需要保序的数据（index为-1）不占用会话，同一会话内仍然并发处理
      */
-    private volatile boolean preProcessRunning = false;
+    private final Set<String> busySessions = ConcurrentHashMap.newKeySet();
 
     /**
-     * 当前节点处理是否在运行中
+     * 最近派发且仍在节奏控制中的批次，该批次处理完成或者派发超过SLEEP_MILLS后才派发下一批次
+     * 处理较快的数据按照到达的顺序逐批次处理，处理较慢的数据仍然可以多个批次并发处理
      */
-    private volatile boolean processRunning = false;
+    private final AtomicReference<Object> pacingBatch = new AtomicReference<>();
 
     /**
      * 数据处理完后callback函数，用于外界的侦听或者数据处理完后后续操作
@@ -191,9 +196,11 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
 
     private boolean isAuto = true;
 
-    private Thread processT = null;
+    private final NodeTrigger preProcessTrigger = new NodeTrigger(ProcessType.PRE_PROCESS);
 
-    private Thread preProcessT = null;
+    private final NodeTrigger processTrigger = new NodeTrigger(ProcessType.PROCESS);
+
+    private volatile LockKeys lockKeys;
 
     private final Map<Object, EmitterListener<O, FlowSession>> listeners = new ConcurrentHashMap<>();
 
@@ -323,35 +330,18 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         }
     }
 
-    private synchronized void triggerNodeProcessor(ProcessType type) {
-        if (type == ProcessType.PRE_PROCESS && (preProcessT == null || !preProcessRunning)) {
-            preProcessRunning = true;
-            String threadName = getThreadName(PRE_PROCESS_T_NAME_PREFIX);
-            preProcessT = new Thread(() -> preProcess(type), threadName);
-            preProcessT.setUncaughtExceptionHandler((thread, error) -> LOG.error("run preProcessT error, message:{}",
-                    error.getMessage()));
-            preProcessT.start();
-            LOG.debug("[{}] preprocess main loop starts for stream-id: {}, node-id: {}",
-                    threadName,
-                    this.streamId,
-                    this.id);
-        }
-        if (type == ProcessType.PROCESS && (processT == null || !processRunning)) {
-            processRunning = true;
-            String threadName = getThreadName(PROCESS_T_NAME_PREFIX);
-            processT = new Thread(() -> process(type), threadName);
-            processT.setUncaughtExceptionHandler((thread, error) -> LOG.error("run processT error, message:{}",
-                    error.getMessage()));
-            processT.start();
-            LOG.debug("[{}] process main loop starts for stream-id: {}, node-id: {}",
-                    threadName,
-                    this.streamId,
-                    this.id);
+    /**
+     * 通知节点有新的数据到达或者有空闲的并发，由共享的调度线程池调度节点去 request 边上的数据
+     *
+     * @param type 触发节点处理的类型，有PRE_PROCESS和PROCESS两种
+     */
+    private void triggerNodeProcessor(ProcessType type) {
+        if (type == ProcessType.PRE_PROCESS) {
+            this.preProcessTrigger.signal();
+        }
+        if (type == ProcessType.PROCESS) {
+            this.processTrigger.signal();
         }
-    }
-
-    private String getThreadName(String tNamePrefix) {
-        return StringUtils.join(Constants.STREAM_ID_SEPARATOR, tNamePrefix, this.streamId, this.id);
     }
 
     private boolean inParallelMode(List<FlowContext<I>> contexts) {
@@ -364,34 +354,26 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
      * 其次过滤出ready的contexts，并且将其标记为sent，然后释放分布式锁
      * 最后将ready的contexts通过事件发送给引擎外部
      * 保证一批次contexts一次只有一个线程在处理
-     * 非常重要！退出机制增加保护策略，避免A线程退出过程中，B线程放数据到边上数据得不到处理的场景：
-     * 这时A线程未标记退出，B线程已经完成触发动作，B线程以为A线程还在处理，而A线程直接就会退出，因此由A线程判断是否再触发一次
+     * 边上没有数据时直接返回，不再轮询，新数据到达时会通过{@link NodeTrigger}再次调度
      */
     private void preProcess(ProcessType type) {
-        while (true) {
-            List<FlowContext<I>> ready = new ArrayList<>();
-            try {
-                ready = requestReady();
-                if (CollectionUtils.isEmpty(ready)) {
-                    preProcessRunning = false;
-                    LOG.debug("[{}] preprocess main loop exit for stream-id: {}, node-id: {}",
-                            this.getThreadName(PRE_PROCESS_T_NAME_PREFIX),
-                            this.streamId,
-                            this.id);
-                    this.handlePreProcessConcurrentConflict();
-                    return;
-                }
+        List<FlowContext<I>> ready = new ArrayList<>();
+        try {
+            // 一次加锁取走边上所有pending的数据，处理期间新到达的数据会再次触发调度，因此不需要再加锁轮询一次
+            ready = requestReady();
+            if (CollectionUtils.isNotEmpty(ready)) {
                 messenger.send(this.getId(), ready);
-            } catch (Exception ex) {
-                ready.forEach( // 如果是数据库或者redis挂了，会死循环，线程不退出等待数据库或者redis恢复
-                        r -> LOG.error("Preprocess main loop exception stream-id: {}, node-id: {}, context-id: {}.",
-                                this.streamId,
-                                this.id,
-                                r.getId()));
-                LOG.debug("Preprocess main loop exception details: ", ex);
-            } finally {
-                SleepUtil.sleep(SLEEP_MILLS);
             }
+            LOG.debug("Preprocess drain exit for stream-id: {}, node-id: {}", this.streamId, this.id);
+        } catch (Exception ex) {
+            ready.forEach( // 如果是数据库或者redis挂了，会延迟重试，等待数据库或者redis恢复
+                    r -> LOG.error("Preprocess main loop exception stream-id: {}, node-id: {}, context-id: {}.",
+                            this.streamId,
+                            this.id,
+                            r.getId()));
+            LOG.debug("Preprocess main loop exception details: ", ex);
+            // 延迟一段时间后重新调度，不占用调度线程等待
+            this.triggerNodeProcessorLater(type, SLEEP_MILLS);
         }
     }
 
@@ -399,21 +381,6 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         this.getProcessMode().request(type, this);
     }
 
-    private void handlePreProcessConcurrentConflict() {
-        List<FlowContext<I>> concurrentConflictContexts = this.preFilter()
-                .process(flowContextRepo.getContextsByPosition(this.streamId,
-                        this.froms.stream().map(Identity::getId).collect(Collectors.toList()),
-                        FlowNodeStatus.PENDING.toString()));
-        if (CollectionUtils.isEmpty(concurrentConflictContexts) || inParallelMode(concurrentConflictContexts)) {
-            return;
-        }
-        LOG.info("[{}] preprocess thread conflict happens for stream-id: {}, node-id: {}",
-                this.getThreadName(PRE_PROCESS_T_NAME_PREFIX),
-                this.streamId,
-                this.id);
-        this.accept(ProcessType.PRE_PROCESS, concurrentConflictContexts);
-    }
-
     /**
      * PREPROCESS与PROCESS拿到的context会冲突
      * PREPROCESS查询边上PENDING的数据，且SENT为false
@@ -424,7 +391,7 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
      * @return ready的contextList
      */
     private List<FlowContext<I>> requestReady() {
-        Lock lock = locks.getDistributeLock(locks.lockKey(this.streamId, this.id, "PreProcess"));
+        Lock lock = locks.getDistributeLock(this.lockKeys().preProcess);
         lock.lock();
         try {
             List<FlowContext<I>> contexts = this.preFilter()
@@ -634,6 +601,51 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         this.curConcurrency += newConcurrency;
     }
 
+    private List<String> occupySessions(List<FlowContext<I>> contexts) {
+        List<String> sessionIds = contexts.stream()
+                .filter(context -> context.getIndex() != -1)
+                .map(context -> context.getSession().getId())
+                .distinct()
+                .collect(Collectors.toList());
+        this.busySessions.addAll(sessionIds);
+        return sessionIds;
+    }
+
+    private List<FlowContext<I>> withoutBusySessions(List<FlowContext<I>> contexts) {
+        if (this.busySessions.isEmpty()) {
+            return contexts;
+        }
+        return contexts.stream()
+                .filter(context -> !this.busySessions.contains(context.getSession().getId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 批次处理完成后释放其占用的会话，并重新调度节点，处理这些会话中后续到达的数据
+     *
+     * @param type 处理类型
+     * @param sessionIds 批次占用的会话
+     */
+    private void releaseSessions(ProcessType type, List<String> sessionIds) {
+        this.busySessions.removeAll(sessionIds);
+        this.triggerNodeProcessor(type);
+    }
+
+    private void startPacing(ProcessType type, Object batch) {
+        this.pacingBatch.set(batch);
+        FlowExecutors.schedule(() -> this.finishPacing(type, batch), SLEEP_MILLS);
+    }
+
+    private void finishPacing(ProcessType type, Object batch) {
+        if (this.pacingBatch.compareAndSet(batch, null)) {
+            this.triggerNodeProcessor(type);
+        }
+    }
+
+    private FlowExecutors.ConcurrencyWaiter concurrencyWaiter(ProcessType type) {
+        return type == ProcessType.PRE_PROCESS ? this.preProcessTrigger.waiter : this.processTrigger.waiter;
+    }
+
     /**
      * 判断该节点是否达到负载上限
      *
@@ -643,6 +655,21 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         return this.curConcurrency >= this.maxConcurrency;
     }
 
+    /**
+     * 延迟触发节点的调度，用于数据库或者分布式锁异常时的重试
+     *
+     * @param type 处理类型
+     * @param delayMillis 延迟的毫秒数
+     */
+    private void triggerNodeProcessorLater(ProcessType type, long delayMillis) {
+        if (type == ProcessType.PRE_PROCESS) {
+            this.preProcessTrigger.signalLater(delayMillis);
+        }
+        if (type == ProcessType.PROCESS) {
+            this.processTrigger.signalLater(delayMillis);
+        }
+    }
+
     /**
      * 节点处理处理完后执行的操作，默认是保存处理之前和之后的对上下文
      *
@@ -685,7 +712,7 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
                 .filter(context -> StringUtils.isNotEmpty(context.getToBatch()))
                 .findAny()
                 .map(FlowContext::getToBatch)
-                .orElseGet(UUIDUtil::uuid);
+                .orElseGet(IdGenerator::nextId);
         preList.forEach(context -> context.toBatch(toBatch));
         afterList.forEach(context -> context.batchId(toBatch));
     }
@@ -878,6 +905,9 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
 
         /**
          * 节点 request 边上 pending 的数据
+         * 节点或者引擎的并发已满时直接返回，在有批次处理完成、释放并发后会再次调度该节点，不按时间间隔轮询
+         * 上一批次处理完成或者派发超过SLEEP_MILLS后才派发下一批次，较快的批次按照数据到达的顺序处理
+         * 读取数据异常时延迟重新调度，不在调度线程中等待
          *
          * @param <T1> 流程实例执行时的入参数据类型
          * @param <R1> 流程实例执行时的出参数据类型
@@ -886,47 +916,48 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
          */
         public <T1, R1> void request(ProcessType type, To<T1, R1> to) {
             while (true) {
-                if (to.isOverLimit()) {
-                    SleepUtil.sleep(SLEEP_MILLS);
-                    continue;
+                if (to.isOverLimit() || to.pacingBatch.get() != null) {
+                    return;
                 }
-                Optional<FlowExecutors.ConcurrencyHolder> concurrencyHolder = FlowExecutors.incrementConcurrency();
+                Optional<FlowExecutors.ConcurrencyHolder> concurrencyHolder =
+                        FlowExecutors.incrementConcurrency(to.concurrencyWaiter(type));
                 if (!concurrencyHolder.isPresent()) {
-                    SleepUtil.sleep(SLEEP_MILLS);
-                    continue;
+                    return;
                 }
                 boolean isSubmitted = false;
                 List<FlowContext<T1>> ready = new ArrayList<>();
+                List<String> sessionIds = Collections.emptyList();
+                Object batch = new Object();
                 try {
                     ready = requestReady(to);
                     if (CollectionUtils.isEmpty(ready)) {
-                        to.processRunning = false;
-                        LOG.debug("[{}] process main loop exit for stream-id: {}, node-id: {}",
-                                to.getThreadName(To.PROCESS_T_NAME_PREFIX),
-                                to.streamId,
-                                to.id);
-                        handleProcessConcurrentConflict(to);
+                        LOG.debug("Process drain exit for stream-id: {}, node-id: {}", to.streamId, to.id);
                         return;
                     }
+                    sessionIds = to.occupySessions(ready);
                     if (to.inParallelMode(ready)) {
                         to.onProcess(type, ready, false);
                     } else {
-                        this.submit(type, to, ready, concurrencyHolder.get());
+                        to.startPacing(type, batch);
+                        this.submit(type, to, ready, batch, sessionIds, concurrencyHolder.get());
                         isSubmitted = true;
                     }
                 } catch (Exception ex) {
-                    // 如果是数据库或者redis挂了，会死循环，线程不退出等待数据库或者redis恢复
+                    // 如果是数据库或者redis挂了，会延迟重试，等待数据库或者redis恢复
                     ready.forEach(r -> LOG.error(
                             "Process main loop exception, " + "stream-id: {}, node-id: {}, context-id: {}.",
                             to.streamId,
                             to.id,
                             r.getId()));
                     LOG.debug("Process main loop exception details: ", ex);
+                    to.triggerNodeProcessorLater(type, SLEEP_MILLS);
+                    return;
                 } finally {
                     if (!isSubmitted) {
+                        to.pacingBatch.compareAndSet(batch, null);
+                        to.busySessions.removeAll(sessionIds);
                         concurrencyHolder.get().release();
                     }
-                    SleepUtil.sleep(SLEEP_MILLS);
                 }
             }
         }
@@ -942,10 +973,11 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         protected abstract <T1, R1> List<FlowContext<T1>> requestAll(To<T1, R1> to);
 
         private <T1, R1> List<FlowContext<T1>> requestReady(To<T1, R1> to) {
-            Lock lock = to.locks.getDistributeLock(to.locks.lockKey(to.streamId, to.id, "RequestReady"));
+            Lock lock = to.locks.getDistributeLock(to.lockKeys().requestReady);
             lock.lock();
             try {
-                List<FlowContext<T1>> ready = filterReady(to, requestAll(to));
+                // 跳过正在处理保序数据的会话，这些会话的下一批次保序数据在上一批次处理完成后再派发
+                List<FlowContext<T1>> ready = filterReady(to, to.withoutBusySessions(requestAll(to)));
                 ready = to.filterTerminate(ready);
                 if (CollectionUtils.isEmpty(ready)) {
                     return new ArrayList<>();
@@ -978,26 +1010,110 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         }
 
         private <T1, R1> void submit(ProcessType type, To<T1, R1> to, List<FlowContext<T1>> ready,
-                FlowExecutors.ConcurrencyHolder concurrencyHolder) {
+                Object batch, List<String> sessionIds, FlowExecutors.ConcurrencyHolder concurrencyHolder) {
             FlowExecutors.getThreadPool().execute(Task.builder().runnable(() -> {
-                to.onProcess(type, ready, true);
-                concurrencyHolder.release();
+                try {
+                    // 处理完成后由releaseSessions统一重新调度节点
+                    to.onProcess(type, ready, false);
+                } finally {
+                    to.finishPacing(type, batch);
+                    to.releaseSessions(type, sessionIds);
+                    concurrencyHolder.release();
+                }
             }).buildDisposable());
         }
+    }
 
-        private <T1, R1> void handleProcessConcurrentConflict(To<T1, R1> to) {
-            List<FlowContext<T1>> pending = requestAll(to).stream()
-                    .filter(context -> !context.getParallelMode().equals(ParallelMode.EITHER.name())
-                            || context.isJoined() || !to.isParallelJoined(context))
-                    .collect(Collectors.toList());
-            if (CollectionUtils.isEmpty(pending) || to.inParallelMode(pending)) {
+    private LockKeys lockKeys() {
+        LockKeys keys = this.lockKeys;
+        if (keys == null || !Objects.equals(keys.nodeId, this.id)) {
+            keys = new LockKeys(this.id);
+            this.lockKeys = keys;
+        }
+        return keys;
+    }
+
+    /**
+     * 节点的锁key，节点id不变时复用，避免每次请求数据都重新拼接
+     */
+    private final class LockKeys {
+        private final String nodeId;
+
+        private final String preProcess;
+
+        private final String requestReady;
+
+        private LockKeys(String nodeId) {
+            this.nodeId = nodeId;
+            this.preProcess = To.this.locks.lockKey(To.this.streamId, nodeId, "PreProcess");
+            this.requestReady = To.this.locks.lockKey(To.this.streamId, nodeId, "RequestReady");
+        }
+    }
+
+    /**
+     * 节点的调度触发器，替代每个节点常驻的轮询线程
+     * 每次触发只增加一个信号计数，计数从0变为1时向共享的调度线程池提交一次调度，
+     * 调度过程中新到达的触发会让调度在结束前再执行一轮，因此不会丢失通知，同一节点同一类型的调度也不会并发执行
+     */
+    private final class NodeTrigger {
+        private final ProcessType type;
+
+        private final AtomicInteger signals = new AtomicInteger();
+
+        private final AtomicBoolean isDelayedSignalPending = new AtomicBoolean(false);
+
+        /**
+         * 引擎并发已满时登记的等待者，固定为同一个对象，重复登记时只会被通知一次
+         * 节点自身并发已满或者正在等待上一批次时拿不到被释放的并发，不接受通知
+         */
+        private final FlowExecutors.ConcurrencyWaiter waiter = new FlowExecutors.ConcurrencyWaiter() {
+            @Override
+            public boolean isReady() {
+                return !To.this.isOverLimit() && To.this.pacingBatch.get() == null;
+            }
+
+            @Override
+            public void onReleased() {
+                NodeTrigger.this.signal();
+            }
+        };
+
+        private NodeTrigger(ProcessType type) {
+            this.type = type;
+        }
+
+        private void signal() {
+            if (this.signals.getAndIncrement() == 0) {
+                FlowExecutors.schedule(this::drain);
+            }
+        }
+
+        private void signalLater(long delayMillis) {
+            if (!this.isDelayedSignalPending.compareAndSet(false, true)) {
                 return;
             }
-            LOG.info("[{}] process thread conflict happens for stream-id: {}, node-id: {}",
-                    to.getThreadName(To.PROCESS_T_NAME_PREFIX),
-                    to.streamId,
-                    to.id);
-            to.accept(ProcessType.PROCESS, pending);
+            FlowExecutors.schedule(() -> {
+                this.isDelayedSignalPending.set(false);
+                this.signal();
+            }, delayMillis);
+        }
+
+        private void drain() {
+            int missed = this.signals.get();
+            do {
+                try {
+                    if (this.type == ProcessType.PRE_PROCESS) {
+                        To.this.preProcess(this.type);
+                    } else {
+                        To.this.process(this.type);
+                    }
+                } catch (Exception ex) {
+                    LOG.error("Node drain exception. [streamId={}, nodeId={}, type={}, causedBy={}]",
+                            To.this.streamId, To.this.id, this.type, ex.getClass().getName());
+                    LOG.debug("Node drain exception details: ", ex);
+                }
+                missed = this.signals.addAndGet(-missed);
+            } while (missed != 0);
         }
     }
 }
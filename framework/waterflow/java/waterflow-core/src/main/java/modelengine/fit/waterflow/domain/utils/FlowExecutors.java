@@ -9,10 +9,15 @@ package modelengine.fit.waterflow.domain.utils;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.schedule.ThreadPoolScheduler;
 import modelengine.fitframework.thread.DefaultThreadFactory;
 
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
@@ -29,10 +34,16 @@ public final class FlowExecutors {
 
     private static final int CORE_THREAD_COUNT = 8;
 
+    private static final int SCHEDULER_THREAD_COUNT = Math.max(4, Runtime.getRuntime().availableProcessors());
+
     private static final Logger LOG = Logger.get(FlowExecutors.class);
 
     private static final ThreadPoolExecutor THREAD_POOL;
 
+    private static final ThreadPoolScheduler SCHEDULER;
+
+    private static final Set<ConcurrencyWaiter> CONCURRENCY_WAITERS = new LinkedHashSet<>();
+
     private static AtomicInteger currentConcurrency = new AtomicInteger(0);
 
     static {
@@ -51,6 +62,11 @@ public final class FlowExecutors {
                 .rejectedExecutionHandler(new AbortPolicy())
                 .build();
         THREAD_POOL = newPool;
+        SCHEDULER = ThreadPoolScheduler.custom()
+                .threadPoolName("flow-node-scheduler")
+                .corePoolSize(SCHEDULER_THREAD_COUNT)
+                .isDaemonThread(true)
+                .build();
     }
 
     /**
@@ -62,6 +78,45 @@ public final class FlowExecutors {
         return THREAD_POOL;
     }
 
+    /**
+     * 在节点调度线程池中执行节点的调度任务
+     * 调度线程池由所有流程的所有节点共享，节点只在有新数据或者有空闲并发时才会被调度
+     *
+     * @param task 节点调度任务
+     */
+    public static void schedule(Runnable task) {
+        SCHEDULER.schedule(Task.builder().runnable(task).build());
+    }
+
+    /**
+     * 延迟指定的时间后在节点调度线程池中执行节点的调度任务
+     *
+     * @param task 节点调度任务
+     * @param delayMillis 延迟的毫秒数
+     */
+    public static void schedule(Runnable task, long delayMillis) {
+        SCHEDULER.schedule(Task.builder().runnable(task).build(), delayMillis);
+    }
+
+    /**
+     * 增加一个并发，如果并发已满，则登记调用者，在有并发被释放时通知调用者
+     * 每次释放并发按登记顺序通知第一个还能使用并发的调用者，同一个等待者重复登记只保留一次，
+     * 因此调用者应该传入固定的等待者，而不是每次新建
+     *
+     * @param waiter 并发已满时登记的等待者
+     * @return 并发持有对象。如果无法增加并发则返回null对象
+     */
+    public static synchronized Optional<ConcurrencyHolder> incrementConcurrency(ConcurrencyWaiter waiter) {
+        Optional<ConcurrencyHolder> holder = incrementConcurrency();
+        if (holder.isPresent()) {
+            // 已经拿到并发，之前的登记不再需要通知
+            CONCURRENCY_WAITERS.remove(waiter);
+        } else {
+            CONCURRENCY_WAITERS.add(waiter);
+        }
+        return holder;
+    }
+
     /**
      * 增加一个并发
      *
@@ -75,8 +130,25 @@ public final class FlowExecutors {
         return Optional.of(new ConcurrencyHolder());
     }
 
-    private static synchronized void decrementConcurrency() {
-        currentConcurrency.decrementAndGet();
+    private static void decrementConcurrency() {
+        ConcurrencyWaiter waiter = null;
+        synchronized (FlowExecutors.class) {
+            currentConcurrency.decrementAndGet();
+            Iterator<ConcurrencyWaiter> waiters = CONCURRENCY_WAITERS.iterator();
+            while (waiters.hasNext()) {
+                ConcurrencyWaiter next = waiters.next();
+                waiters.remove();
+                // 自身并发已满的等待者拿不到这个并发，跳过它继续通知下一个，它在自身并发释放后会重新登记
+                if (next.isReady()) {
+                    waiter = next;
+                    break;
+                }
+            }
+        }
+        // 只通知一个调用者，被通知的调用者用完或者放弃并发后会再次释放，继续通知下一个调用者
+        if (waiter != null) {
+            waiter.onReleased();
+        }
     }
 
     /**
@@ -90,6 +162,26 @@ public final class FlowExecutors {
         FixedKeyThreadPool.get().execute(key, task);
     }
 
+    /**
+     * 引擎并发已满时登记的等待者
+     *
+     * @author 高诗意
+     * @since 1.0
+     */
+    public interface ConcurrencyWaiter {
+        /**
+         * 判断等待者当前是否还能使用被释放的并发，例如节点自身的并发是否已满
+         *
+         * @return 能使用被释放的并发时返回true，否则返回false
+         */
+        boolean isReady();
+
+        /**
+         * 有并发被释放时的通知
+         */
+        void onReleased();
+    }
+
     /**
      * 并发持有对象
      *
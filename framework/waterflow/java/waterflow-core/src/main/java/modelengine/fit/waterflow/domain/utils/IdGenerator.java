@@ -6,9 +6,13 @@
 
 package modelengine.fit.waterflow.domain.utils;
 
+import modelengine.fitframework.inspection.Validation;
+
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.UUID;
+
 /**
  * ID生成器抽象类
  *
@@ -16,6 +20,8 @@ import lombok.Setter;
  * @since 1.0
  */
 public abstract class IdGenerator implements Identity {
+    private static volatile Strategy strategy = Strategy.RANDOM;
+
     /**
      * id
      */
@@ -27,7 +33,7 @@ public abstract class IdGenerator implements Identity {
      * 构造函数
      */
     public IdGenerator() {
-        this(UUIDUtil.uuid());
+        this(nextId());
     }
 
     /**
@@ -38,4 +44,92 @@ public abstract class IdGenerator implements Identity {
     public IdGenerator(String id) {
         this.id = id;
     }
+
+    /**
+     * 设置全局的ID生成策略，只影响设置之后生成的ID
+     *
+     * @param strategy ID生成策略
+     */
+    public static void setStrategy(Strategy strategy) {
+        IdGenerator.strategy = Validation.notNull(strategy, "The id strategy cannot be null.");
+    }
+
+    /**
+     * 获取当前的ID生成策略
+     *
+     * @return ID生成策略
+     */
+    public static Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * 按照当前的ID生成策略生成ID，用于context、trace、batch等需要唯一标识的对象
+     *
+     * @return 32位十六进制的ID
+     */
+    public static String nextId() {
+        return strategy.nextId();
+    }
+
+    /**
+     * 按照当前的ID生成策略生成 {@link UUID}，用于window等以 {@link UUID} 作为标识的对象
+     *
+     * @return 生成的 {@link UUID}
+     */
+    public static UUID nextUuid() {
+        return strategy.nextUuid();
+    }
+
+    /**
+     * ID生成策略
+     *
+     * @author 高诗意
+     * @since 1.0
+     */
+    public enum Strategy {
+        /**
+         * 基于 {@link UUID#randomUUID()} 的随机ID，默认策略
+         */
+        RANDOM {
+            @Override
+            public String nextId() {
+                return UUIDUtil.uuid();
+            }
+
+            @Override
+            public UUID nextUuid() {
+                return UUID.randomUUID();
+            }
+        },
+
+        /**
+         * 按时间有序的ID，无锁且使用线程本地随机数，适合高吞吐的场景，详见 {@link OrderedIdUtil}
+         */
+        TIME_ORDERED {
+            @Override
+            public String nextId() {
+                return OrderedIdUtil.next();
+            }
+
+            @Override
+            public UUID nextUuid() {
+                return OrderedIdUtil.nextUuid();
+            }
+        };
+
+        /**
+         * 生成ID
+         *
+         * @return 32位十六进制的ID
+         */
+        public abstract String nextId();
+
+        /**
+         * 生成 {@link UUID}
+         *
+         * @return 生成的 {@link UUID}
+         */
+        public abstract UUID nextUuid();
+    }
 }
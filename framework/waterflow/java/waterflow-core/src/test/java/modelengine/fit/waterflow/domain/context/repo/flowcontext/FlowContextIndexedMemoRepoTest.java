@@ -0,0 +1,235 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * {@link FlowContextIndexedMemoRepo} 的测试用例。
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@DisplayName("带索引的内存上下文持久化测试用例集合")
+class FlowContextIndexedMemoRepoTest {
+    private static final String STREAM_ID = "stream";
+
+    private static final String PENDING = FlowNodeStatus.PENDING.toString();
+
+    private static FlowContext<Integer> context(int data, String position, String trace) {
+        FlowContext<Integer> context = new FlowContext<>(STREAM_ID, "root", data, Collections.singleton(trace),
+                position, new FlowSession());
+        context.setStatus(FlowNodeStatus.PENDING);
+        context.batchId("batch");
+        return context;
+    }
+
+    private static List<String> ids(List<? extends FlowContext<?>> contexts) {
+        return contexts.stream().map(FlowContext::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("查询结果与顺序和FlowContextMemoRepo保持一致")
+    void shouldQueryTheSameAsMemoRepo() {
+        FlowContextRepo indexed = new FlowContextIndexedMemoRepo(true);
+        FlowContextRepo memo = new FlowContextMemoRepo(true);
+        List<FlowContext<Integer>> contexts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            FlowContext<Integer> context = context(i, "p" + (i % 3), "t" + (i % 5));
+            context.setParallel(i % 7 == 0 ? "parallel" : "");
+            contexts.add(context);
+        }
+        indexed.save(contexts);
+        memo.save(contexts);
+        List<FlowContext<Integer>> sent = contexts.subList(10, 30);
+        sent.forEach(context -> context.setSent(true));
+        indexed.updateToSent(sent);
+        memo.updateToSent(sent);
+        List<FlowContext<Integer>> moved = contexts.subList(50, 60);
+        moved.forEach(context -> context.setPosition("p9").setStatus(FlowNodeStatus.READY));
+        indexed.updateStatus(moved, FlowNodeStatus.READY.toString(), "p9");
+        memo.updateStatus(moved, FlowNodeStatus.READY.toString(), "p9");
+
+        List<String> positions = Arrays.asList("p0", "p2", "p9");
+        assertEquals(ids(memo.getContextsByPosition(STREAM_ID, positions, PENDING)),
+                ids(indexed.getContextsByPosition(STREAM_ID, positions, PENDING)));
+        assertEquals(ids(memo.getContextsByPosition(STREAM_ID, "p9", "batch", FlowNodeStatus.READY.toString())),
+                ids(indexed.getContextsByPosition(STREAM_ID, "p9", "batch", FlowNodeStatus.READY.toString())));
+        assertEquals(ids(memo.getContextsByTrace("t3")), ids(indexed.getContextsByTrace("t3")));
+        assertEquals(ids(memo.getContextsByParallel("parallel")), ids(indexed.getContextsByParallel("parallel")));
+        assertEquals(ids(memo.requestMappingContext(STREAM_ID, positions, new HashMap<>())),
+                ids(indexed.requestMappingContext(STREAM_ID, positions, new HashMap<>())));
+        assertEquals(ids(memo.requestProducingContext(STREAM_ID, positions, all -> all)),
+                ids(indexed.requestProducingContext(STREAM_ID, positions, all -> all)));
+        List<String> some = ids(contexts.subList(0, 40));
+        Collections.reverse(some);
+        assertEquals(ids(memo.getPendingAndSentByIds(some)), ids(indexed.getPendingAndSentByIds(some)));
+        assertSame(contexts.get(42), indexed.getById(contexts.get(42).getId()));
+    }
+
+    @Test
+    @DisplayName("上下文状态、位置、序号变化及删除后索引保持一致")
+    void shouldKeepIndexesConsistentThroughUpdates() {
+        FlowContextRepo repo = new FlowContextIndexedMemoRepo();
+        FlowContext<Integer> first = context(1, "p1", "t1");
+        FlowContext<Integer> second = context(2, "p1", "t1");
+        repo.save(Arrays.asList(first, second));
+
+        first.setSent(true);
+        repo.updateToSent(Collections.singletonList(first));
+        assertEquals(Collections.singletonList(second.getId()),
+                ids(repo.getContextsByPosition(STREAM_ID, Collections.singletonList("p1"), PENDING)));
+
+        second.setPosition("p2").setStatus(FlowNodeStatus.READY);
+        repo.updateStatus(Collections.singletonList(second), FlowNodeStatus.READY.toString(), "p2");
+        assertTrue(repo.getContextsByPosition(STREAM_ID, "p1", "batch", PENDING)
+                .stream()
+                .noneMatch(context -> context.getId().equals(second.getId())));
+        assertEquals(Collections.singletonList(second.getId()),
+                ids(repo.getContextsByPosition(STREAM_ID, "p2", "batch", FlowNodeStatus.READY.toString())));
+
+        FlowContext<Integer> reordered = context(1, "p1", "t1");
+        reordered.setId(first.getId());
+        reordered.setIndex(5);
+        repo.updateIndex(Collections.singletonList(reordered));
+        assertEquals(5, (int) repo.<Integer>getById(first.getId()).getIndex());
+
+        second.setStatus(FlowNodeStatus.ARCHIVED);
+        repo.save(Collections.singletonList(second));
+        assertNull(repo.getById(second.getId()));
+        assertEquals(Collections.singletonList(first.getId()), ids(repo.getContextsByTrace("t1")));
+    }
+
+    @Test
+    @DisplayName("直接修改上下文而不写回时索引不变，写回后按照新属性查询")
+    void shouldReindexOnlyWhenWrittenBack() {
+        FlowContextRepo repo = new FlowContextIndexedMemoRepo();
+        FlowContext<Integer> context = context(1, "p1", "t1");
+        repo.save(Collections.singletonList(context));
+
+        context.setPosition("p2");
+        assertTrue(repo.getContextsByPosition(STREAM_ID, Collections.singletonList("p1"), PENDING).isEmpty());
+        assertTrue(repo.getContextsByPosition(STREAM_ID, Collections.singletonList("p2"), PENDING).isEmpty());
+
+        repo.updateStatus(Collections.singletonList(context), PENDING, "p2");
+        assertEquals(Collections.singletonList(context.getId()),
+                ids(repo.getContextsByPosition(STREAM_ID, Collections.singletonList("p2"), PENDING)));
+    }
+
+    @Test
+    @DisplayName("保序上下文按照session当前的序号请求")
+    void shouldRequestPreservedContextBySessionIndex() {
+        FlowContextRepo repo = new FlowContextIndexedMemoRepo();
+        FlowSession session = new FlowSession("session", true);
+        FlowContext<Integer> context = context(1, "p1", "t1");
+        context.setSession(session);
+        context.setIndex(3);
+        repo.save(Collections.singletonList(context));
+        List<String> positions = Collections.singletonList("p1");
+
+        assertTrue(repo.requestMappingContext(STREAM_ID, positions, new HashMap<>()).isEmpty());
+        Map<String, Integer> sessions = new HashMap<>();
+        sessions.put("session", 3);
+        assertEquals(Collections.singletonList(context.getId()),
+                ids(repo.requestMappingContext(STREAM_ID, positions, sessions)));
+    }
+
+    @Test
+    @DisplayName("多线程并发流转上下文时索引保持一致")
+    void shouldKeepIndexesConsistentUnderConcurrency() throws Exception {
+        FlowContextRepo repo = new FlowContextIndexedMemoRepo();
+        int threads = 8;
+        int perThread = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        try {
+            List<Future<?>> readers = IntStream.range(0, 2).mapToObj(i -> executor.submit(() -> {
+                await(start);
+                while (isWriting.get()) {
+                    repo.<Integer>getContextsByPosition(STREAM_ID, Arrays.asList("p0", "p1"), PENDING)
+                            .forEach(context -> seen.add(context.getId()));
+                    repo.requestMappingContext(STREAM_ID, Collections.singletonList("p1"), new HashMap<>());
+                }
+            })).collect(Collectors.toList());
+            List<Future<?>> writers = IntStream.range(0, threads).mapToObj(t -> executor.submit(() -> {
+                await(start);
+                for (int i = 0; i < perThread; i++) {
+                    FlowContext<Integer> context = context(i, "p0", "t" + t);
+                    List<FlowContext<Integer>> single = Collections.singletonList(context);
+                    repo.save(single);
+                    context.setSent(true);
+                    repo.updateToSent(single);
+                    context.setPosition("p1").setSent(false);
+                    repo.updateStatus(single, PENDING, "p1");
+                    if (i % 2 == 0) {
+                        context.setStatus(FlowNodeStatus.ARCHIVED);
+                        repo.update(single);
+                    }
+                }
+            })).collect(Collectors.toList());
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            isWriting.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int remained = threads * perThread / 2;
+        assertTrue(repo.getContextsByPosition(STREAM_ID, Collections.singletonList("p0"), PENDING).isEmpty());
+        List<FlowContext<Integer>> pending =
+                repo.getContextsByPosition(STREAM_ID, Collections.singletonList("p1"), PENDING);
+        assertEquals(remained, pending.size());
+        assertEquals(remained, pending.stream().map(FlowContext::getId).distinct().count());
+        assertTrue(pending.stream().allMatch(context -> context.getData() % 2 == 1));
+        for (int t = 0; t < threads; t++) {
+            assertEquals(perThread / 2, repo.getContextsByTrace("t" + t).size());
+        }
+        assertTrue(seen.size() > 0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
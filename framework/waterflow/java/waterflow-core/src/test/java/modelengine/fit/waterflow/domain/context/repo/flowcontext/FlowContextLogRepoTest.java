@@ -0,0 +1,305 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+import modelengine.fit.waterflow.exceptions.WaterflowException;
+import modelengine.fitframework.util.FileUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InvalidClassException;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link FlowContextLogRepo} 的测试用例。
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@DisplayName("本地日志上下文持久化测试用例集合")
+class FlowContextLogRepoTest {
+    private static final String STREAM_ID = "stream";
+
+    private static final String PENDING = FlowNodeStatus.PENDING.toString();
+
+    private static final long NO_COMPACT = TimeUnit.HOURS.toMillis(1);
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("flow-context-log");
+    }
+
+    @AfterEach
+    void tearDown() {
+        FileUtils.delete(this.directory.toFile());
+    }
+
+    private static FlowContext<String> context(String data, String position) {
+        FlowContext<String> context = new FlowContext<>(STREAM_ID, "root", data, Collections.singleton("trace"),
+                position, new FlowSession());
+        context.setStatus(FlowNodeStatus.PENDING);
+        context.batchId("batch");
+        return context;
+    }
+
+    private FlowContextLogRepo open(long maxSegmentBytes) {
+        return new FlowContextLogRepo(this.directory, FlowContextLogRepo.DataCodec.javaSerialization(), false,
+                maxSegmentBytes, NO_COMPACT);
+    }
+
+    private static List<String> ids(List<? extends FlowContext<?>> contexts) {
+        return contexts.stream().map(FlowContext::getId).collect(Collectors.toList());
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    @DisplayName("重新打开后恢复上下文的状态、位置、数据和顺序")
+    void shouldRecoverContextsAfterReopen() {
+        FlowContext<String> first = context("first", "p1");
+        FlowContext<String> second = context("second", "p1");
+        FlowContext<String> third = context("third", "p1");
+        third.setSession(new FlowSession("session", true));
+        third.setIndex(2);
+        try (FlowContextLogRepo repo = this.open(1024 * 1024)) {
+            repo.save(Arrays.asList(first, second, third));
+            first.setSent(true);
+            repo.updateToSent(Collections.singletonList(first));
+            second.setPosition("p2").setStatus(FlowNodeStatus.READY);
+            repo.updateStatus(Collections.singletonList(second), FlowNodeStatus.READY.toString(), "p2");
+        }
+
+        try (FlowContextLogRepo repo = this.open(1024 * 1024)) {
+            FlowContext<String> recovered = repo.getById(first.getId());
+            assertEquals("first", recovered.getData());
+            assertTrue(recovered.isSent());
+            assertEquals(Collections.singletonList(first.getId()),
+                    ids(repo.getPendingAndSentByIds(Arrays.asList(first.getId(), second.getId()))));
+            assertEquals(Collections.singletonList(second.getId()),
+                    ids(repo.getContextsByPosition(STREAM_ID, "p2", "batch", FlowNodeStatus.READY.toString())));
+            FlowContext<String> preserved = repo.getById(third.getId());
+            assertEquals("session", preserved.getSession().getId());
+            assertTrue(preserved.getSession().preserved());
+            assertEquals(2, (int) preserved.getIndex());
+            assertEquals(Arrays.asList(first.getId(), third.getId()), ids(repo.getContextsByTrace("trace")
+                    .stream()
+                    .filter(context -> context.getPosition().equals("p1"))
+                    .collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    @DisplayName("结束的上下文不会恢复，压缩后只保留存活上下文的快照")
+    void shouldDropTerminalContextsAndCompact() throws IOException {
+        List<FlowContext<String>> contexts = new ArrayList<>();
+        try (FlowContextLogRepo repo = this.open(512)) {
+            for (int i = 0; i < 50; i++) {
+                FlowContext<String> context = context("data" + i, "p1");
+                contexts.add(context);
+                repo.save(Collections.singletonList(context));
+            }
+            for (int i = 0; i < 50; i += 2) {
+                contexts.get(i).setStatus(FlowNodeStatus.ARCHIVED);
+                repo.update(Collections.singletonList(contexts.get(i)));
+            }
+            assertTrue(this.segments().size() > 2);
+            repo.compact();
+            assertEquals(2, this.segments().size());
+            FlowContext<String> late = context("late", "p2");
+            contexts.get(1).setPosition("p2");
+            repo.updateStatus(Arrays.asList(late, contexts.get(1)), PENDING, "p2");
+        }
+
+        try (FlowContextLogRepo repo = this.open(512)) {
+            List<FlowContext<String>> pending =
+                    repo.getContextsByPosition(STREAM_ID, Collections.singletonList("p1"), PENDING);
+            assertEquals(24, pending.size());
+            assertTrue(pending.stream().allMatch(context -> Integer.parseInt(context.getData().substring(4)) % 2 == 1));
+            assertNull(repo.getById(contexts.get(0).getId()));
+            assertEquals("p2", repo.getById(contexts.get(1).getId()).getPosition());
+            assertEquals(2, repo.getContextsByPosition(STREAM_ID, Collections.singletonList("p2"), PENDING).size());
+        }
+    }
+
+    @Test
+    @DisplayName("写入日志失败时不更新内存，更新序号后重新打开可以恢复序号")
+    void shouldNotApplyToMemoWhenWriteFailed() {
+        FlowContextLogRepo.DataCodec failing = new FlowContextLogRepo.DataCodec() {
+            @Override
+            public byte[] encode(Object data) throws IOException {
+                if ("broken".equals(data)) {
+                    throw new IOException("broken");
+                }
+                return FlowContextLogRepo.DataCodec.javaSerialization().encode(data);
+            }
+
+            @Override
+            public Object decode(byte[] bytes) throws IOException {
+                return FlowContextLogRepo.DataCodec.javaSerialization().decode(bytes);
+            }
+        };
+        FlowContext<String> saved = context("saved", "p1");
+        FlowContext<String> broken = context("broken", "p1");
+        try (FlowContextLogRepo repo = new FlowContextLogRepo(this.directory, failing, false, 1024 * 1024,
+                NO_COMPACT)) {
+            repo.save(Collections.singletonList(saved));
+            assertThrows(WaterflowException.class, () -> repo.save(Collections.singletonList(broken)));
+            assertNull(repo.getById(broken.getId()));
+            FlowContext<String> index = context("saved", "p1");
+            index.setId(saved.getId());
+            index.setIndex(3);
+            repo.updateIndex(Collections.singletonList(index));
+        }
+
+        try (FlowContextLogRepo repo = this.open(1024 * 1024)) {
+            assertEquals(3, (int) repo.getById(saved.getId()).getIndex());
+            assertNull(repo.getById(broken.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("日志尾部写入不完整或者校验失败时截断并恢复之前的记录")
+    void shouldTruncateTornTail() throws IOException {
+        List<String> ids = new ArrayList<>();
+        try (FlowContextLogRepo repo = this.open(1024 * 1024)) {
+            for (int i = 0; i < 10; i++) {
+                FlowContext<String> context = context("data" + i, "p1");
+                repo.save(Collections.singletonList(context));
+                ids.add(context.getId());
+            }
+        }
+        List<Path> segments = this.segments();
+        Path last = segments.get(segments.size() - 1);
+        long intact = Files.size(last);
+        // 模拟写入过程中进程退出，尾部留下一条只写了一半的记录
+        Files.write(last, new byte[] {0, 0, 1, 0, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (FlowContextLogRepo repo = this.open(1024 * 1024)) {
+            assertEquals(ids, ids(repo.getByIds(ids)));
+            assertEquals(intact, Files.size(last));
+            FlowContext<String> context = context("after", "p1");
+            repo.save(Collections.singletonList(context));
+            ids.add(context.getId());
+        }
+
+        segments = this.segments();
+        last = segments.get(segments.size() - 1);
+        byte[] content = Files.readAllBytes(last);
+        content[content.length - 1] ^= 0x7F;
+        Files.write(last, content);
+        try (FlowContextLogRepo repo = this.open(1024 * 1024)) {
+            assertNull(repo.getById(ids.get(ids.size() - 1)));
+            assertEquals(ids.subList(0, ids.size() - 1), ids(repo.getByIds(ids.subList(0, ids.size() - 1))));
+        }
+    }
+
+    @Test
+    @DisplayName("默认的 Java 序列化只允许解码 JDK 基础类型，其他类型需要显式允许")
+    void shouldRejectClassesNotAllowed() throws IOException {
+        Payload payload = new Payload("value");
+        byte[] bytes = FlowContextLogRepo.DataCodec.javaSerialization().encode(payload);
+        assertThrows(InvalidClassException.class, () -> FlowContextLogRepo.DataCodec.javaSerialization().decode(bytes));
+        FlowContextLogRepo.DataCodec allowed = FlowContextLogRepo.DataCodec.javaSerialization(Payload.class.getName());
+        assertEquals("value", ((Payload) allowed.decode(bytes)).value);
+        assertEquals(Arrays.asList("a", 1),
+                FlowContextLogRepo.DataCodec.javaSerialization()
+                        .decode(FlowContextLogRepo.DataCodec.javaSerialization()
+                                .encode(new ArrayList<>(Arrays.asList("a", 1)))));
+    }
+
+    @Test
+    @DisplayName("写入过程中强制杀死进程后回放日志，已确认落盘的上下文全部恢复")
+    void shouldRecoverAcknowledgedContextsAfterProcessKilled() throws Exception {
+        String javaBin = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(javaBin, "-cp", System.getProperty("java.class.path"),
+                Writer.class.getName(), this.directory.toString()).redirectErrorStream(false).start();
+        List<String> acknowledged = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while (acknowledged.size() < 500 && (line = reader.readLine()) != null) {
+                acknowledged.add(line);
+            }
+            process.destroyForcibly();
+            assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        }
+        assertEquals(500, acknowledged.size());
+
+        try (FlowContextLogRepo repo = this.open(64 * 1024)) {
+            for (String ack : acknowledged) {
+                String[] parts = ack.split(",");
+                FlowContext<String> context = repo.getById(parts[0]);
+                assertNotNull(context);
+                // 确认时记录的是最后一次落盘的位置，之后的写入可能已经落盘，因此位置只会更靠后
+                assertTrue(context.getPosition().compareTo(parts[1]) >= 0);
+            }
+        }
+    }
+
+    private static final class Payload implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+
+        private Payload(String value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * 在子进程中持续写入上下文，每次写入返回后输出上下文 id 和位置作为确认，用于强制杀死进程的恢复测试。
+     */
+    static final class Writer {
+        public static void main(String[] args) {
+            PrintStream out = new PrintStream(System.out, true);
+            FlowContextLogRepo repo = new FlowContextLogRepo(Paths.get(args[0]),
+                    FlowContextLogRepo.DataCodec.javaSerialization(), false, 64 * 1024, 50);
+            for (int i = 0; ; i++) {
+                FlowContext<String> context = context("data" + i, "p0");
+                List<FlowContext<String>> single = Collections.singletonList(context);
+                repo.save(single);
+                context.setPosition("p1");
+                repo.updateStatus(single, PENDING, "p1");
+                out.println(context.getId() + ",p1");
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowlock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * {@link FlowLocks} 内存实现的测试用例。
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@DisplayName("流程锁内存实现测试用例集合")
+class FlowLocksTest {
+    private static final String KEY = "water-flow-node-stream-node-RequestReady";
+
+    @Test
+    @DisplayName("分段锁同一个key始终返回同一把锁，且可重入")
+    void shouldReturnSameReentrantLockForSameKey() {
+        FlowLocks locks = new FlowLocksStriped(10);
+        Lock lock = locks.getDistributeLock(KEY);
+        assertSame(lock, locks.getLocalLock(KEY));
+        lock.lock();
+        try {
+            assertTrue(locks.getDistributeLock(KEY).tryLock());
+            locks.getDistributeLock(KEY).unlock();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Test
+    @DisplayName("分段锁支持创建条件，等待的线程可以被唤醒")
+    void shouldSignalConditionOnStripedLock() throws Exception {
+        FlowLocks locks = new FlowLocksStriped(10);
+        Lock lock = locks.getLocalLock(KEY);
+        Condition condition = lock.newCondition();
+        CountDownLatch isWaiting = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> isSignaled = executor.submit(() -> {
+                lock.lock();
+                try {
+                    isWaiting.countDown();
+                    return condition.await(10, TimeUnit.SECONDS);
+                } finally {
+                    lock.unlock();
+                }
+            });
+            assertTrue(isWaiting.await(10, TimeUnit.SECONDS));
+            lock.lock();
+            try {
+                condition.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            assertTrue(isSignaled.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("内存锁的条件绑定到当前持有的锁上，即使锁对象在加锁前已被清理")
+    void shouldBindMemoConditionToHeldLock() throws Exception {
+        FlowLocks locks = new FlowLocksMemo();
+        Lock stale = locks.getLocalLock(KEY);
+        assertThrows(IllegalMonitorStateException.class, stale::newCondition);
+        stale.lock();
+        stale.unlock();
+        Lock current = locks.getLocalLock(KEY);
+        current.lock();
+        stale.lock();
+        try {
+            Condition condition = stale.newCondition();
+            assertFalse(condition.await(10, TimeUnit.MILLISECONDS));
+        } finally {
+            stale.unlock();
+            current.unlock();
+        }
+    }
+
+    @Test
+    @DisplayName("内存锁在其他持有者释放后仍然保持同一个key的互斥")
+    void shouldKeepMemoLockExclusiveAfterOtherHolderReleased() throws Exception {
+        FlowLocks locks = new FlowLocksMemo();
+        Lock first = locks.getDistributeLock(KEY);
+        Lock second = locks.getDistributeLock(KEY);
+        first.lock();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> isAcquired = executor.submit(() -> {
+                Lock third = locks.getDistributeLock(KEY);
+                boolean isLocked = third.tryLock();
+                if (isLocked) {
+                    third.unlock();
+                }
+                return isLocked;
+            });
+            assertFalse(isAcquired.get(10, TimeUnit.SECONDS));
+            first.unlock();
+            second.lock();
+            Future<Boolean> isAcquiredAfterRelease = executor.submit(() -> locks.getDistributeLock(KEY).tryLock());
+            assertFalse(isAcquiredAfterRelease.get(10, TimeUnit.SECONDS));
+            second.unlock();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("内存锁仅在加锁时占用引用，解锁后清理，失效的锁对象加锁时使用当前有效的锁")
+    void shouldRetainMemoLockOnlyWhenLocked() throws Exception {
+        FlowLocksMemo locks = new FlowLocksMemo();
+        Lock stale = locks.getLocalLock(KEY);
+        locks.getLocalLock(KEY);
+        stale.lock();
+        stale.unlock();
+        assertEquals(0, locks.size());
+        Lock current = locks.getLocalLock(KEY);
+        current.lock();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertFalse(executor.submit(() -> stale.tryLock()).get(10, TimeUnit.SECONDS));
+            assertFalse(executor.submit(() -> stale.tryLock(10, TimeUnit.MILLISECONDS)).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        current.unlock();
+        assertEquals(0, locks.size());
+        stale.lock();
+        assertEquals(1, locks.size());
+        stale.unlock();
+        assertEquals(0, locks.size());
+    }
+
+    @Test
+    @DisplayName("多线程竞争时同一个key的临界区互斥执行")
+    void shouldBeMutuallyExclusiveUnderContention() throws Exception {
+        for (FlowLocks locks : new FlowLocks[] {new FlowLocksMemo(), new FlowLocksStriped()}) {
+            int threads = 8;
+            int rounds = 5000;
+            int[] counter = {0};
+            AtomicBoolean isInside = new AtomicBoolean(false);
+            AtomicBoolean isOverlapped = new AtomicBoolean(false);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < rounds; i++) {
+                            Lock lock = locks.getDistributeLock(KEY);
+                            lock.lock();
+                            try {
+                                if (!isInside.compareAndSet(false, true)) {
+                                    isOverlapped.set(true);
+                                }
+                                counter[0]++;
+                                isInside.set(false);
+                            } finally {
+                                lock.unlock();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertFalse(isOverlapped.get());
+            assertEquals(threads * rounds, counter[0]);
+        }
+    }
+}
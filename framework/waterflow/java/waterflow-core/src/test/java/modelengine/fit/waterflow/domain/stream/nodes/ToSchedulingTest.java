@@ -0,0 +1,156 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.stream.nodes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.FlowsTestUtil;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.flow.Flows;
+import modelengine.fit.waterflow.domain.flow.ProcessFlow;
+import modelengine.fit.waterflow.domain.states.State;
+import modelengine.fit.waterflow.domain.utils.SleepUtil;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * {@link To} 节点调度的测试用例。
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@DisplayName("节点事件驱动调度测试用例集合")
+class ToSchedulingTest {
+    @Test
+    @DisplayName("节点不再为每个节点创建常驻的处理线程")
+    void shouldNotStartThreadPerNode() {
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        State<Integer, Integer, Integer, ProcessFlow<Integer>> state = Flows.<Integer>create().map(i -> i);
+        for (int i = 0; i < 20; i++) {
+            state = state.map(value -> value + 1);
+        }
+        ProcessFlow<Integer> flow = state.close(r -> result.add(r.get().getData()));
+        flow.offer(0);
+
+        FlowsTestUtil.waitUntil(() -> result.size() == 1, 5000);
+        assertEquals(Collections.singletonList(20), result);
+        assertTrue(Thread.getAllStackTraces()
+                .keySet()
+                .stream()
+                .map(Thread::getName)
+                .noneMatch(name -> name.startsWith("NodeProcessT") || name.startsWith("NodePreProcessT")));
+    }
+
+    @Test
+    @DisplayName("节点并发设置为1时等待批次完成后，按照数据到达的顺序继续处理剩余数据")
+    void shouldResumeWhenConcurrencyReleased() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        ProcessFlow<Integer> flow = Flows.<Integer>create().map(i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            SleepUtil.sleep(5);
+            running.decrementAndGet();
+            return i;
+        }).concurrency(1).close(r -> result.add(r.get().getData()));
+        for (int i = 0; i < 20; i++) {
+            flow.offer(i, new FlowSession());
+        }
+
+        FlowsTestUtil.waitUntil(() -> result.size() == 20, 5000);
+        assertEquals(1, maxRunning.get());
+        assertEquals(IntStream.range(0, 20).boxed().collect(Collectors.toList()), result);
+    }
+
+    @Test
+    @DisplayName("不需要保序的数据在同一会话内并发处理")
+    void shouldProcessSessionConcurrentlyByDefault() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        ProcessFlow<Integer> flow = Flows.<Integer>create().map(i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            SleepUtil.sleep(100);
+            running.decrementAndGet();
+            return i;
+        }).close(r -> result.add(r.get().getData()));
+        flow.offer(IntStream.range(0, 10).boxed().toArray(Integer[]::new), new FlowSession());
+
+        FlowsTestUtil.waitUntil(() -> result.size() == 10, 5000);
+        assertTrue(maxRunning.get() > 1);
+        assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()),
+                result.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("聚合节点按照数据到达的顺序逐批次处理同一会话的数据")
+    void shouldReduceSessionInArrivalOrder() {
+        List<String> result = Collections.synchronizedList(new ArrayList<>());
+        ProcessFlow<Integer> flow = Flows.<Integer>create()
+                .window(5)
+                .reduce(() -> "", (acc, i) -> acc + i)
+                .close(r -> result.add(r.get().getData()));
+        flow.offer(IntStream.range(0, 10).boxed().toArray(Integer[]::new), new FlowSession());
+
+        FlowsTestUtil.waitUntil(() -> result.size() == 2, 5000);
+        assertEquals(Arrays.asList("01234", "56789"), result);
+    }
+
+    @Test
+    @DisplayName("节点默认同时处理不同会话的批次")
+    void shouldProcessSessionsConcurrentlyByDefault() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        ProcessFlow<Integer> flow = Flows.<Integer>create().map(i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            SleepUtil.sleep(50);
+            running.decrementAndGet();
+            return i;
+        }).close(r -> result.add(r.get().getData()));
+        for (int i = 0; i < 8; i++) {
+            flow.offer(i, new FlowSession());
+        }
+
+        FlowsTestUtil.waitUntil(() -> result.size() == 8, 5000);
+        assertTrue(maxRunning.get() > 1);
+        assertEquals(IntStream.range(0, 8).boxed().collect(Collectors.toList()),
+                result.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("提高节点并发后，处理较慢的节点同时处理多个批次")
+    void shouldProcessConcurrentlyWhenConcurrencyRaised() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        ProcessFlow<Integer> flow = Flows.<Integer>create().map(i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            SleepUtil.sleep(50);
+            running.decrementAndGet();
+            return i;
+        }).concurrency(4).close(r -> result.add(r.get().getData()));
+        for (int i = 0; i < 8; i++) {
+            flow.offer(i, new FlowSession());
+        }
+
+        FlowsTestUtil.waitUntil(() -> result.size() == 8, 5000);
+        assertTrue(maxRunning.get() > 1);
+        assertEquals(IntStream.range(0, 8).boxed().collect(Collectors.toList()),
+                result.stream().sorted().collect(Collectors.toList()));
+    }
+}
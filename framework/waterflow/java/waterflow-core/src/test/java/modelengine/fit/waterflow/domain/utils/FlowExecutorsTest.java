@@ -0,0 +1,99 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link FlowExecutors} 的测试用例。
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@DisplayName("流程引擎并发控制测试用例集合")
+class FlowExecutorsTest {
+    @Test
+    @DisplayName("释放并发时跳过自身并发已满的节点，通知下一个可以使用并发的节点")
+    void shouldSkipSaturatedWaiterWhenConcurrencyReleased() {
+        CountingWaiter saturated = new CountingWaiter(false);
+        CountingWaiter ready = new CountingWaiter(true);
+        List<FlowExecutors.ConcurrencyHolder> holders = occupyAll();
+        try {
+            assertFalse(FlowExecutors.incrementConcurrency(saturated).isPresent());
+            assertFalse(FlowExecutors.incrementConcurrency(ready).isPresent());
+
+            holders.remove(0).release();
+
+            assertEquals(0, saturated.notified.get());
+            assertEquals(1, ready.notified.get());
+            Optional<FlowExecutors.ConcurrencyHolder> holder = FlowExecutors.incrementConcurrency(ready);
+            assertTrue(holder.isPresent());
+            holders.add(holder.get());
+        } finally {
+            holders.forEach(FlowExecutors.ConcurrencyHolder::release);
+        }
+    }
+
+    @Test
+    @DisplayName("登记的节点自身并发都已满时，被释放的并发仍然可以被其他节点获取")
+    void shouldKeepReleasedConcurrencyWhenAllWaitersSaturated() {
+        CountingWaiter saturated = new CountingWaiter(false);
+        List<FlowExecutors.ConcurrencyHolder> holders = occupyAll();
+        try {
+            assertFalse(FlowExecutors.incrementConcurrency(saturated).isPresent());
+
+            holders.remove(0).release();
+
+            assertEquals(0, saturated.notified.get());
+            Optional<FlowExecutors.ConcurrencyHolder> holder = FlowExecutors.incrementConcurrency();
+            assertTrue(holder.isPresent());
+            holders.add(holder.get());
+        } finally {
+            holders.forEach(FlowExecutors.ConcurrencyHolder::release);
+        }
+    }
+
+    private static List<FlowExecutors.ConcurrencyHolder> occupyAll() {
+        List<FlowExecutors.ConcurrencyHolder> holders = new ArrayList<>();
+        Optional<FlowExecutors.ConcurrencyHolder> holder = FlowExecutors.incrementConcurrency();
+        while (holder.isPresent()) {
+            holders.add(holder.get());
+            holder = FlowExecutors.incrementConcurrency();
+        }
+        return holders;
+    }
+
+    private static class CountingWaiter implements FlowExecutors.ConcurrencyWaiter {
+        private final boolean isReady;
+
+        private final AtomicInteger notified = new AtomicInteger();
+
+        private CountingWaiter(boolean isReady) {
+            this.isReady = isReady;
+        }
+
+        @Override
+        public boolean isReady() {
+            return this.isReady;
+        }
+
+        @Override
+        public void onReleased() {
+            this.notified.incrementAndGet();
+        }
+    }
+}
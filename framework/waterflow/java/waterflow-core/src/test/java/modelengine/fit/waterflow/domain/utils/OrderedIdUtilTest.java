@@ -0,0 +1,105 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2024 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderedIdUtil} 的测试用例。
+ *
+ * @author 高诗意
+ * @since 1.0
+ */
+@DisplayName("按时间有序的ID生成测试用例集合")
+class OrderedIdUtilTest {
+    @Test
+    @DisplayName("多线程并发生成的ID不重复且每个线程内单调递增")
+    void shouldBeUniqueAndMonotonicAcrossThreads() throws Exception {
+        int threads = 16;
+        int perThread = 20000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    String last = "";
+                    boolean isMonotonic = true;
+                    for (int i = 0; i < perThread; i++) {
+                        String id = OrderedIdUtil.next();
+                        isMonotonic &= id.compareTo(last) > 0;
+                        ids.add(id);
+                        last = id;
+                    }
+                    return isMonotonic;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    @DisplayName("ID为32位十六进制且字典序与生成时间一致")
+    void shouldBeHexAndOrderedByTime() {
+        long before = System.currentTimeMillis();
+        String first = OrderedIdUtil.next();
+        String second = OrderedIdUtil.next();
+        UUID uuid = OrderedIdUtil.nextUuid();
+
+        assertEquals(32, first.length());
+        assertTrue(first.matches("[0-9a-f]{32}"));
+        assertTrue(first.compareTo(second) < 0);
+        assertTrue(OrderedIdUtil.timestamp(first) >= before);
+        assertTrue(OrderedIdUtil.timestamp(first) <= System.currentTimeMillis() + 1);
+        assertTrue(uuid.getMostSignificantBits() > Long.parseUnsignedLong(second.substring(0, 16), 16));
+    }
+
+    @Test
+    @DisplayName("切换IdGenerator策略后生成按时间有序的上下文ID")
+    void shouldGenerateOrderedIdsWhenStrategySwitched() {
+        IdGenerator.Strategy origin = IdGenerator.getStrategy();
+        IdGenerator.setStrategy(IdGenerator.Strategy.TIME_ORDERED);
+        try {
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                ids.add(new FlowContext<>("stream", "root", i, Collections.emptySet(), "p", new FlowSession()).getId());
+            }
+            List<String> sorted = new ArrayList<>(ids);
+            Collections.sort(sorted);
+            assertEquals(sorted, ids);
+        } finally {
+            IdGenerator.setStrategy(origin);
+        }
+    }
+}